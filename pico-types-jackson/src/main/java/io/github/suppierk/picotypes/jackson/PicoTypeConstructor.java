@@ -0,0 +1,270 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes.jackson;
+
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import io.github.suppierk.picotypes.PicoTypes;
+import io.github.suppierk.picotypes.TextUriPicoType;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import org.jspecify.annotations.Nullable;
+
+/** Creates PicoType instances through constructor {@link MethodHandle}s resolved once per type. */
+final class PicoTypeConstructor {
+  private static final MethodType BOXED = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType LONG = MethodType.methodType(Object.class, long.class);
+  private static final MethodType INT = MethodType.methodType(Object.class, int.class);
+  private static final MethodType DOUBLE = MethodType.methodType(Object.class, double.class);
+  private static final MethodType TEXT = MethodType.methodType(Object.class, String.class);
+  private static final MethodType UUID_BITS =
+      MethodType.methodType(Object.class, long.class, long.class);
+
+  private static final MethodHandle APPLY = apply(Function.class, Object.class);
+  private static final MethodHandle APPLY_LONG = apply(LongFunction.class, long.class);
+  private static final MethodHandle APPLY_INT = apply(IntFunction.class, int.class);
+
+  private final ValueKind kind;
+
+  /** Constructor accepting the boxed value, adapted to {@code (Object)Object}. */
+  @Nullable private final MethodHandle boxed;
+
+  /** Constructor accepting primitive representation of the value, if the type has one. */
+  @Nullable private final MethodHandle primitive;
+
+  private PicoTypeConstructor(
+      ValueKind kind, @Nullable MethodHandle boxed, @Nullable MethodHandle primitive) {
+    this.kind = kind;
+    this.boxed = boxed;
+    this.primitive = primitive;
+  }
+
+  /**
+   * Finds constructors of the given PicoType.
+   *
+   * <p>Constructors accepting {@code long}, {@code int}, {@code double} or two {@code long} values
+   * for {@link UUID} are preferred over the ones accepting boxed values, since they avoid creating
+   * those. For {@link TextUriPicoType}s the constructor accepting text is preferred, so that values
+   * are not parsed during deserialization. {@link Boolean}, {@link Integer} and {@link Long}-based
+   * types are created through {@link PicoTypes} factories where possible, which share instances of
+   * booleans and small values.
+   *
+   * @param type of the PicoType
+   * @param valueType of the wrapped value
+   * @param kind of the wrapped value
+   * @param overrideAccess {@code true} if non-public constructors can be made accessible
+   * @param forceAccess {@code true} if public constructors must be made accessible as well
+   * @return resolved constructors, or {@code null} if the type cannot be instantiated
+   */
+  static @Nullable PicoTypeConstructor find(
+      Class<?> type,
+      Class<?> valueType,
+      ValueKind kind,
+      boolean overrideAccess,
+      boolean forceAccess) {
+    if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+      return null;
+    }
+
+    Constructor<?> primitiveConstructor =
+        switch (kind) {
+          case LONG -> findConstructor(type, long.class);
+          case INTEGER -> findConstructor(type, int.class);
+          case DOUBLE -> findConstructor(type, double.class);
+          case UUID -> findConstructor(type, long.class, long.class);
+          case URI ->
+              TextUriPicoType.class.isAssignableFrom(type)
+                  ? findConstructor(type, String.class)
+                  : null;
+          default -> null;
+        };
+    MethodHandle primitive =
+        primitiveConstructor == null
+            ? null
+            : unreflect(primitiveConstructor, overrideAccess, forceAccess);
+
+    Constructor<?> boxedConstructor = findConstructor(type, valueType);
+    MethodHandle boxed =
+        boxedConstructor == null ? null : unreflect(boxedConstructor, overrideAccess, forceAccess);
+
+    if (primitive != null) {
+      MethodType methodType =
+          switch (kind) {
+            case LONG -> LONG;
+            case INTEGER -> INT;
+            case DOUBLE -> DOUBLE;
+            case URI -> TEXT;
+            default -> UUID_BITS;
+          };
+      return new PicoTypeConstructor(kind, null, primitive.asType(methodType)).shared(type);
+    } else if (boxed != null) {
+      return new PicoTypeConstructor(kind, boxed.asType(BOXED), null).shared(type);
+    }
+    return null;
+  }
+
+  /**
+   * Returns constructor calling {@link PicoTypes} factories, if the type wraps values having shared
+   * instances and the factories can access it, otherwise returns this constructor.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private PicoTypeConstructor shared(Class<?> type) {
+    try {
+      return switch (kind) {
+        case BOOLEAN ->
+            new PicoTypeConstructor(kind, APPLY.bindTo(PicoTypes.factory((Class) type)), null);
+        case INTEGER ->
+            new PicoTypeConstructor(
+                kind,
+                APPLY.bindTo(PicoTypes.factory((Class) type)),
+                APPLY_INT.bindTo(PicoTypes.intFactory((Class) type)));
+        case LONG ->
+            new PicoTypeConstructor(
+                kind,
+                APPLY.bindTo(PicoTypes.factory((Class) type)),
+                APPLY_LONG.bindTo(PicoTypes.longFactory((Class) type)));
+        default -> this;
+      };
+    } catch (IllegalArgumentException e) {
+      return this;
+    }
+  }
+
+  /**
+   * Creates instance wrapping the given value.
+   *
+   * @param value to wrap
+   * @return new instance
+   * @throws Throwable if constructor fails
+   */
+  Object create(Object value) throws Throwable {
+    if (boxed != null) {
+      return (Object) boxed.invokeExact(value);
+    }
+
+    MethodHandle handle = Objects.requireNonNull(primitive);
+    return switch (kind) {
+      case LONG -> (Object) handle.invokeExact((long) (Long) value);
+      case INTEGER -> (Object) handle.invokeExact((int) (Integer) value);
+      case DOUBLE -> (Object) handle.invokeExact((double) (Double) value);
+      case URI -> (Object) handle.invokeExact(((URI) value).toString());
+      default -> {
+        UUID uuid = (UUID) value;
+        yield (Object)
+            handle.invokeExact(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+      }
+    };
+  }
+
+  /**
+   * Creates instance wrapping the given {@code long} value without boxing it, if possible.
+   *
+   * @param value to wrap
+   * @return new instance
+   * @throws Throwable if constructor fails
+   */
+  Object createLong(long value) throws Throwable {
+    return primitive == null ? create(value) : (Object) primitive.invokeExact(value);
+  }
+
+  /**
+   * Creates instance wrapping the given {@code int} value without boxing it, if possible.
+   *
+   * @param value to wrap
+   * @return new instance
+   * @throws Throwable if constructor fails
+   */
+  Object createInt(int value) throws Throwable {
+    return primitive == null ? create(value) : (Object) primitive.invokeExact(value);
+  }
+
+  /**
+   * Creates instance wrapping the given {@code double} value without boxing it, if possible.
+   *
+   * @param value to wrap
+   * @return new instance
+   * @throws Throwable if constructor fails
+   */
+  Object createDouble(double value) throws Throwable {
+    return primitive == null ? create(value) : (Object) primitive.invokeExact(value);
+  }
+
+  /**
+   * Returns {@code true} if instances wrapping URIs are created from text without parsing it.
+   *
+   * @return {@code true} if the type has constructor accepting URI text
+   */
+  boolean acceptsText() {
+    return kind == ValueKind.URI && primitive != null;
+  }
+
+  /**
+   * Creates instance wrapping URI given as text without parsing it, if possible.
+   *
+   * @param text of the URI to wrap
+   * @return new instance
+   * @throws Throwable if constructor fails or the text is not a valid URI
+   */
+  Object createText(String text) throws Throwable {
+    return primitive == null ? create(URI.create(text)) : (Object) primitive.invokeExact(text);
+  }
+
+  private static MethodHandle apply(Class<?> functionalInterface, Class<?> parameter) {
+    try {
+      return MethodHandles.publicLookup()
+          .findVirtual(
+              functionalInterface, "apply", MethodType.methodType(Object.class, parameter));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static @Nullable Constructor<?> findConstructor(Class<?> type, Class<?>... parameters) {
+    try {
+      return type.getDeclaredConstructor(parameters);
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static @Nullable MethodHandle unreflect(
+      Constructor<?> constructor, boolean overrideAccess, boolean forceAccess) {
+    if (overrideAccess) {
+      ClassUtil.checkAndFixAccess(constructor, forceAccess);
+    }
+    try {
+      return MethodHandles.lookup().unreflectConstructor(constructor);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+}
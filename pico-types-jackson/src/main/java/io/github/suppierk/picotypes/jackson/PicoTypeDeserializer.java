@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import io.github.suppierk.picotypes.PasswordPicoType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reads PicoTypes from their raw values.
+ *
+ * <p>Integral numbers and strings are read straight from the parser, other values are read with the
+ * standard Jackson deserializer of the value type, resolved once per PicoType.
+ */
+final class PicoTypeDeserializer extends StdDeserializer<Object> implements ResolvableDeserializer {
+  private static final long serialVersionUID = 1L;
+
+  private final JavaType valueType;
+  private final ValueKind kind;
+  private final transient PicoTypeConstructor constructor;
+
+  /** Passwords copy given bytes, so decoded ones can be wiped right after creating instances. */
+  private final boolean wipeBytes;
+
+  @Nullable private transient JsonDeserializer<Object> valueDeserializer;
+
+  /**
+   * Default constructor
+   *
+   * @param type of the PicoType
+   * @param valueType of the wrapped value
+   * @param kind of the wrapped value
+   * @param constructor to create instances with
+   */
+  PicoTypeDeserializer(
+      JavaType type, JavaType valueType, ValueKind kind, PicoTypeConstructor constructor) {
+    super(type);
+    this.valueType = valueType;
+    this.kind = kind;
+    this.constructor = constructor;
+    this.wipeBytes = PasswordPicoType.class.isAssignableFrom(type.getRawClass());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    valueDeserializer = ctxt.findRootValueDeserializer(valueType);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    try {
+      if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+        if (kind == ValueKind.LONG) {
+          return constructor.createLong(p.getLongValue());
+        } else if (kind == ValueKind.INTEGER) {
+          return constructor.createInt(p.getIntValue());
+        } else if (kind == ValueKind.DOUBLE) {
+          return constructor.createDouble(p.getDoubleValue());
+        }
+      } else if (p.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+        if (kind == ValueKind.DOUBLE) {
+          return constructor.createDouble(p.getDoubleValue());
+        }
+      } else if (p.hasToken(JsonToken.VALUE_STRING)) {
+        if (kind == ValueKind.STRING) {
+          return constructor.create(p.getText());
+        } else if (constructor.acceptsText()) {
+          return constructor.createText(p.getText());
+        } else if (kind == ValueKind.BYTES) {
+          return createFromBytes(p.getText().getBytes(StandardCharsets.UTF_8));
+        }
+      }
+
+      JsonDeserializer<Object> deserializer =
+          Objects.requireNonNull(valueDeserializer, "Deserializer is not resolved");
+      return constructor.create(deserializer.deserialize(p, ctxt));
+    } catch (IOException e) {
+      throw e;
+    } catch (Throwable t) {
+      ClassUtil.throwIfError(t);
+      throw ctxt.instantiationException(handledType(), t);
+    }
+  }
+
+  private Object createFromBytes(byte[] bytes) throws Throwable {
+    if (!wipeBytes) {
+      return constructor.create(bytes);
+    }
+
+    try {
+      return constructor.create(bytes);
+    } finally {
+      Arrays.fill(bytes, (byte) 0);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isCachable() {
+    return true;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.UUID;
+
+/** Reads PicoTypes used as {@link java.util.Map} keys from their raw values. */
+final class PicoTypeKeyDeserializer extends KeyDeserializer {
+  private final Class<?> type;
+  private final ValueKind kind;
+  private final PicoTypeConstructor constructor;
+
+  /**
+   * Default constructor
+   *
+   * @param type of the PicoType
+   * @param kind of the wrapped value, which must be neither {@link ValueKind#BYTES} nor {@link
+   *     ValueKind#OTHER}
+   * @param constructor to create instances with
+   */
+  PicoTypeKeyDeserializer(Class<?> type, ValueKind kind, PicoTypeConstructor constructor) {
+    this.type = type;
+    this.kind = kind;
+    this.constructor = constructor;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object deserializeKey(String key, DeserializationContext ctxt) throws IOException {
+    try {
+      return switch (kind) {
+        case BOOLEAN -> constructor.create(parseBoolean(key));
+        case INTEGER -> constructor.createInt(Integer.parseInt(key));
+        case LONG -> constructor.createLong(Long.parseLong(key));
+        case DOUBLE -> constructor.createDouble(Double.parseDouble(key));
+        case BIG_INTEGER -> constructor.create(new BigInteger(key));
+        case BIG_DECIMAL -> constructor.create(new BigDecimal(key));
+        case URI -> constructor.createText(key);
+        case UUID -> constructor.create(UUID.fromString(key));
+        default -> constructor.create(key);
+      };
+    } catch (IllegalArgumentException e) {
+      return ctxt.handleWeirdKey(type, key, "not a valid representation: %s", e.getMessage());
+    } catch (IOException | RuntimeException e) {
+      throw e;
+    } catch (Throwable t) {
+      ClassUtil.throwIfError(t);
+      throw ctxt.instantiationException(type, t);
+    }
+  }
+
+  private static Boolean parseBoolean(String key) {
+    if ("true".equals(key)) {
+      return Boolean.TRUE;
+    } else if ("false".equals(key)) {
+      return Boolean.FALSE;
+    }
+    throw new IllegalArgumentException("expected 'true' or 'false'");
+  }
+}
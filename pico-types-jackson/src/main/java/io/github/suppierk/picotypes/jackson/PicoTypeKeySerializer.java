@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.suppierk.picotypes.HashedPasswordPicoType;
+import io.github.suppierk.picotypes.PicoType;
+import io.github.suppierk.picotypes.PrimitiveIntegerPicoType;
+import io.github.suppierk.picotypes.PrimitiveLongPicoType;
+import io.github.suppierk.picotypes.SecurePicoType;
+import java.io.IOException;
+import java.util.Objects;
+
+/** Writes PicoTypes used as {@link java.util.Map} keys as their raw values. */
+final class PicoTypeKeySerializer extends StdSerializer<PicoType<?>> {
+  private static final long serialVersionUID = 1L;
+
+  private final ValueKind kind;
+  private final boolean secure;
+
+  /**
+   * Default constructor
+   *
+   * @param type of the PicoType
+   * @param kind of the wrapped value
+   */
+  @SuppressWarnings("unchecked")
+  PicoTypeKeySerializer(Class<?> type, ValueKind kind) {
+    super((Class<PicoType<?>>) type);
+    this.kind = kind;
+    this.secure =
+        SecurePicoType.class.isAssignableFrom(type)
+            && !HashedPasswordPicoType.class.isAssignableFrom(type);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void serialize(PicoType<?> value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    if (secure) {
+      gen.writeFieldName(((SecurePicoType) value).mask());
+    } else if (value.isEmpty()) {
+      throw JsonMappingException.from(gen, "Empty PicoType cannot be used as a map key");
+    } else if (kind == ValueKind.LONG) {
+      gen.writeFieldId(
+          value instanceof PrimitiveLongPicoType p
+              ? p.longValue()
+              : (Long) Objects.requireNonNull(value.value()));
+    } else if (kind == ValueKind.INTEGER) {
+      gen.writeFieldId(
+          value instanceof PrimitiveIntegerPicoType p
+              ? p.intValue()
+              : (Integer) Objects.requireNonNull(value.value()));
+    } else if (value instanceof HashedPasswordPicoType p) {
+      gen.writeFieldName(Objects.requireNonNull(p.value()));
+    } else {
+      gen.writeFieldName(value.appendValueTo(new StringBuilder()).toString());
+    }
+  }
+}
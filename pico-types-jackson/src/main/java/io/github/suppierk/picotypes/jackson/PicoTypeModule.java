@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes.jackson;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.KeyDeserializers;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import io.github.suppierk.picotypes.PicoType;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Jackson {@link Module} reading and writing any {@link PicoType} subclass as its raw value,
+ * without {@code @JsonCreator} and {@code @JsonValue} annotations.
+ *
+ * <p>Deserializers are created once per type and call constructors accepting the wrapped value
+ * through {@link java.lang.invoke.MethodHandle}s; constructors accepting primitive values are
+ * preferred for primitive-backed variants. Serializers write values straight to the generator.
+ * PicoTypes are supported as {@link java.util.Map} keys as well.
+ *
+ * <p>Values of {@link io.github.suppierk.picotypes.SecurePicoType} instances are written as their
+ * mask, while incoming JSON strings are read as their UTF-8 bytes for passwords.
+ *
+ * <p>The module is registered automatically by {@code ObjectMapper.findAndRegisterModules()}.
+ */
+public final class PicoTypeModule extends Module {
+  /** Default constructor */
+  public PicoTypeModule() {
+    // Stateless module
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getModuleName() {
+    return PicoTypeModule.class.getSimpleName();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Version version() {
+    return Version.unknownVersion();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setupModule(SetupContext context) {
+    context.addSerializers(new PicoTypeSerializers(false));
+    context.addKeySerializers(new PicoTypeSerializers(true));
+    context.addDeserializers(new PicoTypeDeserializers());
+    context.addKeyDeserializers(new PicoTypeKeyDeserializers());
+  }
+
+  /**
+   * Returns type of the value wrapped by the given PicoType.
+   *
+   * @param type of the PicoType
+   * @return value type, or {@code null} if the type is not a PicoType or its value type is unknown
+   */
+  private static @Nullable JavaType valueType(JavaType type) {
+    if (!PicoType.class.isAssignableFrom(type.getRawClass())) {
+      return null;
+    }
+    JavaType[] parameters = type.findTypeParameters(PicoType.class);
+    if (parameters.length != 1 || parameters[0].getRawClass() == Object.class) {
+      return null;
+    }
+    return parameters[0];
+  }
+
+  private static @Nullable PicoTypeConstructor constructor(
+      MapperConfig<?> config, JavaType type, JavaType valueType) {
+    return PicoTypeConstructor.find(
+        type.getRawClass(),
+        valueType.getRawClass(),
+        ValueKind.of(valueType.getRawClass()),
+        config.isEnabled(MapperFeature.CAN_OVERRIDE_ACCESS_MODIFIERS),
+        config.isEnabled(MapperFeature.OVERRIDE_PUBLIC_ACCESS_MODIFIERS));
+  }
+
+  private static final class PicoTypeSerializers extends Serializers.Base {
+    private final boolean keys;
+
+    private PicoTypeSerializers(boolean keys) {
+      this.keys = keys;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable JsonSerializer<?> findSerializer(
+        SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+      JavaType valueType = valueType(type);
+      if (valueType == null) {
+        return null;
+      }
+
+      ValueKind kind = ValueKind.of(valueType.getRawClass());
+      if (!keys) {
+        return new PicoTypeSerializer(type.getRawClass(), kind);
+      }
+      return kind == ValueKind.OTHER ? null : new PicoTypeKeySerializer(type.getRawClass(), kind);
+    }
+  }
+
+  private static final class PicoTypeDeserializers extends Deserializers.Base {
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable JsonDeserializer<?> findBeanDeserializer(
+        JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+      JavaType valueType = valueType(type);
+      if (valueType == null) {
+        return null;
+      }
+
+      PicoTypeConstructor constructor = constructor(config, type, valueType);
+      if (constructor == null) {
+        return null;
+      }
+      return new PicoTypeDeserializer(
+          type, valueType, ValueKind.of(valueType.getRawClass()), constructor);
+    }
+  }
+
+  private static final class PicoTypeKeyDeserializers implements KeyDeserializers {
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable KeyDeserializer findKeyDeserializer(
+        JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+      JavaType valueType = valueType(type);
+      if (valueType == null) {
+        return null;
+      }
+
+      ValueKind kind = ValueKind.of(valueType.getRawClass());
+      if (kind == ValueKind.BYTES || kind == ValueKind.OTHER) {
+        return null;
+      }
+
+      PicoTypeConstructor constructor = constructor(config, type, valueType);
+      return constructor == null
+          ? null
+          : new PicoTypeKeyDeserializer(type.getRawClass(), kind, constructor);
+    }
+  }
+}
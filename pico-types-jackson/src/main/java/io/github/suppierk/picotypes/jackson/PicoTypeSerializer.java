@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.suppierk.picotypes.HashedPasswordPicoType;
+import io.github.suppierk.picotypes.PicoType;
+import io.github.suppierk.picotypes.PrimitiveDoublePicoType;
+import io.github.suppierk.picotypes.PrimitiveIntegerPicoType;
+import io.github.suppierk.picotypes.PrimitiveLongPicoType;
+import io.github.suppierk.picotypes.PrimitiveUuidPicoType;
+import io.github.suppierk.picotypes.SecurePicoType;
+import io.github.suppierk.picotypes.TextUriPicoType;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Writes PicoTypes as their raw values, or as {@link SecurePicoType#mask()} for secure ones. {@link
+ * HashedPasswordPicoType}s are written as their encoded hashes, which are one-way and are meant to
+ * be stored, so that they can be read back.
+ *
+ * <p>Numbers are written without boxing for primitive-backed variants and {@link UUID} values are
+ * written as characters without creating an intermediate {@link String}. Empty PicoTypes are
+ * written as {@code null}.
+ */
+final class PicoTypeSerializer extends StdSerializer<PicoType<?>> {
+  private static final long serialVersionUID = 1L;
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final int UUID_LENGTH = 36;
+
+  private final ValueKind kind;
+  private final boolean secure;
+
+  /**
+   * Default constructor
+   *
+   * @param type of the PicoType
+   * @param kind of the wrapped value
+   */
+  @SuppressWarnings("unchecked")
+  PicoTypeSerializer(Class<?> type, ValueKind kind) {
+    super((Class<PicoType<?>>) type);
+    this.kind = kind;
+    this.secure =
+        SecurePicoType.class.isAssignableFrom(type)
+            && !HashedPasswordPicoType.class.isAssignableFrom(type);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty(SerializerProvider provider, PicoType<?> value) {
+    return value.isEmpty();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void serialize(PicoType<?> value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    if (secure) {
+      gen.writeString(((SecurePicoType) value).mask());
+    } else if (value.isEmpty()) {
+      gen.writeNull();
+    } else {
+      switch (kind) {
+        case BOOLEAN -> gen.writeBoolean((Boolean) Objects.requireNonNull(value.value()));
+        case INTEGER ->
+            gen.writeNumber(
+                value instanceof PrimitiveIntegerPicoType p
+                    ? p.intValue()
+                    : (Integer) Objects.requireNonNull(value.value()));
+        case LONG ->
+            gen.writeNumber(
+                value instanceof PrimitiveLongPicoType p
+                    ? p.longValue()
+                    : (Long) Objects.requireNonNull(value.value()));
+        case DOUBLE ->
+            gen.writeNumber(
+                value instanceof PrimitiveDoublePicoType p
+                    ? p.doubleValue()
+                    : (Double) Objects.requireNonNull(value.value()));
+        case BIG_INTEGER -> gen.writeNumber((BigInteger) value.value());
+        case BIG_DECIMAL -> gen.writeNumber((BigDecimal) value.value());
+        case STRING -> gen.writeString((String) value.value());
+        case URI ->
+            gen.writeString(
+                value instanceof TextUriPicoType p
+                    ? p.text()
+                    : Objects.requireNonNull((URI) value.value()).toString());
+        case UUID -> writeUuid(value, gen);
+        default -> provider.defaultSerializeValue(value.value(), gen);
+      }
+    }
+  }
+
+  private static void writeUuid(PicoType<?> value, JsonGenerator gen) throws IOException {
+    long mostSignificantBits;
+    long leastSignificantBits;
+    if (value instanceof PrimitiveUuidPicoType p) {
+      mostSignificantBits = p.mostSignificantBits();
+      leastSignificantBits = p.leastSignificantBits();
+    } else {
+      UUID uuid = (UUID) Objects.requireNonNull(value.value());
+      mostSignificantBits = uuid.getMostSignificantBits();
+      leastSignificantBits = uuid.getLeastSignificantBits();
+    }
+
+    char[] chars = new char[UUID_LENGTH];
+    writeHex(chars, 0, mostSignificantBits >>> 32, 8);
+    chars[8] = '-';
+    writeHex(chars, 9, mostSignificantBits >>> 16, 4);
+    chars[13] = '-';
+    writeHex(chars, 14, mostSignificantBits, 4);
+    chars[18] = '-';
+    writeHex(chars, 19, leastSignificantBits >>> 48, 4);
+    chars[23] = '-';
+    writeHex(chars, 24, leastSignificantBits, 12);
+    gen.writeString(chars, 0, UUID_LENGTH);
+  }
+
+  private static void writeHex(char[] chars, int offset, long bits, int digits) {
+    for (int i = digits - 1; i >= 0; i--) {
+      chars[offset + i] = HEX_DIGITS[(int) bits & 0xF];
+      bits >>>= 4;
+    }
+  }
+}
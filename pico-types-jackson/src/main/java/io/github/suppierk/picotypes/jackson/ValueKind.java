@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes.jackson;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/** Kinds of values which are read and written without delegating to other Jackson handlers. */
+enum ValueKind {
+  BOOLEAN,
+  INTEGER,
+  LONG,
+  DOUBLE,
+  BIG_INTEGER,
+  BIG_DECIMAL,
+  STRING,
+  URI,
+  UUID,
+  BYTES,
+  OTHER;
+
+  /**
+   * Returns kind of the given value type.
+   *
+   * @param valueType of the PicoType
+   * @return matching kind, or {@link #OTHER} if there is none
+   */
+  static ValueKind of(Class<?> valueType) {
+    if (valueType == Boolean.class) {
+      return BOOLEAN;
+    } else if (valueType == Integer.class) {
+      return INTEGER;
+    } else if (valueType == Long.class) {
+      return LONG;
+    } else if (valueType == Double.class) {
+      return DOUBLE;
+    } else if (valueType == BigInteger.class) {
+      return BIG_INTEGER;
+    } else if (valueType == BigDecimal.class) {
+      return BIG_DECIMAL;
+    } else if (valueType == String.class) {
+      return STRING;
+    } else if (valueType == java.net.URI.class) {
+      return URI;
+    } else if (valueType == java.util.UUID.class) {
+      return UUID;
+    } else if (valueType == byte[].class) {
+      return BYTES;
+    }
+    return OTHER;
+  }
+}
@@ -0,0 +1,326 @@
+package io.github.suppierk.picotypes.jackson;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suppierk.picotypes.BigDecimalPicoType;
+import io.github.suppierk.picotypes.BigIntegerPicoType;
+import io.github.suppierk.picotypes.BooleanPicoType;
+import io.github.suppierk.picotypes.DoublePicoType;
+import io.github.suppierk.picotypes.HashedPasswordPicoType;
+import io.github.suppierk.picotypes.IntegerPicoType;
+import io.github.suppierk.picotypes.LongPicoType;
+import io.github.suppierk.picotypes.PasswordHasher;
+import io.github.suppierk.picotypes.PasswordPicoType;
+import io.github.suppierk.picotypes.PicoType;
+import io.github.suppierk.picotypes.PrimitiveDoublePicoType;
+import io.github.suppierk.picotypes.PrimitiveIntegerPicoType;
+import io.github.suppierk.picotypes.PrimitiveLongPicoType;
+import io.github.suppierk.picotypes.PrimitiveUuidPicoType;
+import io.github.suppierk.picotypes.SecurePicoType;
+import io.github.suppierk.picotypes.StringPicoType;
+import io.github.suppierk.picotypes.TextUriPicoType;
+import io.github.suppierk.picotypes.UriPicoType;
+import io.github.suppierk.picotypes.UuidPicoType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PicoTypeModuleTest {
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new PicoTypeModule());
+
+  @Test
+  void must_round_trip_every_value_kind() throws Exception {
+    var uuid = UUID.randomUUID();
+
+    assertRoundTrip(new Flag(true), "true");
+    assertRoundTrip(new Count(42), "42");
+    assertRoundTrip(new Amount(Long.MAX_VALUE), String.valueOf(Long.MAX_VALUE));
+    assertRoundTrip(new Ratio(0.25), "0.25");
+    assertRoundTrip(new Big(BigInteger.TEN.pow(30)), BigInteger.TEN.pow(30).toString());
+    assertRoundTrip(new Price(new BigDecimal("12.50")), "12.50");
+    assertRoundTrip(new Name("pico"), "\"pico\"");
+    assertRoundTrip(new Link(URI.create("https://example.com")), "\"https://example.com\"");
+    assertRoundTrip(new Id(uuid), '"' + uuid.toString() + '"');
+  }
+
+  @Test
+  void must_round_trip_primitive_variants() throws Exception {
+    var uuid = UUID.randomUUID();
+
+    assertRoundTrip(new PrimitiveCount(-7), "-7");
+    assertRoundTrip(new PrimitiveAmount(Long.MIN_VALUE), String.valueOf(Long.MIN_VALUE));
+    assertRoundTrip(new PrimitiveRatio(-0.25), "-0.25");
+    assertRoundTrip(new PrimitiveId(uuid), '"' + uuid.toString() + '"');
+  }
+
+  @Test
+  void must_share_instances_of_booleans_and_small_values() throws Exception {
+    assertSame(mapper.readValue("true", Flag.class), mapper.readValue("true", Flag.class));
+    assertSame(mapper.readValue("7", Count.class), mapper.readValue("\"7\"", Count.class));
+    assertSame(
+        mapper.readValue("-1", PrimitiveAmount.class),
+        mapper.readValue("-1", PrimitiveAmount.class));
+  }
+
+  @Test
+  void must_keep_text_of_text_uris() throws Exception {
+    var text = "HTTPS://Example.com/a?b=%7e";
+
+    assertRoundTrip(new TextLink(text), '"' + text + '"');
+    assertEquals(text, mapper.readValue('"' + text + '"', TextLink.class).text());
+
+    Map<TextLink, Integer> links =
+        mapper.readValue("{\"" + text + "\":1}", new TypeReference<Map<TextLink, Integer>>() {});
+    assertEquals(Map.of(new TextLink("https://example.com/a?b=%7E"), 1), links);
+    assertThrows(JsonMappingException.class, () -> mapper.readValue("\"a b\"", TextLink.class));
+  }
+
+  @Test
+  void must_read_numbers_from_strings_and_floats_from_integers() throws Exception {
+    assertEquals(new PrimitiveAmount(5L), mapper.readValue("\"5\"", PrimitiveAmount.class));
+    assertEquals(new Count(5), mapper.readValue("\"5\"", Count.class));
+    assertEquals(new Ratio(3.0), mapper.readValue("3", Ratio.class));
+    assertEquals(new PrimitiveRatio(3.0), mapper.readValue("3", PrimitiveRatio.class));
+  }
+
+  @Test
+  void must_support_nested_fields_and_collections() throws Exception {
+    var uuid = UUID.randomUUID();
+    var account = new Account(new Id(uuid), new Name("name"), List.of(new Count(1), new Count(2)));
+
+    var serialized = mapper.writeValueAsString(account);
+
+    assertEquals("{\"id\":\"" + uuid + "\",\"name\":\"name\",\"counts\":[1,2]}", serialized);
+    assertEquals(account, mapper.readValue(serialized, Account.class));
+  }
+
+  @Test
+  void must_support_map_keys() throws Exception {
+    var uuid = UUID.randomUUID();
+    var map = new LinkedHashMap<PicoType<?>, Integer>();
+    map.put(new Amount(1L), 1);
+
+    assertEquals("{\"1\":1}", mapper.writeValueAsString(map));
+
+    Map<PrimitiveId, Name> ids =
+        mapper.readValue(
+            "{\"" + uuid + "\":\"name\"}", new TypeReference<Map<PrimitiveId, Name>>() {});
+    assertEquals(Map.of(new PrimitiveId(uuid), new Name("name")), ids);
+
+    Map<Flag, Count> flags =
+        mapper.readValue("{\"true\":1,\"false\":0}", new TypeReference<Map<Flag, Count>>() {});
+    assertEquals(Map.of(new Flag(true), new Count(1), new Flag(false), new Count(0)), flags);
+
+    Map<PrimitiveCount, Name> counts = Map.of(new PrimitiveCount(3), new Name("three"));
+    var serialized = mapper.writeValueAsString(counts);
+    assertEquals("{\"3\":\"three\"}", serialized);
+    assertEquals(
+        counts, mapper.readValue(serialized, new TypeReference<Map<PrimitiveCount, Name>>() {}));
+  }
+
+  @Test
+  void must_reject_malformed_map_keys() {
+    assertThrows(
+        JsonMappingException.class,
+        () -> mapper.readValue("{\"maybe\":1}", new TypeReference<Map<Flag, Integer>>() {}));
+    assertThrows(
+        JsonMappingException.class,
+        () -> mapper.readValue("{\"x\":1}", new TypeReference<Map<Amount, Integer>>() {}));
+  }
+
+  @Test
+  void must_reject_empty_map_keys() {
+    var map = Map.of(new Name(null), 1);
+
+    assertThrows(JsonMappingException.class, () -> mapper.writeValueAsString(map));
+  }
+
+  @Test
+  void must_write_empty_values_as_null_and_omit_them_when_requested() throws Exception {
+    assertEquals("null", mapper.writeValueAsString(new Name(null)));
+    assertEquals("null", mapper.writeValueAsString(new PrimitiveId(null)));
+    assertNull(mapper.readValue("null", Name.class));
+
+    var account = new Account(null, new Name(null), List.of());
+    var nonEmpty =
+        new ObjectMapper()
+            .registerModule(new PicoTypeModule())
+            .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+
+    assertEquals("{}", nonEmpty.writeValueAsString(account));
+  }
+
+  @Test
+  void must_mask_secure_values_and_read_them_as_bytes() throws Exception {
+    var serialized = mapper.writeValueAsString(new Password(new byte[] {1, 2}));
+    assertEquals('"' + SecurePicoType.DEFAULT_MASK + '"', serialized);
+
+    var password = mapper.readValue("\"s\\u00e9cret\"", Password.class);
+    assertArrayEquals("s\u00e9cret".getBytes(StandardCharsets.UTF_8), password.value());
+  }
+
+  @Test
+  void must_round_trip_hashed_passwords() throws Exception {
+    var hash = new PasswordHasher(PasswordHasher.DEFAULT_ALGORITHM, 1_000).hash("s".toCharArray());
+
+    assertRoundTrip(new HashedPassword(hash), '"' + hash + '"');
+    assertEquals(
+        "{\"" + hash + "\":1}", mapper.writeValueAsString(Map.of(new HashedPassword(hash), 1)));
+    assertEquals("null", mapper.writeValueAsString(new HashedPassword(null)));
+  }
+
+  @Test
+  void must_wrap_constructor_failures() {
+    var exception =
+        assertThrows(JsonMappingException.class, () -> mapper.readValue("-1", Positive.class));
+
+    assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+  }
+
+  @Test
+  void must_ignore_abstract_types() {
+    assertThrows(JsonMappingException.class, () -> mapper.readValue("1", LongPicoType.class));
+  }
+
+  @Test
+  void must_be_discovered_through_service_loader() throws Exception {
+    var discovered = new ObjectMapper().findAndRegisterModules();
+
+    assertTrue(discovered.getRegisteredModuleIds().contains(PicoTypeModule.class.getName()));
+    assertEquals(new Name("name"), discovered.readValue("\"name\"", Name.class));
+  }
+
+  private void assertRoundTrip(PicoType<?> value, String json) throws Exception {
+    var serialized = mapper.writeValueAsString(value);
+
+    assertEquals(json, serialized);
+    assertEquals(value, mapper.readValue(serialized, value.getClass()));
+  }
+
+  private record Account(Id id, Name name, List<Count> counts) {}
+
+  private static final class Flag extends BooleanPicoType {
+    public Flag(Boolean value) {
+      super(value);
+    }
+  }
+
+  private static final class Count extends IntegerPicoType {
+    public Count(Integer value) {
+      super(value);
+    }
+  }
+
+  private static final class Amount extends LongPicoType {
+    public Amount(Long value) {
+      super(value);
+    }
+  }
+
+  private static final class Ratio extends DoublePicoType {
+    public Ratio(Double value) {
+      super(value);
+    }
+  }
+
+  private static final class Big extends BigIntegerPicoType {
+    public Big(BigInteger value) {
+      super(value);
+    }
+  }
+
+  private static final class Price extends BigDecimalPicoType {
+    public Price(BigDecimal value) {
+      super(value);
+    }
+  }
+
+  private static final class Name extends StringPicoType {
+    public Name(String value) {
+      super(value);
+    }
+  }
+
+  private static final class Link extends UriPicoType {
+    public Link(URI value) {
+      super(value);
+    }
+  }
+
+  private static final class TextLink extends TextUriPicoType {
+    public TextLink(String text) {
+      super(text);
+    }
+  }
+
+  private static final class Id extends UuidPicoType {
+    public Id(UUID value) {
+      super(value);
+    }
+  }
+
+  private static final class PrimitiveCount extends PrimitiveIntegerPicoType {
+    public PrimitiveCount(int value) {
+      super(value);
+    }
+  }
+
+  private static final class PrimitiveAmount extends PrimitiveLongPicoType {
+    public PrimitiveAmount(long value) {
+      super(value);
+    }
+  }
+
+  private static final class PrimitiveRatio extends PrimitiveDoublePicoType {
+    public PrimitiveRatio(double value) {
+      super(value);
+    }
+  }
+
+  private static final class PrimitiveId extends PrimitiveUuidPicoType {
+    public PrimitiveId(long mostSignificantBits, long leastSignificantBits) {
+      super(mostSignificantBits, leastSignificantBits);
+    }
+
+    public PrimitiveId(UUID value) {
+      super(value);
+    }
+  }
+
+  private static final class Password extends PasswordPicoType {
+    public Password(byte[] value) {
+      super(value);
+    }
+  }
+
+  private static final class HashedPassword extends HashedPasswordPicoType {
+    public HashedPassword(String value) {
+      super(value);
+    }
+  }
+
+  private static final class Positive extends LongPicoType {
+    public Positive(Long value) {
+      super(value);
+      if (value != null && value < 0) {
+        throw new IllegalArgumentException("must be positive");
+      }
+    }
+  }
+}
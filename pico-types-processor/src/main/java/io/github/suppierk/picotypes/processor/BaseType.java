@@ -0,0 +1,230 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes.processor;
+
+import io.github.suppierk.picotypes.BigDecimalPicoType;
+import io.github.suppierk.picotypes.BigIntegerPicoType;
+import io.github.suppierk.picotypes.BooleanPicoType;
+import io.github.suppierk.picotypes.CompactBigDecimalPicoType;
+import io.github.suppierk.picotypes.CompactBigIntegerPicoType;
+import io.github.suppierk.picotypes.DoublePicoType;
+import io.github.suppierk.picotypes.HashedPasswordPicoType;
+import io.github.suppierk.picotypes.IntegerPicoType;
+import io.github.suppierk.picotypes.LongPicoType;
+import io.github.suppierk.picotypes.PasswordPicoType;
+import io.github.suppierk.picotypes.PicoType;
+import io.github.suppierk.picotypes.PrimitiveDoublePicoType;
+import io.github.suppierk.picotypes.PrimitiveIntegerPicoType;
+import io.github.suppierk.picotypes.PrimitiveLongPicoType;
+import io.github.suppierk.picotypes.PrimitiveUuidPicoType;
+import io.github.suppierk.picotypes.StringPicoType;
+import io.github.suppierk.picotypes.TextUriPicoType;
+import io.github.suppierk.picotypes.UriPicoType;
+import io.github.suppierk.picotypes.Utf8StringPicoType;
+import io.github.suppierk.picotypes.UuidPicoType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+
+/** Base classes supported by {@link PicoIdProcessor} along with their codecs. */
+enum BaseType {
+  BOOLEAN(BooleanPicoType.class, Boolean.class, "ofBoolean(%1$s::new)", null),
+  INTEGER(IntegerPicoType.class, Integer.class, "ofInteger(%1$s::new)", null),
+  LONG(LongPicoType.class, Long.class, "ofLong(%1$s::new)", null),
+  DOUBLE(DoublePicoType.class, Double.class, "ofDouble(%1$s::new)", null),
+  BIG_INTEGER(BigIntegerPicoType.class, BigInteger.class, "ofBigInteger(%1$s::new)", null),
+  BIG_DECIMAL(BigDecimalPicoType.class, BigDecimal.class, "ofBigDecimal(%1$s::new)", null),
+  STRING(StringPicoType.class, String.class, "ofString(%1$s::new)", null),
+  UTF8_STRING(
+      Utf8StringPicoType.class,
+      String.class,
+      "ofUtf8String(%1$s::new)",
+      List.of(new Parameter("java.nio.ByteBuffer", "utf8"))),
+  URI(UriPicoType.class, URI.class, "ofUri(%1$s::new)", null),
+  TEXT_URI(
+      TextUriPicoType.class,
+      URI.class,
+      "ofTextUri(%1$s::new)",
+      List.of(new Parameter("java.lang.String", "text")),
+      "io.github.suppierk.picotypes.TextUriPicoType.fromUri(%1$s::new, value)"),
+  UUID(UuidPicoType.class, UUID.class, "ofUuid(%1$s::new)", null),
+  PASSWORD(PasswordPicoType.class, byte[].class, "ofPassword(%1$s::new)", null),
+  HASHED_PASSWORD(HashedPasswordPicoType.class, String.class, "ofString(%1$s::new)", null),
+  PRIMITIVE_INTEGER(
+      PrimitiveIntegerPicoType.class,
+      Integer.class,
+      "ofPrimitiveInteger(%1$s::new, () -> new %1$s((Integer) null))",
+      List.of(new Parameter("int", "value"))),
+  PRIMITIVE_LONG(
+      PrimitiveLongPicoType.class,
+      Long.class,
+      "ofPrimitiveLong(%1$s::new, () -> new %1$s((Long) null))",
+      List.of(new Parameter("long", "value"))),
+  PRIMITIVE_DOUBLE(
+      PrimitiveDoublePicoType.class,
+      Double.class,
+      "ofPrimitiveDouble(%1$s::new, () -> new %1$s((Double) null))",
+      List.of(new Parameter("double", "value"))),
+  PRIMITIVE_UUID(
+      PrimitiveUuidPicoType.class,
+      UUID.class,
+      "ofPrimitiveUuid(%1$s::new, () -> new %1$s((java.util.UUID) null))",
+      List.of(
+          new Parameter("long", "mostSignificantBits"),
+          new Parameter("long", "leastSignificantBits"))),
+  COMPACT_BIG_DECIMAL(
+      CompactBigDecimalPicoType.class,
+      BigDecimal.class,
+      "ofBigDecimal(%1$s::new)",
+      List.of(new Parameter("long", "unscaledValue"), new Parameter("int", "scale"))),
+  COMPACT_BIG_INTEGER(
+      CompactBigIntegerPicoType.class,
+      BigInteger.class,
+      "ofBigInteger(%1$s::new)",
+      List.of(new Parameter("long", "value")));
+
+  private final Class<? extends PicoType<?>> baseClass;
+  private final Class<?> valueClass;
+  private final String codec;
+  @Nullable private final String alternativeParameters;
+  @Nullable private final String alternativeArguments;
+  @Nullable private final String valueFactory;
+
+  BaseType(
+      Class<? extends PicoType<?>> baseClass,
+      Class<?> valueClass,
+      String codec,
+      @Nullable List<Parameter> alternativeParameters) {
+    this(baseClass, valueClass, codec, alternativeParameters, null);
+  }
+
+  BaseType(
+      Class<? extends PicoType<?>> baseClass,
+      Class<?> valueClass,
+      String codec,
+      @Nullable List<Parameter> alternativeParameters,
+      @Nullable String valueFactory) {
+    this.baseClass = baseClass;
+    this.valueClass = valueClass;
+    this.codec = codec;
+    if (alternativeParameters == null) {
+      this.alternativeParameters = null;
+      this.alternativeArguments = null;
+    } else {
+      this.alternativeParameters =
+          alternativeParameters.stream()
+              .map(parameter -> parameter.type() + ' ' + parameter.name())
+              .collect(Collectors.joining(", "));
+      this.alternativeArguments =
+          alternativeParameters.stream().map(Parameter::name).collect(Collectors.joining(", "));
+    }
+    this.valueFactory = valueFactory;
+  }
+
+  /**
+   * Finds base type by the canonical name of its class.
+   *
+   * @param canonicalName of the base class
+   * @return base type, or {@code null} if the class is not supported
+   */
+  static @Nullable BaseType of(String canonicalName) {
+    for (BaseType baseType : values()) {
+      if (baseType.baseClass.getCanonicalName().equals(canonicalName)) {
+        return baseType;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns canonical name of the base class.
+   *
+   * @return base class name
+   */
+  String baseClass() {
+    return baseClass.getCanonicalName();
+  }
+
+  /**
+   * Returns canonical name of the wrapped value class.
+   *
+   * @return value class name
+   */
+  String valueClass() {
+    return valueClass.getCanonicalName();
+  }
+
+  /**
+   * Returns {@link io.github.suppierk.picotypes.PicoTypeCodecs} call creating codec of the given
+   * generated class.
+   *
+   * @param name simple name of the generated class
+   * @return codec factory method call
+   */
+  String codec(String name) {
+    return codec.formatted(name);
+  }
+
+  /**
+   * Returns parameters of the base class constructor accepting the value in its native form, such
+   * as unboxed primitives or encoded bytes.
+   *
+   * @return comma-separated parameter declarations, or {@code null} if the base class has none
+   */
+  @Nullable String alternativeParameters() {
+    return alternativeParameters;
+  }
+
+  /**
+   * Returns names of {@link #alternativeParameters()}, passing them on as arguments.
+   *
+   * @return comma-separated parameter names, or {@code null} if the base class has none
+   */
+  @Nullable String alternativeArguments() {
+    return alternativeArguments;
+  }
+
+  /**
+   * Returns expression creating instance of the given generated class from {@code value} when the
+   * base class has no constructor accepting the wrapped value.
+   *
+   * @param name simple name of the generated class
+   * @return factory expression, or {@code null} if the base class constructor can be used
+   */
+  @Nullable String valueFactory(String name) {
+    return valueFactory == null ? null : valueFactory.formatted(name);
+  }
+
+  /**
+   * Parameter of the base class constructor.
+   *
+   * @param type canonical name of the parameter type
+   * @param name of the parameter
+   */
+  record Parameter(String type, String name) {}
+}
@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes.processor;
+
+import io.github.suppierk.picotypes.PicoId;
+import io.github.suppierk.picotypes.PicoTypeProvider;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Generates PicoType subclasses for interfaces annotated with {@link PicoId}.
+ *
+ * <p>Every generated class has private constructors, static {@code of} factories, a binary codec in
+ * {@code CODEC} constant and a nested {@code Provider}. Providers of all generated classes are
+ * listed in {@code META-INF/services}, so frameworks can discover PicoTypes through {@link
+ * java.util.ServiceLoader} instead of scanning the classpath.
+ */
+public final class PicoIdProcessor extends AbstractProcessor {
+  private static final String SERVICE_FILE =
+      "META-INF/services/" + PicoTypeProvider.class.getName();
+
+  /** Binary names of generated providers, sorted to keep the service file stable. */
+  private final Set<String> providers = new TreeSet<>();
+
+  private final List<Element> originatingElements = new ArrayList<>();
+
+  /** Default constructor */
+  public PicoIdProcessor() {
+    // Instantiated by the compiler
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Set.of(PicoId.class.getCanonicalName());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeServiceFile();
+    } else {
+      for (Element element : roundEnv.getElementsAnnotatedWith(PicoId.class)) {
+        generate(element);
+      }
+    }
+    return false;
+  }
+
+  private void generate(Element element) {
+    if (element.getKind() != ElementKind.INTERFACE) {
+      error(element, "@PicoId must annotate an interface");
+      return;
+    }
+
+    AnnotationMirror annotation = findAnnotation(element);
+    if (annotation == null) {
+      return;
+    }
+
+    String baseClass = "";
+    String name = "";
+    for (var entry :
+        processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+      Object value = entry.getValue().getValue();
+      switch (entry.getKey().getSimpleName().toString()) {
+        case "value" -> {
+          if (value instanceof DeclaredType type
+              && type.asElement() instanceof TypeElement typeElement) {
+            baseClass = typeElement.getQualifiedName().toString();
+          }
+        }
+        case "name" -> name = (String) value;
+        default -> {
+          // No other attributes
+        }
+      }
+    }
+
+    BaseType baseType = BaseType.of(baseClass);
+    if (baseType == null) {
+      error(element, "Unsupported base class " + baseClass + " of @PicoId");
+      return;
+    }
+
+    if (name.isEmpty()) {
+      Element enclosingElement = element.getEnclosingElement();
+      if (enclosingElement == null || enclosingElement.getKind() == ElementKind.PACKAGE) {
+        error(
+            element, "Top-level @PicoId interface must be nested into another type or set name()");
+        return;
+      }
+      name = element.getSimpleName().toString();
+    }
+    if (!SourceVersion.isIdentifier(name) || SourceVersion.isKeyword(name)) {
+      error(element, "Invalid name of generated class: " + name);
+      return;
+    }
+
+    PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(element);
+    String packageName =
+        packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    String qualifiedName = packageName.isEmpty() ? name : packageName + '.' + name;
+    String specification = ((TypeElement) element).getQualifiedName().toString();
+
+    try (Writer writer =
+        processingEnv.getFiler().createSourceFile(qualifiedName, element).openWriter()) {
+      writer.write(PicoTypeSource.render(packageName, name, specification, baseType));
+    } catch (IOException e) {
+      error(element, "Cannot generate " + qualifiedName + ": " + e.getMessage());
+      return;
+    }
+
+    providers.add(qualifiedName + "$Provider");
+    originatingElements.add(element);
+  }
+
+  private static @Nullable AnnotationMirror findAnnotation(Element element) {
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      Element type = annotation.getAnnotationType().asElement();
+      if (type instanceof TypeElement typeElement
+          && typeElement.getQualifiedName().contentEquals(PicoId.class.getCanonicalName())) {
+        return annotation;
+      }
+    }
+    return null;
+  }
+
+  private void writeServiceFile() {
+    if (providers.isEmpty()) {
+      return;
+    }
+
+    try {
+      FileObject file =
+          processingEnv
+              .getFiler()
+              .createResource(
+                  StandardLocation.CLASS_OUTPUT,
+                  "",
+                  SERVICE_FILE,
+                  originatingElements.toArray(new Element[0]));
+      try (Writer writer = file.openWriter()) {
+        for (String provider : providers) {
+          writer.write(provider);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(Diagnostic.Kind.ERROR, "Cannot write " + SERVICE_FILE + ": " + e);
+    }
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
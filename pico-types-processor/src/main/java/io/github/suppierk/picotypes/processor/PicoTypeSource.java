@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes.processor;
+
+/** Renders source code of PicoTypes generated by {@link PicoIdProcessor}. */
+final class PicoTypeSource {
+  private PicoTypeSource() {
+    // Utility class
+  }
+
+  /**
+   * Renders source code of generated PicoType.
+   *
+   * @param packageName of the generated class, or empty string for the unnamed package
+   * @param name simple name of the generated class
+   * @param specification canonical name of the annotated interface
+   * @param baseType of the generated class
+   * @return Java source code
+   */
+  static String render(String packageName, String name, String specification, BaseType baseType) {
+    String value = baseType.valueClass();
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+
+    source.append(
+        """
+        /** PicoType generated from {@link %3$s}. */
+        @javax.annotation.processing.Generated("%4$s")
+        public final class %1$s extends %2$s {
+          /** Binary codec of {@link %1$s}. */
+          public static final io.github.suppierk.picotypes.PicoTypeCodec<%1$s> CODEC =
+              io.github.suppierk.picotypes.PicoTypeCodecs.%5$s;
+        """
+            .formatted(
+                name,
+                baseType.baseClass(),
+                specification,
+                PicoIdProcessor.class.getName(),
+                baseType.codec(name)));
+
+    String valueFactory = baseType.valueFactory(name);
+    if (valueFactory == null) {
+      source.append(
+          """
+
+            private %1$s(%2$s value) {
+              super(value);
+            }
+          """
+              .formatted(name, value));
+      valueFactory = "new %s(value)".formatted(name);
+    }
+
+    source.append(
+        """
+
+          /**
+           * Creates new instance.
+           *
+           * @param value to wrap, can be {@code null}
+           * @return new instance
+           */
+          public static %1$s of(%2$s value) {
+            return %3$s;
+          }
+        """
+            .formatted(name, value, valueFactory));
+
+    String alternativeParameters = baseType.alternativeParameters();
+    String alternativeArguments = baseType.alternativeArguments();
+    if (alternativeParameters != null && alternativeArguments != null) {
+      source.append(
+          """
+
+            private %1$s(%2$s) {
+              super(%3$s);
+            }
+
+            /**
+             * Creates new instance without converting the value.
+             *
+             * @return new instance
+             */
+            public static %1$s of(%2$s) {
+              return new %1$s(%3$s);
+            }
+          """
+              .formatted(name, alternativeParameters, alternativeArguments));
+    }
+
+    source.append(
+        """
+
+          /** Describes {@link %1$s} to {@link java.util.ServiceLoader}. */
+          public static final class Provider
+              implements io.github.suppierk.picotypes.PicoTypeProvider<%2$s, %1$s> {
+            /** Default constructor */
+            public Provider() {
+              // Instantiated by ServiceLoader
+            }
+
+            @Override
+            public Class<%1$s> type() {
+              return %1$s.class;
+            }
+
+            @Override
+            public Class<%2$s> valueType() {
+              return %2$s.class;
+            }
+
+            @Override
+            public java.util.function.Function<%2$s, %1$s> factory() {
+              return %1$s::of;
+            }
+
+            @Override
+            public io.github.suppierk.picotypes.PicoTypeCodec<%1$s> codec() {
+              return CODEC;
+            }
+          }
+        }
+        """
+            .formatted(name, value));
+    return source.toString();
+  }
+}
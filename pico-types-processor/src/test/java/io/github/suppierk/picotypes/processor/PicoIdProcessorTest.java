@@ -0,0 +1,241 @@
+package io.github.suppierk.picotypes.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.suppierk.picotypes.PicoType;
+import io.github.suppierk.picotypes.PicoTypeCodec;
+import io.github.suppierk.picotypes.PicoTypeProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PicoIdProcessorTest {
+  @TempDir Path directory;
+
+  @Test
+  void must_generate_subclass_with_factories() throws Exception {
+    var compilation =
+        compile(
+            Map.of(
+                "com/acme/Ids.java",
+                """
+                package com.acme;
+
+                import io.github.suppierk.picotypes.*;
+
+                public interface Ids {
+                  @PicoId(UuidPicoType.class)
+                  interface OrderId {}
+
+                  @PicoId(PrimitiveLongPicoType.class)
+                  interface Amount {}
+                }
+                """));
+    assertTrue(compilation.success(), compilation.errors().toString());
+
+    var uuid = UUID.randomUUID();
+    var orderIdClass = compilation.loader().loadClass("com.acme.OrderId");
+    var orderId = (PicoType<?>) orderIdClass.getMethod("of", UUID.class).invoke(null, uuid);
+    assertEquals(uuid, orderId.value());
+    assertEquals("OrderId{value=" + uuid + "}", orderId.toString());
+
+    var amountClass = compilation.loader().loadClass("com.acme.Amount");
+    var amount = (PicoType<?>) amountClass.getMethod("of", long.class).invoke(null, 5L);
+    var emptyAmount =
+        (PicoType<?>) amountClass.getMethod("of", Long.class).invoke(null, (Long) null);
+    assertEquals(5L, amount.value());
+    assertTrue(emptyAmount.isEmpty());
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void must_register_providers_with_service_loader() throws Exception {
+    var compilation =
+        compile(
+            Map.of(
+                "com/acme/Ids.java",
+                """
+                package com.acme;
+
+                import io.github.suppierk.picotypes.*;
+
+                public interface Ids {
+                  @PicoId(UuidPicoType.class)
+                  interface OrderId {}
+                }
+                """,
+                "com/acme/NameSpec.java",
+                """
+                package com.acme;
+
+                import io.github.suppierk.picotypes.*;
+
+                @PicoId(value = StringPicoType.class, name = "Name")
+                interface NameSpec {}
+                """));
+    assertTrue(compilation.success(), compilation.errors().toString());
+
+    var providers = new ArrayList<PicoTypeProvider<?, ?>>();
+    ServiceLoader.load(PicoTypeProvider.class, compilation.loader()).forEach(providers::add);
+    assertEquals(
+        List.of("com.acme.Name", "com.acme.OrderId"),
+        providers.stream().map(p -> p.type().getName()).sorted().toList());
+
+    for (PicoTypeProvider provider : providers) {
+      if (provider.valueType() == String.class) {
+        var name = (PicoType<?>) provider.factory().apply("name");
+        PicoTypeCodec codec = provider.codec();
+
+        var buffer = ByteBuffer.allocate(codec.encodedSize(name));
+        codec.encode(name, buffer);
+        assertEquals(name, codec.decode(buffer.flip()));
+      }
+    }
+  }
+
+  @Test
+  void must_support_every_base_class() throws Exception {
+    var bases =
+        List.of(
+            "BooleanPicoType",
+            "IntegerPicoType",
+            "LongPicoType",
+            "DoublePicoType",
+            "BigIntegerPicoType",
+            "BigDecimalPicoType",
+            "StringPicoType",
+            "Utf8StringPicoType",
+            "UriPicoType",
+            "TextUriPicoType",
+            "UuidPicoType",
+            "PasswordPicoType",
+            "HashedPasswordPicoType",
+            "PrimitiveIntegerPicoType",
+            "PrimitiveLongPicoType",
+            "PrimitiveDoublePicoType",
+            "PrimitiveUuidPicoType",
+            "CompactBigDecimalPicoType",
+            "CompactBigIntegerPicoType");
+    var declarations =
+        bases.stream()
+            .map(base -> "  @PicoId(" + base + ".class) interface My" + base + " {}\n")
+            .collect(Collectors.joining());
+
+    var compilation =
+        compile(
+            Map.of(
+                "Types.java",
+                "import io.github.suppierk.picotypes.*;\n\ninterface Types {\n"
+                    + declarations
+                    + "}\n"));
+    assertTrue(compilation.success(), compilation.errors().toString());
+
+    for (String base : bases) {
+      var type = compilation.loader().loadClass("My" + base);
+      assertEquals("io.github.suppierk.picotypes." + base, type.getSuperclass().getName());
+    }
+  }
+
+  @Test
+  void must_reject_invalid_declarations() throws Exception {
+    var compilation =
+        compile(
+            Map.of(
+                "com/acme/Invalid.java",
+                """
+                package com.acme;
+
+                import io.github.suppierk.picotypes.*;
+
+                @PicoId(LongPicoType.class)
+                interface TopLevel {}
+
+                interface Invalid {
+                  @PicoId(LongPicoType.class)
+                  class NotInterface {}
+
+                  @PicoId(Custom.class)
+                  interface Unsupported {}
+
+                  @PicoId(value = LongPicoType.class, name = "not valid")
+                  interface InvalidName {}
+
+                  abstract class Custom extends LongPicoType {
+                    Custom(Long value) {
+                      super(value);
+                    }
+                  }
+                }
+                """));
+
+    assertFalse(compilation.success());
+    var errors = String.join("\n", compilation.errors());
+    assertTrue(errors.contains("must be nested into another type or set name()"), errors);
+    assertTrue(errors.contains("@PicoId must annotate an interface"), errors);
+    assertTrue(errors.contains("Unsupported base class com.acme.Invalid.Custom"), errors);
+    assertTrue(errors.contains("Invalid name of generated class: not valid"), errors);
+  }
+
+  private Compilation compile(Map<String, String> sources) throws IOException {
+    var sourceDirectory = directory.resolve("src");
+    var classDirectory = Files.createDirectories(directory.resolve("classes"));
+
+    var files = new ArrayList<Path>();
+    for (var source : sources.entrySet()) {
+      var file = sourceDirectory.resolve(source.getKey());
+      Files.createDirectories(file.getParent());
+      files.add(Files.writeString(file, source.getValue()));
+    }
+
+    var compiler = ToolProvider.getSystemJavaCompiler();
+    var diagnostics = new DiagnosticCollector<JavaFileObject>();
+    try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+      var options =
+          List.of(
+              "-classpath",
+              System.getProperty("java.class.path"),
+              "-processor",
+              PicoIdProcessor.class.getName(),
+              "-d",
+              classDirectory.toString());
+      var task =
+          compiler.getTask(
+              null,
+              fileManager,
+              diagnostics,
+              options,
+              null,
+              fileManager.getJavaFileObjectsFromPaths(files));
+      boolean success = task.call();
+
+      var errors =
+          diagnostics.getDiagnostics().stream()
+              .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+              .map(diagnostic -> diagnostic.getMessage(null))
+              .toList();
+      var loader =
+          new URLClassLoader(
+              new URL[] {classDirectory.toUri().toURL()}, getClass().getClassLoader());
+      return new Compilation(success, errors, loader);
+    }
+  }
+
+  private record Compilation(boolean success, List<String> errors, ClassLoader loader) {}
+}
@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link BigDecimalPicoType} and {@link CompactBigDecimalPicoType} operations against the
+ * raw {@code BigDecimal}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BigDecimalPicoTypeBenchmark {
+  private static final long SEED = 42L;
+  private static final int SCALE = 2;
+
+  private long source;
+
+  private BigDecimal raw;
+  private BigDecimal sameRaw;
+  private BigDecimal otherRaw;
+
+  private Id wrapped;
+  private Id sameWrapped;
+  private Id otherWrapped;
+
+  private CompactId compact;
+  private CompactId sameCompact;
+  private CompactId otherCompact;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+    source = new BigInteger(48, random).longValue();
+
+    raw = BigDecimal.valueOf(source, SCALE);
+    sameRaw = BigDecimal.valueOf(source * 10L, SCALE + 1);
+    otherRaw = BigDecimal.valueOf(source + 1L, SCALE);
+
+    wrapped = new Id(raw);
+    sameWrapped = new Id(sameRaw);
+    otherWrapped = new Id(otherRaw);
+
+    compact = new CompactId(raw);
+    sameCompact = new CompactId(sameRaw);
+    otherCompact = new CompactId(otherRaw);
+  }
+
+  @Benchmark
+  public BigDecimal constructRaw() {
+    return BigDecimal.valueOf(source, SCALE);
+  }
+
+  @Benchmark
+  public Id constructWrapped() {
+    return new Id(BigDecimal.valueOf(source, SCALE));
+  }
+
+  @Benchmark
+  public CompactId constructCompact() {
+    return new CompactId(source, SCALE);
+  }
+
+  @Benchmark
+  public BigDecimal valueRaw() {
+    return raw;
+  }
+
+  @Benchmark
+  public BigDecimal valueWrapped() {
+    return wrapped.value();
+  }
+
+  @Benchmark
+  public BigDecimal valueCompact() {
+    return compact.value();
+  }
+
+  @Benchmark
+  public boolean equalsRaw() {
+    return raw.compareTo(sameRaw) == 0;
+  }
+
+  @Benchmark
+  public boolean equalsWrapped() {
+    return wrapped.equals(sameWrapped);
+  }
+
+  @Benchmark
+  public boolean equalsCompact() {
+    return compact.equals(sameCompact);
+  }
+
+  @Benchmark
+  public int hashCodeRaw() {
+    return raw.stripTrailingZeros().hashCode();
+  }
+
+  @Benchmark
+  public int hashCodeWrapped() {
+    return wrapped.hashCode();
+  }
+
+  @Benchmark
+  public int hashCodeCompact() {
+    return compact.hashCode();
+  }
+
+  @Benchmark
+  public int compareToRaw() {
+    return raw.compareTo(otherRaw);
+  }
+
+  @Benchmark
+  public int compareToWrapped() {
+    return wrapped.compareTo(otherWrapped);
+  }
+
+  @Benchmark
+  public int compareToCompact() {
+    return compact.compareTo(otherCompact);
+  }
+
+  @Benchmark
+  public String toStringRaw() {
+    return raw.toString();
+  }
+
+  @Benchmark
+  public String toStringWrapped() {
+    return wrapped.toString();
+  }
+
+  public static final class Id extends BigDecimalPicoType {
+    public Id(BigDecimal value) {
+      super(value);
+    }
+  }
+
+  public static final class CompactId extends CompactBigDecimalPicoType {
+    public CompactId(long unscaledValue, int scale) {
+      super(unscaledValue, scale);
+    }
+
+    public CompactId(BigDecimal value) {
+      super(value);
+    }
+  }
+}
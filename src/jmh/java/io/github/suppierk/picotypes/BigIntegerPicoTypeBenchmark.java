@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link BigIntegerPicoType} operations against the raw {@code BigInteger}, and {@link
+ * CompactBigIntegerPicoType} operations on values which fit into {@code long}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BigIntegerPicoTypeBenchmark {
+  private static final long SEED = 42L;
+  private byte[] source;
+
+  private BigInteger raw;
+  private BigInteger sameRaw;
+  private BigInteger otherRaw;
+
+  private Id wrapped;
+  private Id sameWrapped;
+  private Id otherWrapped;
+
+  private long compactSource;
+  private CompactId compact;
+  private CompactId sameCompact;
+  private CompactId otherCompact;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+    source = new BigInteger(96, random).toByteArray();
+
+    raw = new BigInteger(source);
+    sameRaw = new BigInteger(source);
+    otherRaw = new BigInteger(source).add(BigInteger.ONE);
+
+    wrapped = new Id(raw);
+    sameWrapped = new Id(sameRaw);
+    otherWrapped = new Id(otherRaw);
+
+    compactSource = random.nextLong();
+    compact = new CompactId(compactSource);
+    sameCompact = new CompactId(BigInteger.valueOf(compactSource));
+    otherCompact = new CompactId(compactSource + 1L);
+  }
+
+  @Benchmark
+  public BigInteger constructRaw() {
+    return new BigInteger(source);
+  }
+
+  @Benchmark
+  public Id constructWrapped() {
+    return new Id(new BigInteger(source));
+  }
+
+  @Benchmark
+  public CompactId constructCompact() {
+    return new CompactId(compactSource);
+  }
+
+  @Benchmark
+  public BigInteger valueRaw() {
+    return raw;
+  }
+
+  @Benchmark
+  public BigInteger valueWrapped() {
+    return wrapped.value();
+  }
+
+  @Benchmark
+  public BigInteger valueCompact() {
+    return compact.value();
+  }
+
+  @Benchmark
+  public boolean equalsRaw() {
+    return raw.equals(sameRaw);
+  }
+
+  @Benchmark
+  public boolean equalsWrapped() {
+    return wrapped.equals(sameWrapped);
+  }
+
+  @Benchmark
+  public boolean equalsCompact() {
+    return compact.equals(sameCompact);
+  }
+
+  @Benchmark
+  public int hashCodeRaw() {
+    return raw.hashCode();
+  }
+
+  @Benchmark
+  public int hashCodeWrapped() {
+    return wrapped.hashCode();
+  }
+
+  @Benchmark
+  public int hashCodeCompact() {
+    return compact.hashCode();
+  }
+
+  @Benchmark
+  public int compareToRaw() {
+    return raw.compareTo(otherRaw);
+  }
+
+  @Benchmark
+  public int compareToWrapped() {
+    return wrapped.compareTo(otherWrapped);
+  }
+
+  @Benchmark
+  public int compareToCompact() {
+    return compact.compareTo(otherCompact);
+  }
+
+  @Benchmark
+  public String toStringRaw() {
+    return raw.toString();
+  }
+
+  @Benchmark
+  public String toStringWrapped() {
+    return wrapped.toString();
+  }
+
+  public static final class Id extends BigIntegerPicoType {
+    public Id(BigInteger value) {
+      super(value);
+    }
+  }
+
+  public static final class CompactId extends CompactBigIntegerPicoType {
+    public CompactId(long value) {
+      super(value);
+    }
+
+    public CompactId(BigInteger value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares {@link IntegerPicoType} operations against the raw {@code Integer}. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntegerPicoTypeBenchmark {
+  private static final long SEED = 42L;
+  private int source;
+
+  private Integer raw;
+  private Integer sameRaw;
+  private Integer otherRaw;
+
+  private Id wrapped;
+  private Id sameWrapped;
+  private Id otherWrapped;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+    source = random.nextInt(Integer.MAX_VALUE - 1) + 1_000;
+
+    raw = Integer.valueOf(source);
+    sameRaw = Integer.valueOf(source);
+    otherRaw = Integer.valueOf(source + 1);
+
+    wrapped = new Id(raw);
+    sameWrapped = new Id(sameRaw);
+    otherWrapped = new Id(otherRaw);
+  }
+
+  @Benchmark
+  public Integer constructRaw() {
+    return Integer.valueOf(source);
+  }
+
+  @Benchmark
+  public Id constructWrapped() {
+    return new Id(source);
+  }
+
+  @Benchmark
+  public Integer valueRaw() {
+    return raw;
+  }
+
+  @Benchmark
+  public Integer valueWrapped() {
+    return wrapped.value();
+  }
+
+  @Benchmark
+  public boolean equalsRaw() {
+    return raw.equals(sameRaw);
+  }
+
+  @Benchmark
+  public boolean equalsWrapped() {
+    return wrapped.equals(sameWrapped);
+  }
+
+  @Benchmark
+  public int hashCodeRaw() {
+    return raw.hashCode();
+  }
+
+  @Benchmark
+  public int hashCodeWrapped() {
+    return wrapped.hashCode();
+  }
+
+  @Benchmark
+  public int compareToRaw() {
+    return raw.compareTo(otherRaw);
+  }
+
+  @Benchmark
+  public int compareToWrapped() {
+    return wrapped.compareTo(otherWrapped);
+  }
+
+  @Benchmark
+  public String toStringRaw() {
+    return raw.toString();
+  }
+
+  @Benchmark
+  public String toStringWrapped() {
+    return wrapped.toString();
+  }
+
+  public static final class Id extends IntegerPicoType {
+    public Id(Integer value) {
+      super(value);
+    }
+  }
+}
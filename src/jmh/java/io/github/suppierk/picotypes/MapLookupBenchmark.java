@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Multi-threaded key lookups in {@link HashMap} and {@link ConcurrentHashMap}, keyed either by raw
+ * values or by their PicoType wrappers.
+ *
+ * <p>Lookup keys are separate instances from the ones used to populate the maps, mirroring keys
+ * which were just deserialized from a request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MapLookupBenchmark {
+  private static final long SEED = 42L;
+
+  @Param({"1024", "1048576"})
+  private int size;
+
+  private Long[] rawLongKeys;
+  private LongId[] wrappedLongKeys;
+  private UUID[] rawUuidKeys;
+  private UuidId[] wrappedUuidKeys;
+
+  private Map<Long, Integer> rawLongHashMap;
+  private Map<LongId, Integer> wrappedLongHashMap;
+  private Map<Long, Integer> rawLongConcurrentHashMap;
+  private Map<LongId, Integer> wrappedLongConcurrentHashMap;
+
+  private Map<UUID, Integer> rawUuidHashMap;
+  private Map<UuidId, Integer> wrappedUuidHashMap;
+  private Map<UUID, Integer> rawUuidConcurrentHashMap;
+  private Map<UuidId, Integer> wrappedUuidConcurrentHashMap;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+
+    rawLongKeys = new Long[size];
+    wrappedLongKeys = new LongId[size];
+    rawUuidKeys = new UUID[size];
+    wrappedUuidKeys = new UuidId[size];
+
+    rawLongHashMap = new HashMap<>();
+    wrappedLongHashMap = new HashMap<>();
+    rawLongConcurrentHashMap = new ConcurrentHashMap<>();
+    wrappedLongConcurrentHashMap = new ConcurrentHashMap<>();
+
+    rawUuidHashMap = new HashMap<>();
+    wrappedUuidHashMap = new HashMap<>();
+    rawUuidConcurrentHashMap = new ConcurrentHashMap<>();
+    wrappedUuidConcurrentHashMap = new ConcurrentHashMap<>();
+
+    for (int i = 0; i < size; i++) {
+      long id = random.nextLong();
+      long mostSignificantBits = random.nextLong();
+      long leastSignificantBits = random.nextLong();
+
+      rawLongHashMap.put(id, i);
+      wrappedLongHashMap.put(new LongId(id), i);
+      rawLongConcurrentHashMap.put(id, i);
+      wrappedLongConcurrentHashMap.put(new LongId(id), i);
+
+      var uuid = new UUID(mostSignificantBits, leastSignificantBits);
+      rawUuidHashMap.put(uuid, i);
+      wrappedUuidHashMap.put(new UuidId(uuid), i);
+      rawUuidConcurrentHashMap.put(uuid, i);
+      wrappedUuidConcurrentHashMap.put(new UuidId(uuid), i);
+
+      rawLongKeys[i] = Long.valueOf(id);
+      wrappedLongKeys[i] = new LongId(id);
+      rawUuidKeys[i] = new UUID(mostSignificantBits, leastSignificantBits);
+      wrappedUuidKeys[i] = new UuidId(new UUID(mostSignificantBits, leastSignificantBits));
+    }
+  }
+
+  @Benchmark
+  public Integer longHashMapRaw(Cursor cursor) {
+    return rawLongHashMap.get(rawLongKeys[cursor.next(size)]);
+  }
+
+  @Benchmark
+  public Integer longHashMapWrapped(Cursor cursor) {
+    return wrappedLongHashMap.get(wrappedLongKeys[cursor.next(size)]);
+  }
+
+  @Benchmark
+  public Integer longConcurrentHashMapRaw(Cursor cursor) {
+    return rawLongConcurrentHashMap.get(rawLongKeys[cursor.next(size)]);
+  }
+
+  @Benchmark
+  public Integer longConcurrentHashMapWrapped(Cursor cursor) {
+    return wrappedLongConcurrentHashMap.get(wrappedLongKeys[cursor.next(size)]);
+  }
+
+  @Benchmark
+  public Integer uuidHashMapRaw(Cursor cursor) {
+    return rawUuidHashMap.get(rawUuidKeys[cursor.next(size)]);
+  }
+
+  @Benchmark
+  public Integer uuidHashMapWrapped(Cursor cursor) {
+    return wrappedUuidHashMap.get(wrappedUuidKeys[cursor.next(size)]);
+  }
+
+  @Benchmark
+  public Integer uuidConcurrentHashMapRaw(Cursor cursor) {
+    return rawUuidConcurrentHashMap.get(rawUuidKeys[cursor.next(size)]);
+  }
+
+  @Benchmark
+  public Integer uuidConcurrentHashMapWrapped(Cursor cursor) {
+    return wrappedUuidConcurrentHashMap.get(wrappedUuidKeys[cursor.next(size)]);
+  }
+
+  /** Per-thread position in the key arrays, so that threads do not walk the keys in lockstep. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int index;
+
+    @Setup
+    public void setUp() {
+      index = ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE);
+    }
+
+    int next(int size) {
+      index = (index + 1) % size;
+      return index;
+    }
+  }
+
+  public static final class LongId extends LongPicoType {
+    public LongId(Long value) {
+      super(value);
+    }
+  }
+
+  public static final class UuidId extends UuidPicoType {
+    public UuidId(UUID value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput and latency of password hashing and verification per work factor.
+ *
+ * <p>{@code verifyOnEngine} is run by twice as many threads as the engine has, showing latency of
+ * verifications queued during bursts.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHasherBenchmark {
+  @Param({"10000", "100000", "600000"})
+  private int iterations;
+
+  private final char[] password = "correct horse battery staple".toCharArray();
+
+  private PasswordHasher hasher;
+  private Hash hash;
+  private PasswordVerificationEngine engine;
+
+  @Setup
+  public void setUp() {
+    hasher = new PasswordHasher(PasswordHasher.DEFAULT_ALGORITHM, iterations);
+    hash = new Hash(hasher.hash(password));
+    int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    engine = new PasswordVerificationEngine(threads, 1024);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    engine.close();
+  }
+
+  @Benchmark
+  public String hash() {
+    return hasher.hash(password);
+  }
+
+  @Benchmark
+  public boolean verify() {
+    return hash.matches(password);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public boolean verifyOnEngine() {
+    CompletableFuture<Boolean> result = engine.verify(hash, password);
+    return result.join();
+  }
+
+  public static final class Hash extends HashedPasswordPicoType {
+    public Hash(String value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares {@link PasswordPicoType} operations against the raw {@code byte[]}. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PasswordPicoTypeBenchmark {
+  private static final long SEED = 42L;
+  private byte[] source;
+
+  private byte[] raw;
+  private byte[] sameRaw;
+  private byte[] otherRaw;
+
+  private Id wrapped;
+  private Id sameWrapped;
+  private Id otherWrapped;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+    source = Long.toString(random.nextLong(), 36).getBytes(StandardCharsets.UTF_8);
+
+    raw = Arrays.copyOf(source, source.length);
+    sameRaw = Arrays.copyOf(source, source.length);
+    otherRaw = Arrays.copyOf(source, source.length + 1);
+
+    wrapped = new Id(raw);
+    sameWrapped = new Id(sameRaw);
+    otherWrapped = new Id(otherRaw);
+  }
+
+  @Benchmark
+  public byte[] constructRaw() {
+    return Arrays.copyOf(source, source.length);
+  }
+
+  @Benchmark
+  public Id constructWrapped() {
+    return new Id(source);
+  }
+
+  @Benchmark
+  public byte[] valueRaw() {
+    return raw;
+  }
+
+  @Benchmark
+  public byte[] valueWrapped() {
+    return wrapped.value();
+  }
+
+  @Benchmark
+  public int withValueWrapped() {
+    return wrapped.withValue(ByteBuffer::remaining);
+  }
+
+  @Benchmark
+  public boolean matchesCopiedValue() {
+    return MessageDigest.isEqual(wrapped.value(), sameRaw);
+  }
+
+  @Benchmark
+  public boolean matchesWrapped() {
+    return wrapped.matches(sameRaw);
+  }
+
+  @Benchmark
+  public boolean equalsRaw() {
+    return MessageDigest.isEqual(raw, sameRaw);
+  }
+
+  @Benchmark
+  public boolean equalsWrapped() {
+    return wrapped.equals(sameWrapped);
+  }
+
+  @Benchmark
+  public int hashCodeRaw() {
+    return Arrays.hashCode(raw);
+  }
+
+  @Benchmark
+  public int hashCodeWrapped() {
+    return wrapped.hashCode();
+  }
+
+  @Benchmark
+  public String toStringRaw() {
+    return SecurePicoType.DEFAULT_MASK;
+  }
+
+  @Benchmark
+  public String toStringWrapped() {
+    return wrapped.toString();
+  }
+
+  public static final class Id extends PasswordPicoType {
+    public Id(byte[] value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Membership queries of Bloom filters against {@link HashSet} holding the same elements.
+ *
+ * <p>Queries alternate between added and absent elements. Run with {@code -prof gc} to confirm that
+ * filters do not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PicoBloomFilterBenchmark {
+  private static final long SEED = 42L;
+  private static final int MASK = 1023;
+
+  @Param({"1000000"})
+  private int size;
+
+  private TenantId[] tenantIds;
+  private Name[] names;
+  private UuidPicoBloomFilter<TenantId> uuidFilter;
+  private StringPicoBloomFilter<Name> stringFilter;
+  private Set<TenantId> uuidSet;
+  private Set<Name> stringSet;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+    uuidFilter = new UuidPicoBloomFilter<>(size, 0.01);
+    stringFilter = new StringPicoBloomFilter<>(size, 0.01);
+    uuidSet = new HashSet<>();
+    stringSet = new HashSet<>();
+    tenantIds = new TenantId[MASK + 1];
+    names = new Name[MASK + 1];
+
+    for (int i = 0; i < size; i++) {
+      var tenantId = new TenantId(new UUID(random.nextLong(), random.nextLong()));
+      var name = new Name("tenant-" + random.nextLong());
+      uuidFilter.add(tenantId);
+      stringFilter.add(name);
+      uuidSet.add(tenantId);
+      stringSet.add(name);
+      if (i <= MASK && i % 2 == 0) {
+        tenantIds[i] = tenantId;
+        names[i] = name;
+      }
+    }
+
+    for (int i = 1; i <= MASK; i += 2) {
+      tenantIds[i] = new TenantId(new UUID(random.nextLong(), random.nextLong()));
+      names[i] = new Name("absent-" + random.nextLong());
+    }
+  }
+
+  @Benchmark
+  public boolean uuidFilterContains() {
+    return uuidFilter.mightContain(tenantIds[cursor++ & MASK]);
+  }
+
+  @Benchmark
+  public boolean uuidSetContains() {
+    return uuidSet.contains(tenantIds[cursor++ & MASK]);
+  }
+
+  @Benchmark
+  public boolean stringFilterContains() {
+    return stringFilter.mightContain(names[cursor++ & MASK]);
+  }
+
+  @Benchmark
+  public boolean stringSetContains() {
+    return stringSet.contains(names[cursor++ & MASK]);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public boolean uuidFilterConcurrentAdd() {
+    return uuidFilter.add(tenantIds[ThreadLocalRandom.current().nextInt() & MASK]);
+  }
+
+  public static final class TenantId extends UuidPicoType {
+    public TenantId(UUID value) {
+      super(value);
+    }
+  }
+
+  public static final class Name extends StringPicoType {
+    public Name(String value) {
+      super(value);
+    }
+  }
+}
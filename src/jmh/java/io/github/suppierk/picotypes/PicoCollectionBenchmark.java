@@ -0,0 +1,228 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Single-threaded lookups and population of {@link HashMap} and {@link HashSet} against their
+ * primitive-keyed counterparts, keyed by PicoType wrappers.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation rates of populating the collections.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PicoCollectionBenchmark {
+  private static final long SEED = 42L;
+
+  @Param({"1024", "1048576"})
+  private int size;
+
+  private LongId[] longKeys;
+  private IntId[] intKeys;
+  private UuidId[] uuidKeys;
+
+  private Map<LongId, Integer> longHashMap;
+  private PicoLongMap<LongId, Integer> longPicoMap;
+  private Map<IntId, Integer> intHashMap;
+  private PicoIntMap<IntId, Integer> intPicoMap;
+  private Map<UuidId, Integer> uuidHashMap;
+  private PicoUuidMap<UuidId, Integer> uuidPicoMap;
+
+  private Set<LongId> longHashSet;
+  private PicoLongSet<LongId> longPicoSet;
+  private Set<UuidId> uuidHashSet;
+  private PicoUuidSet<UuidId> uuidPicoSet;
+
+  private int index;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+
+    longKeys = new LongId[size];
+    intKeys = new IntId[size];
+    uuidKeys = new UuidId[size];
+
+    longHashMap = new HashMap<>();
+    longPicoMap = new PicoLongMap<>(LongId::new);
+    intHashMap = new HashMap<>();
+    intPicoMap = new PicoIntMap<>(IntId::new);
+    uuidHashMap = new HashMap<>();
+    uuidPicoMap = new PicoUuidMap<>(UuidId::new);
+
+    longHashSet = new HashSet<>();
+    longPicoSet = new PicoLongSet<>(LongId::new);
+    uuidHashSet = new HashSet<>();
+    uuidPicoSet = new PicoUuidSet<>(UuidId::new);
+
+    for (int i = 0; i < size; i++) {
+      longKeys[i] = new LongId(random.nextLong());
+      intKeys[i] = new IntId(random.nextInt());
+      uuidKeys[i] = new UuidId(new UUID(random.nextLong(), random.nextLong()));
+
+      longHashMap.put(longKeys[i], i);
+      longPicoMap.put(longKeys[i], i);
+      intHashMap.put(intKeys[i], i);
+      intPicoMap.put(intKeys[i], i);
+      uuidHashMap.put(uuidKeys[i], i);
+      uuidPicoMap.put(uuidKeys[i], i);
+
+      longHashSet.add(longKeys[i]);
+      longPicoSet.add(longKeys[i]);
+      uuidHashSet.add(uuidKeys[i]);
+      uuidPicoSet.add(uuidKeys[i]);
+    }
+  }
+
+  @Benchmark
+  public Integer longHashMapGet() {
+    return longHashMap.get(longKeys[next()]);
+  }
+
+  @Benchmark
+  public Integer longPicoMapGet() {
+    return longPicoMap.get(longKeys[next()]);
+  }
+
+  @Benchmark
+  public Integer intHashMapGet() {
+    return intHashMap.get(intKeys[next()]);
+  }
+
+  @Benchmark
+  public Integer intPicoMapGet() {
+    return intPicoMap.get(intKeys[next()]);
+  }
+
+  @Benchmark
+  public Integer uuidHashMapGet() {
+    return uuidHashMap.get(uuidKeys[next()]);
+  }
+
+  @Benchmark
+  public Integer uuidPicoMapGet() {
+    return uuidPicoMap.get(uuidKeys[next()]);
+  }
+
+  @Benchmark
+  public boolean longHashSetContains() {
+    return longHashSet.contains(longKeys[next()]);
+  }
+
+  @Benchmark
+  public boolean longPicoSetContains() {
+    return longPicoSet.contains(longKeys[next()]);
+  }
+
+  @Benchmark
+  public boolean uuidHashSetContains() {
+    return uuidHashSet.contains(uuidKeys[next()]);
+  }
+
+  @Benchmark
+  public boolean uuidPicoSetContains() {
+    return uuidPicoSet.contains(uuidKeys[next()]);
+  }
+
+  @Benchmark
+  public Map<LongId, Integer> longHashMapPopulate() {
+    var map = new HashMap<LongId, Integer>();
+    for (int i = 0; i < size; i++) {
+      map.put(longKeys[i], i);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public PicoLongMap<LongId, Integer> longPicoMapPopulate() {
+    var map = new PicoLongMap<LongId, Integer>(LongId::new);
+    for (int i = 0; i < size; i++) {
+      map.put(longKeys[i], i);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public Map<UuidId, Integer> uuidHashMapPopulate() {
+    var map = new HashMap<UuidId, Integer>();
+    for (int i = 0; i < size; i++) {
+      map.put(uuidKeys[i], i);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public PicoUuidMap<UuidId, Integer> uuidPicoMapPopulate() {
+    var map = new PicoUuidMap<UuidId, Integer>(UuidId::new);
+    for (int i = 0; i < size; i++) {
+      map.put(uuidKeys[i], i);
+    }
+    return map;
+  }
+
+  private int next() {
+    index = (index + 1) % size;
+    return index;
+  }
+
+  public static final class LongId extends LongPicoType {
+    public LongId(Long value) {
+      super(value);
+    }
+  }
+
+  public static final class IntId extends IntegerPicoType {
+    public IntId(Integer value) {
+      super(value);
+    }
+  }
+
+  public static final class UuidId extends UuidPicoType {
+    public UuidId(UUID value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building and scanning lists of PicoTypes against columns holding the same values, and aggregating
+ * a column of doubles against streams.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PicoColumnBenchmark {
+  private static final long SEED = 42L;
+
+  @Param({"1024", "1048576"})
+  private int size;
+
+  private long[] rawLongs;
+  private double[] rawDoubles;
+  private UUID[] rawUuids;
+
+  private List<LongId> longList;
+  private LongPicoColumn<LongId> longColumn;
+  private List<UuidId> uuidList;
+  private UuidPicoColumn<UuidId> uuidColumn;
+  private List<Score> scoreList;
+  private DoublePicoColumn<Score> scoreColumn;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+
+    rawLongs = new long[size];
+    rawDoubles = new double[size];
+    rawUuids = new UUID[size];
+    for (int i = 0; i < size; i++) {
+      rawLongs[i] = random.nextLong();
+      rawDoubles[i] = random.nextGaussian() * 100.0;
+      rawUuids[i] = new UUID(random.nextLong(), random.nextLong());
+    }
+
+    longList = buildLongList();
+    longColumn = buildLongColumn();
+    uuidList = buildUuidList();
+    uuidColumn = buildUuidColumn();
+    scoreList = new ArrayList<>();
+    scoreColumn = new DoublePicoColumn<>(Score::new, size);
+    for (int i = 0; i < size; i++) {
+      // Every 64th element is null, so that aggregations go through runs of present values
+      if (i % 64 == 63) {
+        scoreList.add(null);
+        scoreColumn.addNull();
+      } else {
+        scoreList.add(new Score(rawDoubles[i]));
+        scoreColumn.add(rawDoubles[i]);
+      }
+    }
+  }
+
+  @Benchmark
+  public List<LongId> buildLongList() {
+    var list = new ArrayList<LongId>();
+    for (long value : rawLongs) {
+      list.add(new LongId(value));
+    }
+    return list;
+  }
+
+  @Benchmark
+  public LongPicoColumn<LongId> buildLongColumn() {
+    var column = new LongPicoColumn<LongId>(LongId::new);
+    for (long value : rawLongs) {
+      column.add(value);
+    }
+    return column;
+  }
+
+  @Benchmark
+  public List<UuidId> buildUuidList() {
+    var list = new ArrayList<UuidId>();
+    for (UUID value : rawUuids) {
+      list.add(new UuidId(value));
+    }
+    return list;
+  }
+
+  @Benchmark
+  public UuidPicoColumn<UuidId> buildUuidColumn() {
+    var column = new UuidPicoColumn<UuidId>(UuidId::new);
+    for (UUID value : rawUuids) {
+      column.add(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+    return column;
+  }
+
+  @Benchmark
+  public long scanLongList() {
+    long sum = 0L;
+    for (LongId id : longList) {
+      sum += id.value();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long scanLongColumnCursor() {
+    long sum = 0L;
+    var cursor = longColumn.cursor();
+    while (cursor.next()) {
+      sum += cursor.getLong();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long scanLongColumnParallelStream() {
+    return longColumn.values().parallel().sum();
+  }
+
+  @Benchmark
+  public long scanUuidList() {
+    long sum = 0L;
+    for (UuidId id : uuidList) {
+      sum += id.value().getMostSignificantBits() ^ id.value().getLeastSignificantBits();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long scanUuidColumnCursor() {
+    long sum = 0L;
+    var cursor = uuidColumn.cursor();
+    while (cursor.next()) {
+      sum += cursor.getMostSignificantBits() ^ cursor.getLeastSignificantBits();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double sumScoreListStream() {
+    return scoreList.stream().filter(Objects::nonNull).mapToDouble(Score::value).sum();
+  }
+
+  @Benchmark
+  public double sumScoreColumnStream() {
+    return scoreColumn.values().sum();
+  }
+
+  @Benchmark
+  public double sumScoreColumn() {
+    return scoreColumn.sum();
+  }
+
+  @Benchmark
+  public double maxScoreColumnStream() {
+    return scoreColumn.values().max().orElse(Double.NaN);
+  }
+
+  @Benchmark
+  public double maxScoreColumn() {
+    return scoreColumn.max().orElse(Double.NaN);
+  }
+
+  @Benchmark
+  public long[] histogramScoreColumn() {
+    return scoreColumn.histogram(-300.0, 300.0, 60);
+  }
+
+  public static final class LongId extends LongPicoType {
+    public LongId(Long value) {
+      super(value);
+    }
+  }
+
+  public static final class Score extends DoublePicoType {
+    public Score(Double value) {
+      super(value);
+    }
+  }
+
+  public static final class UuidId extends UuidPicoType {
+    public UuidId(UUID value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validating imported values with hand-written constructor checks throwing exceptions and with
+ * {@link PicoConstraint}.
+ *
+ * <p>A tenth of the values is invalid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PicoConstraintBenchmark {
+  private static final long SEED = 42L;
+
+  @Param({"1024", "1048576"})
+  private int size;
+
+  private String[] skus;
+  private LongPicoColumn<Quantity> quantities;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+    skus = new String[size];
+    quantities = new LongPicoColumn<>(Quantity::new, size);
+    for (int i = 0; i < size; i++) {
+      boolean invalid = random.nextInt(10) == 0;
+      skus[i] = (invalid ? "sku-" : "SKU-") + random.nextInt(1_000_000);
+      quantities.add(invalid ? -1L : random.nextInt(1_000));
+    }
+  }
+
+  @Benchmark
+  public int skusWithExceptions() {
+    int invalid = 0;
+    for (String sku : skus) {
+      try {
+        new CheckedSku(sku);
+      } catch (IllegalArgumentException e) {
+        invalid++;
+      }
+    }
+    return invalid;
+  }
+
+  @Benchmark
+  public int skusWithTryCreate() {
+    int invalid = 0;
+    for (String sku : skus) {
+      if (Sku.CONSTRAINT.tryCreate(Sku::new, sku).isInvalid()) {
+        invalid++;
+      }
+    }
+    return invalid;
+  }
+
+  @Benchmark
+  public PicoViolations skusValidateAll() {
+    return Sku.CONSTRAINT.validateAll(skus);
+  }
+
+  @Benchmark
+  public int quantitiesWithExceptions() {
+    int invalid = 0;
+    for (int i = 0; i < quantities.size(); i++) {
+      try {
+        new CheckedQuantity(quantities.getLong(i));
+      } catch (IllegalArgumentException e) {
+        invalid++;
+      }
+    }
+    return invalid;
+  }
+
+  @Benchmark
+  public PicoViolations quantitiesValidateAll() {
+    return Quantity.CONSTRAINT.validateAll(quantities);
+  }
+
+  /** Checks values the way constructors do without constraints, recompiling the pattern. */
+  public static final class CheckedSku extends StringPicoType {
+    public CheckedSku(String value) {
+      super(value);
+      if (value.length() < 3 || value.length() > 16) {
+        throw new IllegalArgumentException("Value length must be between 3 and 16");
+      } else if (!Pattern.matches("[A-Z0-9-]+", value)) {
+        throw new IllegalArgumentException("Value must match [A-Z0-9-]+");
+      }
+    }
+  }
+
+  public static final class Sku extends StringPicoType {
+    static final PicoConstraint<String> CONSTRAINT =
+        PicoConstraint.allOf(PicoConstraint.length(3, 16), PicoConstraint.matches("[A-Z0-9-]+"));
+
+    public Sku(String value) {
+      super(CONSTRAINT.requireValid(value));
+    }
+  }
+
+  public static final class CheckedQuantity extends LongPicoType {
+    public CheckedQuantity(Long value) {
+      super(value);
+      if (value < 0L || value > 1_000_000L) {
+        throw new IllegalArgumentException("Value must be between 0 and 1000000");
+      }
+    }
+  }
+
+  public static final class Quantity extends LongPicoType {
+    static final PicoConstraint<Long> CONSTRAINT = PicoConstraint.longRange(0L, 1_000_000L);
+
+    public Quantity(Long value) {
+      super(CONSTRAINT.requireValid(value));
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Stable 64-bit hashes and shard assignment against {@link Object#hashCode()}.
+ *
+ * <p>Run with {@code -prof gc} to confirm that hashing does not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PicoHashesBenchmark {
+  private static final long SEED = 42L;
+
+  private OrderId orderId;
+  private TenantId tenantId;
+  private CompactTenantId compactTenantId;
+  private Name name;
+  private PicoPartitioner partitioner;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+    orderId = new OrderId(random.nextLong());
+    tenantId = new TenantId(new UUID(random.nextLong(), random.nextLong()));
+    compactTenantId = new CompactTenantId(random.nextLong(), random.nextLong());
+    name = new Name("tenant-" + random.nextLong() + "-eu-west-1-production");
+    partitioner = new PicoPartitioner(64);
+  }
+
+  @Benchmark
+  public int longHashCode() {
+    return orderId.hashCode();
+  }
+
+  @Benchmark
+  public long longHash64() {
+    return PicoHashes.hash64(orderId);
+  }
+
+  @Benchmark
+  public int uuidHashCode() {
+    return tenantId.hashCode();
+  }
+
+  @Benchmark
+  public long uuidHash64() {
+    return PicoHashes.hash64(tenantId);
+  }
+
+  @Benchmark
+  public long primitiveUuidHash64() {
+    return PicoHashes.hash64(compactTenantId);
+  }
+
+  @Benchmark
+  public int stringHashCode() {
+    return name.hashCode();
+  }
+
+  @Benchmark
+  public long stringHash64() {
+    return PicoHashes.hash64(name);
+  }
+
+  @Benchmark
+  public int uuidShardOf() {
+    return partitioner.shardOf(tenantId);
+  }
+
+  public static final class OrderId extends LongPicoType {
+    public OrderId(Long value) {
+      super(value);
+    }
+  }
+
+  public static final class TenantId extends UuidPicoType {
+    public TenantId(UUID value) {
+      super(value);
+    }
+  }
+
+  public static final class CompactTenantId extends PrimitiveUuidPicoType {
+    public CompactTenantId(long mostSignificantBits, long leastSignificantBits) {
+      super(mostSignificantBits, leastSignificantBits);
+    }
+  }
+
+  public static final class Name extends StringPicoType {
+    public Name(String value) {
+      super(value);
+    }
+  }
+}
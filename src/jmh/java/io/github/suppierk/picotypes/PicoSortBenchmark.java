@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Radix sort of raw values and PicoTypes against {@link Arrays} and comparison sort of lists.
+ *
+ * <p>Inputs are restored from random copies before every invocation, so each invocation sorts the
+ * same unsorted data.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PicoSortBenchmark {
+  private static final long SEED = 42L;
+
+  @Param({"1048576"})
+  private int size;
+
+  private long[] rawLongs;
+  private long[] rawUuids;
+  private List<OrderId> orderIds;
+  private List<TenantId> tenantIds;
+
+  private long[] longs;
+  private long[] uuids;
+  private List<OrderId> orderIdsToSort;
+  private List<TenantId> tenantIdsToSort;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+    rawLongs = new long[size];
+    rawUuids = new long[size * 2];
+    orderIds = new ArrayList<>(size);
+    tenantIds = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      rawLongs[i] = random.nextLong();
+      rawUuids[i * 2] = random.nextLong();
+      rawUuids[i * 2 + 1] = random.nextLong();
+      orderIds.add(new OrderId(rawLongs[i]));
+      tenantIds.add(new TenantId(new UUID(rawUuids[i * 2], rawUuids[i * 2 + 1])));
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void restore() {
+    longs = rawLongs.clone();
+    uuids = rawUuids.clone();
+    orderIdsToSort = new ArrayList<>(orderIds);
+    tenantIdsToSort = new ArrayList<>(tenantIds);
+  }
+
+  @Benchmark
+  public long[] longsArraysSort() {
+    Arrays.sort(longs);
+    return longs;
+  }
+
+  @Benchmark
+  public long[] longsArraysParallelSort() {
+    Arrays.parallelSort(longs);
+    return longs;
+  }
+
+  @Benchmark
+  public long[] longsRadixSort() {
+    PicoSort.sort(longs);
+    return longs;
+  }
+
+  @Benchmark
+  public long[] uuidBitsRadixSort() {
+    PicoSort.sortUuidBits(uuids);
+    return uuids;
+  }
+
+  @Benchmark
+  public List<OrderId> longPicoTypesCollectionsSort() {
+    Collections.sort(orderIdsToSort);
+    return orderIdsToSort;
+  }
+
+  @Benchmark
+  public List<OrderId> longPicoTypesRadixSort() {
+    PicoSort.sortLongs(orderIdsToSort, false);
+    return orderIdsToSort;
+  }
+
+  @Benchmark
+  public List<TenantId> uuidPicoTypesCollectionsSort() {
+    Collections.sort(tenantIdsToSort);
+    return tenantIdsToSort;
+  }
+
+  @Benchmark
+  public List<TenantId> uuidPicoTypesRadixSort() {
+    PicoSort.sortUuids(tenantIdsToSort, false);
+    return tenantIdsToSort;
+  }
+
+  public static final class OrderId extends LongPicoType {
+    public OrderId(Long value) {
+      super(value);
+    }
+  }
+
+  public static final class TenantId extends UuidPicoType {
+    public TenantId(UUID value) {
+      super(value);
+    }
+  }
+}
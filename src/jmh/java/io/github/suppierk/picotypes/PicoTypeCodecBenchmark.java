@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares binary {@link PicoTypeCodec}s against writing and parsing textual representation. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PicoTypeCodecBenchmark {
+  private static final long SEED = 42L;
+
+  private final PicoTypeCodec<LongId> longCodec = PicoTypeCodecs.ofLong(LongId::new);
+  private final PicoTypeCodec<UuidId> uuidCodec = PicoTypeCodecs.ofUuid(UuidId::new);
+  private final PicoTypeCodec<StringId> stringCodec = PicoTypeCodecs.ofString(StringId::new);
+  private final PicoTypeCodec<Utf8Id> utf8Codec = PicoTypeCodecs.ofUtf8String(Utf8Id::new);
+
+  private LongId longId;
+  private UuidId uuidId;
+  private StringId stringId;
+  private Utf8Id utf8Id;
+
+  private ByteBuffer buffer;
+  private ByteBuffer encodedLong;
+  private ByteBuffer encodedUuid;
+  private ByteBuffer encodedString;
+  private ByteBuffer textLong;
+  private ByteBuffer textUuid;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+    longId = new LongId(random.nextLong());
+    uuidId = new UuidId(new UUID(random.nextLong(), random.nextLong()));
+
+    stringId = new StringId("customer-" + uuidId.value() + "-\u00e9t\u00e9");
+    utf8Id = new Utf8Id(stringId.value());
+
+    buffer = ByteBuffer.allocate(64);
+
+    encodedLong = ByteBuffer.allocate(longCodec.encodedSize(longId));
+    longCodec.encode(longId, encodedLong);
+    encodedUuid = ByteBuffer.allocate(uuidCodec.encodedSize(uuidId));
+    uuidCodec.encode(uuidId, encodedUuid);
+    encodedString = ByteBuffer.allocate(stringCodec.encodedSize(stringId));
+    stringCodec.encode(stringId, encodedString);
+
+    textLong = ByteBuffer.wrap(longId.value().toString().getBytes(StandardCharsets.UTF_8));
+    textUuid = ByteBuffer.wrap(uuidId.value().toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public ByteBuffer encodeLongBinary() {
+    longCodec.encode(longId, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public ByteBuffer encodeLongText() {
+    return buffer.clear().put(longId.value().toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public LongId decodeLongBinary() {
+    return longCodec.decode(encodedLong.rewind());
+  }
+
+  @Benchmark
+  public LongId decodeLongText() {
+    return new LongId(Long.parseLong(StandardCharsets.UTF_8.decode(textLong.rewind()).toString()));
+  }
+
+  @Benchmark
+  public ByteBuffer encodeUuidBinary() {
+    uuidCodec.encode(uuidId, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public ByteBuffer encodeUuidText() {
+    return buffer.clear().put(uuidId.value().toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public UuidId decodeUuidBinary() {
+    return uuidCodec.decode(encodedUuid.rewind());
+  }
+
+  @Benchmark
+  public UuidId decodeUuidText() {
+    return new UuidId(UUID.fromString(StandardCharsets.UTF_8.decode(textUuid.rewind()).toString()));
+  }
+
+  @Benchmark
+  public ByteBuffer encodeString() {
+    stringCodec.encode(stringId, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public ByteBuffer encodeUtf8String() {
+    utf8Codec.encode(utf8Id, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public int decodeStringAndHash() {
+    return stringCodec.decode(encodedString.rewind()).hashCode();
+  }
+
+  @Benchmark
+  public int decodeUtf8StringAndHash() {
+    return utf8Codec.decode(encodedString.rewind()).hashCode();
+  }
+
+  public static final class LongId extends LongPicoType {
+    public LongId(Long value) {
+      super(value);
+    }
+  }
+
+  public static final class UuidId extends UuidPicoType {
+    public UuidId(UUID value) {
+      super(value);
+    }
+  }
+
+  public static final class StringId extends StringPicoType {
+    public StringId(String value) {
+      super(value);
+    }
+  }
+
+  public static final class Utf8Id extends Utf8StringPicoType {
+    public Utf8Id(String value) {
+      super(value);
+    }
+
+    public Utf8Id(ByteBuffer utf8) {
+      super(utf8);
+    }
+  }
+}
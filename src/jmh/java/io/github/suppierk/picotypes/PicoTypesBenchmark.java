@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creating PicoTypes with constructors, generated factories and reflection.
+ *
+ * <p>Small values, like status codes, are shared by factories. Run with {@code -prof gc} to compare
+ * allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PicoTypesBenchmark {
+  private static final long SEED = 42L;
+
+  @Param({"1024", "1048576"})
+  private int size;
+
+  private long[] values;
+  private long[] smallValues;
+  private LongFunction<OrderId> factory;
+  private Constructor<OrderId> constructor;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    var random = new Random(SEED);
+    values = new long[size];
+    smallValues = new long[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = random.nextLong();
+      smallValues[i] = random.nextInt(16);
+    }
+
+    factory = PicoTypes.longFactory(OrderId.class);
+    constructor = OrderId.class.getDeclaredConstructor(long.class);
+  }
+
+  @Benchmark
+  public OrderId[] constructor() {
+    var result = new OrderId[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = new OrderId(values[i]);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public OrderId[] factory() {
+    var result = new OrderId[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = factory.apply(values[i]);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public OrderId[] constructorSmallValues() {
+    var result = new OrderId[smallValues.length];
+    for (int i = 0; i < smallValues.length; i++) {
+      result[i] = new OrderId(smallValues[i]);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public OrderId[] factorySmallValues() {
+    var result = new OrderId[smallValues.length];
+    for (int i = 0; i < smallValues.length; i++) {
+      result[i] = factory.apply(smallValues[i]);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public OrderId[] reflection() throws ReflectiveOperationException {
+    var result = new OrderId[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = constructor.newInstance(values[i]);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public List<OrderId> wrapAll() {
+    return PicoTypes.wrapAll(OrderId.class, values);
+  }
+
+  public static final class OrderId extends PrimitiveLongPicoType {
+    public OrderId(long value) {
+      super(value);
+    }
+  }
+}
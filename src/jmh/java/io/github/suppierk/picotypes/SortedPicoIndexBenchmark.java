@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Membership and range queries over sorted indexes against {@link TreeSet}s of PicoTypes. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortedPicoIndexBenchmark {
+  private static final long SEED = 42L;
+  private static final int LOOKUPS = 1024;
+
+  @Param({"1024", "1048576"})
+  private int size;
+
+  private OrderId[] longLookups;
+  private TenantId[] uuidLookups;
+
+  private TreeSet<OrderId> longTree;
+  private SortedLongPicoIndex<OrderId> longIndex;
+  private TreeSet<TenantId> uuidTree;
+  private SortedUuidPicoIndex<TenantId> uuidIndex;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(SEED);
+
+    long[] rawLongs = new long[size];
+    long[] rawUuids = new long[size * 2];
+    longTree = new TreeSet<>();
+    uuidTree = new TreeSet<>();
+    for (int i = 0; i < size; i++) {
+      rawLongs[i] = random.nextLong();
+      rawUuids[i * 2] = random.nextLong();
+      rawUuids[i * 2 + 1] = random.nextLong();
+      longTree.add(new OrderId(rawLongs[i]));
+      uuidTree.add(new TenantId(new UUID(rawUuids[i * 2], rawUuids[i * 2 + 1])));
+    }
+    longIndex = SortedLongPicoIndex.of(OrderId::new, rawLongs);
+    uuidIndex = SortedUuidPicoIndex.of(TenantId::new, rawUuids);
+
+    longLookups = new OrderId[LOOKUPS];
+    uuidLookups = new TenantId[LOOKUPS];
+    for (int i = 0; i < LOOKUPS; i++) {
+      int index = random.nextInt(size);
+      longLookups[i] = new OrderId(i % 2 == 0 ? rawLongs[index] : random.nextLong());
+      uuidLookups[i] =
+          new TenantId(
+              i % 2 == 0
+                  ? new UUID(rawUuids[index * 2], rawUuids[index * 2 + 1])
+                  : UUID.randomUUID());
+    }
+  }
+
+  @Benchmark
+  public int longTreeContains() {
+    int found = 0;
+    for (OrderId lookup : longLookups) {
+      found += longTree.contains(lookup) ? 1 : 0;
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int longIndexBinarySearch() {
+    int found = 0;
+    for (OrderId lookup : longLookups) {
+      found += longIndex.binarySearch(lookup.value()) >= 0 ? 1 : 0;
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int longIndexInterpolationSearch() {
+    int found = 0;
+    for (OrderId lookup : longLookups) {
+      found += longIndex.contains(lookup) ? 1 : 0;
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int longTreeRangeCount() {
+    int count = 0;
+    for (int i = 1; i < LOOKUPS; i++) {
+      OrderId from = longLookups[i - 1];
+      OrderId to = longLookups[i];
+      if (from.compareTo(to) <= 0) {
+        count += longTree.subSet(from, true, to, true).size();
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int longIndexRangeCount() {
+    int count = 0;
+    for (int i = 1; i < LOOKUPS; i++) {
+      count += longIndex.rangeCount(longLookups[i - 1], longLookups[i]);
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int uuidTreeContains() {
+    int found = 0;
+    for (TenantId lookup : uuidLookups) {
+      found += uuidTree.contains(lookup) ? 1 : 0;
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int uuidIndexContains() {
+    int found = 0;
+    for (TenantId lookup : uuidLookups) {
+      found += uuidIndex.contains(lookup) ? 1 : 0;
+    }
+    return found;
+  }
+
+  public static final class OrderId extends LongPicoType {
+    public OrderId(Long value) {
+      super(value);
+    }
+  }
+
+  public static final class TenantId extends UuidPicoType {
+    public TenantId(UUID value) {
+      super(value);
+    }
+  }
+}
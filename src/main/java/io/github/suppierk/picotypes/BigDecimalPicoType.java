@@ -85,6 +85,6 @@ public abstract class BigDecimalPicoType
   /** {@inheritDoc} */
   @Override
   public @NonNull String toString() {
-    return getClass().getSimpleName() + "{value=" + value + '}';
+    return appendTo(new StringBuilder()).toString();
   }
 }
@@ -81,6 +81,6 @@ public abstract class BigIntegerPicoType
   /** {@inheritDoc} */
   @Override
   public @NonNull String toString() {
-    return getClass().getSimpleName() + "{value=" + value + '}';
+    return appendTo(new StringBuilder()).toString();
   }
 }
@@ -0,0 +1,286 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Blocked Bloom filter over 64-bit hashes, shared by typed PicoType filters.
+ *
+ * <p>Bits are split into blocks of a single cache line: the high half of the hash selects a block
+ * and all probes of an element set bits within it, so every operation touches one cache line at the
+ * cost of a slightly higher false positive rate, compensated for when sizing the filter. Bits are
+ * set with atomic bitwise operations, so insertions and unions are lock-free.
+ */
+final class BlockedBloomFilter {
+  /** Number of {@code long} words in a block, 512 bits in total. */
+  private static final int BLOCK_WORDS = 8;
+
+  private static final int BLOCK_BITS = BLOCK_WORDS * Long.SIZE;
+  private static final int MAX_BLOCKS = Columns.MAX_CAPACITY / BLOCK_WORDS;
+  private static final int MAX_HASH_COUNT = 16;
+
+  /**
+   * Share of extra bits per set bit making up for uneven filling of blocks, which hurts more the
+   * more bits each element sets.
+   */
+  private static final double BLOCKING_OVERHEAD = 0.03;
+
+  private static final byte FORMAT_VERSION = 1;
+  private static final int HEADER_BYTES = 3 + Integer.BYTES;
+
+  private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+  private final long[] words;
+  private final int blocks;
+  private final int hashCount;
+
+  private BlockedBloomFilter(long[] words, int hashCount) {
+    this.words = words;
+    this.blocks = words.length / BLOCK_WORDS;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * Creates empty filter sized for the given number of elements and false positive rate.
+   *
+   * @param expectedInsertions number of elements
+   * @param falsePositiveRate probability of reporting an absent element as present
+   * @return new filter
+   * @throws IllegalArgumentException if expected insertions are negative, the rate is not in {@code
+   *     (0, 1)} exclusive range or the filter would be too large
+   */
+  static BlockedBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions < 0) {
+      throw new IllegalArgumentException("Expected insertions must not be negative");
+    }
+    if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+      throw new IllegalArgumentException("False positive rate must be between 0 and 1 exclusive");
+    }
+
+    long elements = Math.max(1L, expectedInsertions);
+    double optimalHashes = -Math.log(falsePositiveRate) / Math.log(2);
+    double bitsPerElement = optimalHashes / Math.log(2) * (1.0 + BLOCKING_OVERHEAD * optimalHashes);
+    double blocks = Math.ceil(elements * bitsPerElement / BLOCK_BITS);
+    if (blocks > MAX_BLOCKS) {
+      throw new IllegalArgumentException("Filter for the given arguments is too large");
+    }
+
+    int hashCount = (int) Math.round(optimalHashes);
+    hashCount = Math.max(1, Math.min(MAX_HASH_COUNT, hashCount));
+    int blockCount = (int) blocks;
+    return new BlockedBloomFilter(new long[blockCount * BLOCK_WORDS], hashCount);
+  }
+
+  /**
+   * Reads filter written by {@link #writeTo(ByteBuffer, byte)}, advancing buffer position.
+   *
+   * @param buffer to read from
+   * @param kind expected kind of elements
+   * @return new filter
+   * @throws BufferUnderflowException if the buffer ends before the filter
+   * @throws IllegalArgumentException if the filter is malformed or holds other kind of elements
+   */
+  static BlockedBloomFilter readFrom(ByteBuffer buffer, byte kind) {
+    Objects.requireNonNull(buffer, "Buffer must not be null");
+    if (buffer.remaining() < HEADER_BYTES) {
+      throw new BufferUnderflowException();
+    }
+
+    ByteBuffer in = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    int start = in.position();
+    byte version = in.get(start);
+    byte actualKind = in.get(start + 1);
+    int hashCount = in.get(start + 2);
+    int blocks = in.getInt(start + 3);
+    if (version != FORMAT_VERSION) {
+      throw new IllegalArgumentException("Unsupported filter format: " + version);
+    } else if (actualKind != kind) {
+      throw new IllegalArgumentException("Filter holds other kind of elements");
+    } else if (hashCount < 1 || hashCount > MAX_HASH_COUNT || blocks < 1 || blocks > MAX_BLOCKS) {
+      throw new IllegalArgumentException("Malformed filter header");
+    } else if (buffer.remaining() - HEADER_BYTES < (long) blocks * BLOCK_WORDS * Long.BYTES) {
+      throw new BufferUnderflowException();
+    }
+
+    long[] words = new long[blocks * BLOCK_WORDS];
+    in.position(start + HEADER_BYTES).asLongBuffer().get(words);
+    buffer.position(start + HEADER_BYTES + words.length * Long.BYTES);
+    return new BlockedBloomFilter(words, hashCount);
+  }
+
+  /**
+   * Sets bits of the given hash.
+   *
+   * @param hash of the element
+   * @return {@code true} if any bit changed, i.e. the element was definitely absent before
+   */
+  boolean add(long hash) {
+    int offset = blockOffset(hash);
+    int first = (int) hash;
+    int step = step(hash);
+
+    boolean changed = false;
+    for (int i = 0; i < hashCount; i++) {
+      int bit = (first + i * step) >>> 23;
+      int index = offset + (bit >>> 6);
+      long mask = 1L << bit;
+      // Reading first avoids contended writes to cache lines of elements seen before
+      if (((long) WORDS.getOpaque(words, index) & mask) == 0L) {
+        changed |= ((long) WORDS.getAndBitwiseOr(words, index, mask) & mask) == 0L;
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Checks bits of the given hash.
+   *
+   * @param hash of the element
+   * @return {@code true} if the element might be present, {@code false} if it is definitely absent
+   */
+  boolean mightContain(long hash) {
+    int offset = blockOffset(hash);
+    int first = (int) hash;
+    int step = step(hash);
+
+    for (int i = 0; i < hashCount; i++) {
+      int bit = (first + i * step) >>> 23;
+      if (((long) WORDS.getOpaque(words, offset + (bit >>> 6)) & (1L << bit)) == 0L) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Sets all bits set in the other filter.
+   *
+   * @param other filter to merge
+   * @throws IllegalArgumentException if filters have different sizes or hash counts
+   */
+  void union(BlockedBloomFilter other) {
+    if (!isCompatible(other)) {
+      throw new IllegalArgumentException("Filters must have the same size and number of hashes");
+    }
+    for (int i = 0; i < words.length; i++) {
+      long bits = (long) WORDS.getOpaque(other.words, i);
+      if (bits != 0L) {
+        WORDS.getAndBitwiseOr(words, i, bits);
+      }
+    }
+  }
+
+  /**
+   * Returns {@code true} if the other filter can be merged into this one.
+   *
+   * @param other filter to check
+   * @return {@code true} if filters have the same size and number of hashes
+   */
+  boolean isCompatible(BlockedBloomFilter other) {
+    return words.length == other.words.length && hashCount == other.hashCount;
+  }
+
+  /**
+   * Returns number of bits.
+   *
+   * @return number of bits
+   */
+  long bitSize() {
+    return (long) words.length * Long.SIZE;
+  }
+
+  /**
+   * Returns number of bits set per element.
+   *
+   * @return number of bits set per element
+   */
+  int hashCount() {
+    return hashCount;
+  }
+
+  /**
+   * Returns false positive rate estimated from the share of set bits in each block.
+   *
+   * @return estimated probability of reporting an absent element as present
+   */
+  double expectedFalsePositiveRate() {
+    double sum = 0.0;
+    for (int block = 0; block < words.length; block += BLOCK_WORDS) {
+      int set = 0;
+      for (int i = block; i < block + BLOCK_WORDS; i++) {
+        set += Long.bitCount((long) WORDS.getOpaque(words, i));
+      }
+      sum += Math.pow((double) set / BLOCK_BITS, hashCount);
+    }
+    return sum / blocks;
+  }
+
+  /**
+   * Returns number of bytes written by {@link #writeTo(ByteBuffer, byte)}.
+   *
+   * @return number of bytes
+   */
+  int serializedSize() {
+    return HEADER_BYTES + words.length * Long.BYTES;
+  }
+
+  /**
+   * Writes the filter, prefixed by a header with the format version, the given kind of elements and
+   * the filter dimensions. Numbers are always written in big-endian byte order, regardless of the
+   * byte order of the buffer.
+   *
+   * @param buffer to write to
+   * @param kind of elements
+   * @throws BufferOverflowException if the buffer does not have enough space left
+   */
+  void writeTo(ByteBuffer buffer, byte kind) {
+    Objects.requireNonNull(buffer, "Buffer must not be null");
+    if (buffer.remaining() < serializedSize()) {
+      throw new BufferOverflowException();
+    }
+
+    ByteBuffer out = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    out.put(FORMAT_VERSION).put(kind).put((byte) hashCount).putInt(blocks);
+    for (int i = 0; i < words.length; i++) {
+      out.putLong((long) WORDS.getOpaque(words, i));
+    }
+    buffer.position(out.position());
+  }
+
+  private int blockOffset(long hash) {
+    return (int) (((hash >>> 32) * blocks) >>> 32) * BLOCK_WORDS;
+  }
+
+  /** Derives an odd probe step from the block-selecting half of the hash. */
+  private static int step(long hash) {
+    return (int) (((hash >>> 32) * 0x9E3779B97F4A7C15L) >>> 32) | 1;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+/** Growth and {@code null} bitmap handling shared by PicoType columns. */
+final class Columns {
+  /** Largest array length which is safe to allocate on common JVMs. */
+  static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  private Columns() {
+    // Utility class
+  }
+
+  /**
+   * Returns capacity of the grown column.
+   *
+   * @param capacity current capacity
+   * @param minCapacity required capacity
+   * @return capacity which is at least the required one
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  static int grow(int capacity, int minCapacity) {
+    if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+      throw new IllegalStateException("Maximum capacity reached");
+    }
+    long grown = Math.max(16L, capacity + (capacity >> 1));
+    return (int) Math.min(MAX_CAPACITY, Math.max(grown, minCapacity));
+  }
+
+  /**
+   * Returns number of words needed for a bitmap of the given capacity.
+   *
+   * @param capacity number of bits
+   * @return number of words
+   */
+  static int bitmapLength(int capacity) {
+    return (capacity + 63) >>> 6;
+  }
+
+  /**
+   * Sets the bit at the given index.
+   *
+   * @param bitmap to modify
+   * @param index of the bit
+   */
+  static void set(long[] bitmap, int index) {
+    bitmap[index >>> 6] |= 1L << index;
+  }
+
+  /**
+   * Returns the bit at the given index.
+   *
+   * @param bitmap to read
+   * @param index of the bit
+   * @return {@code true} if the bit is set
+   */
+  static boolean get(long[] bitmap, int index) {
+    return (bitmap[index >>> 6] & (1L << index)) != 0L;
+  }
+}
@@ -0,0 +1,275 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Abstract wrapper for {@link BigDecimal} type, storing values which fit into {@code long} unscaled
+ * value as a {@code long} and a scale.
+ *
+ * <p>Behaves like {@link BigDecimalPicoType}: instances are equal when their values are equal
+ * according to {@link BigDecimal#compareTo(BigDecimal)}, so {@code 1.5} equals {@code 1.50}. Values
+ * are stripped of trailing zeros at construction, which makes {@link #equals(Object)} and {@link
+ * #hashCode()} a few primitive comparisons and {@link #compareTo(CompactBigDecimalPicoType)} free
+ * of allocations for compact values, while the original scale is kept for {@link #value()}. Values
+ * which do not fit are kept as a {@link BigDecimal}. {@link #value()} creates a new instance on
+ * every call for compact values.
+ */
+public abstract class CompactBigDecimalPicoType
+    implements PicoType<BigDecimal>, Comparable<CompactBigDecimalPicoType> {
+  /** Powers of ten which fit into {@code long}. */
+  private static final long[] POWERS_OF_TEN = {
+    1L,
+    10L,
+    100L,
+    1_000L,
+    10_000L,
+    100_000L,
+    1_000_000L,
+    10_000_000L,
+    100_000_000L,
+    1_000_000_000L,
+    10_000_000_000L,
+    100_000_000_000L,
+    1_000_000_000_000L,
+    10_000_000_000_000L,
+    100_000_000_000_000L,
+    1_000_000_000_000_000L,
+    10_000_000_000_000_000L,
+    100_000_000_000_000_000L,
+    1_000_000_000_000_000_000L
+  };
+
+  private final long unscaled;
+  private final int scale;
+  private final int originalScale;
+  @Nullable private final BigDecimal inflated;
+  private final boolean present;
+
+  /**
+   * Constructor for a present value, which does not allocate
+   *
+   * @param unscaledValue of the value
+   * @param scale of the value
+   * @see BigDecimal#valueOf(long, int)
+   */
+  protected CompactBigDecimalPicoType(long unscaledValue, int scale) {
+    int zeros = trailingZeros(unscaledValue, scale);
+    this.unscaled = unscaledValue / POWERS_OF_TEN[zeros];
+    this.scale = unscaledValue == 0L ? 0 : scale - zeros;
+    this.originalScale = scale;
+    this.inflated = null;
+    this.present = true;
+  }
+
+  /**
+   * Default constructor
+   *
+   * @param value to wrap. Can be {@code null}
+   */
+  protected CompactBigDecimalPicoType(@Nullable BigDecimal value) {
+    long normalizedUnscaled = 0L;
+    int normalizedScale = 0;
+    BigDecimal normalized = null;
+    if (value != null) {
+      BigInteger unscaledValue = value.unscaledValue();
+      if (unscaledValue.bitLength() < Long.SIZE) {
+        long compact = unscaledValue.longValue();
+        int zeros = trailingZeros(compact, value.scale());
+        normalizedUnscaled = compact / POWERS_OF_TEN[zeros];
+        normalizedScale = compact == 0L ? 0 : value.scale() - zeros;
+      } else {
+        BigDecimal stripped = value.stripTrailingZeros();
+        if (stripped.unscaledValue().bitLength() < Long.SIZE) {
+          normalizedUnscaled = stripped.unscaledValue().longValue();
+          normalizedScale = stripped.scale();
+        } else {
+          normalized = stripped;
+        }
+      }
+    }
+
+    this.unscaled = normalizedUnscaled;
+    this.scale = normalizedScale;
+    this.originalScale = value == null ? 0 : value.scale();
+    this.inflated = normalized;
+    this.present = value != null;
+  }
+
+  /**
+   * Counts trailing decimal zeros of the unscaled value which can be removed without the scale
+   * going below {@link Integer#MIN_VALUE}.
+   *
+   * @return number of zeros, {@code 0} for zero
+   */
+  private static int trailingZeros(long unscaledValue, int scale) {
+    if (unscaledValue == 0L) {
+      return 0;
+    }
+    int zeros = 0;
+    while (zeros + 1 < POWERS_OF_TEN.length
+        && unscaledValue % POWERS_OF_TEN[zeros + 1] == 0L
+        && (long) scale - (zeros + 1) >= Integer.MIN_VALUE) {
+      zeros++;
+    }
+    return zeros;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable BigDecimal value() {
+    if (!present) {
+      return null;
+    }
+    BigDecimal value = inflated != null ? inflated : BigDecimal.valueOf(unscaled, scale);
+    return value.scale() == originalScale ? value : value.setScale(originalScale);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isPresent() {
+    return present;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return !present;
+  }
+
+  /**
+   * Returns {@code true} if the value is present and stored as {@code long} unscaled value.
+   *
+   * @return {@code true} if {@link #compactUnscaledValue()} and {@link #compactScale()} hold the
+   *     value
+   */
+  final boolean isCompact() {
+    return present && inflated == null;
+  }
+
+  /**
+   * Returns unscaled value without trailing zeros of a compact value.
+   *
+   * @return unscaled value, {@code 0} for zero
+   */
+  final long compactUnscaledValue() {
+    return unscaled;
+  }
+
+  /**
+   * Returns scale of a compact value without trailing zeros.
+   *
+   * @return scale, {@code 0} for zero
+   */
+  final int compactScale() {
+    return scale;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int compareTo(@NonNull CompactBigDecimalPicoType o) {
+    if (!present) {
+      throw new NullPointerException("Cannot compare null value against another value");
+    }
+    if (!Objects.requireNonNull(o).present) {
+      throw new NullPointerException("Cannot compare value against another null value");
+    }
+    if (inflated != null || o.inflated != null) {
+      return decimal().compareTo(o.decimal());
+    }
+
+    int result = Integer.compare(Long.signum(unscaled), Long.signum(o.unscaled));
+    if (result != 0 || unscaled == 0L) {
+      return result;
+    }
+    if (scale == o.scale) {
+      return Long.compare(unscaled, o.unscaled);
+    }
+    return scale < o.scale
+        ? compareScaled(unscaled, (long) o.scale - scale, o.unscaled)
+        : -compareScaled(o.unscaled, (long) scale - o.scale, unscaled);
+  }
+
+  /**
+   * Compares {@code unscaled * 10^shift} with {@code other}, both of the same sign.
+   *
+   * @param shift positive power of ten
+   */
+  private static int compareScaled(long unscaled, long shift, long other) {
+    // Scaled value is larger in magnitude than any long, hence than the other value
+    if (shift >= POWERS_OF_TEN.length) {
+      return Long.signum(unscaled);
+    }
+    long power = POWERS_OF_TEN[(int) shift];
+    long low = unscaled * power;
+    if (Math.multiplyHigh(unscaled, power) != (low >> 63)) {
+      return Long.signum(unscaled);
+    }
+    return Long.compare(low, other);
+  }
+
+  /** Returns normalized value for comparison. */
+  private BigDecimal decimal() {
+    return inflated != null ? inflated : BigDecimal.valueOf(unscaled, scale);
+  }
+
+  /**
+   * Error Prone check suppressed - the intent here is that PicoTypes represent instances of
+   * specific IDs which are not meant to be comparable between themselves.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("EqualsGetClass")
+  public final boolean equals(@Nullable Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    CompactBigDecimalPicoType other = (CompactBigDecimalPicoType) o;
+    return present == other.present
+        && unscaled == other.unscaled
+        && scale == other.scale
+        && Objects.equals(inflated, other.inflated);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int hashCode() {
+    if (!present) {
+      return 0;
+    }
+    int result = 31 * Long.hashCode(unscaled) + scale;
+    return 31 * result + Objects.hashCode(inflated);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull String toString() {
+    return appendTo(new StringBuilder()).toString();
+  }
+}
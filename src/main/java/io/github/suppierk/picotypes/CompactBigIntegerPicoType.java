@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.math.BigInteger;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Abstract wrapper for {@link BigInteger} type, storing values which fit into {@code long} unboxed.
+ *
+ * <p>Behaves like {@link BigIntegerPicoType}, including {@link #hashCode()}, but values from {@link
+ * Long#MIN_VALUE} to {@link Long#MAX_VALUE} take no object besides the instance itself, and {@link
+ * #equals(Object)}, {@link #hashCode()} and {@link #compareTo(CompactBigIntegerPicoType)} work on
+ * the primitive. Larger values are kept as a {@link BigInteger}. {@link #value()} creates a new
+ * instance on every call for values which fit into {@code long}.
+ */
+public abstract class CompactBigIntegerPicoType
+    implements PicoType<BigInteger>, Comparable<CompactBigIntegerPicoType> {
+  private final long value;
+  @Nullable private final BigInteger inflated;
+  private final boolean present;
+
+  /**
+   * Constructor for a present value, which does not allocate
+   *
+   * @param value to wrap
+   */
+  protected CompactBigIntegerPicoType(long value) {
+    this.value = value;
+    this.inflated = null;
+    this.present = true;
+  }
+
+  /**
+   * Default constructor
+   *
+   * @param value to wrap. Can be {@code null}
+   */
+  protected CompactBigIntegerPicoType(@Nullable BigInteger value) {
+    boolean compact = value == null || value.bitLength() < Long.SIZE;
+    this.value = value != null && compact ? value.longValue() : 0L;
+    this.inflated = compact ? null : value;
+    this.present = value != null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable BigInteger value() {
+    if (!present) {
+      return null;
+    }
+    return inflated != null ? inflated : BigInteger.valueOf(value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isPresent() {
+    return present;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return !present;
+  }
+
+  /**
+   * If a value is present and fits into {@code long}, returns it without allocation.
+   *
+   * @return the value described by this {@code PicoType}
+   * @throws NoSuchElementException if no value is present
+   * @throws ArithmeticException if the value does not fit into {@code long}
+   * @see BigInteger#longValueExact()
+   */
+  public long longValueExact() {
+    if (!present) {
+      throw new NoSuchElementException("No value present");
+    }
+    if (inflated != null) {
+      throw new ArithmeticException("BigInteger out of long range");
+    }
+    return value;
+  }
+
+  /**
+   * Returns {@code true} if the value is present and stored as {@code long}.
+   *
+   * @return {@code true} if {@link #longValueExact()} does not throw
+   */
+  final boolean isCompact() {
+    return present && inflated == null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int compareTo(@NonNull CompactBigIntegerPicoType o) {
+    if (!present) {
+      throw new NullPointerException("Cannot compare null value against another value");
+    }
+    if (!Objects.requireNonNull(o).present) {
+      throw new NullPointerException("Cannot compare value against another null value");
+    }
+
+    // Values which do not fit are larger in magnitude than any long
+    BigInteger left = inflated;
+    BigInteger right = o.inflated;
+    if (left != null) {
+      return right != null ? left.compareTo(right) : left.signum();
+    }
+    if (right != null) {
+      return -right.signum();
+    }
+    return Long.compare(value, o.value);
+  }
+
+  /**
+   * Error Prone check suppressed - the intent here is that PicoTypes represent instances of
+   * specific IDs which are not meant to be comparable between themselves.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("EqualsGetClass")
+  public final boolean equals(@Nullable Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    CompactBigIntegerPicoType other = (CompactBigIntegerPicoType) o;
+    return present == other.present
+        && value == other.value
+        && Objects.equals(inflated, other.inflated);
+  }
+
+  /**
+   * Returns the same hash code as {@link BigInteger#hashCode()} of the value, computed without
+   * creating it.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  public final int hashCode() {
+    if (!present) {
+      return 0;
+    }
+    if (inflated != null) {
+      return inflated.hashCode();
+    }
+    // Hash of the big-endian 32-bit words of the magnitude, as BigInteger computes it
+    long magnitude = Math.abs(value);
+    int high = (int) (magnitude >>> Integer.SIZE);
+    int low = (int) magnitude;
+    int hash = high != 0 ? 31 * high + low : low;
+    return hash * Long.signum(value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull StringBuilder appendValueTo(@NonNull StringBuilder builder) {
+    Objects.requireNonNull(builder, "Builder must not be null");
+    if (!present) {
+      return builder.append("null");
+    }
+    return inflated != null ? builder.append(inflated) : builder.append(value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull String toString() {
+    return appendTo(new StringBuilder()).toString();
+  }
+}
@@ -0,0 +1,725 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Append-only column of {@code double}-based PicoTypes.
+ *
+ * <p>Values are stored in a {@code double[]} next to a bitmap marking {@code null} and empty
+ * elements, so that a column of millions of elements costs two arrays instead of millions of
+ * wrappers. Element instances are created with the element factory only when requested, e.g. by
+ * {@link #get(int)}; {@link Cursor} and {@link #values()} give access to raw values without
+ * allocating per element.
+ *
+ * <p>{@link #sum()}, {@link #min()}, {@link #max()}, {@link #mean()} and {@link #histogram(double,
+ * double, int)} run over the raw array in runs of non-{@code null} values with several independent
+ * accumulators, which the CPU overlaps and the JIT compiler can vectorize, and split large columns
+ * into chunks processed in parallel.
+ *
+ * <p>This class is not thread-safe, but its streams can be processed in parallel as long as the
+ * column is not modified concurrently.
+ *
+ * @param <T> is the type of the elements
+ */
+public final class DoublePicoColumn<T extends PicoType<Double>> {
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /** Number of elements aggregated by a single task when a column is processed in parallel. */
+  private static final int CHUNK_SIZE = 1 << 16;
+
+  private final DoubleFunction<? extends T> elementFactory;
+
+  private double[] values;
+
+  /** Bits set for elements which are {@code null}. */
+  private long[] nulls;
+
+  private int size;
+  private int nullCount;
+
+  /**
+   * Creates empty column with default capacity.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @throws NullPointerException if element factory is {@code null}
+   */
+  public DoublePicoColumn(@NonNull DoubleFunction<? extends T> elementFactory) {
+    this(elementFactory, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates empty column able to hold the given number of elements without growing.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @param initialCapacity number of elements
+   * @throws NullPointerException if element factory is {@code null}
+   * @throws IllegalArgumentException if initial capacity is negative
+   */
+  public DoublePicoColumn(
+      @NonNull DoubleFunction<? extends T> elementFactory, int initialCapacity) {
+    this.elementFactory =
+        Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Initial capacity must not be negative");
+    }
+    this.values = new double[initialCapacity];
+    this.nulls = new long[Columns.bitmapLength(initialCapacity)];
+  }
+
+  /**
+   * Returns a {@link Collector} accumulating PicoTypes into a new column.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @param <T> is the type of the elements
+   * @return collector creating a column
+   * @throws NullPointerException if element factory is {@code null}
+   */
+  public static <T extends PicoType<Double>>
+      @NonNull Collector<@Nullable T, ?, DoublePicoColumn<T>> toColumn(
+          @NonNull DoubleFunction<? extends T> elementFactory) {
+    Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    return Collector.of(
+        () -> new DoublePicoColumn<>(elementFactory),
+        DoublePicoColumn::add,
+        DoublePicoColumn::addAll);
+  }
+
+  /**
+   * Returns the number of elements, including {@code null} ones.
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns {@code true} if there are no elements.
+   *
+   * @return {@code true} if there are no elements
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of {@code null} elements.
+   *
+   * @return the number of {@code null} elements
+   */
+  public int nullCount() {
+    return nullCount;
+  }
+
+  /**
+   * Appends the given element, where {@code null} and empty PicoTypes are stored as {@code null}.
+   *
+   * @param element to append
+   * @return this column
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  public @NonNull DoublePicoColumn<T> add(@Nullable T element) {
+    if (element == null || element.isEmpty()) {
+      return addNull();
+    }
+    return add(PicoValues.requireDouble(element));
+  }
+
+  /**
+   * Appends the given raw element.
+   *
+   * @param value to append
+   * @return this column
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  public @NonNull DoublePicoColumn<T> add(double value) {
+    ensureCapacity(size + 1);
+    values[size++] = value;
+    return this;
+  }
+
+  /**
+   * Appends {@code null} element.
+   *
+   * @return this column
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  public @NonNull DoublePicoColumn<T> addNull() {
+    ensureCapacity(size + 1);
+    Columns.set(nulls, size++);
+    nullCount++;
+    return this;
+  }
+
+  /**
+   * Appends all elements of the given column.
+   *
+   * @param other column to append
+   * @return this column
+   * @throws NullPointerException if other column is {@code null}
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  public @NonNull DoublePicoColumn<T> addAll(@NonNull DoublePicoColumn<? extends T> other) {
+    Objects.requireNonNull(other, "Column must not be null");
+    int otherSize = other.size;
+    ensureCapacity(size + otherSize);
+    System.arraycopy(other.values, 0, values, size, otherSize);
+    for (int i = 0; i < otherSize; i++) {
+      if (Columns.get(other.nulls, i)) {
+        Columns.set(nulls, size + i);
+      }
+    }
+    size += otherSize;
+    nullCount += other.nullCount;
+    return this;
+  }
+
+  /**
+   * Returns {@code true} if the element at the given index is {@code null}.
+   *
+   * @param index of the element
+   * @return {@code true} if the element is {@code null}
+   * @throws IndexOutOfBoundsException if index is out of bounds
+   */
+  public boolean isNull(int index) {
+    return Columns.get(nulls, Objects.checkIndex(index, size));
+  }
+
+  /**
+   * Returns raw value of the element at the given index.
+   *
+   * @param index of the element
+   * @return raw value
+   * @throws IndexOutOfBoundsException if index is out of bounds
+   * @throws NoSuchElementException if the element is {@code null}
+   */
+  public double getDouble(int index) {
+    if (isNull(index)) {
+      throw new NoSuchElementException("No value present");
+    }
+    return values[index];
+  }
+
+  /**
+   * Creates instance of the element at the given index.
+   *
+   * @param index of the element
+   * @return new element instance, or {@code null} if the element is {@code null}
+   * @throws IndexOutOfBoundsException if index is out of bounds
+   */
+  public @Nullable T get(int index) {
+    return isNull(index) ? null : elementFactory.apply(values[index]);
+  }
+
+  /**
+   * Returns a new cursor positioned before the first element.
+   *
+   * @return new cursor
+   */
+  public @NonNull Cursor cursor() {
+    return new Cursor();
+  }
+
+  /**
+   * Returns values of non-{@code null} elements.
+   *
+   * @return sequential stream of raw values
+   */
+  public @NonNull DoubleStream values() {
+    return StreamSupport.doubleStream(spliterator(), false);
+  }
+
+  /**
+   * Returns non-{@code null} elements, creating their instances lazily.
+   *
+   * @return sequential stream of elements
+   */
+  public @NonNull Stream<T> stream() {
+    return values().mapToObj(elementFactory);
+  }
+
+  /**
+   * Returns a {@link Spliterator} over values of non-{@code null} elements, which splits the column
+   * in halves for parallel processing.
+   *
+   * @return spliterator of raw values
+   */
+  public Spliterator.@NonNull OfDouble spliterator() {
+    return new ValueSpliterator(0, size);
+  }
+
+  /**
+   * Returns raw values of all elements, where {@code null} elements are represented by {@code 0.0}.
+   *
+   * @return new array with raw values
+   */
+  public double @NonNull [] toRawArray() {
+    return Arrays.copyOf(values, size);
+  }
+
+  /**
+   * Returns the sum of non-{@code null} values, or {@code 0.0} if there are none.
+   *
+   * <p>Values are added in several independent partial sums, so the result may differ from adding
+   * them one by one in the order of elements by rounding errors. The result is the same for the
+   * same column contents.
+   *
+   * @return the sum of values
+   */
+  public double sum() {
+    double[] currentValues = values;
+    return reduce(
+        (from, to) -> {
+          double[] sum = {0.0};
+          forEachRun(from, to, (runFrom, runTo) -> sum[0] += sum(currentValues, runFrom, runTo));
+          return sum[0];
+        },
+        Double::sum,
+        0.0);
+  }
+
+  /**
+   * Returns the smallest non-{@code null} value following {@link Math#min(double, double)}, so
+   * {@code NaN} is returned if any value is {@code NaN}.
+   *
+   * @return the smallest value, or empty if there are no non-{@code null} elements
+   */
+  public @NonNull OptionalDouble min() {
+    if (size == nullCount) {
+      return OptionalDouble.empty();
+    }
+    double[] currentValues = values;
+    return OptionalDouble.of(
+        reduce(
+            (from, to) -> {
+              double[] min = {Double.POSITIVE_INFINITY};
+              forEachRun(
+                  from,
+                  to,
+                  (runFrom, runTo) ->
+                      min[0] = Math.min(min[0], min(currentValues, runFrom, runTo)));
+              return min[0];
+            },
+            Math::min,
+            Double.POSITIVE_INFINITY));
+  }
+
+  /**
+   * Returns the largest non-{@code null} value following {@link Math#max(double, double)}, so
+   * {@code NaN} is returned if any value is {@code NaN}.
+   *
+   * @return the largest value, or empty if there are no non-{@code null} elements
+   */
+  public @NonNull OptionalDouble max() {
+    if (size == nullCount) {
+      return OptionalDouble.empty();
+    }
+    double[] currentValues = values;
+    return OptionalDouble.of(
+        reduce(
+            (from, to) -> {
+              double[] max = {Double.NEGATIVE_INFINITY};
+              forEachRun(
+                  from,
+                  to,
+                  (runFrom, runTo) ->
+                      max[0] = Math.max(max[0], max(currentValues, runFrom, runTo)));
+              return max[0];
+            },
+            Math::max,
+            Double.NEGATIVE_INFINITY));
+  }
+
+  /**
+   * Returns the arithmetic mean of non-{@code null} values, computed from {@link #sum()}.
+   *
+   * @return the mean, or empty if there are no non-{@code null} elements
+   */
+  public @NonNull OptionalDouble mean() {
+    int count = size - nullCount;
+    return count == 0 ? OptionalDouble.empty() : OptionalDouble.of(sum() / count);
+  }
+
+  /**
+   * Counts non-{@code null} values in equal-width buckets spanning the given closed range.
+   *
+   * <p>Bucket {@code i} holds values in {@code [min + i * width, min + (i + 1) * width)}, where
+   * {@code width = (max - min) / buckets}, and the last bucket also holds {@code max}. Values out
+   * of the range and {@code NaN}s are not counted.
+   *
+   * @param min lower bound of the first bucket
+   * @param max upper bound of the last bucket
+   * @param buckets number of buckets
+   * @return new array with the number of values in each bucket
+   * @throws IllegalArgumentException if bounds are not finite, {@code min} is not less than {@code
+   *     max} or the number of buckets is not positive
+   */
+  public long @NonNull [] histogram(double min, double max, int buckets) {
+    if (!Double.isFinite(min) || !Double.isFinite(max) || !(min < max)) {
+      throw new IllegalArgumentException("Histogram bounds must be finite and min less than max");
+    }
+    if (buckets <= 0) {
+      throw new IllegalArgumentException("Number of buckets must be positive");
+    }
+
+    // Halves keep the width finite even for the widest range of doubles
+    double halfMin = min * 0.5;
+    double scale = buckets / (max * 0.5 - halfMin);
+    double[] currentValues = values;
+    if (size < PicoTypes.PARALLEL_THRESHOLD) {
+      long[] counts = new long[buckets];
+      forEachRun(
+          0,
+          size,
+          (runFrom, runTo) ->
+              histogram(currentValues, runFrom, runTo, min, max, halfMin, scale, counts));
+      return counts;
+    }
+
+    long[][] partials = new long[chunkCount()][];
+    IntStream.range(0, partials.length)
+        .parallel()
+        .forEach(
+            chunk -> {
+              long[] counts = new long[buckets];
+              forEachRun(
+                  chunk * CHUNK_SIZE,
+                  chunkEnd(chunk),
+                  (runFrom, runTo) ->
+                      histogram(currentValues, runFrom, runTo, min, max, halfMin, scale, counts));
+              partials[chunk] = counts;
+            });
+    long[] counts = new long[buckets];
+    for (long[] partial : partials) {
+      for (int i = 0; i < buckets; i++) {
+        counts[i] += partial[i];
+      }
+    }
+    return counts;
+  }
+
+  private void ensureCapacity(int minCapacity) {
+    if (minCapacity < 0 || minCapacity > values.length) {
+      int capacity = Columns.grow(values.length, minCapacity);
+      values = Arrays.copyOf(values, capacity);
+      nulls = Arrays.copyOf(nulls, Columns.bitmapLength(capacity));
+    }
+  }
+
+  /**
+   * Aggregates the whole column, splitting it into chunks processed in parallel if it is large.
+   * Partial results are combined in the order of chunks, so the result does not depend on
+   * scheduling.
+   */
+  private double reduce(RangeAggregate aggregate, DoubleBinaryOperator combiner, double identity) {
+    if (size < PicoTypes.PARALLEL_THRESHOLD) {
+      return aggregate.apply(0, size);
+    }
+
+    double[] partials = new double[chunkCount()];
+    IntStream.range(0, partials.length)
+        .parallel()
+        .forEach(chunk -> partials[chunk] = aggregate.apply(chunk * CHUNK_SIZE, chunkEnd(chunk)));
+    double result = identity;
+    for (double partial : partials) {
+      result = combiner.applyAsDouble(result, partial);
+    }
+    return result;
+  }
+
+  private int chunkCount() {
+    return (int) (((long) size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+  }
+
+  private int chunkEnd(int chunk) {
+    return (int) Math.min(size, (long) chunk * CHUNK_SIZE + CHUNK_SIZE);
+  }
+
+  /** Passes maximal runs of non-{@code null} elements within the given range to the action. */
+  private void forEachRun(int from, int to, RunAction action) {
+    if (nullCount == 0) {
+      if (from < to) {
+        action.accept(from, to);
+      }
+      return;
+    }
+
+    long[] currentNulls = nulls;
+    int index = from;
+    while (index < to) {
+      int runFrom = nextBit(currentNulls, index, to, false);
+      if (runFrom >= to) {
+        return;
+      }
+      index = nextBit(currentNulls, runFrom, to, true);
+      action.accept(runFrom, index);
+    }
+  }
+
+  /** Returns index of the next bit with the given state, or {@code to} if there is none. */
+  private static int nextBit(long[] bitmap, int from, int to, boolean state) {
+    int wordIndex = from >>> 6;
+    long word = (state ? bitmap[wordIndex] : ~bitmap[wordIndex]) & (-1L << from);
+    while (word == 0L) {
+      if ((long) ++wordIndex << 6 >= to) {
+        return to;
+      }
+      word = state ? bitmap[wordIndex] : ~bitmap[wordIndex];
+    }
+    return (int) Math.min(to, ((long) wordIndex << 6) + Long.numberOfTrailingZeros(word));
+  }
+
+  private static double sum(double[] values, int from, int to) {
+    double sum0 = 0.0;
+    double sum1 = 0.0;
+    double sum2 = 0.0;
+    double sum3 = 0.0;
+    int index = from;
+    for (; index + 3 < to; index += 4) {
+      sum0 += values[index];
+      sum1 += values[index + 1];
+      sum2 += values[index + 2];
+      sum3 += values[index + 3];
+    }
+    for (; index < to; index++) {
+      sum0 += values[index];
+    }
+    return (sum0 + sum1) + (sum2 + sum3);
+  }
+
+  private static double min(double[] values, int from, int to) {
+    double min0 = Double.POSITIVE_INFINITY;
+    double min1 = Double.POSITIVE_INFINITY;
+    double min2 = Double.POSITIVE_INFINITY;
+    double min3 = Double.POSITIVE_INFINITY;
+    int index = from;
+    for (; index + 3 < to; index += 4) {
+      min0 = Math.min(min0, values[index]);
+      min1 = Math.min(min1, values[index + 1]);
+      min2 = Math.min(min2, values[index + 2]);
+      min3 = Math.min(min3, values[index + 3]);
+    }
+    for (; index < to; index++) {
+      min0 = Math.min(min0, values[index]);
+    }
+    return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+  }
+
+  private static double max(double[] values, int from, int to) {
+    double max0 = Double.NEGATIVE_INFINITY;
+    double max1 = Double.NEGATIVE_INFINITY;
+    double max2 = Double.NEGATIVE_INFINITY;
+    double max3 = Double.NEGATIVE_INFINITY;
+    int index = from;
+    for (; index + 3 < to; index += 4) {
+      max0 = Math.max(max0, values[index]);
+      max1 = Math.max(max1, values[index + 1]);
+      max2 = Math.max(max2, values[index + 2]);
+      max3 = Math.max(max3, values[index + 3]);
+    }
+    for (; index < to; index++) {
+      max0 = Math.max(max0, values[index]);
+    }
+    return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+  }
+
+  private static void histogram(
+      double[] values,
+      int from,
+      int to,
+      double min,
+      double max,
+      double halfMin,
+      double scale,
+      long[] counts) {
+    int last = counts.length - 1;
+    for (int index = from; index < to; index++) {
+      double value = values[index];
+      if (value >= min && value <= max) {
+        counts[Math.min(last, (int) ((value * 0.5 - halfMin) * scale))]++;
+      }
+    }
+  }
+
+  /** Aggregate of elements within a range. */
+  @FunctionalInterface
+  private interface RangeAggregate {
+    double apply(int from, int to);
+  }
+
+  /** Action on a run of non-{@code null} elements. */
+  @FunctionalInterface
+  private interface RunAction {
+    void accept(int from, int to);
+  }
+
+  /**
+   * Reusable position in the column, which gives access to raw values without allocating.
+   *
+   * <p>Cursor reflects elements appended after its creation.
+   */
+  public final class Cursor {
+    private int index = -1;
+
+    private Cursor() {
+      // Created by the column
+    }
+
+    /**
+     * Moves to the next element.
+     *
+     * @return {@code true} if there is an element at the new position
+     */
+    public boolean next() {
+      if (index < size) {
+        index++;
+      }
+      return index < size;
+    }
+
+    /** Moves back before the first element, so that the cursor can be reused. */
+    public void reset() {
+      index = -1;
+    }
+
+    /**
+     * Returns the current position.
+     *
+     * @return index of the current element
+     */
+    public int index() {
+      return index;
+    }
+
+    /**
+     * Returns {@code true} if the current element is {@code null}.
+     *
+     * @return {@code true} if the current element is {@code null}
+     * @throws IndexOutOfBoundsException if the cursor is not positioned at an element
+     */
+    public boolean isNull() {
+      return DoublePicoColumn.this.isNull(index);
+    }
+
+    /**
+     * Returns raw value of the current element.
+     *
+     * @return raw value
+     * @throws IndexOutOfBoundsException if the cursor is not positioned at an element
+     * @throws NoSuchElementException if the current element is {@code null}
+     */
+    public double getDouble() {
+      return DoublePicoColumn.this.getDouble(index);
+    }
+
+    /**
+     * Creates instance of the current element.
+     *
+     * @return new element instance, or {@code null} if the current element is {@code null}
+     * @throws IndexOutOfBoundsException if the cursor is not positioned at an element
+     */
+    public @Nullable T get() {
+      return DoublePicoColumn.this.get(index);
+    }
+  }
+
+  private final class ValueSpliterator implements Spliterator.OfDouble {
+    private int origin;
+    private final int fence;
+
+    private ValueSpliterator(int origin, int fence) {
+      this.origin = origin;
+      this.fence = fence;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable OfDouble trySplit() {
+      int middle = (origin + fence) >>> 1;
+      if (middle <= origin) {
+        return null;
+      }
+      var prefix = new ValueSpliterator(origin, middle);
+      origin = middle;
+      return prefix;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+      Objects.requireNonNull(action, "Action must not be null");
+      while (origin < fence) {
+        int index = origin++;
+        if (!Columns.get(nulls, index)) {
+          action.accept(values[index]);
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+      Objects.requireNonNull(action, "Action must not be null");
+      double[] currentValues = values;
+      long[] currentNulls = nulls;
+      for (int index = origin; index < fence; index++) {
+        if (!Columns.get(currentNulls, index)) {
+          action.accept(currentValues[index]);
+        }
+      }
+      origin = fence;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long estimateSize() {
+      return (long) fence - origin;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int characteristics() {
+      int characteristics = ORDERED | NONNULL;
+      return nullCount == 0 ? characteristics | SIZED | SUBSIZED : characteristics;
+    }
+  }
+}
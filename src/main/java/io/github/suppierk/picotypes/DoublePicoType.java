@@ -79,9 +79,16 @@ public abstract class DoublePicoType implements PicoType<Double>, Comparable<Dou
     return Objects.hashCode(value);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull StringBuilder appendValueTo(@NonNull StringBuilder builder) {
+    Objects.requireNonNull(builder, "Builder must not be null");
+    return value == null ? builder.append("null") : builder.append(value.doubleValue());
+  }
+
   /** {@inheritDoc} */
   @Override
   public @NonNull String toString() {
-    return getClass().getSimpleName() + "{value=" + value + '}';
+    return appendTo(new StringBuilder()).toString();
   }
 }
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Wraps factories of a single PicoType class, so that they return shared instances for booleans,
+ * empty values and small integral values, similar to {@link Integer#valueOf(int)}.
+ *
+ * <p>The range of shared integral values is {@code [-128, 127]} by default and can be changed with
+ * {@value #LOW_PROPERTY} and {@value #HIGH_PROPERTY} system properties, which are read once. The
+ * range is limited to {@value #MAX_RANGE} values per class, and setting the upper bound below the
+ * lower one disables sharing of integral values.
+ *
+ * <p>Instances are created on first use, so constructors rejecting some values keep throwing for
+ * them on every call. Concurrent first uses may create several instances, but only one of them is
+ * published and returned afterward.
+ */
+final class Flyweights {
+  static final String LOW_PROPERTY = "io.github.suppierk.picotypes.flyweights.low";
+  static final String HIGH_PROPERTY = "io.github.suppierk.picotypes.flyweights.high";
+
+  /** Largest number of shared integral values per class. */
+  static final int MAX_RANGE = 1 << 16;
+
+  /** Lowest shared integral value. */
+  static final long LOW;
+
+  /** Highest shared integral value, less than {@link #LOW} if they are not shared. */
+  static final long HIGH;
+
+  private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+  static {
+    long low = Long.getLong(LOW_PROPERTY, -128L);
+    long high = Long.getLong(HIGH_PROPERTY, 127L);
+    if (high >= low && Long.compareUnsigned(high - low, MAX_RANGE) >= 0) {
+      high = low + MAX_RANGE - 1;
+    }
+    LOW = low;
+    HIGH = high;
+  }
+
+  private Flyweights() {
+    // Utility class
+  }
+
+  /**
+   * Returns factory sharing instances for {@code true}, {@code false} and {@code null}.
+   *
+   * @param factory creating instances
+   * @return sharing factory
+   */
+  static Function<Object, Object> ofBooleans(Function<Object, Object> factory) {
+    Object[] slots = new Object[3];
+    return value -> shared(slots, value == null ? 0 : ((Boolean) value ? 1 : 2), value, factory);
+  }
+
+  /**
+   * Returns factory sharing instances for {@code null} and values within the configured range.
+   *
+   * @param factory creating instances from boxed values
+   * @param integral factory creating instances from primitive values
+   * @return sharing factory
+   */
+  static Function<Object, Object> ofLongs(
+      Function<Object, Object> factory, LongFunction<Object> integral) {
+    Object[] slots = new Object[1];
+    return value -> value == null ? shared(slots, 0, null, factory) : integral.apply((Long) value);
+  }
+
+  /**
+   * Returns factory sharing instances for {@code null} and values within the configured range.
+   *
+   * @param factory creating instances from boxed values
+   * @param integral factory creating instances from primitive values
+   * @return sharing factory
+   */
+  static Function<Object, Object> ofInts(
+      Function<Object, Object> factory, IntFunction<Object> integral) {
+    Object[] slots = new Object[1];
+    return value ->
+        value == null ? shared(slots, 0, null, factory) : integral.apply((Integer) value);
+  }
+
+  /**
+   * Returns factory sharing instances for values within the configured range.
+   *
+   * @param factory creating instances
+   * @return sharing factory
+   */
+  static LongFunction<Object> ofLongs(LongFunction<Object> factory) {
+    if (HIGH < LOW) {
+      return factory;
+    }
+
+    Object[] slots = new Object[(int) (HIGH - LOW + 1)];
+    return value -> {
+      if (value < LOW || value > HIGH) {
+        return factory.apply(value);
+      }
+
+      int index = (int) (value - LOW);
+      Object instance = SLOTS.getAcquire(slots, index);
+      return instance != null ? instance : publish(slots, index, factory.apply(value));
+    };
+  }
+
+  /**
+   * Returns factory sharing instances for values within the configured range.
+   *
+   * @param factory creating instances
+   * @return sharing factory
+   */
+  static IntFunction<Object> ofInts(IntFunction<Object> factory) {
+    long low = Math.max(LOW, Integer.MIN_VALUE);
+    long high = Math.min(HIGH, Integer.MAX_VALUE);
+    if (high < low) {
+      return factory;
+    }
+
+    Object[] slots = new Object[(int) (high - low + 1)];
+    return value -> {
+      if (value < low || value > high) {
+        return factory.apply(value);
+      }
+
+      int index = (int) (value - low);
+      Object instance = SLOTS.getAcquire(slots, index);
+      return instance != null ? instance : publish(slots, index, factory.apply(value));
+    };
+  }
+
+  private static Object shared(
+      Object[] slots, int index, @Nullable Object value, Function<Object, Object> factory) {
+    Object instance = SLOTS.getAcquire(slots, index);
+    return instance != null ? instance : publish(slots, index, factory.apply(value));
+  }
+
+  /** Publishes the instance unless another thread did it first, returning the published one. */
+  private static Object publish(Object[] slots, int index, Object instance) {
+    Object witness = SLOTS.compareAndExchange(slots, index, null, instance);
+    return witness != null ? witness : instance;
+  }
+}
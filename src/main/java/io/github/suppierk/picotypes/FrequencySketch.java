@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min sketch with 4-bit counters estimating how often a key was seen recently.
+ *
+ * <p>Counters are halved once the number of recorded increments reaches the sample size, so that
+ * keys which used to be popular eventually make room for new ones. Updates are lock-free and
+ * approximate: a lost race only makes an estimate slightly lower.
+ */
+final class FrequencySketch {
+  private static final int ROWS = 4;
+  private static final int MIN_COUNTERS_PER_ROW = 1024;
+  private static final int MAX_COUNTERS_PER_ROW = 1 << 26;
+  private static final int MAX_FREQUENCY = 15;
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long[] SEEDS = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+  };
+
+  private final AtomicLongArray table;
+  private final int rowMask;
+  private final int sampleSize;
+  private final AtomicInteger additions;
+
+  /**
+   * Creates sketch suitable for tracking the given number of resident keys.
+   *
+   * @param maximumSize of the cache using this sketch
+   */
+  FrequencySketch(int maximumSize) {
+    int countersPerRow =
+        Math.max(
+            MIN_COUNTERS_PER_ROW,
+            Integer.highestOneBit(Math.min(maximumSize, MAX_COUNTERS_PER_ROW / 4) * 8 - 1));
+    this.table = new AtomicLongArray(countersPerRow * ROWS / 16);
+    this.rowMask = countersPerRow - 1;
+    this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE / 2);
+    this.additions = new AtomicInteger();
+  }
+
+  /**
+   * Records one occurrence of the key with the given hash.
+   *
+   * @param hash of the key
+   */
+  void increment(int hash) {
+    boolean added = false;
+    for (int row = 0; row < ROWS; row++) {
+      added |= incrementAt(counterIndex(hash, row));
+    }
+
+    if (added && additions.incrementAndGet() >= sampleSize) {
+      reset();
+    }
+  }
+
+  /**
+   * Returns estimated number of recent occurrences of the key with the given hash.
+   *
+   * @param hash of the key
+   * @return value between {@code 0} and {@code 15}
+   */
+  int frequency(int hash) {
+    int frequency = MAX_FREQUENCY;
+    for (int row = 0; row < ROWS; row++) {
+      int index = counterIndex(hash, row);
+      frequency = Math.min(frequency, (int) (table.get(index >>> 4) >>> shift(index)) & 0xF);
+    }
+    return frequency;
+  }
+
+  private boolean incrementAt(int index) {
+    int word = index >>> 4;
+    int shift = shift(index);
+
+    while (true) {
+      long current = table.get(word);
+      if (((current >>> shift) & 0xF) == MAX_FREQUENCY) {
+        return false;
+      }
+      if (table.compareAndSet(word, current, current + (1L << shift))) {
+        return true;
+      }
+    }
+  }
+
+  private synchronized void reset() {
+    if (additions.get() < sampleSize) {
+      return;
+    }
+
+    for (int word = 0; word < table.length(); word++) {
+      table.set(word, (table.get(word) >>> 1) & RESET_MASK);
+    }
+    additions.set(additions.get() / 2);
+  }
+
+  private int counterIndex(int hash, int row) {
+    long value = (hash + SEEDS[row]) * SEEDS[row];
+    value += value >>> 32;
+    return row * (rowMask + 1) + ((int) value & rowMask);
+  }
+
+  private static int shift(int index) {
+    return (index & 15) << 2;
+  }
+}
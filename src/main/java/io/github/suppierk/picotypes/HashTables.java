@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+/** Sizing and hash mixing shared by open addressing hash tables. */
+final class HashTables {
+  /** Maximum fill ratio of a table before it grows. */
+  static final float LOAD_FACTOR = 0.75f;
+
+  /** Number of slots used when no expected size is given. */
+  static final int DEFAULT_EXPECTED_SIZE = 16;
+
+  private HashTables() {
+    // Utility class
+  }
+
+  /**
+   * Returns power of two capacity able to hold the expected number of entries.
+   *
+   * @param expectedSize number of entries
+   * @param maxCapacity upper bound of the capacity
+   * @return table capacity
+   * @throws IllegalArgumentException if expected size is negative
+   * @throws IllegalStateException if expected size does not fit into maximum capacity
+   */
+  static int capacityFor(int expectedSize, int maxCapacity) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Expected size must not be negative");
+    }
+
+    long needed = Math.max(2L, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR));
+    if (needed > maxCapacity) {
+      throw new IllegalStateException("Expected size exceeds maximum capacity");
+    }
+    return (int) Long.highestOneBit(needed * 2 - 1);
+  }
+
+  /**
+   * Returns number of entries the table with the given capacity holds before growing.
+   *
+   * @param capacity of the table
+   * @return maximum number of entries
+   */
+  static int maxFill(int capacity) {
+    return Math.min(capacity - 1, (int) Math.ceil(capacity * LOAD_FACTOR));
+  }
+
+  /**
+   * Returns capacity of the grown table.
+   *
+   * @param capacity current capacity
+   * @param maxCapacity upper bound of the capacity
+   * @return doubled capacity
+   * @throws IllegalStateException if the table cannot grow anymore
+   */
+  static int grow(int capacity, int maxCapacity) {
+    if (capacity >= maxCapacity) {
+      throw new IllegalStateException("Maximum capacity reached");
+    }
+    return capacity * 2;
+  }
+
+  /**
+   * Scrambles bits of the key, so that its low bits can be used as table index.
+   *
+   * @param key to mix
+   * @return mixed hash
+   */
+  static int mix(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /**
+   * Scrambles bits of the key, so that its low bits can be used as table index.
+   *
+   * @param key to mix
+   * @return mixed hash
+   */
+  static int mix(int key) {
+    int hash = key * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * Scrambles bits of the 128-bit key, so that its low bits can be used as table index.
+   *
+   * @param high most significant bits of the key
+   * @param low least significant bits of the key
+   * @return mixed hash
+   */
+  static int mix(long high, long low) {
+    return mix(high * 0xC2B2AE3D27D4EB4FL + low);
+  }
+}
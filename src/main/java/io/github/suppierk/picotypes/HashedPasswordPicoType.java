@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Abstract wrapper for salted password hashes created by {@link PasswordHasher}.
+ *
+ * <p>Unlike {@link PasswordPicoType}, instances never hold plaintext and can be stored as is.
+ * Hashes are still masked in {@link #toString()} to keep them out of logs.
+ *
+ * <p>Verification runs the key derivation on the calling thread and is slow by design, consider
+ * {@link PasswordVerificationEngine} to verify passwords off request threads.
+ */
+public abstract class HashedPasswordPicoType implements PicoType<String>, SecurePicoType {
+  @Nullable private final String value;
+
+  /**
+   * Default constructor
+   *
+   * @param value to wrap, encoded by {@link PasswordHasher#hash(char[])}. Can be {@code null}
+   * @throws IllegalArgumentException if value is malformed
+   */
+  protected HashedPasswordPicoType(@Nullable String value) {
+    if (value != null) {
+      PasswordHasher.validate(value);
+    }
+    this.value = value;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable String value() {
+    return value;
+  }
+
+  /**
+   * Verifies the given password against this hash on the calling thread.
+   *
+   * @param password to verify, left intact
+   * @return {@code true} if password matches this hash, {@code false} if it does not or this hash
+   *     is empty
+   * @throws NullPointerException if password is {@code null}
+   */
+  public boolean matches(char @NonNull [] password) {
+    Objects.requireNonNull(password, "Password must not be null");
+    return value != null && PasswordHasher.verify(password, value);
+  }
+
+  /**
+   * Returns whether this hash was created with weaker settings than used by the given hasher.
+   *
+   * @param hasher with current settings
+   * @return {@code true} if this hash should be recomputed, {@code false} if it should not or this
+   *     hash is empty
+   * @throws NullPointerException if hasher is {@code null}
+   */
+  public boolean needsRehash(@NonNull PasswordHasher hasher) {
+    Objects.requireNonNull(hasher, "Hasher must not be null");
+    return value != null && hasher.needsRehash(value);
+  }
+
+  /**
+   * Error Prone check suppressed - the intent here is that PicoTypes represent instances of
+   * specific IDs which are not meant to be comparable between themselves.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("EqualsGetClass")
+  public final boolean equals(@Nullable Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    return Objects.equals(value, ((HashedPasswordPicoType) o).value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int hashCode() {
+    return Objects.hashCode(value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull StringBuilder appendValueTo(@NonNull StringBuilder builder) {
+    return Objects.requireNonNull(builder, "Builder must not be null").append(mask());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull String toString() {
+    return appendTo(new StringBuilder()).toString();
+  }
+}
@@ -76,9 +76,16 @@ public abstract class IntegerPicoType implements PicoType<Integer>, Comparable<I
     return Objects.hashCode(value);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull StringBuilder appendValueTo(@NonNull StringBuilder builder) {
+    Objects.requireNonNull(builder, "Builder must not be null");
+    return value == null ? builder.append("null") : builder.append(value.intValue());
+  }
+
   /** {@inheritDoc} */
   @Override
   public @NonNull String toString() {
-    return getClass().getSimpleName() + "{value=" + value + '}';
+    return appendTo(new StringBuilder()).toString();
   }
 }
@@ -0,0 +1,423 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.stream.Collector;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Append-only column of {@code long}-based PicoTypes.
+ *
+ * <p>Values are stored in a {@code long[]} next to a bitmap marking {@code null} and empty
+ * elements, so that a column of millions of elements costs two arrays instead of millions of
+ * wrappers. Element instances are created with the element factory only when requested, e.g. by
+ * {@link #get(int)}; {@link Cursor} and {@link #values()} give access to raw values without
+ * allocating per element.
+ *
+ * <p>This class is not thread-safe, but its streams can be processed in parallel as long as the
+ * column is not modified concurrently.
+ *
+ * @param <T> is the type of the elements
+ */
+public final class LongPicoColumn<T extends PicoType<Long>> {
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private final LongFunction<? extends T> elementFactory;
+
+  private long[] values;
+
+  /** Bits set for elements which are {@code null}. */
+  private long[] nulls;
+
+  private int size;
+  private int nullCount;
+
+  /**
+   * Creates empty column with default capacity.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @throws NullPointerException if element factory is {@code null}
+   */
+  public LongPicoColumn(@NonNull LongFunction<? extends T> elementFactory) {
+    this(elementFactory, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates empty column able to hold the given number of elements without growing.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @param initialCapacity number of elements
+   * @throws NullPointerException if element factory is {@code null}
+   * @throws IllegalArgumentException if initial capacity is negative
+   */
+  public LongPicoColumn(@NonNull LongFunction<? extends T> elementFactory, int initialCapacity) {
+    this.elementFactory =
+        Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Initial capacity must not be negative");
+    }
+    this.values = new long[initialCapacity];
+    this.nulls = new long[Columns.bitmapLength(initialCapacity)];
+  }
+
+  /**
+   * Returns a {@link Collector} accumulating PicoTypes into a new column.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @param <T> is the type of the elements
+   * @return collector creating a column
+   * @throws NullPointerException if element factory is {@code null}
+   */
+  public static <T extends PicoType<Long>>
+      @NonNull Collector<@Nullable T, ?, LongPicoColumn<T>> toColumn(
+          @NonNull LongFunction<? extends T> elementFactory) {
+    Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    return Collector.of(
+        () -> new LongPicoColumn<>(elementFactory), LongPicoColumn::add, LongPicoColumn::addAll);
+  }
+
+  /**
+   * Returns the number of elements, including {@code null} ones.
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns {@code true} if there are no elements.
+   *
+   * @return {@code true} if there are no elements
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of {@code null} elements.
+   *
+   * @return the number of {@code null} elements
+   */
+  public int nullCount() {
+    return nullCount;
+  }
+
+  /**
+   * Appends the given element, where {@code null} and empty PicoTypes are stored as {@code null}.
+   *
+   * @param element to append
+   * @return this column
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  public @NonNull LongPicoColumn<T> add(@Nullable T element) {
+    if (element == null || element.isEmpty()) {
+      return addNull();
+    }
+    return add(PicoValues.requireLong(element));
+  }
+
+  /**
+   * Appends the given raw element.
+   *
+   * @param value to append
+   * @return this column
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  public @NonNull LongPicoColumn<T> add(long value) {
+    ensureCapacity(size + 1);
+    values[size++] = value;
+    return this;
+  }
+
+  /**
+   * Appends {@code null} element.
+   *
+   * @return this column
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  public @NonNull LongPicoColumn<T> addNull() {
+    ensureCapacity(size + 1);
+    Columns.set(nulls, size++);
+    nullCount++;
+    return this;
+  }
+
+  /**
+   * Appends all elements of the given column.
+   *
+   * @param other column to append
+   * @return this column
+   * @throws NullPointerException if other column is {@code null}
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  public @NonNull LongPicoColumn<T> addAll(@NonNull LongPicoColumn<? extends T> other) {
+    Objects.requireNonNull(other, "Column must not be null");
+    int otherSize = other.size;
+    ensureCapacity(size + otherSize);
+    System.arraycopy(other.values, 0, values, size, otherSize);
+    for (int i = 0; i < otherSize; i++) {
+      if (Columns.get(other.nulls, i)) {
+        Columns.set(nulls, size + i);
+      }
+    }
+    size += otherSize;
+    nullCount += other.nullCount;
+    return this;
+  }
+
+  /**
+   * Returns {@code true} if the element at the given index is {@code null}.
+   *
+   * @param index of the element
+   * @return {@code true} if the element is {@code null}
+   * @throws IndexOutOfBoundsException if index is out of bounds
+   */
+  public boolean isNull(int index) {
+    return Columns.get(nulls, Objects.checkIndex(index, size));
+  }
+
+  /**
+   * Returns raw value of the element at the given index.
+   *
+   * @param index of the element
+   * @return raw value
+   * @throws IndexOutOfBoundsException if index is out of bounds
+   * @throws NoSuchElementException if the element is {@code null}
+   */
+  public long getLong(int index) {
+    if (isNull(index)) {
+      throw new NoSuchElementException("No value present");
+    }
+    return values[index];
+  }
+
+  /**
+   * Creates instance of the element at the given index.
+   *
+   * @param index of the element
+   * @return new element instance, or {@code null} if the element is {@code null}
+   * @throws IndexOutOfBoundsException if index is out of bounds
+   */
+  public @Nullable T get(int index) {
+    return isNull(index) ? null : elementFactory.apply(values[index]);
+  }
+
+  /**
+   * Returns a new cursor positioned before the first element.
+   *
+   * @return new cursor
+   */
+  public @NonNull Cursor cursor() {
+    return new Cursor();
+  }
+
+  /**
+   * Returns values of non-{@code null} elements.
+   *
+   * @return sequential stream of raw values
+   */
+  public @NonNull LongStream values() {
+    return StreamSupport.longStream(spliterator(), false);
+  }
+
+  /**
+   * Returns non-{@code null} elements, creating their instances lazily.
+   *
+   * @return sequential stream of elements
+   */
+  public @NonNull Stream<T> stream() {
+    return values().mapToObj(elementFactory);
+  }
+
+  /**
+   * Returns a {@link Spliterator} over values of non-{@code null} elements, which splits the column
+   * in halves for parallel processing.
+   *
+   * @return spliterator of raw values
+   */
+  public Spliterator.@NonNull OfLong spliterator() {
+    return new ValueSpliterator(0, size);
+  }
+
+  /**
+   * Returns raw values of all elements, where {@code null} elements are represented by {@code 0}.
+   *
+   * @return new array with raw values
+   */
+  public long @NonNull [] toRawArray() {
+    return Arrays.copyOf(values, size);
+  }
+
+  private void ensureCapacity(int minCapacity) {
+    if (minCapacity < 0 || minCapacity > values.length) {
+      int capacity = Columns.grow(values.length, minCapacity);
+      values = Arrays.copyOf(values, capacity);
+      nulls = Arrays.copyOf(nulls, Columns.bitmapLength(capacity));
+    }
+  }
+
+  /**
+   * Reusable position in the column, which gives access to raw values without allocating.
+   *
+   * <p>Cursor reflects elements appended after its creation.
+   */
+  public final class Cursor {
+    private int index = -1;
+
+    private Cursor() {
+      // Created by the column
+    }
+
+    /**
+     * Moves to the next element.
+     *
+     * @return {@code true} if there is an element at the new position
+     */
+    public boolean next() {
+      if (index < size) {
+        index++;
+      }
+      return index < size;
+    }
+
+    /** Moves back before the first element, so that the cursor can be reused. */
+    public void reset() {
+      index = -1;
+    }
+
+    /**
+     * Returns the current position.
+     *
+     * @return index of the current element
+     */
+    public int index() {
+      return index;
+    }
+
+    /**
+     * Returns {@code true} if the current element is {@code null}.
+     *
+     * @return {@code true} if the current element is {@code null}
+     * @throws IndexOutOfBoundsException if the cursor is not positioned at an element
+     */
+    public boolean isNull() {
+      return LongPicoColumn.this.isNull(index);
+    }
+
+    /**
+     * Returns raw value of the current element.
+     *
+     * @return raw value
+     * @throws IndexOutOfBoundsException if the cursor is not positioned at an element
+     * @throws NoSuchElementException if the current element is {@code null}
+     */
+    public long getLong() {
+      return LongPicoColumn.this.getLong(index);
+    }
+
+    /**
+     * Creates instance of the current element.
+     *
+     * @return new element instance, or {@code null} if the current element is {@code null}
+     * @throws IndexOutOfBoundsException if the cursor is not positioned at an element
+     */
+    public @Nullable T get() {
+      return LongPicoColumn.this.get(index);
+    }
+  }
+
+  private final class ValueSpliterator implements Spliterator.OfLong {
+    private int origin;
+    private final int fence;
+
+    private ValueSpliterator(int origin, int fence) {
+      this.origin = origin;
+      this.fence = fence;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable OfLong trySplit() {
+      int middle = (origin + fence) >>> 1;
+      if (middle <= origin) {
+        return null;
+      }
+      var prefix = new ValueSpliterator(origin, middle);
+      origin = middle;
+      return prefix;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      Objects.requireNonNull(action, "Action must not be null");
+      while (origin < fence) {
+        int index = origin++;
+        if (!Columns.get(nulls, index)) {
+          action.accept(values[index]);
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      Objects.requireNonNull(action, "Action must not be null");
+      long[] currentValues = values;
+      long[] currentNulls = nulls;
+      for (int index = origin; index < fence; index++) {
+        if (!Columns.get(currentNulls, index)) {
+          action.accept(currentValues[index]);
+        }
+      }
+      origin = fence;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long estimateSize() {
+      return (long) fence - origin;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int characteristics() {
+      int characteristics = ORDERED | NONNULL;
+      return nullCount == 0 ? characteristics | SIZED | SUBSIZED : characteristics;
+    }
+  }
+}
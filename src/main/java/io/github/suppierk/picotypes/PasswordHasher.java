@@ -0,0 +1,271 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Objects;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Hashes passwords with PBKDF2 provided by the JDK {@link SecretKeyFactory}.
+ *
+ * <p>Hashes are encoded as {@code algorithm$iterations$salt$key}, where salt and derived key are
+ * Base64 encoded without padding. Since every hash carries its own parameters, hashes created with
+ * older settings can still be verified after the work factor is increased, see {@link
+ * #needsRehash(String)}.
+ *
+ * <p>Parameters read from hashes are bounded, so that a forged hash can neither make verification
+ * trivial with a non-PBKDF2 algorithm or a short key, nor stall it with an excessive work factor.
+ *
+ * <p>Instances are immutable and thread-safe.
+ */
+public final class PasswordHasher {
+  /** Default PBKDF2 variant. */
+  public static final String DEFAULT_ALGORITHM = "PBKDF2WithHmacSHA256";
+
+  /** Default number of iterations, as recommended by OWASP for {@link #DEFAULT_ALGORITHM}. */
+  public static final int DEFAULT_ITERATIONS = 600_000;
+
+  /** Highest number of iterations accepted by hashers and in hashes. */
+  public static final int MAX_ITERATIONS = 10_000_000;
+
+  private static final char SEPARATOR = '$';
+  private static final int SALT_LENGTH = 16;
+  private static final int KEY_LENGTH = 256;
+
+  /** Shortest salt accepted in hashes, in bytes. */
+  private static final int MIN_SALT_LENGTH = 16;
+
+  /** Shortest and longest derived keys accepted in hashes, in bytes. */
+  private static final int MIN_KEY_LENGTH = 16;
+
+  private static final int MAX_KEY_LENGTH = 64;
+
+  private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+  private final String algorithm;
+  private final int iterations;
+  private final SecureRandom random;
+
+  /** Creates hasher using {@link #DEFAULT_ALGORITHM} and {@link #DEFAULT_ITERATIONS}. */
+  public PasswordHasher() {
+    this(DEFAULT_ALGORITHM, DEFAULT_ITERATIONS);
+  }
+
+  /**
+   * Creates hasher using the given PBKDF2 variant and work factor.
+   *
+   * @param algorithm name of PBKDF2 {@link SecretKeyFactory}, such as {@code PBKDF2WithHmacSHA512}
+   * @param iterations work factor, each iteration costs one HMAC computation
+   * @throws NullPointerException if algorithm is {@code null}
+   * @throws IllegalArgumentException if algorithm is not available or is not PBKDF2, or if
+   *     iterations are not positive or exceed {@link #MAX_ITERATIONS}
+   */
+  public PasswordHasher(@NonNull String algorithm, int iterations) {
+    Objects.requireNonNull(algorithm, "Algorithm must not be null");
+    if (iterations <= 0 || iterations > MAX_ITERATIONS) {
+      throw new IllegalArgumentException("Iterations must be between 1 and " + MAX_ITERATIONS);
+    }
+
+    this.algorithm = requireAlgorithm(algorithm);
+    this.iterations = iterations;
+    this.random = new SecureRandom();
+  }
+
+  /**
+   * Returns PBKDF2 variant used by this hasher.
+   *
+   * @return algorithm name
+   */
+  public @NonNull String algorithm() {
+    return algorithm;
+  }
+
+  /**
+   * Returns work factor used by this hasher.
+   *
+   * @return number of iterations
+   */
+  public int iterations() {
+    return iterations;
+  }
+
+  /**
+   * Hashes the given password with a new random salt.
+   *
+   * @param password to hash, left intact
+   * @return encoded hash
+   * @throws NullPointerException if password is {@code null}
+   */
+  public @NonNull String hash(char @NonNull [] password) {
+    Objects.requireNonNull(password, "Password must not be null");
+
+    byte[] salt = new byte[SALT_LENGTH];
+    random.nextBytes(salt);
+    byte[] key = derive(algorithm, password, salt, iterations, KEY_LENGTH);
+
+    return algorithm
+        + SEPARATOR
+        + iterations
+        + SEPARATOR
+        + ENCODER.encodeToString(salt)
+        + SEPARATOR
+        + ENCODER.encodeToString(key);
+  }
+
+  /**
+   * Returns whether the given hash was created with other algorithm or lower work factor than
+   * configured for this hasher, and should be recomputed once the password is verified.
+   *
+   * @param encoded hash
+   * @return {@code true} if the hash should be replaced
+   * @throws NullPointerException if hash is {@code null}
+   * @throws IllegalArgumentException if hash is malformed or its parameters are out of bounds
+   */
+  public boolean needsRehash(@NonNull String encoded) {
+    Hash hash = Hash.parse(Objects.requireNonNull(encoded, "Hash must not be null"));
+    return !hash.algorithm.equals(algorithm) || hash.iterations < iterations;
+  }
+
+  /**
+   * Verifies the given password against the given hash, using parameters stored in the hash.
+   *
+   * <p>Hashes are compared in constant time.
+   *
+   * @param password to verify, left intact
+   * @param encoded hash
+   * @return {@code true} if password matches the hash
+   * @throws NullPointerException if any of arguments is {@code null}
+   * @throws IllegalArgumentException if hash is malformed or its parameters are out of bounds
+   */
+  public static boolean verify(char @NonNull [] password, @NonNull String encoded) {
+    Objects.requireNonNull(password, "Password must not be null");
+    Hash hash = Hash.parse(Objects.requireNonNull(encoded, "Hash must not be null"));
+
+    byte[] key =
+        derive(hash.algorithm, password, hash.salt, hash.iterations, hash.key.length * Byte.SIZE);
+    return MessageDigest.isEqual(key, hash.key);
+  }
+
+  /**
+   * Validates format of the given hash.
+   *
+   * @param encoded hash
+   * @throws IllegalArgumentException if hash is malformed or its parameters are out of bounds
+   */
+  static void validate(String encoded) {
+    Hash.parse(encoded);
+  }
+
+  private static String requireAlgorithm(String algorithm) {
+    if (!algorithm.startsWith("PBKDF2")) {
+      throw new IllegalArgumentException("Algorithm must be PBKDF2 variant: " + algorithm);
+    }
+    try {
+      SecretKeyFactory.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalArgumentException("Algorithm is not available: " + algorithm, e);
+    }
+    return algorithm;
+  }
+
+  private static byte[] derive(
+      String algorithm, char[] password, byte[] salt, int iterations, int keyLength) {
+    PBEKeySpec spec = new PBEKeySpec(password, salt, iterations, keyLength);
+    try {
+      return SecretKeyFactory.getInstance(algorithm).generateSecret(spec).getEncoded();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalArgumentException("Cannot derive key with " + algorithm, e);
+    } finally {
+      spec.clearPassword();
+    }
+  }
+
+  /** Parsed representation of encoded hash. */
+  private static final class Hash {
+    private final String algorithm;
+    private final int iterations;
+    private final byte[] salt;
+    private final byte[] key;
+
+    private Hash(String algorithm, int iterations, byte[] salt, byte[] key) {
+      this.algorithm = algorithm;
+      this.iterations = iterations;
+      this.salt = salt;
+      this.key = key;
+    }
+
+    private static Hash parse(String encoded) {
+      String[] parts = encoded.split("\\$", -1);
+      if (parts.length != 4) {
+        throw new IllegalArgumentException("Hash must have 4 parts separated by '$'");
+      }
+
+      @Nullable Integer iterations = parsePositive(parts[1]);
+      if (parts[0].isEmpty() || iterations == null) {
+        throw new IllegalArgumentException("Hash must start with algorithm and iterations");
+      } else if (iterations > MAX_ITERATIONS) {
+        throw new IllegalArgumentException(
+            "Hash must have at most " + MAX_ITERATIONS + " iterations");
+      }
+      String algorithm = requireAlgorithm(parts[0]);
+
+      byte[] salt = decode(parts[2]);
+      byte[] key = decode(parts[3]);
+      if (salt.length < MIN_SALT_LENGTH) {
+        throw new IllegalArgumentException(
+            "Hash must have salt of at least " + MIN_SALT_LENGTH + " bytes");
+      } else if (key.length < MIN_KEY_LENGTH || key.length > MAX_KEY_LENGTH) {
+        throw new IllegalArgumentException(
+            "Hash must have key of " + MIN_KEY_LENGTH + " to " + MAX_KEY_LENGTH + " bytes");
+      }
+      return new Hash(algorithm, iterations, salt, key);
+    }
+
+    private static byte[] decode(String text) {
+      try {
+        return DECODER.decode(text);
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Hash has malformed Base64 part", e);
+      }
+    }
+
+    private static @Nullable Integer parsePositive(String text) {
+      try {
+        int value = Integer.parseInt(text);
+        return value > 0 ? value : null;
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+  }
+}
@@ -23,33 +23,124 @@
 
 package io.github.suppierk.picotypes;
 
+import java.lang.ref.Reference;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import javax.security.auth.Destroyable;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 /**
  * Abstract wrapper for passwords.
  *
+ * <p>The password is kept in a private copy, which can be read without copying via {@link
+ * #withValue(Function)} and compared with {@link #matches(byte[])}. The copy is wiped by {@link
+ * #destroy()}, or by a {@link java.lang.ref.Cleaner} once the instance becomes unreachable.
+ *
  * @see <a href="https://security.stackexchange.com/q/172576">Why should passwords be compared by
  *     means of a byte array?</a>
  */
-public abstract class PasswordPicoType implements PicoType<byte[]>, SecurePicoType {
-  private final byte @Nullable [] value;
+public abstract class PasswordPicoType implements PicoType<byte[]>, SecurePicoType, Destroyable {
+  @Nullable private final SecretBytes value;
 
   /**
    * Default constructor
    *
-   * @param value to wrap. Can be {@code null}
+   * @param value to wrap. Can be {@code null}. The array is copied, so the caller can wipe it right
+   *     after the call
    */
   protected PasswordPicoType(byte @Nullable [] value) {
-    this.value = value == null ? null : Arrays.copyOf(value, value.length);
+    this.value = value == null ? null : new SecretBytes(value);
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Returns new copy on every call, consider {@link #withValue(Function)} or {@link
+   * #matches(byte[])} to avoid creating copies of the password.
+   *
+   * @throws IllegalStateException if the password is destroyed
+   */
   @Override
   public byte @Nullable [] value() {
-    return value == null ? null : Arrays.copyOf(value, value.length);
+    return value == null ? null : value.copy();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Does not copy the password, and answers even after {@link #destroy()}.
+   */
+  @Override
+  public boolean isPresent() {
+    return value != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Does not copy the password, and answers even after {@link #destroy()}.
+   */
+  @Override
+  public boolean isEmpty() {
+    return value == null;
+  }
+
+  /**
+   * Applies the given function to the read-only view of the password without copying it.
+   *
+   * <p>The buffer is valid only during the call and must not escape the function.
+   *
+   * @param reader to apply, receives {@code null} if the password is empty
+   * @param <R> is the type of the result
+   * @return the function result
+   * @throws NullPointerException if reader is {@code null}
+   * @throws IllegalStateException if the password is destroyed
+   */
+  public <R> R withValue(@NonNull Function<? super @Nullable ByteBuffer, ? extends R> reader) {
+    Objects.requireNonNull(reader, "Reader must not be null");
+    try {
+      return reader.apply(value == null ? null : value.view());
+    } finally {
+      // The view does not keep the password reachable, which must not be wiped during the call
+      Reference.reachabilityFence(this);
+    }
+  }
+
+  /**
+   * Compares the password with the given candidate without copying it.
+   *
+   * <p>Comparison takes time independent of the position of the first difference, see {@link
+   * MessageDigest#isEqual(byte[], byte[])}.
+   *
+   * @param candidate to compare with. Can be {@code null}
+   * @return {@code true} if candidate has the same bytes, or both are {@code null}
+   * @throws IllegalStateException if the password is destroyed
+   */
+  public boolean matches(byte @Nullable [] candidate) {
+    return value == null ? candidate == null : value.matches(candidate);
+  }
+
+  /**
+   * Overwrites the password with zeroes. Afterward, reading or matching the password throws {@link
+   * IllegalStateException}, and the instance is equal only to itself.
+   *
+   * <p>Empty passwords have nothing to destroy.
+   */
+  @Override
+  public void destroy() {
+    if (value != null) {
+      value.destroy();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isDestroyed() {
+    return value != null && value.isDestroyed();
   }
 
   /**
@@ -58,6 +149,9 @@ public abstract class PasswordPicoType implements PicoType<byte[]>, SecurePicoTy
    * <p>For passwords, we are using {@link MessageDigest#isEqual(byte[], byte[])} instead of {@link
    * Arrays#equals(byte[], byte[])} - the reason for this is to avoid timing attacks.
    *
+   * <p>Destroyed passwords are equal only to themselves, as their wiped bytes would otherwise make
+   * them equal to each other and to passwords of zeroes.
+   *
    * <p>Error Prone check suppressed - the intent here is that PicoTypes represent instances of
    * specific IDs which are not meant to be comparable between themselves.
    *
@@ -71,19 +165,28 @@ public abstract class PasswordPicoType implements PicoType<byte[]>, SecurePicoTy
   public final boolean equals(@Nullable Object o) {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
-    if (value == null && ((PasswordPicoType) o).value == null) return true;
-    return MessageDigest.isEqual(value, ((PasswordPicoType) o).value);
+    return SecretBytes.isEqual(value, ((PasswordPicoType) o).value);
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Destroyed passwords return their identity hash code.
+   */
   @Override
   public final int hashCode() {
-    return Arrays.hashCode(value);
+    return SecretBytes.hashCode(value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull StringBuilder appendValueTo(@NonNull StringBuilder builder) {
+    return Objects.requireNonNull(builder, "Builder must not be null").append(mask());
   }
 
   /** {@inheritDoc} */
   @Override
   public @NonNull String toString() {
-    return getClass().getSimpleName() + "{value=" + mask() + '}';
+    return appendTo(new StringBuilder()).toString();
   }
 }
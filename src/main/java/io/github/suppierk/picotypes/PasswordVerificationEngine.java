@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Verifies passwords against {@link HashedPasswordPicoType}s asynchronously, so that slow key
+ * derivation does not occupy request threads.
+ *
+ * <p>The number of pending verifications is bounded: once the limit is reached, new verifications
+ * fail immediately with {@link RejectedExecutionException} instead of queueing up, which lets
+ * callers shed load during login bursts.
+ *
+ * <p>Verification runs either on a fixed pool of daemon threads owned by the engine, or on the
+ * given {@link Executor}, for example the one creating virtual thread per task.
+ */
+public final class PasswordVerificationEngine implements AutoCloseable {
+  private final Executor executor;
+  @Nullable private final ExecutorService ownedExecutor;
+  private final Semaphore permits;
+  private final int maxPending;
+
+  /**
+   * Creates engine verifying passwords on its own thread pool.
+   *
+   * @param threads number of threads, usually the number of CPU cores dedicated to verification
+   * @param maxPending maximum number of running and queued verifications
+   * @throws IllegalArgumentException if any of arguments is not positive
+   */
+  public PasswordVerificationEngine(int threads, int maxPending) {
+    // Arguments are evaluated in order, so the pool is not created if the limit is invalid
+    this(requireMaxPending(maxPending), newExecutor(threads), true);
+  }
+
+  /**
+   * Creates engine verifying passwords on the given executor, which is not shut down by {@link
+   * #close()}.
+   *
+   * @param executor to run verifications on
+   * @param maxPending maximum number of running and queued verifications
+   * @throws NullPointerException if executor is {@code null}
+   * @throws IllegalArgumentException if maximum number of verifications is not positive
+   */
+  public PasswordVerificationEngine(@NonNull Executor executor, int maxPending) {
+    this(
+        requireMaxPending(maxPending),
+        Objects.requireNonNull(executor, "Executor must not be null"),
+        false);
+  }
+
+  private PasswordVerificationEngine(int maxPending, Executor executor, boolean owned) {
+    this.executor = executor;
+    this.ownedExecutor = owned ? (ExecutorService) executor : null;
+    this.permits = new Semaphore(maxPending);
+    this.maxPending = maxPending;
+  }
+
+  /**
+   * Verifies the given password against the given hash asynchronously.
+   *
+   * <p>The password is copied, so the caller can wipe it right after the call; the copy is wiped
+   * once verification completes.
+   *
+   * @param hash to verify against
+   * @param password to verify
+   * @return future completed with {@code true} if password matches the hash, or completed
+   *     exceptionally with {@link RejectedExecutionException} if too many verifications are pending
+   *     or the engine is closed
+   * @throws NullPointerException if any of arguments is {@code null}
+   */
+  public @NonNull CompletableFuture<Boolean> verify(
+      @NonNull HashedPasswordPicoType hash, char @NonNull [] password) {
+    Objects.requireNonNull(hash, "Hash must not be null");
+    Objects.requireNonNull(password, "Password must not be null");
+
+    if (!permits.tryAcquire()) {
+      return CompletableFuture.failedFuture(
+          new RejectedExecutionException("Too many pending password verifications"));
+    }
+
+    char[] copy = Arrays.copyOf(password, password.length);
+    CompletableFuture<Boolean> result = new CompletableFuture<>();
+    try {
+      executor.execute(
+          () -> {
+            try {
+              result.complete(hash.matches(copy));
+            } catch (RuntimeException | Error e) {
+              result.completeExceptionally(e);
+            } finally {
+              Arrays.fill(copy, '\0');
+              permits.release();
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      Arrays.fill(copy, '\0');
+      permits.release();
+      result.completeExceptionally(e);
+    }
+    return result;
+  }
+
+  /**
+   * Returns number of verifications which are running or waiting for a thread.
+   *
+   * @return number of pending verifications
+   */
+  public int pending() {
+    return maxPending - permits.availablePermits();
+  }
+
+  /** Shuts down own thread pool, letting pending verifications complete. */
+  @Override
+  public void close() {
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdown();
+    }
+  }
+
+  private static int requireMaxPending(int maxPending) {
+    if (maxPending <= 0) {
+      throw new IllegalArgumentException(
+          "Maximum number of pending verifications must be positive");
+    }
+    return maxPending;
+  }
+
+  private static ExecutorService newExecutor(int threads) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Number of threads must be positive");
+    }
+
+    AtomicInteger counter = new AtomicInteger();
+    ThreadFactory threadFactory =
+        runnable -> {
+          Thread thread =
+              new Thread(runnable, "password-verification-" + counter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        };
+    return Executors.newFixedThreadPool(threads, threadFactory);
+  }
+}
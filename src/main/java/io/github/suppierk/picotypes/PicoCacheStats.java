@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+/**
+ * Immutable snapshot of cache statistics.
+ *
+ * @param hitCount number of lookups which returned an already cached instance
+ * @param missCount number of lookups which had to use a new instance
+ * @param evictionCount number of entries removed to keep the cache within its bounds
+ */
+public record PicoCacheStats(long hitCount, long missCount, long evictionCount) {
+  /**
+   * Returns the total number of lookups.
+   *
+   * @return sum of {@link #hitCount()} and {@link #missCount()}
+   */
+  public long requestCount() {
+    return hitCount + missCount;
+  }
+
+  /**
+   * Returns the ratio of lookups which returned an already cached instance.
+   *
+   * @return value between {@code 0.0} and {@code 1.0}, or {@code 1.0} if there were no lookups
+   */
+  public double hitRate() {
+    long requestCount = requestCount();
+    return requestCount == 0L ? 1.0 : (double) hitCount / requestCount;
+  }
+}
@@ -0,0 +1,519 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Declarative constraint on values wrapped by PicoTypes, composed of rules and compiled once into a
+ * single predicate.
+ *
+ * <p>Constraints are meant to be kept in static fields of PicoType subclasses, which check values
+ * in their constructors with {@link #requireValid(Object)}, while callers handling untrusted input
+ * use {@link #tryCreate(Function, Object)} to get a {@link PicoResult} instead of an exception:
+ *
+ * <pre>{@code
+ * final class Sku extends StringPicoType {
+ *   static final PicoConstraint<String> CONSTRAINT =
+ *       PicoConstraint.allOf(PicoConstraint.length(3, 16), PicoConstraint.matches("[A-Z0-9-]+"));
+ *
+ *   Sku(String value) {
+ *     super(CONSTRAINT.requireValid(value));
+ *   }
+ * }
+ *
+ * PicoResult<Sku> sku = Sku.CONSTRAINT.tryCreate(Sku::new, input);
+ * }</pre>
+ *
+ * <p>Rules apply to non-{@code null} values only, so {@code null}s, which PicoTypes accept as empty
+ * values, are valid unless the constraint includes {@link #notNull()}. Patterns are compiled and
+ * rules are combined when the constraint is created; a value is checked with a single call of the
+ * combined predicate, and rules are checked one by one only to find the message of a violation.
+ * Rules on {@code long} and {@code int} values created with {@link #longRange(long, long)} and
+ * {@link #intRange(int, int)} are also compiled into primitive predicates, which validate columns
+ * without boxing.
+ *
+ * <p>Bulk methods validate values in parallel using common {@link
+ * java.util.concurrent.ForkJoinPool} once the number of values reaches a threshold, and accumulate
+ * all violations instead of stopping at the first one.
+ *
+ * <p>Constraints are immutable and thread-safe as long as predicates given to {@link #of(String,
+ * Predicate)} are.
+ *
+ * @param <V> is the type of the values
+ */
+public final class PicoConstraint<V> {
+  private static final PicoConstraint<Object> ANY = new PicoConstraint<>(null, new Rule[0]);
+
+  /** Number of values validated by a single task of bulk methods. */
+  private static final int CHUNK_SIZE = PicoTypes.PARALLEL_THRESHOLD;
+
+  /** Message of {@code null} values, or {@code null} if they are valid. */
+  @Nullable private final String nullViolation;
+
+  private final Rule[] rules;
+
+  /** Messages of the rules followed by the message of {@code null} values. */
+  private final String[] messages;
+
+  private final Predicate<Object> predicate;
+  @Nullable private final LongPredicate longPredicate;
+  @Nullable private final IntPredicate intPredicate;
+
+  private PicoConstraint(@Nullable String nullViolation, Rule[] rules) {
+    this.nullViolation = nullViolation;
+    this.rules = rules;
+    this.messages = new String[rules.length + 1];
+    for (int i = 0; i < rules.length; i++) {
+      messages[i] = rules[i].message;
+    }
+    messages[rules.length] = nullViolation == null ? "" : nullViolation;
+
+    Predicate<Object> combined = value -> true;
+    @Nullable LongPredicate longs = value -> true;
+    @Nullable IntPredicate ints = value -> true;
+    for (int i = 0; i < rules.length; i++) {
+      Rule rule = rules[i];
+      combined = i == 0 ? rule.predicate : combined.and(rule.predicate);
+      longs = longs == null || rule.longPredicate == null ? null : longs.and(rule.longPredicate);
+      ints = ints == null || rule.intPredicate == null ? null : ints.and(rule.intPredicate);
+    }
+    this.predicate = combined;
+    this.longPredicate = longs;
+    this.intPredicate = ints;
+  }
+
+  /**
+   * Returns constraint which accepts any value, including {@code null}.
+   *
+   * @param <V> is the type of the values
+   * @return constraint without rules
+   */
+  @SuppressWarnings("unchecked")
+  public static <V> @NonNull PicoConstraint<V> any() {
+    return (PicoConstraint<V>) ANY;
+  }
+
+  /**
+   * Returns constraint which rejects {@code null} values.
+   *
+   * @param <V> is the type of the values
+   * @return new constraint
+   */
+  public static <V> @NonNull PicoConstraint<V> notNull() {
+    return new PicoConstraint<>("Value must not be null", new Rule[0]);
+  }
+
+  /**
+   * Returns constraint with a single rule.
+   *
+   * @param message describing the rule, reported when a value violates it
+   * @param predicate returning {@code true} for valid non-{@code null} values
+   * @param <V> is the type of the values
+   * @return new constraint
+   * @throws NullPointerException if any of arguments is {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public static <V> @NonNull PicoConstraint<V> of(
+      @NonNull String message, @NonNull Predicate<? super V> predicate) {
+    Objects.requireNonNull(message, "Message must not be null");
+    Objects.requireNonNull(predicate, "Predicate must not be null");
+    return single(new Rule(message, (Predicate<Object>) predicate, null, null));
+  }
+
+  /**
+   * Returns constraint accepting {@code long} values in the given range.
+   *
+   * @param min lowest valid value, inclusive
+   * @param max highest valid value, inclusive
+   * @return new constraint
+   * @throws IllegalArgumentException if min is greater than max
+   */
+  public static @NonNull PicoConstraint<Long> longRange(long min, long max) {
+    if (min > max) {
+      throw new IllegalArgumentException("Min must not be greater than max");
+    }
+    LongPredicate longs = value -> value >= min && value <= max;
+    return single(
+        new Rule(
+            "Value must be between " + min + " and " + max,
+            value -> longs.test((Long) value),
+            longs,
+            null));
+  }
+
+  /**
+   * Returns constraint accepting {@code int} values in the given range.
+   *
+   * @param min lowest valid value, inclusive
+   * @param max highest valid value, inclusive
+   * @return new constraint
+   * @throws IllegalArgumentException if min is greater than max
+   */
+  public static @NonNull PicoConstraint<Integer> intRange(int min, int max) {
+    if (min > max) {
+      throw new IllegalArgumentException("Min must not be greater than max");
+    }
+    IntPredicate ints = value -> value >= min && value <= max;
+    return single(
+        new Rule(
+            "Value must be between " + min + " and " + max,
+            value -> ints.test((Integer) value),
+            null,
+            ints));
+  }
+
+  /**
+   * Returns constraint accepting values in the given range.
+   *
+   * @param min lowest valid value, inclusive
+   * @param max highest valid value, inclusive
+   * @param <V> is the type of the values
+   * @return new constraint
+   * @throws NullPointerException if any of arguments is {@code null}
+   * @throws IllegalArgumentException if min is greater than max
+   */
+  @SuppressWarnings("unchecked")
+  public static <V extends Comparable<? super V>> @NonNull PicoConstraint<V> between(
+      @NonNull V min, @NonNull V max) {
+    Objects.requireNonNull(min, "Min must not be null");
+    Objects.requireNonNull(max, "Max must not be null");
+    if (min.compareTo(max) > 0) {
+      throw new IllegalArgumentException("Min must not be greater than max");
+    }
+    return single(
+        new Rule(
+            "Value must be between " + min + " and " + max,
+            value -> min.compareTo((V) value) <= 0 && max.compareTo((V) value) >= 0,
+            null,
+            null));
+  }
+
+  /**
+   * Returns constraint accepting character sequences with length in the given range.
+   *
+   * @param min shortest valid length, inclusive
+   * @param max longest valid length, inclusive
+   * @param <V> is the type of the values
+   * @return new constraint
+   * @throws IllegalArgumentException if min is negative or greater than max
+   */
+  public static <V extends CharSequence> @NonNull PicoConstraint<V> length(int min, int max) {
+    if (min < 0 || min > max) {
+      throw new IllegalArgumentException("Min must not be negative or greater than max");
+    }
+    return single(
+        new Rule(
+            "Value length must be between " + min + " and " + max,
+            value -> {
+              int length = ((CharSequence) value).length();
+              return length >= min && length <= max;
+            },
+            null,
+            null));
+  }
+
+  /**
+   * Returns constraint accepting character sequences entirely matching the given regular
+   * expression, which is compiled once.
+   *
+   * @param regex to match
+   * @param <V> is the type of the values
+   * @return new constraint
+   * @throws NullPointerException if regex is {@code null}
+   * @throws java.util.regex.PatternSyntaxException if regex is malformed
+   */
+  public static <V extends CharSequence> @NonNull PicoConstraint<V> matches(@NonNull String regex) {
+    Pattern pattern = Pattern.compile(Objects.requireNonNull(regex, "Regex must not be null"));
+    return single(
+        new Rule(
+            "Value must match " + regex,
+            value -> pattern.matcher((CharSequence) value).matches(),
+            null,
+            null));
+  }
+
+  /**
+   * Returns constraint satisfied by values satisfying all the given constraints. Rules are checked
+   * in the order of constraints.
+   *
+   * @param constraints to combine
+   * @param <V> is the type of the values
+   * @return new constraint
+   * @throws NullPointerException if array is {@code null} or contains {@code null}s
+   */
+  @SafeVarargs
+  public static <V> @NonNull PicoConstraint<V> allOf(
+      @NonNull PicoConstraint<? super V> @NonNull ... constraints) {
+    Objects.requireNonNull(constraints, "Constraints must not be null");
+    String nullViolation = null;
+    List<Rule> rules = new ArrayList<>();
+    for (PicoConstraint<? super V> constraint : constraints) {
+      Objects.requireNonNull(constraint, "Constraint must not be null");
+      if (nullViolation == null) {
+        nullViolation = constraint.nullViolation;
+      }
+      rules.addAll(Arrays.asList(constraint.rules));
+    }
+    return new PicoConstraint<>(nullViolation, rules.toArray(new Rule[0]));
+  }
+
+  /**
+   * Returns constraint satisfied by values satisfying both this and the given constraint.
+   *
+   * @param other constraint to check after this one
+   * @return new constraint
+   * @throws NullPointerException if other constraint is {@code null}
+   */
+  public @NonNull PicoConstraint<V> and(@NonNull PicoConstraint<? super V> other) {
+    return allOf(this, other);
+  }
+
+  /**
+   * Returns {@code true} if the value satisfies this constraint.
+   *
+   * @param value to check
+   * @return {@code true} if the value is valid
+   */
+  public boolean test(@Nullable V value) {
+    return value == null ? nullViolation == null : predicate.test(value);
+  }
+
+  /**
+   * Returns message of the first rule the value violates.
+   *
+   * @param value to check
+   * @return the message, or {@code null} if the value is valid
+   */
+  public @Nullable String violation(@Nullable V value) {
+    int rule = violatedRule(value);
+    return rule < 0 ? null : messages[rule];
+  }
+
+  /**
+   * Returns the value if it satisfies this constraint, to be called from constructors.
+   *
+   * @param value to check
+   * @param <W> is the type of the value
+   * @return the same value
+   * @throws IllegalArgumentException if the value violates this constraint
+   */
+  public <W extends V> @Nullable W requireValid(@Nullable W value) {
+    int rule = violatedRule(value);
+    if (rule >= 0) {
+      throw new IllegalArgumentException(messages[rule]);
+    }
+    return value;
+  }
+
+  /**
+   * Creates PicoType wrapping the value if it satisfies this constraint, without throwing an
+   * exception otherwise.
+   *
+   * @param factory creating instances from valid values, e.g. a constructor reference
+   * @param value to wrap
+   * @param <T> is the type of PicoTypes
+   * @return result holding either the created instance or the message of the violated rule
+   * @throws NullPointerException if factory is {@code null} or returns {@code null}
+   */
+  public <T extends PicoType<?>> @NonNull PicoResult<T> tryCreate(
+      @NonNull Function<? super V, ? extends T> factory, @Nullable V value) {
+    Objects.requireNonNull(factory, "Factory must not be null");
+    int rule = violatedRule(value);
+    return rule < 0 ? PicoResult.valid(factory.apply(value)) : PicoResult.invalid(messages[rule]);
+  }
+
+  /**
+   * Validates all the given values.
+   *
+   * @param values to validate, may contain {@code null}s
+   * @return violations ordered by index of the invalid value
+   * @throws NullPointerException if array is {@code null}
+   */
+  public @NonNull PicoViolations validateAll(@Nullable V @NonNull [] values) {
+    Objects.requireNonNull(values, "Values must not be null");
+    return validate(values.length, index -> violatedRule(values[index]));
+  }
+
+  /**
+   * Validates all the given values.
+   *
+   * <p>Lists without {@link RandomAccess}, such as {@link java.util.LinkedList}, are copied to an
+   * array first, as reading them by index would take time proportional to the index.
+   *
+   * @param values to validate, may contain {@code null}s
+   * @return violations ordered by index of the invalid value
+   * @throws NullPointerException if list is {@code null}
+   */
+  public @NonNull PicoViolations validateAll(@NonNull List<? extends @Nullable V> values) {
+    Objects.requireNonNull(values, "Values must not be null");
+    if (values instanceof RandomAccess) {
+      return validate(values.size(), index -> violatedRule(values.get(index)));
+    }
+    Object[] array = values.toArray();
+    return validate(array.length, index -> violatedRule(array[index]));
+  }
+
+  /**
+   * Validates raw values of all elements of the given column, without creating the elements and, if
+   * this constraint consists of {@link #longRange(long, long)} rules only, without boxing the
+   * values. {@code null} elements are validated as {@code null} values.
+   *
+   * @param column to validate
+   * @return violations ordered by index of the invalid element
+   * @throws NullPointerException if column is {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public @NonNull PicoViolations validateAll(
+      @NonNull LongPicoColumn<? extends PicoType<? extends V>> column) {
+    Objects.requireNonNull(column, "Column must not be null");
+    LongPredicate longs = longPredicate;
+    return validate(
+        column.size(),
+        index -> {
+          if (column.isNull(index)) {
+            return violatedRule(null);
+          }
+          long value = column.getLong(index);
+          return longs != null && longs.test(value) ? -1 : violatedRule((V) (Long) value);
+        });
+  }
+
+  /**
+   * Validates raw values of all elements of the given column, without creating the elements and, if
+   * this constraint consists of {@link #intRange(int, int)} rules only, without boxing the values.
+   * {@code null} elements are validated as {@code null} values.
+   *
+   * @param column to validate
+   * @return violations ordered by index of the invalid element
+   * @throws NullPointerException if column is {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public @NonNull PicoViolations validateAll(
+      @NonNull IntPicoColumn<? extends PicoType<? extends V>> column) {
+    Objects.requireNonNull(column, "Column must not be null");
+    IntPredicate ints = intPredicate;
+    return validate(
+        column.size(),
+        index -> {
+          if (column.isNull(index)) {
+            return violatedRule(null);
+          }
+          int value = column.getInt(index);
+          return ints != null && ints.test(value) ? -1 : violatedRule((V) (Integer) value);
+        });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull String toString() {
+    StringJoiner joiner = new StringJoiner("; ", "PicoConstraint{", "}");
+    if (nullViolation != null) {
+      joiner.add(nullViolation);
+    }
+    for (Rule rule : rules) {
+      joiner.add(rule.message);
+    }
+    return joiner.toString();
+  }
+
+  private static <V> PicoConstraint<V> single(Rule rule) {
+    return new PicoConstraint<>(null, new Rule[] {rule});
+  }
+
+  /**
+   * Returns index of the message of the first rule the value violates, or {@code -1} if it is
+   * valid.
+   */
+  private int violatedRule(@Nullable Object value) {
+    if (value == null) {
+      return nullViolation == null ? -1 : rules.length;
+    } else if (predicate.test(value)) {
+      return -1;
+    }
+    for (int i = 0; i < rules.length; i++) {
+      if (!rules[i].predicate.test(value)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds violations of values with indexes from {@code 0} to size exclusive, splitting them into
+   * chunks validated in parallel once there are enough values.
+   */
+  private PicoViolations validate(int size, IntUnaryOperator violatedRule) {
+    int chunks = (int) (((long) size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    PicoViolations.Builder[] builders = new PicoViolations.Builder[chunks];
+    IntStream indexes = IntStream.range(0, chunks);
+    (chunks > 1 ? indexes.parallel() : indexes)
+        .forEach(
+            chunk -> {
+              PicoViolations.Builder builder = new PicoViolations.Builder();
+              int end = (int) Math.min(size, (long) (chunk + 1) * CHUNK_SIZE);
+              for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                int rule = violatedRule.applyAsInt(i);
+                if (rule >= 0) {
+                  builder.add(i, rule);
+                }
+              }
+              builders[chunk] = builder;
+            });
+    return PicoViolations.Builder.build(builders, messages);
+  }
+
+  /** Single rule with its message and, where possible, primitive variants of its predicate. */
+  private static final class Rule {
+    private final String message;
+    private final Predicate<Object> predicate;
+    @Nullable private final LongPredicate longPredicate;
+    @Nullable private final IntPredicate intPredicate;
+
+    private Rule(
+        String message,
+        Predicate<Object> predicate,
+        @Nullable LongPredicate longPredicate,
+        @Nullable IntPredicate intPredicate) {
+      this.message = message;
+      this.predicate = predicate;
+      this.longPredicate = longPredicate;
+      this.intPredicate = intPredicate;
+    }
+  }
+}
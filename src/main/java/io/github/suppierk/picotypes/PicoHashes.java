@@ -0,0 +1,211 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Objects;
+import java.util.UUID;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Stable, seeded 64-bit hashes of PicoType values, suitable for routing keys across processes.
+ *
+ * <p>Unlike {@link Object#hashCode()}, results do not depend on the JVM and are part of the
+ * contract of this class: every value is hashed with xxHash64 over a fixed byte representation, so
+ * that the same hash can be computed in other languages as well.
+ *
+ * <ul>
+ *   <li>{@code Integer} and {@code Long} - 4 and 8 little-endian bytes;
+ *   <li>{@code Boolean} - a single byte, {@code 1} or {@code 0};
+ *   <li>{@code Double} - 8 little-endian bytes of {@link Double#doubleToLongBits(double)};
+ *   <li>{@code UUID} - 16 bytes of the canonical big-endian form;
+ *   <li>{@code String} - UTF-8 bytes, the same as for {@link Utf8StringPicoType};
+ *   <li>{@code BigInteger} - as a {@code Long} if it fits, otherwise bytes of {@link
+ *       BigInteger#toByteArray()};
+ *   <li>{@code BigDecimal} - unscaled value without trailing zeros as a {@code BigInteger}, with
+ *       the seed increased by the remaining scale;
+ *   <li>{@code URI} - components compared by {@link URI#equals(Object)}, case folded where it
+ *       ignores the case, combined in a fixed order.
+ * </ul>
+ *
+ * <p>Hashes are consistent with {@code equals} of the base classes, and empty instances are hashed
+ * as an empty input. Values are hashed without allocation, except for {@code BigInteger}s which do
+ * not fit into a {@code long} and {@code BigDecimal}s, whose public API gives no allocation-free
+ * access to their digits. Values of {@link CompactBigIntegerPicoType} and {@link
+ * CompactBigDecimalPicoType} which fit into a {@code long} are hashed without allocation.
+ */
+public final class PicoHashes {
+  /** Seed used when none is given. */
+  public static final long DEFAULT_SEED = 0L;
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private PicoHashes() {
+    // Utility class
+  }
+
+  /**
+   * Returns stable hash of the value of the given PicoType with {@link #DEFAULT_SEED}.
+   *
+   * @param picoType to hash
+   * @return 64-bit hash
+   * @throws NullPointerException if PicoType is {@code null}
+   * @throws IllegalArgumentException if PicoType is a {@link SecurePicoType} or its value type is
+   *     not supported
+   * @see #hash64(PicoType, long)
+   */
+  public static long hash64(@NonNull PicoType<?> picoType) {
+    return hash64(picoType, DEFAULT_SEED);
+  }
+
+  /**
+   * Returns stable hash of the value of the given PicoType.
+   *
+   * <p>Values of {@link SecurePicoType} instances are rejected, as fast hashes of secrets are easy
+   * to brute force.
+   *
+   * @param picoType to hash
+   * @param seed of the hash
+   * @return 64-bit hash
+   * @throws NullPointerException if PicoType is {@code null}
+   * @throws IllegalArgumentException if PicoType is a {@link SecurePicoType} or its value type is
+   *     not supported
+   */
+  public static long hash64(@NonNull PicoType<?> picoType, long seed) {
+    Objects.requireNonNull(picoType, "PicoType must not be null");
+    if (picoType instanceof SecurePicoType) {
+      throw new IllegalArgumentException("Values of SecurePicoType must not be hashed");
+    }
+    if (picoType.isEmpty()) {
+      return XxHash64.hashBytes(EMPTY, seed);
+    }
+
+    if (picoType instanceof PrimitiveLongPicoType p) {
+      return XxHash64.hashLong(p.longValue(), seed);
+    } else if (picoType instanceof PrimitiveIntegerPicoType p) {
+      return XxHash64.hashInt(p.intValue(), seed);
+    } else if (picoType instanceof PrimitiveDoublePicoType p) {
+      return XxHash64.hashLong(Double.doubleToLongBits(p.doubleValue()), seed);
+    } else if (picoType instanceof PrimitiveUuidPicoType p) {
+      return hashUuid(p.mostSignificantBits(), p.leastSignificantBits(), seed);
+    } else if (picoType instanceof Utf8StringPicoType p) {
+      return XxHash64.hashBytes(Objects.requireNonNull(p.bytes()), seed);
+    } else if (picoType instanceof CompactBigIntegerPicoType p && p.isCompact()) {
+      return XxHash64.hashLong(p.longValueExact(), seed);
+    } else if (picoType instanceof CompactBigDecimalPicoType p && p.isCompact()) {
+      return hashDecimal(p.compactUnscaledValue(), p.compactScale(), seed);
+    }
+    return hashValue(Objects.requireNonNull(picoType.value()), seed);
+  }
+
+  private static long hashValue(Object value, long seed) {
+    if (value instanceof Long v) {
+      return XxHash64.hashLong(v, seed);
+    } else if (value instanceof Integer v) {
+      return XxHash64.hashInt(v, seed);
+    } else if (value instanceof UUID v) {
+      return hashUuid(v.getMostSignificantBits(), v.getLeastSignificantBits(), seed);
+    } else if (value instanceof String v) {
+      return XxHash64.hashUtf8(v, XxHash64.FOLD_NONE, seed);
+    } else if (value instanceof Boolean v) {
+      return XxHash64.hashByte(v ? 1 : 0, seed);
+    } else if (value instanceof Double v) {
+      return XxHash64.hashLong(Double.doubleToLongBits(v), seed);
+    } else if (value instanceof BigInteger v) {
+      return hashBigInteger(v, seed);
+    } else if (value instanceof BigDecimal v) {
+      return hashBigDecimal(v, seed);
+    } else if (value instanceof URI v) {
+      return hashUri(v, seed);
+    }
+    throw new IllegalArgumentException(
+        "Values of type " + value.getClass().getName() + " cannot be hashed");
+  }
+
+  /**
+   * Hashes {@link UUID} bits, so that the result matches xxHash64 of its 16 big-endian bytes.
+   *
+   * @param mostSignificantBits of the {@link UUID}
+   * @param leastSignificantBits of the {@link UUID}
+   * @param seed of the hash
+   * @return 64-bit hash
+   */
+  static long hashUuid(long mostSignificantBits, long leastSignificantBits, long seed) {
+    return XxHash64.hashLongs(
+        Long.reverseBytes(mostSignificantBits), Long.reverseBytes(leastSignificantBits), seed);
+  }
+
+  /**
+   * Hashes normalized decimal value, given as unscaled value without trailing zeros and its scale.
+   *
+   * @param unscaled value without trailing zeros, {@code 0} for zero
+   * @param scale of the value, {@code 0} for zero
+   * @param seed of the hash
+   * @return 64-bit hash
+   */
+  static long hashDecimal(long unscaled, int scale, long seed) {
+    return XxHash64.hashLong(unscaled, seed + scale);
+  }
+
+  private static long hashBigInteger(BigInteger value, long seed) {
+    if (value.bitLength() < Long.SIZE) {
+      return XxHash64.hashLong(value.longValue(), seed);
+    }
+    return XxHash64.hashBytes(value.toByteArray(), seed);
+  }
+
+  private static long hashBigDecimal(BigDecimal value, long seed) {
+    if (value.signum() == 0) {
+      return hashDecimal(0L, 0, seed);
+    }
+    BigDecimal normalized = value.stripTrailingZeros();
+    return hashBigInteger(normalized.unscaledValue(), seed + normalized.scale());
+  }
+
+  private static long hashUri(URI value, long seed) {
+    long hash = XxHash64.hashByte(value.isOpaque() ? 1 : 0, seed);
+    hash = combine(hash, value.getScheme(), XxHash64.FOLD_CASE, seed);
+    hash = combine(hash, value.getRawFragment(), XxHash64.FOLD_ESCAPES, seed);
+    if (value.isOpaque()) {
+      return combine(hash, value.getRawSchemeSpecificPart(), XxHash64.FOLD_ESCAPES, seed);
+    }
+
+    hash = combine(hash, value.getRawPath(), XxHash64.FOLD_ESCAPES, seed);
+    hash = combine(hash, value.getRawQuery(), XxHash64.FOLD_ESCAPES, seed);
+    if (value.getHost() != null) {
+      hash = combine(hash, value.getRawUserInfo(), XxHash64.FOLD_ESCAPES, seed);
+      hash = combine(hash, value.getHost(), XxHash64.FOLD_CASE, seed);
+      return XxHash64.combine(hash, XxHash64.hashInt(value.getPort(), seed));
+    }
+    return combine(hash, value.getRawAuthority(), XxHash64.FOLD_ESCAPES, seed);
+  }
+
+  private static long combine(long hash, @Nullable String component, int fold, long seed) {
+    return XxHash64.combine(
+        hash, component == null ? 0L : XxHash64.hashUtf8(component, fold, seed));
+  }
+}
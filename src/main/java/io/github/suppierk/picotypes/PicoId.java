@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares PicoType subclass to be generated at compile time by {@code pico-types-processor}.
+ *
+ * <p>The annotated interface serves as a specification only:
+ *
+ * <pre>{@code
+ * public interface Ids {
+ *   @PicoId(UuidPicoType.class)
+ *   interface OrderId {}
+ * }
+ * }</pre>
+ *
+ * <p>For the declaration above, the processor generates final class {@code OrderId} in the same
+ * package, which extends {@link UuidPicoType} and provides static {@code of} factories, a {@link
+ * PicoTypeCodec} in {@code CODEC} constant and a {@link PicoTypeProvider} registered with {@link
+ * java.util.ServiceLoader}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface PicoId {
+  /**
+   * Returns base class of the generated PicoType.
+   *
+   * @return one of the abstract PicoType classes of this library
+   */
+  Class<? extends PicoType<?>> value();
+
+  /**
+   * Returns simple name of the generated PicoType.
+   *
+   * <p>Can be omitted for interfaces nested into other types, in which case the generated class is
+   * named after the interface.
+   *
+   * @return simple name of the generated class, or empty string to use the name of the interface
+   */
+  String name() default "";
+}
@@ -0,0 +1,307 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Open addressing hash set of {@code int}-based PicoTypes.
+ *
+ * <p>Elements are stored as raw {@code int} values, so an element costs a slot in an {@code int[]}
+ * instead of a boxed value, a wrapper and a map node. Element instances are recreated with the
+ * element factory only when the set hands them out, e.g. in {@link #forEach(Consumer)}.
+ *
+ * <p>Elements must not be {@code null} or empty. This class is not thread-safe.
+ *
+ * @param <E> is the type of the elements
+ */
+public final class PicoIntSet<E extends PicoType<Integer>> {
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final IntFunction<? extends E> elementFactory;
+
+  /** Elements, where {@code 0} marks a free slot. */
+  private int[] elements;
+
+  private int capacity;
+  private int maxFill;
+  private int size;
+  private boolean hasZero;
+
+  /**
+   * Creates empty set with default capacity.
+   *
+   * @param elementFactory to recreate element instances from raw values
+   * @throws NullPointerException if element factory is {@code null}
+   */
+  public PicoIntSet(@NonNull IntFunction<? extends E> elementFactory) {
+    this(elementFactory, HashTables.DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Creates empty set able to hold the expected number of elements without growing.
+   *
+   * @param elementFactory to recreate element instances from raw values
+   * @param expectedSize number of elements
+   * @throws NullPointerException if element factory is {@code null}
+   * @throws IllegalArgumentException if expected size is negative
+   */
+  public PicoIntSet(@NonNull IntFunction<? extends E> elementFactory, int expectedSize) {
+    this.elementFactory =
+        Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    this.capacity = HashTables.capacityFor(expectedSize, MAX_CAPACITY);
+    this.maxFill = HashTables.maxFill(capacity);
+    this.elements = new int[capacity];
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return hasZero ? size + 1 : size;
+  }
+
+  /**
+   * Returns {@code true} if there are no elements.
+   *
+   * @return {@code true} if there are no elements
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Returns {@code true} if the set contains the given element.
+   *
+   * @param element to look up
+   * @return {@code true} if the set contains the given element
+   * @throws NullPointerException if element or its value is {@code null}
+   */
+  public boolean contains(@NonNull E element) {
+    return contains(PicoValues.requireInt(element));
+  }
+
+  /**
+   * Returns {@code true} if the set contains the given raw element.
+   *
+   * @param element to look up
+   * @return {@code true} if the set contains the given element
+   */
+  public boolean contains(int element) {
+    if (element == 0) {
+      return hasZero;
+    }
+    return elements[probe(element)] == element;
+  }
+
+  /**
+   * Adds the given element.
+   *
+   * @param element to add
+   * @return {@code true} if the set did not contain the element before
+   * @throws NullPointerException if element or its value is {@code null}
+   * @throws IllegalStateException if the set cannot grow anymore
+   */
+  public boolean add(@NonNull E element) {
+    return add(PicoValues.requireInt(element));
+  }
+
+  /**
+   * Adds the given raw element.
+   *
+   * @param element to add
+   * @return {@code true} if the set did not contain the element before
+   * @throws IllegalStateException if the set cannot grow anymore
+   */
+  public boolean add(int element) {
+    if (element == 0) {
+      boolean added = !hasZero;
+      hasZero = true;
+      return added;
+    }
+
+    int index = probe(element);
+    if (elements[index] == element) {
+      return false;
+    }
+
+    if (size >= maxFill) {
+      rehash(HashTables.grow(capacity, MAX_CAPACITY));
+      index = probe(element);
+    }
+
+    elements[index] = element;
+    size++;
+    return true;
+  }
+
+  /**
+   * Removes the given element.
+   *
+   * @param element to remove
+   * @return {@code true} if the set contained the element
+   * @throws NullPointerException if element or its value is {@code null}
+   */
+  public boolean remove(@NonNull E element) {
+    return remove(PicoValues.requireInt(element));
+  }
+
+  /**
+   * Removes the given raw element.
+   *
+   * @param element to remove
+   * @return {@code true} if the set contained the element
+   */
+  public boolean remove(int element) {
+    if (element == 0) {
+      boolean removed = hasZero;
+      hasZero = false;
+      return removed;
+    }
+
+    int index = probe(element);
+    if (elements[index] != element) {
+      return false;
+    }
+
+    shiftElements(index);
+    size--;
+    return true;
+  }
+
+  /** Removes all elements. */
+  public void clear() {
+    Arrays.fill(elements, 0);
+    size = 0;
+    hasZero = false;
+  }
+
+  /**
+   * Performs the given action for each element, recreating instances with the element factory.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEach(@NonNull Consumer<? super E> action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    forEachRaw(element -> action.accept(elementFactory.apply(element)));
+  }
+
+  /**
+   * Performs the given action for each element without creating element instances.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEachRaw(@NonNull IntConsumer action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    if (hasZero) {
+      action.accept(0);
+    }
+    for (int i = 0; i < capacity; i++) {
+      if (elements[i] != 0) {
+        action.accept(elements[i]);
+      }
+    }
+  }
+
+  /**
+   * Returns raw elements in no particular order.
+   *
+   * @return new array with raw elements
+   */
+  public int @NonNull [] toRawArray() {
+    int[] result = new int[size()];
+    int position = 0;
+    if (hasZero) {
+      result[position++] = 0;
+    }
+    for (int i = 0; i < capacity; i++) {
+      if (elements[i] != 0) {
+        result[position++] = elements[i];
+      }
+    }
+    return result;
+  }
+
+  private int probe(int element) {
+    int mask = capacity - 1;
+    int index = HashTables.mix(element) & mask;
+    int current;
+    while ((current = elements[index]) != 0 && current != element) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  /** Closes the gap left by removed element by moving back elements of the same probe sequence. */
+  private void shiftElements(int index) {
+    int mask = capacity - 1;
+    int gap = index;
+    int current = index;
+
+    while (true) {
+      current = (current + 1) & mask;
+      int element = elements[current];
+      if (element == 0) {
+        elements[gap] = 0;
+        return;
+      }
+
+      int home = HashTables.mix(element) & mask;
+      boolean movable =
+          gap <= current ? (home <= gap || home > current) : (home <= gap && home > current);
+      if (movable) {
+        elements[gap] = element;
+        gap = current;
+      }
+    }
+  }
+
+  private void rehash(int newCapacity) {
+    int[] oldElements = elements;
+
+    int mask = newCapacity - 1;
+    elements = new int[newCapacity];
+    capacity = newCapacity;
+    maxFill = HashTables.maxFill(newCapacity);
+
+    for (int element : oldElements) {
+      if (element != 0) {
+        int index = HashTables.mix(element) & mask;
+        while (elements[index] != 0) {
+          index = (index + 1) & mask;
+        }
+        elements[index] = element;
+      }
+    }
+  }
+}
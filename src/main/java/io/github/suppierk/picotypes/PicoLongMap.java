@@ -0,0 +1,384 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.ObjLongConsumer;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Open addressing hash map keyed by {@code long}-based PicoTypes.
+ *
+ * <p>Keys are stored as raw {@code long} values, so an entry costs a slot in a {@code long[]} and a
+ * slot in an {@code Object[]} instead of a boxed value, a wrapper and a map node. Key instances are
+ * recreated with the key factory only when the map hands them out, e.g. in {@link
+ * #forEach(BiConsumer)}.
+ *
+ * <p>Keys must not be {@code null} or empty. Values can be {@code null}. This class is not
+ * thread-safe.
+ *
+ * @param <K> is the type of the keys
+ * @param <V> is the type of the values
+ */
+public final class PicoLongMap<K extends PicoType<Long>, V> {
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final LongFunction<? extends K> keyFactory;
+
+  /** Keys, where {@code 0} marks a free slot. */
+  private long[] keys;
+
+  /** Values, where the extra last slot holds the value of the {@code 0} key. */
+  private Object[] values;
+
+  private int capacity;
+  private int maxFill;
+  private int size;
+  private boolean hasZeroKey;
+
+  /**
+   * Creates empty map with default capacity.
+   *
+   * @param keyFactory to recreate key instances from raw values
+   * @throws NullPointerException if key factory is {@code null}
+   */
+  public PicoLongMap(@NonNull LongFunction<? extends K> keyFactory) {
+    this(keyFactory, HashTables.DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Creates empty map able to hold the expected number of entries without growing.
+   *
+   * @param keyFactory to recreate key instances from raw values
+   * @param expectedSize number of entries
+   * @throws NullPointerException if key factory is {@code null}
+   * @throws IllegalArgumentException if expected size is negative
+   */
+  public PicoLongMap(@NonNull LongFunction<? extends K> keyFactory, int expectedSize) {
+    this.keyFactory = Objects.requireNonNull(keyFactory, "Key factory must not be null");
+    this.capacity = HashTables.capacityFor(expectedSize, MAX_CAPACITY);
+    this.maxFill = HashTables.maxFill(capacity);
+    this.keys = new long[capacity];
+    this.values = new Object[capacity + 1];
+  }
+
+  /**
+   * Returns the number of entries.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return hasZeroKey ? size + 1 : size;
+  }
+
+  /**
+   * Returns {@code true} if there are no entries.
+   *
+   * @return {@code true} if there are no entries
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Returns {@code true} if there is an entry for the given key.
+   *
+   * @param key to look up
+   * @return {@code true} if there is an entry for the given key
+   * @throws NullPointerException if key or its value is {@code null}
+   */
+  public boolean containsKey(@NonNull K key) {
+    return containsKey(PicoValues.requireLong(key));
+  }
+
+  /**
+   * Returns {@code true} if there is an entry for the given raw key.
+   *
+   * @param key to look up
+   * @return {@code true} if there is an entry for the given key
+   */
+  public boolean containsKey(long key) {
+    return indexOf(key) >= 0;
+  }
+
+  /**
+   * Returns value associated with the given key.
+   *
+   * @param key to look up
+   * @return associated value, or {@code null} if there is none
+   * @throws NullPointerException if key or its value is {@code null}
+   */
+  public @Nullable V get(@NonNull K key) {
+    return get(PicoValues.requireLong(key));
+  }
+
+  /**
+   * Returns value associated with the given raw key.
+   *
+   * @param key to look up
+   * @return associated value, or {@code null} if there is none
+   */
+  public @Nullable V get(long key) {
+    int index = indexOf(key);
+    return index < 0 ? null : valueAt(index);
+  }
+
+  /**
+   * Returns value associated with the given key, or the default value if there is no entry.
+   *
+   * @param key to look up
+   * @param defaultValue to return if there is no entry
+   * @return associated value, or default value if there is no entry
+   * @throws NullPointerException if key or its value is {@code null}
+   */
+  public @Nullable V getOrDefault(@NonNull K key, @Nullable V defaultValue) {
+    int index = indexOf(PicoValues.requireLong(key));
+    return index < 0 ? defaultValue : valueAt(index);
+  }
+
+  /**
+   * Associates value with the given key.
+   *
+   * @param key to associate value with
+   * @param value to associate
+   * @return previously associated value, or {@code null} if there was none
+   * @throws NullPointerException if key or its value is {@code null}
+   * @throws IllegalStateException if the map cannot grow anymore
+   */
+  public @Nullable V put(@NonNull K key, @Nullable V value) {
+    return put(PicoValues.requireLong(key), value);
+  }
+
+  /**
+   * Associates value with the given raw key.
+   *
+   * @param key to associate value with
+   * @param value to associate
+   * @return previously associated value, or {@code null} if there was none
+   * @throws IllegalStateException if the map cannot grow anymore
+   */
+  public @Nullable V put(long key, @Nullable V value) {
+    if (key == 0L) {
+      V previous = hasZeroKey ? valueAt(capacity) : null;
+      values[capacity] = value;
+      hasZeroKey = true;
+      return previous;
+    }
+
+    int index = probe(key);
+    if (keys[index] == key) {
+      V previous = valueAt(index);
+      values[index] = value;
+      return previous;
+    }
+
+    if (size >= maxFill) {
+      rehash(HashTables.grow(capacity, MAX_CAPACITY));
+      index = probe(key);
+    }
+
+    keys[index] = key;
+    values[index] = value;
+    size++;
+    return null;
+  }
+
+  /**
+   * Returns value associated with the given key, computing and associating it first if there is no
+   * value.
+   *
+   * @param key to look up
+   * @param mappingFunction to compute a value
+   * @return current or computed value, or {@code null} if computed value is {@code null}
+   * @throws NullPointerException if key, its value or mapping function is {@code null}
+   * @throws IllegalStateException if the map cannot grow anymore
+   */
+  public @Nullable V computeIfAbsent(
+      @NonNull K key, @NonNull Function<? super K, ? extends @Nullable V> mappingFunction) {
+    long rawKey = PicoValues.requireLong(key);
+    Objects.requireNonNull(mappingFunction, "Mapping function must not be null");
+
+    int index = indexOf(rawKey);
+    V current = index < 0 ? null : valueAt(index);
+    if (current != null) {
+      return current;
+    }
+
+    V computed = mappingFunction.apply(key);
+    if (computed != null) {
+      put(rawKey, computed);
+    }
+    return computed;
+  }
+
+  /**
+   * Removes entry for the given key.
+   *
+   * @param key to remove
+   * @return previously associated value, or {@code null} if there was none
+   * @throws NullPointerException if key or its value is {@code null}
+   */
+  public @Nullable V remove(@NonNull K key) {
+    return remove(PicoValues.requireLong(key));
+  }
+
+  /**
+   * Removes entry for the given raw key.
+   *
+   * @param key to remove
+   * @return previously associated value, or {@code null} if there was none
+   */
+  public @Nullable V remove(long key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+
+    V previous = valueAt(index);
+    if (index == capacity) {
+      hasZeroKey = false;
+      values[capacity] = null;
+    } else {
+      shiftKeys(index);
+      size--;
+    }
+    return previous;
+  }
+
+  /** Removes all entries. */
+  public void clear() {
+    Arrays.fill(keys, 0L);
+    Arrays.fill(values, null);
+    size = 0;
+    hasZeroKey = false;
+  }
+
+  /**
+   * Performs the given action for each entry, recreating key instances with the key factory.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEach(@NonNull BiConsumer<? super K, ? super @Nullable V> action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    forEachRaw((value, key) -> action.accept(keyFactory.apply(key), value));
+  }
+
+  /**
+   * Performs the given action for each entry without creating key instances.
+   *
+   * @param action to perform, receiving the value first and the raw key second
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEachRaw(@NonNull ObjLongConsumer<? super @Nullable V> action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    if (hasZeroKey) {
+      action.accept(valueAt(capacity), 0L);
+    }
+    for (int i = 0; i < capacity; i++) {
+      if (keys[i] != 0L) {
+        action.accept(valueAt(i), keys[i]);
+      }
+    }
+  }
+
+  private int probe(long key) {
+    int mask = capacity - 1;
+    int index = HashTables.mix(key) & mask;
+    long current;
+    while ((current = keys[index]) != 0L && current != key) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private int indexOf(long key) {
+    if (key == 0L) {
+      return hasZeroKey ? capacity : -1;
+    }
+    int index = probe(key);
+    return keys[index] == key ? index : -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  private @Nullable V valueAt(int index) {
+    return (V) values[index];
+  }
+
+  /** Closes the gap left by removed entry by moving back entries of the same probe sequence. */
+  private void shiftKeys(int index) {
+    int mask = capacity - 1;
+    int gap = index;
+    int current = index;
+
+    while (true) {
+      current = (current + 1) & mask;
+      long key = keys[current];
+      if (key == 0L) {
+        keys[gap] = 0L;
+        values[gap] = null;
+        return;
+      }
+
+      int home = HashTables.mix(key) & mask;
+      boolean movable =
+          gap <= current ? (home <= gap || home > current) : (home <= gap && home > current);
+      if (movable) {
+        keys[gap] = key;
+        values[gap] = values[current];
+        gap = current;
+      }
+    }
+  }
+
+  private void rehash(int newCapacity) {
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    int oldCapacity = capacity;
+
+    int mask = newCapacity - 1;
+    keys = new long[newCapacity];
+    values = new Object[newCapacity + 1];
+    capacity = newCapacity;
+    maxFill = HashTables.maxFill(newCapacity);
+
+    for (int i = 0; i < oldCapacity; i++) {
+      long key = oldKeys[i];
+      if (key != 0L) {
+        int index = HashTables.mix(key) & mask;
+        while (keys[index] != 0L) {
+          index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = oldValues[i];
+      }
+    }
+    values[newCapacity] = oldValues[oldCapacity];
+  }
+}
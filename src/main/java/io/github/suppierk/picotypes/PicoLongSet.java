@@ -0,0 +1,307 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Open addressing hash set of {@code long}-based PicoTypes.
+ *
+ * <p>Elements are stored as raw {@code long} values, so an element costs a slot in a {@code long[]}
+ * instead of a boxed value, a wrapper and a map node. Element instances are recreated with the
+ * element factory only when the set hands them out, e.g. in {@link #forEach(Consumer)}.
+ *
+ * <p>Elements must not be {@code null} or empty. This class is not thread-safe.
+ *
+ * @param <E> is the type of the elements
+ */
+public final class PicoLongSet<E extends PicoType<Long>> {
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final LongFunction<? extends E> elementFactory;
+
+  /** Elements, where {@code 0} marks a free slot. */
+  private long[] elements;
+
+  private int capacity;
+  private int maxFill;
+  private int size;
+  private boolean hasZero;
+
+  /**
+   * Creates empty set with default capacity.
+   *
+   * @param elementFactory to recreate element instances from raw values
+   * @throws NullPointerException if element factory is {@code null}
+   */
+  public PicoLongSet(@NonNull LongFunction<? extends E> elementFactory) {
+    this(elementFactory, HashTables.DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Creates empty set able to hold the expected number of elements without growing.
+   *
+   * @param elementFactory to recreate element instances from raw values
+   * @param expectedSize number of elements
+   * @throws NullPointerException if element factory is {@code null}
+   * @throws IllegalArgumentException if expected size is negative
+   */
+  public PicoLongSet(@NonNull LongFunction<? extends E> elementFactory, int expectedSize) {
+    this.elementFactory =
+        Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    this.capacity = HashTables.capacityFor(expectedSize, MAX_CAPACITY);
+    this.maxFill = HashTables.maxFill(capacity);
+    this.elements = new long[capacity];
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return hasZero ? size + 1 : size;
+  }
+
+  /**
+   * Returns {@code true} if there are no elements.
+   *
+   * @return {@code true} if there are no elements
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Returns {@code true} if the set contains the given element.
+   *
+   * @param element to look up
+   * @return {@code true} if the set contains the given element
+   * @throws NullPointerException if element or its value is {@code null}
+   */
+  public boolean contains(@NonNull E element) {
+    return contains(PicoValues.requireLong(element));
+  }
+
+  /**
+   * Returns {@code true} if the set contains the given raw element.
+   *
+   * @param element to look up
+   * @return {@code true} if the set contains the given element
+   */
+  public boolean contains(long element) {
+    if (element == 0L) {
+      return hasZero;
+    }
+    return elements[probe(element)] == element;
+  }
+
+  /**
+   * Adds the given element.
+   *
+   * @param element to add
+   * @return {@code true} if the set did not contain the element before
+   * @throws NullPointerException if element or its value is {@code null}
+   * @throws IllegalStateException if the set cannot grow anymore
+   */
+  public boolean add(@NonNull E element) {
+    return add(PicoValues.requireLong(element));
+  }
+
+  /**
+   * Adds the given raw element.
+   *
+   * @param element to add
+   * @return {@code true} if the set did not contain the element before
+   * @throws IllegalStateException if the set cannot grow anymore
+   */
+  public boolean add(long element) {
+    if (element == 0L) {
+      boolean added = !hasZero;
+      hasZero = true;
+      return added;
+    }
+
+    int index = probe(element);
+    if (elements[index] == element) {
+      return false;
+    }
+
+    if (size >= maxFill) {
+      rehash(HashTables.grow(capacity, MAX_CAPACITY));
+      index = probe(element);
+    }
+
+    elements[index] = element;
+    size++;
+    return true;
+  }
+
+  /**
+   * Removes the given element.
+   *
+   * @param element to remove
+   * @return {@code true} if the set contained the element
+   * @throws NullPointerException if element or its value is {@code null}
+   */
+  public boolean remove(@NonNull E element) {
+    return remove(PicoValues.requireLong(element));
+  }
+
+  /**
+   * Removes the given raw element.
+   *
+   * @param element to remove
+   * @return {@code true} if the set contained the element
+   */
+  public boolean remove(long element) {
+    if (element == 0L) {
+      boolean removed = hasZero;
+      hasZero = false;
+      return removed;
+    }
+
+    int index = probe(element);
+    if (elements[index] != element) {
+      return false;
+    }
+
+    shiftElements(index);
+    size--;
+    return true;
+  }
+
+  /** Removes all elements. */
+  public void clear() {
+    Arrays.fill(elements, 0L);
+    size = 0;
+    hasZero = false;
+  }
+
+  /**
+   * Performs the given action for each element, recreating instances with the element factory.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEach(@NonNull Consumer<? super E> action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    forEachRaw(element -> action.accept(elementFactory.apply(element)));
+  }
+
+  /**
+   * Performs the given action for each element without creating element instances.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEachRaw(@NonNull LongConsumer action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    if (hasZero) {
+      action.accept(0L);
+    }
+    for (int i = 0; i < capacity; i++) {
+      if (elements[i] != 0L) {
+        action.accept(elements[i]);
+      }
+    }
+  }
+
+  /**
+   * Returns raw elements in no particular order.
+   *
+   * @return new array with raw elements
+   */
+  public long @NonNull [] toRawArray() {
+    long[] result = new long[size()];
+    int position = 0;
+    if (hasZero) {
+      result[position++] = 0L;
+    }
+    for (int i = 0; i < capacity; i++) {
+      if (elements[i] != 0L) {
+        result[position++] = elements[i];
+      }
+    }
+    return result;
+  }
+
+  private int probe(long element) {
+    int mask = capacity - 1;
+    int index = HashTables.mix(element) & mask;
+    long current;
+    while ((current = elements[index]) != 0L && current != element) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  /** Closes the gap left by removed element by moving back elements of the same probe sequence. */
+  private void shiftElements(int index) {
+    int mask = capacity - 1;
+    int gap = index;
+    int current = index;
+
+    while (true) {
+      current = (current + 1) & mask;
+      long element = elements[current];
+      if (element == 0L) {
+        elements[gap] = 0L;
+        return;
+      }
+
+      int home = HashTables.mix(element) & mask;
+      boolean movable =
+          gap <= current ? (home <= gap || home > current) : (home <= gap && home > current);
+      if (movable) {
+        elements[gap] = element;
+        gap = current;
+      }
+    }
+  }
+
+  private void rehash(int newCapacity) {
+    long[] oldElements = elements;
+
+    int mask = newCapacity - 1;
+    elements = new long[newCapacity];
+    capacity = newCapacity;
+    maxFill = HashTables.maxFill(newCapacity);
+
+    for (long element : oldElements) {
+      if (element != 0L) {
+        int index = HashTables.mix(element) & mask;
+        while (elements[index] != 0L) {
+          index = (index + 1) & mask;
+        }
+        elements[index] = element;
+      }
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Maps PicoTypes to one of a fixed number of shards with jump consistent hashing over {@link
+ * PicoHashes#hash64(PicoType, long)}.
+ *
+ * <p>Every process using the same number of shards and seed assigns a value to the same shard,
+ * regardless of the JVM. When the number of shards grows from {@code n} to {@code n + 1}, only
+ * about {@code 1 / (n + 1)} of the values move, all of them to the new shard. The partitioner holds
+ * no tables and is safe for concurrent use.
+ *
+ * @see <a href="https://arxiv.org/abs/1406.2294">A Fast, Minimal Memory, Consistent Hash
+ *     Algorithm</a>
+ */
+public final class PicoPartitioner {
+  private final int shards;
+  private final long seed;
+
+  /**
+   * Creates partitioner hashing values with {@link PicoHashes#DEFAULT_SEED}.
+   *
+   * @param shards number of shards
+   * @throws IllegalArgumentException if number of shards is not positive
+   */
+  public PicoPartitioner(int shards) {
+    this(shards, PicoHashes.DEFAULT_SEED);
+  }
+
+  /**
+   * Creates partitioner hashing values with the given seed.
+   *
+   * @param shards number of shards
+   * @param seed of the hash
+   * @throws IllegalArgumentException if number of shards is not positive
+   */
+  public PicoPartitioner(int shards, long seed) {
+    if (shards <= 0) {
+      throw new IllegalArgumentException("Number of shards must be positive");
+    }
+    this.shards = shards;
+    this.seed = seed;
+  }
+
+  /**
+   * Returns number of shards.
+   *
+   * @return number of shards
+   */
+  public int shards() {
+    return shards;
+  }
+
+  /**
+   * Returns seed of the hash.
+   *
+   * @return seed of the hash
+   */
+  public long seed() {
+    return seed;
+  }
+
+  /**
+   * Returns shard of the given PicoType.
+   *
+   * @param picoType to assign
+   * @return shard in range {@code [0, shards())}
+   * @throws NullPointerException if PicoType is {@code null}
+   * @throws IllegalArgumentException if PicoType cannot be hashed, see {@link
+   *     PicoHashes#hash64(PicoType, long)}
+   */
+  public int shardOf(@NonNull PicoType<?> picoType) {
+    Objects.requireNonNull(picoType, "PicoType must not be null");
+    return jump(PicoHashes.hash64(picoType, seed), shards);
+  }
+
+  /**
+   * Returns bucket of the given hash with jump consistent hashing.
+   *
+   * @param hash to assign
+   * @param buckets number of buckets
+   * @return bucket in range {@code [0, buckets)}
+   * @throws IllegalArgumentException if number of buckets is not positive
+   */
+  public static int jump(long hash, int buckets) {
+    if (buckets <= 0) {
+      throw new IllegalArgumentException("Number of buckets must be positive");
+    }
+
+    long bucket = -1L;
+    long next = 0L;
+    while (next < buckets) {
+      bucket = next;
+      hash = hash * 2862933555777941757L + 1;
+      next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((hash >>> 33) + 1)));
+    }
+    return (int) bucket;
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Result of creating a PicoType without throwing exceptions on invalid values, holding either the
+ * created instance or the message of the violated constraint.
+ *
+ * @param <T> is the type of the created instance
+ * @see PicoConstraint#tryCreate(java.util.function.Function, Object)
+ */
+public final class PicoResult<T> {
+  @Nullable private final T value;
+  @Nullable private final String violation;
+
+  private PicoResult(@Nullable T value, @Nullable String violation) {
+    this.value = value;
+    this.violation = violation;
+  }
+
+  static <T> PicoResult<T> valid(T value) {
+    return new PicoResult<>(Objects.requireNonNull(value, "Instance must not be null"), null);
+  }
+
+  static <T> PicoResult<T> invalid(String violation) {
+    return new PicoResult<>(null, violation);
+  }
+
+  /**
+   * Returns {@code true} if the instance was created.
+   *
+   * @return {@code true} if the value satisfied the constraint
+   */
+  public boolean isValid() {
+    return violation == null;
+  }
+
+  /**
+   * Returns {@code true} if the value violated the constraint.
+   *
+   * @return {@code true} if the instance was not created
+   */
+  public boolean isInvalid() {
+    return violation != null;
+  }
+
+  /**
+   * Returns the created instance.
+   *
+   * @return the created instance
+   * @throws NoSuchElementException if the value violated the constraint
+   */
+  public T get() {
+    if (violation != null) {
+      throw new NoSuchElementException("No value present");
+    }
+    return Objects.requireNonNull(value);
+  }
+
+  /**
+   * Returns the message of the violated constraint.
+   *
+   * @return the message, or {@code null} if the instance was created
+   */
+  public @Nullable String violation() {
+    return violation;
+  }
+
+  /**
+   * Returns the created instance, or the given one if the value violated the constraint.
+   *
+   * @param other instance to return if the value violated the constraint
+   * @return the created or the given instance
+   */
+  public T orElse(T other) {
+    return value == null ? other : value;
+  }
+
+  /**
+   * Returns the created instance, or throws an exception describing the violated constraint.
+   *
+   * @return the created instance
+   * @throws IllegalArgumentException if the value violated the constraint
+   */
+  public T orElseThrow() {
+    if (violation != null) {
+      throw new IllegalArgumentException(violation);
+    }
+    return Objects.requireNonNull(value);
+  }
+
+  /**
+   * Passes the created instance to the given action, if there is one.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void ifValid(@NonNull Consumer<? super T> action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    if (value != null) {
+      action.accept(value);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) return true;
+    if (!(o instanceof PicoResult<?> other)) return false;
+    return Objects.equals(value, other.value) && Objects.equals(violation, other.violation);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode() {
+    return Objects.hash(value, violation);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull String toString() {
+    return violation == null
+        ? "PicoResult{value=" + value + '}'
+        : "PicoResult{violation=" + violation + '}';
+  }
+}
@@ -0,0 +1,552 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Sorting of PicoTypes and their raw values by the natural order of the values.
+ *
+ * <p>Sort methods use stable least significant digit radix sort over the raw {@code long}, {@code
+ * int}, {@code double} or {@link UUID} bits, which does not compare elements at all. Passes over
+ * large inputs run in parallel using common {@link ForkJoinPool}. Sorting PicoTypes takes {@code
+ * long} and {@code int} arrays of the size of the list, while empty elements and {@code null}s are
+ * moved to either end of the list, keeping their order.
+ *
+ * <p>Comparators returned by {@link #nullsFirst()} and {@link #nullsLast()} order any comparable
+ * PicoTypes, including empty ones, reading unboxed values of primitive variants.
+ */
+public final class PicoSort {
+  /** Number of elements below which raw arrays are sorted with {@link Arrays#sort} instead. */
+  private static final int RADIX_SORT_THRESHOLD = 1 << 8;
+
+  private static final int DIGIT_BITS = 8;
+  private static final int RADIX = 1 << DIGIT_BITS;
+  private static final int DIGIT_MASK = RADIX - 1;
+
+  /** Flips sign bit of the most significant digit to order negative keys first. */
+  private static final int SIGN_DIGIT = RADIX >>> 1;
+
+  private static final Comparator<@Nullable PicoType<?>> NULLS_FIRST =
+      (left, right) -> compare(left, right, -1);
+  private static final Comparator<@Nullable PicoType<?>> NULLS_LAST =
+      (left, right) -> compare(left, right, 1);
+
+  private PicoSort() {
+    // Utility class
+  }
+
+  /**
+   * Sorts the given values into ascending order.
+   *
+   * @param values to sort
+   * @throws NullPointerException if values are {@code null}
+   */
+  public static void sort(long @NonNull [] values) {
+    Objects.requireNonNull(values, "Values must not be null");
+    if (values.length < RADIX_SORT_THRESHOLD) {
+      Arrays.sort(values);
+    } else {
+      radixSort(values, null);
+    }
+  }
+
+  /**
+   * Sorts the given values into ascending order.
+   *
+   * @param values to sort
+   * @throws NullPointerException if values are {@code null}
+   */
+  public static void sort(int @NonNull [] values) {
+    Objects.requireNonNull(values, "Values must not be null");
+    if (values.length < RADIX_SORT_THRESHOLD) {
+      Arrays.sort(values);
+      return;
+    }
+
+    long[] keys = new long[values.length];
+    for (int i = 0; i < values.length; i++) {
+      keys[i] = intKey(values[i]);
+    }
+    radixSort(keys, null);
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (int) (keys[i] + Integer.MIN_VALUE);
+    }
+  }
+
+  /**
+   * Sorts the given values into ascending order of {@link Double#compare(double, double)}: {@code
+   * -0.0} precedes {@code 0.0} and {@code NaN}s follow positive infinity.
+   *
+   * <p>Radix sort replaces all {@code NaN}s with {@link Double#NaN}.
+   *
+   * @param values to sort
+   * @throws NullPointerException if values are {@code null}
+   */
+  public static void sort(double @NonNull [] values) {
+    Objects.requireNonNull(values, "Values must not be null");
+    if (values.length < RADIX_SORT_THRESHOLD) {
+      Arrays.sort(values);
+      return;
+    }
+
+    long[] keys = new long[values.length];
+    for (int i = 0; i < values.length; i++) {
+      keys[i] = doubleKey(values[i]);
+    }
+    radixSort(keys, null);
+    for (int i = 0; i < values.length; i++) {
+      values[i] = Double.longBitsToDouble(doubleKey(keys[i]));
+    }
+  }
+
+  /**
+   * Sorts {@link UUID}s given as pairs of their most and least significant bits into ascending
+   * order of {@link UUID#compareTo(UUID)}, moving both bits of each pair together.
+   *
+   * @param bits to sort, where the most significant bits of each {@link UUID} are followed by its
+   *     least significant bits
+   * @throws NullPointerException if bits are {@code null}
+   * @throws IllegalArgumentException if number of bits is odd
+   */
+  public static void sortUuidBits(long @NonNull [] bits) {
+    Objects.requireNonNull(bits, "Bits must not be null");
+    if (bits.length % 2 != 0) {
+      throw new IllegalArgumentException("Number of bits must be even");
+    }
+
+    int count = bits.length / 2;
+    long[] keys = new long[count];
+    int[] order = new int[count];
+    for (int i = 0; i < count; i++) {
+      keys[i] = bits[i * 2 + 1];
+      order[i] = i;
+    }
+    radixSort(keys, order);
+    for (int i = 0; i < count; i++) {
+      keys[i] = bits[order[i] * 2];
+    }
+    radixSort(keys, order);
+
+    long[] source = bits.clone();
+    for (int i = 0; i < count; i++) {
+      bits[i * 2] = source[order[i] * 2];
+      bits[i * 2 + 1] = source[order[i] * 2 + 1];
+    }
+  }
+
+  /**
+   * Sorts the given elements into ascending order of their values. The sort is stable.
+   *
+   * @param elements to sort
+   * @param nullsFirst whether {@code null}s and empty elements go before or after the rest
+   * @param <T> is the type of the elements
+   * @throws NullPointerException if elements are {@code null}
+   * @throws UnsupportedOperationException if the list does not support {@link ListIterator#set}
+   */
+  public static <T extends PicoType<Long>> void sortLongs(
+      @NonNull List<T> elements, boolean nullsFirst) {
+    sortElements(elements, nullsFirst, PicoValues::requireLong, null);
+  }
+
+  /**
+   * Sorts the given elements into ascending order of their values. The sort is stable.
+   *
+   * @param elements to sort
+   * @param nullsFirst whether {@code null}s and empty elements go before or after the rest
+   * @param <T> is the type of the elements
+   * @throws NullPointerException if elements are {@code null}
+   * @throws UnsupportedOperationException if the list does not support {@link ListIterator#set}
+   */
+  public static <T extends PicoType<Integer>> void sortInts(
+      @NonNull List<T> elements, boolean nullsFirst) {
+    sortElements(elements, nullsFirst, element -> intKey(PicoValues.requireInt(element)), null);
+  }
+
+  /**
+   * Sorts the given elements into ascending order of their values, the same as {@link
+   * #sort(double[])}. The sort is stable.
+   *
+   * @param elements to sort
+   * @param nullsFirst whether {@code null}s and empty elements go before or after the rest
+   * @param <T> is the type of the elements
+   * @throws NullPointerException if elements are {@code null}
+   * @throws UnsupportedOperationException if the list does not support {@link ListIterator#set}
+   */
+  public static <T extends PicoType<Double>> void sortDoubles(
+      @NonNull List<T> elements, boolean nullsFirst) {
+    sortElements(
+        elements, nullsFirst, element -> doubleKey(PicoValues.requireDouble(element)), null);
+  }
+
+  /**
+   * Sorts the given elements into ascending order of their values. The sort is stable.
+   *
+   * @param elements to sort
+   * @param nullsFirst whether {@code null}s and empty elements go before or after the rest
+   * @param <T> is the type of the elements
+   * @throws NullPointerException if elements are {@code null}
+   * @throws UnsupportedOperationException if the list does not support {@link ListIterator#set}
+   */
+  public static <T extends PicoType<UUID>> void sortUuids(
+      @NonNull List<T> elements, boolean nullsFirst) {
+    sortElements(
+        elements,
+        nullsFirst,
+        PicoValues::requireMostSignificantBits,
+        PicoValues::requireLeastSignificantBits);
+  }
+
+  /**
+   * Returns comparator of PicoTypes by the natural order of their values, ordering {@code null}s
+   * and empty elements before the rest.
+   *
+   * @param <V> is the type of the values
+   * @param <T> is the type of the elements
+   * @return comparator accepting {@code null}s
+   */
+  @SuppressWarnings("unchecked")
+  public static <V extends Comparable<? super V>, T extends PicoType<V>>
+      @NonNull Comparator<@Nullable T> nullsFirst() {
+    return (Comparator<@Nullable T>) (Comparator<?>) NULLS_FIRST;
+  }
+
+  /**
+   * Returns comparator of PicoTypes by the natural order of their values, ordering {@code null}s
+   * and empty elements after the rest.
+   *
+   * @param <V> is the type of the values
+   * @param <T> is the type of the elements
+   * @return comparator accepting {@code null}s
+   */
+  @SuppressWarnings("unchecked")
+  public static <V extends Comparable<? super V>, T extends PicoType<V>>
+      @NonNull Comparator<@Nullable T> nullsLast() {
+    return (Comparator<@Nullable T>) (Comparator<?>) NULLS_LAST;
+  }
+
+  /**
+   * Compares the given elements.
+   *
+   * @param nullOrder result for an empty left and a present right element
+   */
+  private static int compare(
+      @Nullable PicoType<?> left, @Nullable PicoType<?> right, int nullOrder) {
+    if (left instanceof PrimitiveLongPicoType l
+        && right instanceof PrimitiveLongPicoType r
+        && l.isPresent()
+        && r.isPresent()) {
+      return Long.compare(l.orElse(0L), r.orElse(0L));
+    }
+    if (left instanceof PrimitiveIntegerPicoType l
+        && right instanceof PrimitiveIntegerPicoType r
+        && l.isPresent()
+        && r.isPresent()) {
+      return Integer.compare(l.orElse(0), r.orElse(0));
+    }
+    if (left instanceof PrimitiveDoublePicoType l
+        && right instanceof PrimitiveDoublePicoType r
+        && l.isPresent()
+        && r.isPresent()) {
+      return Double.compare(l.orElse(0.0), r.orElse(0.0));
+    }
+    if (left instanceof PrimitiveUuidPicoType l
+        && right instanceof PrimitiveUuidPicoType r
+        && l.isPresent()
+        && r.isPresent()) {
+      int result = Long.compare(l.mostSignificantBits(), r.mostSignificantBits());
+      return result != 0
+          ? result
+          : Long.compare(l.leastSignificantBits(), r.leastSignificantBits());
+    }
+
+    Object leftValue = left == null ? null : left.value();
+    Object rightValue = right == null ? null : right.value();
+    if (leftValue == null || rightValue == null) {
+      if (leftValue == rightValue) {
+        return 0;
+      }
+      return leftValue == null ? nullOrder : -nullOrder;
+    }
+    return compareValues(leftValue, rightValue);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static int compareValues(Object left, Object right) {
+    return ((Comparable) left).compareTo(right);
+  }
+
+  /**
+   * Sorts present elements by the given keys, then moves empty elements to the requested end.
+   *
+   * @param lowKey if not {@code null}, the elements are sorted by it first and then by the high key
+   */
+  private static <T extends PicoType<?>> void sortElements(
+      List<T> elements,
+      boolean nullsFirst,
+      ToLongFunction<? super T> highKey,
+      @Nullable ToLongFunction<? super T> lowKey) {
+    Objects.requireNonNull(elements, "Elements must not be null");
+    Object[] array = elements.toArray();
+
+    int[] order = new int[array.length];
+    int present = 0;
+    int empty = array.length;
+    for (int i = 0; i < array.length; i++) {
+      PicoType<?> element = (PicoType<?>) array[i];
+      if (element == null || element.isEmpty()) {
+        order[--empty] = i;
+      } else {
+        order[present++] = i;
+      }
+    }
+    // Empty elements were collected backwards
+    for (int i = present, j = array.length - 1; i < j; i++, j--) {
+      int index = order[i];
+      order[i] = order[j];
+      order[j] = index;
+    }
+
+    int[] sorted = Arrays.copyOf(order, present);
+    long[] keys = new long[present];
+    if (lowKey != null) {
+      fillKeys(keys, array, sorted, lowKey);
+      radixSort(keys, sorted);
+    }
+    fillKeys(keys, array, sorted, highKey);
+    radixSort(keys, sorted);
+
+    ListIterator<T> iterator = elements.listIterator();
+    int emptyCount = array.length - present;
+    if (nullsFirst) {
+      setAll(iterator, array, order, present, emptyCount);
+    }
+    setAll(iterator, array, sorted, 0, present);
+    if (!nullsFirst) {
+      setAll(iterator, array, order, present, emptyCount);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> void fillKeys(
+      long[] keys, Object[] array, int[] order, ToLongFunction<? super T> key) {
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = key.applyAsLong((T) array[order[i]]);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> void setAll(
+      ListIterator<T> iterator, Object[] array, int[] order, int from, int count) {
+    for (int i = from; i < from + count; i++) {
+      iterator.next();
+      iterator.set((T) array[order[i]]);
+    }
+  }
+
+  /** Maps int to non-negative long key of the same order. */
+  private static long intKey(int value) {
+    return (long) value - Integer.MIN_VALUE;
+  }
+
+  /**
+   * Maps double to long key of the order of {@link Double#compare(double, double)}, which is also
+   * the inverse of this mapping for raw bits.
+   */
+  private static long doubleKey(double value) {
+    return doubleKey(Double.doubleToLongBits(value));
+  }
+
+  private static long doubleKey(long bits) {
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  /**
+   * Sorts keys in signed order, one byte per pass starting from the least significant one. Passes
+   * in which all keys have the same digit are skipped.
+   *
+   * @param payload if not {@code null}, reordered together with the keys
+   */
+  private static void radixSort(long[] keys, int @Nullable [] payload) {
+    int length = keys.length;
+    if (length < 2) {
+      return;
+    }
+    int chunks =
+        length < PicoTypes.PARALLEL_THRESHOLD
+            ? 1
+            : Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, length / RADIX);
+    // Histograms do not depend on the order of keys, so they are counted once for all passes
+    int[][] histograms = histograms(keys, chunks);
+    int[][] counts = new int[chunks][];
+
+    long[] source = keys;
+    long[] target = new long[length];
+    int[] sourcePayload = payload;
+    int[] targetPayload = payload == null ? null : new int[length];
+    for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+      int[] histogram = histograms[shift / DIGIT_BITS];
+      if (histogram[digit(keys[0], shift)] == length) {
+        continue;
+      }
+
+      if (chunks == 1) {
+        counts[0] = histogram;
+        positions(counts);
+        scatter(source, target, sourcePayload, targetPayload, counts, shift, 0);
+      } else {
+        long[] from = source;
+        long[] to = target;
+        int[] fromPayload = sourcePayload;
+        int[] toPayload = targetPayload;
+        int currentShift = shift;
+        IntStream.range(0, chunks)
+            .parallel()
+            .forEach(chunk -> counts[chunk] = count(from, chunks, currentShift, chunk));
+        positions(counts);
+        IntStream.range(0, chunks)
+            .parallel()
+            .forEach(
+                chunk -> scatter(from, to, fromPayload, toPayload, counts, currentShift, chunk));
+      }
+
+      long[] swap = source;
+      source = target;
+      target = swap;
+      int[] swapPayload = sourcePayload;
+      sourcePayload = targetPayload;
+      targetPayload = swapPayload;
+    }
+
+    if (source != keys) {
+      System.arraycopy(source, 0, keys, 0, length);
+      if (payload != null && sourcePayload != null) {
+        System.arraycopy(sourcePayload, 0, payload, 0, length);
+      }
+    }
+  }
+
+  /** Counts every digit of the keys in a single pass over them. */
+  private static int[][] histograms(long[] keys, int chunks) {
+    if (chunks == 1) {
+      return histograms(keys, 0, keys.length);
+    }
+    return IntStream.range(0, chunks)
+        .parallel()
+        .mapToObj(
+            chunk ->
+                histograms(
+                    keys,
+                    chunkStart(keys.length, chunks, chunk),
+                    chunkEnd(keys.length, chunks, chunk)))
+        .reduce(
+            (left, right) -> {
+              for (int pass = 0; pass < left.length; pass++) {
+                for (int digit = 0; digit < RADIX; digit++) {
+                  left[pass][digit] += right[pass][digit];
+                }
+              }
+              return left;
+            })
+        .orElseThrow();
+  }
+
+  private static int[][] histograms(long[] keys, int from, int to) {
+    int[][] histograms = new int[Long.SIZE / DIGIT_BITS][RADIX];
+    for (int i = from; i < to; i++) {
+      long key = keys[i];
+      for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+        histograms[shift / DIGIT_BITS][digit(key, shift)]++;
+      }
+    }
+    return histograms;
+  }
+
+  /** Turns digit counts of chunks into the positions at which the chunks write their keys. */
+  private static void positions(int[][] counts) {
+    int position = 0;
+    for (int digit = 0; digit < RADIX; digit++) {
+      for (int[] chunkCounts : counts) {
+        int count = chunkCounts[digit];
+        chunkCounts[digit] = position;
+        position += count;
+      }
+    }
+  }
+
+  private static int[] count(long[] keys, int chunks, int shift, int chunk) {
+    int[] counts = new int[RADIX];
+    int end = chunkEnd(keys.length, chunks, chunk);
+    for (int i = chunkStart(keys.length, chunks, chunk); i < end; i++) {
+      counts[digit(keys[i], shift)]++;
+    }
+    return counts;
+  }
+
+  private static void scatter(
+      long[] source,
+      long[] target,
+      int @Nullable [] sourcePayload,
+      int @Nullable [] targetPayload,
+      int[][] counts,
+      int shift,
+      int chunk) {
+    int[] positions = counts[chunk];
+    int end = chunkEnd(source.length, counts.length, chunk);
+    if (sourcePayload == null || targetPayload == null) {
+      for (int i = chunkStart(source.length, counts.length, chunk); i < end; i++) {
+        target[positions[digit(source[i], shift)]++] = source[i];
+      }
+    } else {
+      for (int i = chunkStart(source.length, counts.length, chunk); i < end; i++) {
+        int position = positions[digit(source[i], shift)]++;
+        target[position] = source[i];
+        targetPayload[position] = sourcePayload[i];
+      }
+    }
+  }
+
+  private static int digit(long key, int shift) {
+    int digit = (int) (key >>> shift) & DIGIT_MASK;
+    return shift == Long.SIZE - DIGIT_BITS ? digit ^ SIGN_DIGIT : digit;
+  }
+
+  private static int chunkStart(int length, int chunks, int chunk) {
+    return (int) ((long) length * chunk / chunks);
+  }
+
+  private static int chunkEnd(int length, int chunks, int chunk) {
+    return (int) ((long) length * (chunk + 1) / chunks);
+  }
+}
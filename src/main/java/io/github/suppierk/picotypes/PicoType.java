@@ -23,6 +23,7 @@
 
 package io.github.suppierk.picotypes;
 
+import java.io.IOException;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
@@ -180,4 +181,75 @@ public interface PicoType<T> {
       throw Objects.requireNonNull(exceptionSupplier).get();
     }
   }
+
+  /**
+   * Appends the same representation as {@link Object#toString()} returns to the given builder,
+   * without creating intermediate strings where the value type allows it.
+   *
+   * <p>Values of {@link SecurePicoType} instances are replaced with {@link SecurePicoType#mask()}.
+   *
+   * @param builder to append to
+   * @return the given builder
+   * @throws NullPointerException if builder is {@code null}
+   */
+  default @NonNull StringBuilder appendTo(@NonNull StringBuilder builder) {
+    Objects.requireNonNull(builder, "Builder must not be null");
+    var metadata = PicoTypeMetadata.of(getClass());
+    builder.append(metadata.prefix());
+    if (metadata.secure()) {
+      builder.append(((SecurePicoType) this).mask());
+    } else {
+      appendValueTo(builder);
+    }
+    return builder.append('}');
+  }
+
+  /**
+   * Appends the same representation as {@link Object#toString()} returns to the given {@link
+   * Appendable}.
+   *
+   * <p>{@link StringBuilder} instances are written directly. Other implementations receive the
+   * class name, masks of {@link SecurePicoType} values and the closing brace directly, while the
+   * value is rendered by {@link #appendValueTo(StringBuilder)} into a temporary builder first, as
+   * {@link Appendable} cannot append primitives without converting them to characters.
+   *
+   * @param appendable to append to
+   * @param <A> is the type of the {@link Appendable}
+   * @return the given {@link Appendable}
+   * @throws IOException if appending fails
+   * @throws NullPointerException if appendable is {@code null}
+   * @see #appendTo(StringBuilder)
+   */
+  default <A extends Appendable> @NonNull A appendTo(@NonNull A appendable) throws IOException {
+    Objects.requireNonNull(appendable, "Appendable must not be null");
+    if (appendable instanceof StringBuilder builder) {
+      appendTo(builder);
+      return appendable;
+    }
+
+    var metadata = PicoTypeMetadata.of(getClass());
+    appendable.append(metadata.prefix());
+    if (metadata.secure()) {
+      appendable.append(((SecurePicoType) this).mask());
+    } else {
+      appendable.append(appendValueTo(new StringBuilder()));
+    }
+    appendable.append('}');
+    return appendable;
+  }
+
+  /**
+   * Appends the wrapped value, rendered the same way as in {@link Object#toString()}, to the given
+   * builder.
+   *
+   * <p>Prefer {@link #appendTo(StringBuilder)} for logging, since only it guarantees masking of
+   * {@link SecurePicoType} values.
+   *
+   * @param builder to append to
+   * @return the given builder
+   * @throws NullPointerException if builder is {@code null}
+   */
+  default @NonNull StringBuilder appendValueTo(@NonNull StringBuilder builder) {
+    return Objects.requireNonNull(builder, "Builder must not be null").append(value());
+  }
 }
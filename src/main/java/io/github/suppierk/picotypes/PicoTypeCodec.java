@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Binary encoding of PicoTypes, which reads and writes directly to {@link ByteBuffer}s.
+ *
+ * <p>Encoded form of each instance starts with a tag byte distinguishing {@code null} references,
+ * empty PicoTypes and present values, so that decoding gives back an equal instance. Buffer
+ * position advances by the number of bytes read or written; if an exception is thrown, the position
+ * is undefined.
+ *
+ * <p>Implementations are expected to be stateless and thread-safe. Built-in implementations are
+ * available in {@link PicoTypeCodecs}.
+ *
+ * @param <T> is the type of PicoTypes
+ */
+public interface PicoTypeCodec<T extends PicoType<?>> {
+  /**
+   * Returns exact number of bytes taken by the encoded form of the given instance.
+   *
+   * @param picoType to measure, can be {@code null}
+   * @return number of bytes
+   */
+  int encodedSize(@Nullable T picoType);
+
+  /**
+   * Writes encoded form of the given instance.
+   *
+   * @param picoType to encode, can be {@code null}
+   * @param buffer to write to
+   * @throws NullPointerException if buffer is {@code null}
+   * @throws BufferOverflowException if there is not enough space in the buffer
+   */
+  void encode(@Nullable T picoType, @NonNull ByteBuffer buffer);
+
+  /**
+   * Reads instance from its encoded form.
+   *
+   * @param buffer to read from
+   * @return decoded instance, or {@code null} if {@code null} was encoded
+   * @throws NullPointerException if buffer is {@code null}
+   * @throws BufferUnderflowException if the buffer ends before the encoded form
+   * @throws IllegalArgumentException if the encoded form is malformed
+   */
+  @Nullable T decode(@NonNull ByteBuffer buffer);
+
+  /**
+   * Writes encoded forms of all given instances one after another.
+   *
+   * @param picoTypes to encode, can contain {@code null} elements
+   * @param buffer to write to
+   * @throws NullPointerException if array or buffer is {@code null}
+   * @throws BufferOverflowException if there is not enough space in the buffer
+   */
+  default void encodeAll(T @NonNull [] picoTypes, @NonNull ByteBuffer buffer) {
+    encodeAll(
+        picoTypes, 0, Objects.requireNonNull(picoTypes, "Array must not be null").length, buffer);
+  }
+
+  /**
+   * Writes encoded forms of the given range of instances one after another.
+   *
+   * @param picoTypes to encode, can contain {@code null} elements
+   * @param offset of the first instance to encode
+   * @param length number of instances to encode
+   * @param buffer to write to
+   * @throws NullPointerException if array or buffer is {@code null}
+   * @throws IndexOutOfBoundsException if the range is out of array bounds
+   * @throws BufferOverflowException if there is not enough space in the buffer
+   */
+  default void encodeAll(
+      T @NonNull [] picoTypes, int offset, int length, @NonNull ByteBuffer buffer) {
+    Objects.requireNonNull(picoTypes, "Array must not be null");
+    Objects.requireNonNull(buffer, "Buffer must not be null");
+    Objects.checkFromIndexSize(offset, length, picoTypes.length);
+    for (int i = offset; i < offset + length; i++) {
+      encode(picoTypes[i], buffer);
+    }
+  }
+
+  /**
+   * Reads instances from their encoded forms into the given range of the array.
+   *
+   * @param buffer to read from
+   * @param target to store decoded instances in
+   * @param offset of the first instance to store
+   * @param length number of instances to read
+   * @throws NullPointerException if buffer or array is {@code null}
+   * @throws IndexOutOfBoundsException if the range is out of array bounds
+   * @throws BufferUnderflowException if the buffer ends before the encoded forms
+   * @throws IllegalArgumentException if any encoded form is malformed
+   */
+  default void decodeAll(@NonNull ByteBuffer buffer, T @NonNull [] target, int offset, int length) {
+    Objects.requireNonNull(buffer, "Buffer must not be null");
+    Objects.requireNonNull(target, "Array must not be null");
+    Objects.checkFromIndexSize(offset, length, target.length);
+    for (int i = offset; i < offset + length; i++) {
+      target[i] = decode(buffer);
+    }
+  }
+}
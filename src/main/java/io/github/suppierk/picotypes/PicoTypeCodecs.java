@@ -0,0 +1,705 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Built-in {@link PicoTypeCodec}s for base classes of this library.
+ *
+ * <p>Values are encoded as follows:
+ *
+ * <ul>
+ *   <li>{@link Integer} and {@link Long} - zig-zag encoded variable-length integers, taking from 1
+ *       to 5 and from 1 to 10 bytes respectively
+ *   <li>{@link Double} - 8 bytes
+ *   <li>{@link Boolean} - 1 byte
+ *   <li>{@link UUID} - 16 bytes holding most and least significant bits
+ *   <li>{@link BigInteger} - variable-length integer if the value fits into {@code long}, otherwise
+ *       length-prefixed two's complement bytes
+ *   <li>{@link BigDecimal} - variable-length scale followed by unscaled value encoded as {@link
+ *       BigInteger}
+ *   <li>{@link String} and {@link URI} - length-prefixed UTF-8 bytes
+ *   <li>passwords - length-prefixed raw bytes
+ * </ul>
+ *
+ * <p>Numeric, boolean and {@link UUID} codecs do not allocate apart from the decoded instance and
+ * the boxed value it wraps; codecs of primitive-backed variants avoid boxing as well. Arbitrary
+ * precision numbers and passwords allocate intermediate arrays, since their public API does not
+ * expose the underlying representation.
+ */
+public final class PicoTypeCodecs {
+  private static final byte NULL_TAG = 0;
+  private static final byte EMPTY_TAG = 1;
+  private static final byte PRESENT_TAG = 2;
+
+  /** Marks {@link BigInteger} values which are encoded as variable-length {@code long}. */
+  private static final int COMPACT_HEADER = 0;
+
+  private PicoTypeCodecs() {
+    // Utility class
+  }
+
+  /**
+   * Returns codec of {@link Boolean}-based PicoTypes.
+   *
+   * @param factory to create instances from decoded values, including {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if factory is {@code null}
+   */
+  public static <T extends PicoType<Boolean>> @NonNull PicoTypeCodec<T> ofBoolean(
+      @NonNull Function<? super Boolean, ? extends T> factory) {
+    return new ValueCodec<T, Boolean>(factory) {
+      @Override
+      int valueSize(T picoType) {
+        return 1;
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        buffer.put(Objects.requireNonNull(picoType.value()) ? (byte) 1 : (byte) 0);
+      }
+
+      @Override
+      Boolean decodeValue(ByteBuffer buffer) {
+        return switch (buffer.get()) {
+          case 0 -> Boolean.FALSE;
+          case 1 -> Boolean.TRUE;
+          default -> throw new IllegalArgumentException("Malformed boolean value");
+        };
+      }
+    };
+  }
+
+  /**
+   * Returns codec of {@link Integer}-based PicoTypes.
+   *
+   * @param factory to create instances from decoded values, including {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if factory is {@code null}
+   */
+  public static <T extends PicoType<Integer>> @NonNull PicoTypeCodec<T> ofInteger(
+      @NonNull Function<? super Integer, ? extends T> factory) {
+    return new ValueCodec<T, Integer>(factory) {
+      @Override
+      int valueSize(T picoType) {
+        return Varints.size(Varints.zigZag(PicoValues.requireInt(picoType)));
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        Varints.put(buffer, Varints.zigZag(PicoValues.requireInt(picoType)));
+      }
+
+      @Override
+      Integer decodeValue(ByteBuffer buffer) {
+        return Varints.unZigZag(Varints.getInt(buffer));
+      }
+    };
+  }
+
+  /**
+   * Returns codec of {@link PrimitiveIntegerPicoType}s, which does not box decoded values.
+   *
+   * @param factory to create instances from decoded values
+   * @param emptyFactory to create empty instances
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if any factory is {@code null}
+   */
+  public static <T extends PrimitiveIntegerPicoType> @NonNull PicoTypeCodec<T> ofPrimitiveInteger(
+      @NonNull IntFunction<? extends T> factory, @NonNull Supplier<? extends T> emptyFactory) {
+    Objects.requireNonNull(factory, "Factory must not be null");
+    return new TaggedCodec<T>(emptyFactory) {
+      @Override
+      int valueSize(T picoType) {
+        return Varints.size(Varints.zigZag(picoType.intValue()));
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        Varints.put(buffer, Varints.zigZag(picoType.intValue()));
+      }
+
+      @Override
+      T decodePresent(ByteBuffer buffer) {
+        return factory.apply(Varints.unZigZag(Varints.getInt(buffer)));
+      }
+    };
+  }
+
+  /**
+   * Returns codec of {@link Long}-based PicoTypes.
+   *
+   * @param factory to create instances from decoded values, including {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if factory is {@code null}
+   */
+  public static <T extends PicoType<Long>> @NonNull PicoTypeCodec<T> ofLong(
+      @NonNull Function<? super Long, ? extends T> factory) {
+    return new ValueCodec<T, Long>(factory) {
+      @Override
+      int valueSize(T picoType) {
+        return Varints.size(Varints.zigZag(PicoValues.requireLong(picoType)));
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        Varints.put(buffer, Varints.zigZag(PicoValues.requireLong(picoType)));
+      }
+
+      @Override
+      Long decodeValue(ByteBuffer buffer) {
+        return Varints.unZigZag(Varints.getLong(buffer));
+      }
+    };
+  }
+
+  /**
+   * Returns codec of {@link PrimitiveLongPicoType}s, which does not box decoded values.
+   *
+   * @param factory to create instances from decoded values
+   * @param emptyFactory to create empty instances
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if any factory is {@code null}
+   */
+  public static <T extends PrimitiveLongPicoType> @NonNull PicoTypeCodec<T> ofPrimitiveLong(
+      @NonNull LongFunction<? extends T> factory, @NonNull Supplier<? extends T> emptyFactory) {
+    Objects.requireNonNull(factory, "Factory must not be null");
+    return new TaggedCodec<T>(emptyFactory) {
+      @Override
+      int valueSize(T picoType) {
+        return Varints.size(Varints.zigZag(picoType.longValue()));
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        Varints.put(buffer, Varints.zigZag(picoType.longValue()));
+      }
+
+      @Override
+      T decodePresent(ByteBuffer buffer) {
+        return factory.apply(Varints.unZigZag(Varints.getLong(buffer)));
+      }
+    };
+  }
+
+  /**
+   * Returns codec of {@link Double}-based PicoTypes.
+   *
+   * @param factory to create instances from decoded values, including {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if factory is {@code null}
+   */
+  public static <T extends PicoType<Double>> @NonNull PicoTypeCodec<T> ofDouble(
+      @NonNull Function<? super Double, ? extends T> factory) {
+    return new ValueCodec<T, Double>(factory) {
+      @Override
+      int valueSize(T picoType) {
+        return Double.BYTES;
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        buffer.putDouble(Objects.requireNonNull(picoType.value()));
+      }
+
+      @Override
+      Double decodeValue(ByteBuffer buffer) {
+        return buffer.getDouble();
+      }
+    };
+  }
+
+  /**
+   * Returns codec of {@link PrimitiveDoublePicoType}s, which does not box decoded values.
+   *
+   * @param factory to create instances from decoded values
+   * @param emptyFactory to create empty instances
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if any factory is {@code null}
+   */
+  public static <T extends PrimitiveDoublePicoType> @NonNull PicoTypeCodec<T> ofPrimitiveDouble(
+      @NonNull DoubleFunction<? extends T> factory, @NonNull Supplier<? extends T> emptyFactory) {
+    Objects.requireNonNull(factory, "Factory must not be null");
+    return new TaggedCodec<T>(emptyFactory) {
+      @Override
+      int valueSize(T picoType) {
+        return Double.BYTES;
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        buffer.putDouble(picoType.doubleValue());
+      }
+
+      @Override
+      T decodePresent(ByteBuffer buffer) {
+        return factory.apply(buffer.getDouble());
+      }
+    };
+  }
+
+  /**
+   * Returns codec of {@link BigInteger}-based PicoTypes.
+   *
+   * @param factory to create instances from decoded values, including {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if factory is {@code null}
+   */
+  public static <T extends PicoType<BigInteger>> @NonNull PicoTypeCodec<T> ofBigInteger(
+      @NonNull Function<? super BigInteger, ? extends T> factory) {
+    return new ValueCodec<T, BigInteger>(factory) {
+      @Override
+      int valueSize(T picoType) {
+        return bigIntegerSize(Objects.requireNonNull(picoType.value()));
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        putBigInteger(buffer, Objects.requireNonNull(picoType.value()));
+      }
+
+      @Override
+      BigInteger decodeValue(ByteBuffer buffer) {
+        int length = Varints.getInt(buffer);
+        return length == COMPACT_HEADER
+            ? BigInteger.valueOf(Varints.unZigZag(Varints.getLong(buffer)))
+            : getBigInteger(buffer, length);
+      }
+    };
+  }
+
+  /**
+   * Returns codec of {@link BigDecimal}-based PicoTypes.
+   *
+   * @param factory to create instances from decoded values, including {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if factory is {@code null}
+   */
+  public static <T extends PicoType<BigDecimal>> @NonNull PicoTypeCodec<T> ofBigDecimal(
+      @NonNull Function<? super BigDecimal, ? extends T> factory) {
+    return new ValueCodec<T, BigDecimal>(factory) {
+      @Override
+      int valueSize(T picoType) {
+        BigDecimal value = Objects.requireNonNull(picoType.value());
+        return Varints.size(Varints.zigZag(value.scale())) + bigIntegerSize(value.unscaledValue());
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        BigDecimal value = Objects.requireNonNull(picoType.value());
+        Varints.put(buffer, Varints.zigZag(value.scale()));
+        putBigInteger(buffer, value.unscaledValue());
+      }
+
+      @Override
+      BigDecimal decodeValue(ByteBuffer buffer) {
+        int scale = Varints.unZigZag(Varints.getInt(buffer));
+        int length = Varints.getInt(buffer);
+        return length == COMPACT_HEADER
+            ? BigDecimal.valueOf(Varints.unZigZag(Varints.getLong(buffer)), scale)
+            : new BigDecimal(getBigInteger(buffer, length), scale);
+      }
+    };
+  }
+
+  /**
+   * Returns codec of {@link String}-based PicoTypes.
+   *
+   * @param factory to create instances from decoded values, including {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if factory is {@code null}
+   */
+  public static <T extends PicoType<String>> @NonNull PicoTypeCodec<T> ofString(
+      @NonNull Function<? super String, ? extends T> factory) {
+    return new ValueCodec<T, String>(factory) {
+      @Override
+      int valueSize(T picoType) {
+        return stringSize(Objects.requireNonNull(picoType.value()));
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        putString(buffer, Objects.requireNonNull(picoType.value()));
+      }
+
+      @Override
+      String decodeValue(ByteBuffer buffer) {
+        return getString(buffer);
+      }
+    };
+  }
+
+  /**
+   * Returns codec of {@link URI}-based PicoTypes.
+   *
+   * @param factory to create instances from decoded values, including {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if factory is {@code null}
+   */
+  public static <T extends PicoType<URI>> @NonNull PicoTypeCodec<T> ofUri(
+      @NonNull Function<? super URI, ? extends T> factory) {
+    return new ValueCodec<T, URI>(factory) {
+      @Override
+      int valueSize(T picoType) {
+        return stringSize(Objects.requireNonNull(picoType.value()).toString());
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        putString(buffer, Objects.requireNonNull(picoType.value()).toString());
+      }
+
+      @Override
+      URI decodeValue(ByteBuffer buffer) {
+        return URI.create(getString(buffer));
+      }
+    };
+  }
+
+  /**
+   * Returns codec of {@link UUID}-based PicoTypes.
+   *
+   * @param factory to create instances from decoded values, including {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if factory is {@code null}
+   */
+  public static <T extends PicoType<UUID>> @NonNull PicoTypeCodec<T> ofUuid(
+      @NonNull Function<? super UUID, ? extends T> factory) {
+    return new ValueCodec<T, UUID>(factory) {
+      @Override
+      int valueSize(T picoType) {
+        return 2 * Long.BYTES;
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        buffer.putLong(PicoValues.requireMostSignificantBits(picoType));
+        buffer.putLong(PicoValues.requireLeastSignificantBits(picoType));
+      }
+
+      @Override
+      UUID decodeValue(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+      }
+    };
+  }
+
+  /**
+   * Returns codec of {@link PrimitiveUuidPicoType}s, which does not create {@link UUID} instances.
+   *
+   * @param factory to create instances from decoded values
+   * @param emptyFactory to create empty instances
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if any factory is {@code null}
+   */
+  public static <T extends PrimitiveUuidPicoType> @NonNull PicoTypeCodec<T> ofPrimitiveUuid(
+      @NonNull UuidBitsFunction<? extends T> factory, @NonNull Supplier<? extends T> emptyFactory) {
+    Objects.requireNonNull(factory, "Factory must not be null");
+    return new TaggedCodec<T>(emptyFactory) {
+      @Override
+      int valueSize(T picoType) {
+        return 2 * Long.BYTES;
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        buffer.putLong(picoType.mostSignificantBits());
+        buffer.putLong(picoType.leastSignificantBits());
+      }
+
+      @Override
+      T decodePresent(ByteBuffer buffer) {
+        return factory.apply(buffer.getLong(), buffer.getLong());
+      }
+    };
+  }
+
+  /**
+   * Returns codec of password PicoTypes.
+   *
+   * <p>Passwords are encoded without intermediate copies, and the array decoded from the buffer is
+   * wiped once the factory returns.
+   *
+   * @param factory to create instances from decoded values, including {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if factory is {@code null}
+   */
+  public static <T extends PasswordPicoType> @NonNull PicoTypeCodec<T> ofPassword(
+      @NonNull Function<? super byte[], ? extends T> factory) {
+    Objects.requireNonNull(factory, "Factory must not be null");
+    return new TaggedCodec<T>(() -> factory.apply(null)) {
+      @Override
+      int valueSize(T picoType) {
+        int length = picoType.withValue(value -> Objects.requireNonNull(value).remaining());
+        return Varints.size(length) + length;
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        picoType.withValue(
+            value -> {
+              ByteBuffer bytes = Objects.requireNonNull(value);
+              Varints.put(buffer, bytes.remaining());
+              return buffer.put(bytes);
+            });
+      }
+
+      @Override
+      T decodePresent(ByteBuffer buffer) {
+        byte[] value = new byte[requireLength(buffer, Varints.getInt(buffer))];
+        try {
+          buffer.get(value);
+          return factory.apply(value);
+        } finally {
+          Arrays.fill(value, (byte) 0);
+        }
+      }
+    };
+  }
+
+  /**
+   * Returns codec of UTF-8 byte-backed {@link String} PicoTypes.
+   *
+   * <p>The wire format is the same as of {@link #ofString(Function)}, but values are neither
+   * encoded nor decoded: bytes are written as they are and the factory receives a slice of the
+   * buffer holding the encoded value.
+   *
+   * @param factory to create instances from encoded values, including {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if factory is {@code null}
+   */
+  public static <T extends Utf8StringPicoType> @NonNull PicoTypeCodec<T> ofUtf8String(
+      @NonNull Function<? super ByteBuffer, ? extends T> factory) {
+    Objects.requireNonNull(factory, "Factory must not be null");
+    return new TaggedCodec<T>(() -> factory.apply(null)) {
+      @Override
+      int valueSize(T picoType) {
+        int length = picoType.utf8Length();
+        return Varints.size(length) + length;
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        Varints.put(buffer, picoType.utf8Length());
+        picoType.writeTo(buffer);
+      }
+
+      @Override
+      T decodePresent(ByteBuffer buffer) {
+        int length = requireLength(buffer, Varints.getInt(buffer));
+        ByteBuffer value = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return factory.apply(value);
+      }
+    };
+  }
+
+  /**
+   * Returns codec of text-backed {@link URI} PicoTypes.
+   *
+   * <p>The wire format is the same as of {@link #ofUri(Function)}, but values are neither parsed
+   * nor formatted: the text is written as it is and the factory receives the decoded text.
+   *
+   * @param factory to create instances from decoded text, including {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new codec
+   * @throws NullPointerException if factory is {@code null}
+   */
+  public static <T extends TextUriPicoType> @NonNull PicoTypeCodec<T> ofTextUri(
+      @NonNull Function<? super String, ? extends T> factory) {
+    return new ValueCodec<T, String>(factory) {
+      @Override
+      int valueSize(T picoType) {
+        return stringSize(Objects.requireNonNull(picoType.text()));
+      }
+
+      @Override
+      void encodeValue(T picoType, ByteBuffer buffer) {
+        putString(buffer, Objects.requireNonNull(picoType.text()));
+      }
+
+      @Override
+      String decodeValue(ByteBuffer buffer) {
+        return getString(buffer);
+      }
+    };
+  }
+
+  private static int bigIntegerSize(BigInteger value) {
+    if (value.bitLength() < Long.SIZE) {
+      return 1 + Varints.size(Varints.zigZag(value.longValue()));
+    }
+    int length = value.bitLength() / Byte.SIZE + 1;
+    return Varints.size(length) + length;
+  }
+
+  private static void putBigInteger(ByteBuffer buffer, BigInteger value) {
+    if (value.bitLength() < Long.SIZE) {
+      Varints.put(buffer, COMPACT_HEADER);
+      Varints.put(buffer, Varints.zigZag(value.longValue()));
+    } else {
+      byte[] bytes = value.toByteArray();
+      Varints.put(buffer, bytes.length);
+      buffer.put(bytes);
+    }
+  }
+
+  private static BigInteger getBigInteger(ByteBuffer buffer, int length) {
+    requireLength(buffer, length);
+    BigInteger result;
+    if (buffer.hasArray()) {
+      result = new BigInteger(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+      buffer.position(buffer.position() + length);
+    } else {
+      byte[] bytes = new byte[length];
+      buffer.get(bytes);
+      result = new BigInteger(bytes);
+    }
+    return result;
+  }
+
+  private static int stringSize(String value) {
+    int length = Utf8.encodedLength(value);
+    return Varints.size(length) + length;
+  }
+
+  private static void putString(ByteBuffer buffer, String value) {
+    Varints.put(buffer, Utf8.encodedLength(value));
+    Utf8.encode(value, buffer);
+  }
+
+  private static String getString(ByteBuffer buffer) {
+    return Utf8.decode(buffer, requireLength(buffer, Varints.getInt(buffer)));
+  }
+
+  private static int requireLength(ByteBuffer buffer, int length) {
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException("Malformed length: " + Integer.toUnsignedString(length));
+    }
+    return length;
+  }
+
+  /**
+   * Handles tag byte distinguishing {@code null}, empty and present PicoTypes.
+   *
+   * @param <T> is the type of PicoTypes
+   */
+  private abstract static class TaggedCodec<T extends PicoType<?>> implements PicoTypeCodec<T> {
+    private final Supplier<? extends T> emptyFactory;
+
+    private TaggedCodec(Supplier<? extends T> emptyFactory) {
+      this.emptyFactory = Objects.requireNonNull(emptyFactory, "Empty factory must not be null");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int encodedSize(@Nullable T picoType) {
+      return picoType == null || picoType.isEmpty() ? 1 : 1 + valueSize(picoType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void encode(@Nullable T picoType, @NonNull ByteBuffer buffer) {
+      Objects.requireNonNull(buffer, "Buffer must not be null");
+      if (picoType == null) {
+        buffer.put(NULL_TAG);
+      } else if (picoType.isEmpty()) {
+        buffer.put(EMPTY_TAG);
+      } else {
+        buffer.put(PRESENT_TAG);
+        encodeValue(picoType, buffer);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final @Nullable T decode(@NonNull ByteBuffer buffer) {
+      byte tag = Objects.requireNonNull(buffer, "Buffer must not be null").get();
+      return switch (tag) {
+        case NULL_TAG -> null;
+        case EMPTY_TAG -> emptyFactory.get();
+        case PRESENT_TAG -> decodePresent(buffer);
+        default -> throw new IllegalArgumentException("Malformed tag: " + tag);
+      };
+    }
+
+    abstract int valueSize(T picoType);
+
+    abstract void encodeValue(T picoType, ByteBuffer buffer);
+
+    abstract T decodePresent(ByteBuffer buffer);
+  }
+
+  /**
+   * Creates instances by passing decoded values to a factory, which also accepts {@code null}.
+   *
+   * @param <T> is the type of PicoTypes
+   * @param <V> is the type of the values
+   */
+  private abstract static class ValueCodec<T extends PicoType<?>, V> extends TaggedCodec<T> {
+    private final Function<? super V, ? extends T> factory;
+
+    private ValueCodec(Function<? super V, ? extends T> factory) {
+      super(() -> factory.apply(null));
+      this.factory = Objects.requireNonNull(factory, "Factory must not be null");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final T decodePresent(ByteBuffer buffer) {
+      return factory.apply(decodeValue(buffer));
+    }
+
+    abstract V decodeValue(ByteBuffer buffer);
+  }
+}
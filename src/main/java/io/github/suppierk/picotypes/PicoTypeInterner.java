@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Thread-safe interner returning a canonical instance for every distinct {@link PicoType}.
+ *
+ * <p>Since {@code equals} of every base class takes the exact subclass into account, instances of
+ * different subclasses wrapping the same value are interned separately. Canonical instances are
+ * referenced weakly and are released once they are no longer used outside of the interner.
+ *
+ * <p>Entries are spread across independently locked segments to keep contention low.
+ */
+public final class PicoTypeInterner {
+  private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+  private static final int MAX_CONCURRENCY_LEVEL = 1 << 16;
+
+  private final Segment[] segments;
+  private final LongAdder hits;
+  private final LongAdder misses;
+
+  /** Creates interner with default concurrency level. */
+  public PicoTypeInterner() {
+    this(DEFAULT_CONCURRENCY_LEVEL);
+  }
+
+  /**
+   * Creates interner split into the given number of segments.
+   *
+   * @param concurrencyLevel expected number of threads interning at the same time, rounded up to
+   *     the next power of two
+   * @throws IllegalArgumentException if concurrency level is not positive
+   */
+  public PicoTypeInterner(int concurrencyLevel) {
+    if (concurrencyLevel <= 0) {
+      throw new IllegalArgumentException("Concurrency level must be positive");
+    }
+
+    int segmentCount =
+        Integer.highestOneBit(Math.min(concurrencyLevel, MAX_CONCURRENCY_LEVEL) * 2 - 1);
+    this.segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      this.segments[i] = new Segment();
+    }
+
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+  }
+
+  /**
+   * Returns the canonical instance equal to the given one.
+   *
+   * <p>If there is no such instance yet, the given instance becomes canonical.
+   *
+   * @param instance to look up
+   * @param <T> is the type of the instance
+   * @return canonical instance, which is either the given instance or an equal one of the same
+   *     class
+   * @throws NullPointerException if instance is {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends PicoType<?>> @NonNull T intern(@NonNull T instance) {
+    Objects.requireNonNull(instance, "Cannot intern null instance");
+
+    var segment = segmentFor(instance);
+    synchronized (segment) {
+      var reference = segment.entries.get(instance);
+      var canonical = reference == null ? null : reference.get();
+
+      if (canonical != null && canonical.getClass() == instance.getClass()) {
+        hits.increment();
+        return (T) canonical;
+      }
+
+      segment.entries.put(instance, new WeakReference<>(instance));
+    }
+
+    misses.increment();
+    return instance;
+  }
+
+  /**
+   * Returns the number of canonical instances which were not yet released.
+   *
+   * @return approximate number of interned instances
+   */
+  public int size() {
+    int size = 0;
+    for (var segment : segments) {
+      synchronized (segment) {
+        size += segment.entries.size();
+      }
+    }
+    return size;
+  }
+
+  /** Removes all canonical instances, statistics are kept intact. */
+  public void clear() {
+    for (var segment : segments) {
+      synchronized (segment) {
+        segment.entries.clear();
+      }
+    }
+  }
+
+  /**
+   * Returns statistics gathered since this interner was created.
+   *
+   * <p>Instances released by the garbage collector are not counted as evictions.
+   *
+   * @return snapshot of current statistics
+   */
+  public @NonNull PicoCacheStats stats() {
+    return new PicoCacheStats(hits.sum(), misses.sum(), 0L);
+  }
+
+  private Segment segmentFor(Object instance) {
+    int hash = instance.hashCode();
+    hash ^= hash >>> 16;
+    return segments[hash & (segments.length - 1)];
+  }
+
+  private static final class Segment {
+    private final WeakHashMap<PicoType<?>, WeakReference<PicoType<?>>> entries =
+        new WeakHashMap<>();
+  }
+}
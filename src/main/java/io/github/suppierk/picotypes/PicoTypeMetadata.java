@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+/** Per-class data used to render PicoTypes, computed once for each class. */
+final class PicoTypeMetadata {
+  private static final ClassValue<PicoTypeMetadata> METADATA =
+      new ClassValue<>() {
+        @Override
+        protected PicoTypeMetadata computeValue(Class<?> type) {
+          return new PicoTypeMetadata(type);
+        }
+      };
+
+  private final String prefix;
+  private final boolean secure;
+
+  private PicoTypeMetadata(Class<?> type) {
+    this.prefix = type.getSimpleName() + "{value=";
+    this.secure = SecurePicoType.class.isAssignableFrom(type);
+  }
+
+  /**
+   * Returns metadata of the given class.
+   *
+   * @param type of the PicoType
+   * @return cached metadata
+   */
+  static PicoTypeMetadata of(Class<?> type) {
+    return METADATA.get(type);
+  }
+
+  /**
+   * Returns beginning of the string representation, such as <code>OrderId{value=</code>.
+   *
+   * @return string representation prefix
+   */
+  String prefix() {
+    return prefix;
+  }
+
+  /**
+   * Returns {@code true} if the class implements {@link SecurePicoType}.
+   *
+   * @return {@code true} if the value must be masked
+   */
+  boolean secure() {
+    return secure;
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Size-bounded, thread-safe cache of parsed {@link PicoType} instances, keyed by the target class
+ * and the input text.
+ *
+ * <p>Lookups of cached values are lock-free. When the cache is full, a new value is admitted only
+ * if it was requested more often recently than a victim sampled from the least frequently used
+ * residents, so that one-off scan traffic cannot flush hot entries.
+ *
+ * <p>Concurrent misses of the same text may invoke the parser more than once, in which case only
+ * one of the results is cached.
+ */
+public final class PicoTypeParseCache {
+  private static final int SAMPLE_SIZE = 8;
+
+  private final int maximumSize;
+  private final ConcurrentHashMap<Key, Entry> entries;
+  private final FrequencySketch sketch;
+  private final Entry[] residents;
+  private int residentCount;
+
+  private final LongAdder hits;
+  private final LongAdder misses;
+  private final LongAdder evictions;
+
+  /**
+   * Creates cache holding at most the given number of instances.
+   *
+   * @param maximumSize maximum number of cached instances
+   * @throws IllegalArgumentException if maximum size is not positive
+   */
+  public PicoTypeParseCache(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("Maximum size must be positive");
+    }
+
+    this.maximumSize = maximumSize;
+    this.entries = new ConcurrentHashMap<>();
+    this.sketch = new FrequencySketch(maximumSize);
+    this.residents = new Entry[maximumSize];
+
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.evictions = new LongAdder();
+  }
+
+  /**
+   * Returns cached instance of the given class for the given text, or parses and possibly caches a
+   * new one.
+   *
+   * @param type of the instance, which is a part of the cache key
+   * @param text to parse, which is a part of the cache key
+   * @param parser to create an instance from text on a cache miss
+   * @param <T> is the type of the instance
+   * @return cached or newly parsed instance
+   * @throws NullPointerException if any argument is {@code null} or parser returned {@code null}
+   */
+  public <T extends PicoType<?>> @NonNull T parse(
+      @NonNull Class<T> type,
+      @NonNull String text,
+      @NonNull Function<? super String, ? extends T> parser) {
+    var key = new Key(Objects.requireNonNull(type), Objects.requireNonNull(text));
+    int hash = spread(key.hashCode());
+    sketch.increment(hash);
+
+    var cached = entries.get(key);
+    if (cached != null) {
+      hits.increment();
+      return type.cast(cached.value);
+    }
+
+    misses.increment();
+    T parsed = Objects.requireNonNull(Objects.requireNonNull(parser).apply(text));
+    admit(new Entry(key, hash, parsed));
+    return parsed;
+  }
+
+  /**
+   * Returns the number of cached instances.
+   *
+   * @return number of cached instances
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /** Removes all cached instances, statistics are kept intact. */
+  public synchronized void clear() {
+    entries.clear();
+    for (int i = 0; i < residentCount; i++) {
+      residents[i] = null;
+    }
+    residentCount = 0;
+  }
+
+  /**
+   * Returns statistics gathered since this cache was created.
+   *
+   * <p>Rejecting a new value to protect more frequently used ones is not counted as an eviction.
+   *
+   * @return snapshot of current statistics
+   */
+  public @NonNull PicoCacheStats stats() {
+    return new PicoCacheStats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  private synchronized void admit(Entry candidate) {
+    if (entries.containsKey(candidate.key)) {
+      return;
+    }
+
+    if (residentCount < maximumSize) {
+      candidate.index = residentCount;
+      residents[residentCount++] = candidate;
+      entries.put(candidate.key, candidate);
+      return;
+    }
+
+    var victim = sampleVictim();
+    if (sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash)) {
+      return;
+    }
+
+    entries.remove(victim.key);
+    candidate.index = victim.index;
+    residents[victim.index] = candidate;
+    entries.put(candidate.key, candidate);
+    evictions.increment();
+  }
+
+  private Entry sampleVictim() {
+    var random = ThreadLocalRandom.current();
+
+    Entry victim = Objects.requireNonNull(residents[random.nextInt(residentCount)]);
+    int victimFrequency = sketch.frequency(victim.hash);
+    for (int i = 1; i < SAMPLE_SIZE; i++) {
+      Entry sample = Objects.requireNonNull(residents[random.nextInt(residentCount)]);
+      int sampleFrequency = sketch.frequency(sample.hash);
+      if (sampleFrequency < victimFrequency) {
+        victim = sample;
+        victimFrequency = sampleFrequency;
+      }
+    }
+    return victim;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private record Key(Class<?> type, String text) {}
+
+  private static final class Entry {
+    private final Key key;
+    private final int hash;
+    private final Object value;
+    private int index;
+
+    private Entry(Key key, int hash, Object value) {
+      this.key = key;
+      this.hash = hash;
+      this.value = value;
+    }
+  }
+}
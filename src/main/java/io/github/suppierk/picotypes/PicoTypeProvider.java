@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Describes single PicoType subclass, allowing frameworks to register PicoTypes without classpath
+ * scanning or reflection.
+ *
+ * <p>Providers are generated for {@link PicoId} declarations and listed in {@code
+ * META-INF/services}, so that all of them can be discovered with {@link java.util.ServiceLoader}:
+ *
+ * <pre>{@code
+ * for (PicoTypeProvider<?, ?> provider : ServiceLoader.load(PicoTypeProvider.class)) {
+ *   registry.register(provider.type(), provider.factory());
+ * }
+ * }</pre>
+ *
+ * @param <V> is the type of the wrapped value
+ * @param <T> is the type of PicoType
+ */
+public interface PicoTypeProvider<V, T extends PicoType<V>> {
+  /**
+   * Returns class of the PicoType.
+   *
+   * @return PicoType class
+   */
+  @NonNull Class<T> type();
+
+  /**
+   * Returns class of the value wrapped by the PicoType.
+   *
+   * @return value class
+   */
+  @NonNull Class<V> valueType();
+
+  /**
+   * Returns factory creating PicoTypes from the values they wrap, including {@code null}.
+   *
+   * @return factory of the PicoType
+   */
+  @NonNull Function<V, T> factory();
+
+  /**
+   * Returns binary codec of the PicoType.
+   *
+   * @return codec of the PicoType
+   */
+  @NonNull PicoTypeCodec<T> codec();
+}
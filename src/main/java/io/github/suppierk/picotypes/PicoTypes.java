@@ -0,0 +1,511 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Creates instances of PicoType subclasses from raw values without reflection on the hot path.
+ *
+ * <p>Factories are generated once per class with {@link LambdaMetafactory} from the constructor
+ * accepting the wrapped value and are cached afterward, so calling them costs about the same as
+ * calling the constructor directly. Constructors may have any visibility, as long as the package of
+ * the class is open to this library. If a lambda cannot be generated, factories fall back to
+ * invoking a {@link MethodHandle} of the same constructor.
+ *
+ * <p>Factories of {@link Boolean}, {@link Integer} and {@link Long}-based classes return shared
+ * instances for {@code true}, {@code false}, empty values and small values, by default from {@code
+ * -128} to {@code 127}, which are created on first use. The range can be changed with {@code
+ * io.github.suppierk.picotypes.flyweights.low} and {@code
+ * io.github.suppierk.picotypes.flyweights.high} system properties, and the upper bound lower than
+ * the lower one turns sharing of integral values off. Instances of such classes must therefore be
+ * immutable and must not be compared by identity.
+ *
+ * <p>Bulk methods wrap and unwrap values in parallel using common {@link
+ * java.util.concurrent.ForkJoinPool} once the number of values reaches a threshold.
+ */
+public final class PicoTypes {
+  /** Number of values from which bulk methods process them in parallel. */
+  static final int PARALLEL_THRESHOLD = 1 << 14;
+
+  private static final MethodType FUNCTION = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType LONG_FUNCTION = MethodType.methodType(Object.class, long.class);
+  private static final MethodType INT_FUNCTION = MethodType.methodType(Object.class, int.class);
+  private static final MethodType UUID_BITS_FUNCTION =
+      MethodType.methodType(Object.class, long.class, long.class);
+
+  private static final ClassValue<Factories> FACTORIES =
+      new ClassValue<>() {
+        @Override
+        protected Factories computeValue(Class<?> type) {
+          return Factories.of(type);
+        }
+      };
+
+  private PicoTypes() {
+    // Utility class
+  }
+
+  /**
+   * Returns factory creating instances of the given class from values they wrap.
+   *
+   * <p>Classes having only primitive constructors, such as {@code (long)}, are supported as well,
+   * but their factories reject {@code null} values. {@link TextUriPicoType}s are created from text
+   * with {@link TextUriPicoType#fromUri(Function, java.net.URI)}.
+   *
+   * @param type of PicoTypes to create
+   * @param <V> is the type of the wrapped value
+   * @param <T> is the type of PicoTypes
+   * @return cached factory of the given class
+   * @throws NullPointerException if type is {@code null}
+   * @throws IllegalArgumentException if the class is abstract, inaccessible or has no constructor
+   *     accepting its value
+   */
+  @SuppressWarnings("unchecked")
+  public static <V, T extends PicoType<V>> @NonNull Function<V, T> factory(@NonNull Class<T> type) {
+    var factories = FACTORIES.get(Objects.requireNonNull(type, "type"));
+    return (Function<V, T>) (Function<?, ?>) factories.boxed;
+  }
+
+  /**
+   * Returns factory creating instances of the given {@link Long}-based class from {@code long}
+   * values, which prefers constructor accepting {@code long} to avoid boxing.
+   *
+   * @param type of PicoTypes to create
+   * @param <T> is the type of PicoTypes
+   * @return cached factory of the given class
+   * @throws NullPointerException if type is {@code null}
+   * @throws IllegalArgumentException if the class is abstract, inaccessible, has no constructor
+   *     accepting its value or does not wrap {@link Long}
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends PicoType<Long>> @NonNull LongFunction<T> longFactory(
+      @NonNull Class<T> type) {
+    var factories = FACTORIES.get(Objects.requireNonNull(type, "type"));
+    return (LongFunction<T>) requireFactory(factories.longs, type, Long.class);
+  }
+
+  /**
+   * Returns factory creating instances of the given {@link Integer}-based class from {@code int}
+   * values, which prefers constructor accepting {@code int} to avoid boxing.
+   *
+   * @param type of PicoTypes to create
+   * @param <T> is the type of PicoTypes
+   * @return cached factory of the given class
+   * @throws NullPointerException if type is {@code null}
+   * @throws IllegalArgumentException if the class is abstract, inaccessible, has no constructor
+   *     accepting its value or does not wrap {@link Integer}
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends PicoType<Integer>> @NonNull IntFunction<T> intFactory(
+      @NonNull Class<T> type) {
+    var factories = FACTORIES.get(Objects.requireNonNull(type, "type"));
+    return (IntFunction<T>) requireFactory(factories.ints, type, Integer.class);
+  }
+
+  /**
+   * Returns factory creating instances of the given {@link UUID}-based class from raw bits, which
+   * prefers constructor accepting two {@code long} values to avoid creating {@link UUID}s.
+   *
+   * @param type of PicoTypes to create
+   * @param <T> is the type of PicoTypes
+   * @return cached factory of the given class
+   * @throws NullPointerException if type is {@code null}
+   * @throws IllegalArgumentException if the class is abstract, inaccessible, has no constructor
+   *     accepting its value or does not wrap {@link UUID}
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends PicoType<UUID>> @NonNull UuidBitsFunction<T> uuidFactory(
+      @NonNull Class<T> type) {
+    var factories = FACTORIES.get(Objects.requireNonNull(type, "type"));
+    return (UuidBitsFunction<T>) requireFactory(factories.uuids, type, UUID.class);
+  }
+
+  /**
+   * Wraps each of the given values into an instance of the given class.
+   *
+   * @param type of PicoTypes to create
+   * @param values to wrap
+   * @param <T> is the type of PicoTypes
+   * @return unmodifiable list of PicoTypes in the order of values
+   * @throws NullPointerException if any of arguments is {@code null}
+   * @throws IllegalArgumentException if the class cannot be instantiated, see {@link
+   *     #longFactory(Class)}
+   */
+  public static <T extends PicoType<Long>> @NonNull List<T> wrapAll(
+      @NonNull Class<T> type, long @NonNull [] values) {
+    Objects.requireNonNull(values, "values");
+    LongFunction<T> factory = longFactory(type);
+
+    Object[] result = new Object[values.length];
+    if (values.length < PARALLEL_THRESHOLD) {
+      for (int i = 0; i < values.length; i++) {
+        result[i] = factory.apply(values[i]);
+      }
+    } else {
+      IntStream.range(0, values.length)
+          .parallel()
+          .forEach(i -> result[i] = factory.apply(values[i]));
+    }
+    return asList(result);
+  }
+
+  /**
+   * Wraps each of the given values into an instance of the given class.
+   *
+   * @param type of PicoTypes to create
+   * @param values to wrap
+   * @param <T> is the type of PicoTypes
+   * @return unmodifiable list of PicoTypes in the order of values
+   * @throws NullPointerException if any of arguments is {@code null}
+   * @throws IllegalArgumentException if the class cannot be instantiated, see {@link
+   *     #intFactory(Class)}
+   */
+  public static <T extends PicoType<Integer>> @NonNull List<T> wrapAll(
+      @NonNull Class<T> type, int @NonNull [] values) {
+    Objects.requireNonNull(values, "values");
+    IntFunction<T> factory = intFactory(type);
+
+    Object[] result = new Object[values.length];
+    if (values.length < PARALLEL_THRESHOLD) {
+      for (int i = 0; i < values.length; i++) {
+        result[i] = factory.apply(values[i]);
+      }
+    } else {
+      IntStream.range(0, values.length)
+          .parallel()
+          .forEach(i -> result[i] = factory.apply(values[i]));
+    }
+    return asList(result);
+  }
+
+  /**
+   * Wraps each of the given values into an instance of the given class.
+   *
+   * @param type of PicoTypes to create
+   * @param values to wrap, may contain {@code null}s if the class accepts them
+   * @param <V> is the type of the wrapped value
+   * @param <T> is the type of PicoTypes
+   * @return unmodifiable list of PicoTypes in the iteration order of values
+   * @throws NullPointerException if any of arguments is {@code null}
+   * @throws IllegalArgumentException if the class cannot be instantiated, see {@link
+   *     #factory(Class)}
+   */
+  @SuppressWarnings("unchecked")
+  public static <V, T extends PicoType<V>> @NonNull List<T> wrapAll(
+      @NonNull Class<T> type, @NonNull Collection<? extends V> values) {
+    Objects.requireNonNull(values, "values");
+    Function<V, T> factory = factory(type);
+
+    Object[] result = values.toArray();
+    if (result.length < PARALLEL_THRESHOLD) {
+      for (int i = 0; i < result.length; i++) {
+        result[i] = factory.apply((V) result[i]);
+      }
+    } else {
+      IntStream.range(0, result.length)
+          .parallel()
+          .forEach(i -> result[i] = factory.apply((V) result[i]));
+    }
+    return asList(result);
+  }
+
+  /**
+   * Unwraps values of the given PicoTypes.
+   *
+   * @param picoTypes to unwrap, must not contain {@code null}s
+   * @param <V> is the type of the wrapped value
+   * @return unmodifiable list of values in the iteration order of PicoTypes, containing {@code
+   *     null}s for empty PicoTypes
+   * @throws NullPointerException if collection is {@code null} or contains {@code null}s
+   */
+  public static <V> @NonNull List<@Nullable V> unwrapAll(
+      @NonNull Collection<? extends PicoType<? extends V>> picoTypes) {
+    Object[] result = Objects.requireNonNull(picoTypes, "picoTypes").toArray();
+    if (result.length < PARALLEL_THRESHOLD) {
+      for (int i = 0; i < result.length; i++) {
+        result[i] = ((PicoType<?>) result[i]).value();
+      }
+    } else {
+      IntStream.range(0, result.length)
+          .parallel()
+          .forEach(i -> result[i] = ((PicoType<?>) result[i]).value());
+    }
+    return asList(result);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> List<T> asList(Object[] values) {
+    return (List<T>) Collections.unmodifiableList(Arrays.asList(values));
+  }
+
+  private static Object requireFactory(
+      @Nullable Object factory, Class<?> type, Class<?> valueType) {
+    if (factory == null) {
+      throw new IllegalArgumentException(
+          type.getName() + " does not wrap " + valueType.getSimpleName());
+    }
+    return factory;
+  }
+
+  /** Factories of a single class, variants not matching its value type are {@code null}. */
+  private static final class Factories {
+    private final Function<Object, Object> boxed;
+    @Nullable private final LongFunction<Object> longs;
+    @Nullable private final IntFunction<Object> ints;
+    @Nullable private final UuidBitsFunction<Object> uuids;
+
+    private Factories(
+        Function<Object, Object> boxed,
+        @Nullable LongFunction<Object> longs,
+        @Nullable IntFunction<Object> ints,
+        @Nullable UuidBitsFunction<Object> uuids) {
+      this.boxed = boxed;
+      this.longs = longs;
+      this.ints = ints;
+      this.uuids = uuids;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Factories of(Class<?> type) {
+      if (!PicoType.class.isAssignableFrom(type)
+          || type.isInterface()
+          || Modifier.isAbstract(type.getModifiers())) {
+        throw new IllegalArgumentException(type.getName() + " is not a concrete PicoType");
+      }
+
+      Class<?> valueType = valueType(type);
+      MethodHandles.Lookup lookup = lookup(type);
+
+      Function<Object, Object> boxed =
+          (Function<Object, Object>) create(lookup, type, Function.class, FUNCTION, valueType);
+      LongFunction<Object> longs = null;
+      IntFunction<Object> ints = null;
+      UuidBitsFunction<Object> uuids = null;
+
+      if (valueType == Long.class) {
+        var primitive =
+            (LongFunction<Object>)
+                create(lookup, type, LongFunction.class, LONG_FUNCTION, long.class);
+        if (primitive != null) {
+          longs = primitive;
+          if (boxed == null) {
+            boxed = value -> primitive.apply((Long) value);
+          }
+        } else if (boxed != null) {
+          longs = boxed::apply;
+        }
+      } else if (valueType == Integer.class) {
+        var primitive =
+            (IntFunction<Object>) create(lookup, type, IntFunction.class, INT_FUNCTION, int.class);
+        if (primitive != null) {
+          ints = primitive;
+          if (boxed == null) {
+            boxed = value -> primitive.apply((Integer) value);
+          }
+        } else if (boxed != null) {
+          ints = boxed::apply;
+        }
+      } else if (valueType == UUID.class) {
+        var primitive =
+            (UuidBitsFunction<Object>)
+                create(
+                    lookup,
+                    type,
+                    UuidBitsFunction.class,
+                    UUID_BITS_FUNCTION,
+                    long.class,
+                    long.class);
+        if (primitive != null) {
+          uuids = primitive;
+          if (boxed == null) {
+            boxed =
+                value -> {
+                  UUID uuid = (UUID) value;
+                  return primitive.apply(
+                      uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+                };
+          }
+        } else if (boxed != null) {
+          Function<Object, Object> constructor = boxed;
+          uuids =
+              (mostSignificantBits, leastSignificantBits) ->
+                  constructor.apply(new UUID(mostSignificantBits, leastSignificantBits));
+        }
+      } else if (valueType == URI.class && TextUriPicoType.class.isAssignableFrom(type)) {
+        var text =
+            (Function<String, TextUriPicoType>)
+                create(lookup, type, Function.class, FUNCTION, String.class);
+        if (boxed == null && text != null) {
+          boxed = value -> TextUriPicoType.fromUri(text, (URI) value);
+        }
+      }
+
+      if (boxed == null) {
+        throw new IllegalArgumentException(
+            type.getName() + " has no constructor accepting " + valueType.getName());
+      }
+
+      if (valueType == Boolean.class) {
+        boxed = Flyweights.ofBooleans(boxed);
+      } else if (longs != null) {
+        longs = Flyweights.ofLongs(longs);
+        boxed = Flyweights.ofLongs(boxed, longs);
+      } else if (ints != null) {
+        ints = Flyweights.ofInts(ints);
+        boxed = Flyweights.ofInts(boxed, ints);
+      }
+      return new Factories(boxed, longs, ints, uuids);
+    }
+
+    /**
+     * Resolves type of the wrapped value from covariant return type of {@link PicoType#value()}.
+     */
+    private static Class<?> valueType(Class<?> type) {
+      try {
+        return type.getMethod("value").getReturnType();
+      } catch (NoSuchMethodException e) {
+        throw new IllegalArgumentException(type.getName() + " has no value() method", e);
+      }
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> type) {
+      try {
+        return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+      } catch (IllegalAccessException e) {
+        throw new IllegalArgumentException(
+            type.getName() + " is not accessible, its package must be open to this library", e);
+      }
+    }
+
+    /**
+     * Creates functional interface instance calling constructor with the given parameters.
+     *
+     * @return function, or {@code null} if the class has no such constructor
+     */
+    private static @Nullable Object create(
+        MethodHandles.Lookup lookup,
+        Class<?> type,
+        Class<?> functionalInterface,
+        MethodType erasedType,
+        Class<?>... parameters) {
+      MethodHandle constructor;
+      try {
+        constructor = lookup.findConstructor(type, MethodType.methodType(void.class, parameters));
+      } catch (NoSuchMethodException e) {
+        return null;
+      } catch (IllegalAccessException e) {
+        throw new IllegalArgumentException(type.getName() + " constructor is not accessible", e);
+      }
+
+      CallSite site;
+      try {
+        site =
+            LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                MethodType.methodType(functionalInterface),
+                erasedType,
+                constructor,
+                MethodType.methodType(type, parameters));
+      } catch (LambdaConversionException e) {
+        return fallback(constructor.asType(erasedType), functionalInterface);
+      }
+
+      try {
+        return site.getTarget().invoke();
+      } catch (Throwable t) {
+        throw rethrow(t);
+      }
+    }
+
+    private static Object fallback(MethodHandle constructor, Class<?> functionalInterface) {
+      if (functionalInterface == LongFunction.class) {
+        return (LongFunction<Object>)
+            value -> {
+              try {
+                return (Object) constructor.invokeExact(value);
+              } catch (Throwable t) {
+                throw rethrow(t);
+              }
+            };
+      } else if (functionalInterface == IntFunction.class) {
+        return (IntFunction<Object>)
+            value -> {
+              try {
+                return (Object) constructor.invokeExact(value);
+              } catch (Throwable t) {
+                throw rethrow(t);
+              }
+            };
+      } else if (functionalInterface == UuidBitsFunction.class) {
+        return (UuidBitsFunction<Object>)
+            (mostSignificantBits, leastSignificantBits) -> {
+              try {
+                return (Object) constructor.invokeExact(mostSignificantBits, leastSignificantBits);
+              } catch (Throwable t) {
+                throw rethrow(t);
+              }
+            };
+      }
+      return (Function<Object, Object>)
+          value -> {
+            try {
+              return (Object) constructor.invokeExact(value);
+            } catch (Throwable t) {
+              throw rethrow(t);
+            }
+          };
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+      if (t instanceof RuntimeException e) {
+        return e;
+      } else if (t instanceof Error e) {
+        throw e;
+      }
+      return new UndeclaredThrowableException(t);
+    }
+  }
+}
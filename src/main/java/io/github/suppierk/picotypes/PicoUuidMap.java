@@ -0,0 +1,428 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Open addressing hash map keyed by {@link UUID}-based PicoTypes.
+ *
+ * <p>Keys are stored as raw pairs of {@code long} values next to each other, so an entry costs two
+ * slots in a {@code long[]} and a slot in an {@code Object[]} instead of a {@link UUID}, a wrapper
+ * and a map node. Key instances are recreated with the key factory only when the map hands them
+ * out, e.g. in {@link #forEach(BiConsumer)}.
+ *
+ * <p>Keys must not be {@code null} or empty. Values can be {@code null}. This class is not
+ * thread-safe.
+ *
+ * @param <K> is the type of the keys
+ * @param <V> is the type of the values
+ */
+public final class PicoUuidMap<K extends PicoType<UUID>, V> {
+  private static final int MAX_CAPACITY = 1 << 29;
+
+  private final Function<? super UUID, ? extends K> keyFactory;
+
+  /** Most and least significant bits of keys, where two {@code 0} values mark a free slot. */
+  private long[] keys;
+
+  /** Values, where the extra last slot holds the value of the key with all bits unset. */
+  private Object[] values;
+
+  private int capacity;
+  private int maxFill;
+  private int size;
+  private boolean hasZeroKey;
+
+  /**
+   * Creates empty map with default capacity.
+   *
+   * @param keyFactory to recreate key instances from raw values
+   * @throws NullPointerException if key factory is {@code null}
+   */
+  public PicoUuidMap(@NonNull Function<? super UUID, ? extends K> keyFactory) {
+    this(keyFactory, HashTables.DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Creates empty map able to hold the expected number of entries without growing.
+   *
+   * @param keyFactory to recreate key instances from raw values
+   * @param expectedSize number of entries
+   * @throws NullPointerException if key factory is {@code null}
+   * @throws IllegalArgumentException if expected size is negative
+   */
+  public PicoUuidMap(@NonNull Function<? super UUID, ? extends K> keyFactory, int expectedSize) {
+    this.keyFactory = Objects.requireNonNull(keyFactory, "Key factory must not be null");
+    this.capacity = HashTables.capacityFor(expectedSize, MAX_CAPACITY);
+    this.maxFill = HashTables.maxFill(capacity);
+    this.keys = new long[capacity * 2];
+    this.values = new Object[capacity + 1];
+  }
+
+  /**
+   * Returns the number of entries.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return hasZeroKey ? size + 1 : size;
+  }
+
+  /**
+   * Returns {@code true} if there are no entries.
+   *
+   * @return {@code true} if there are no entries
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Returns {@code true} if there is an entry for the given key.
+   *
+   * @param key to look up
+   * @return {@code true} if there is an entry for the given key
+   * @throws NullPointerException if key or its value is {@code null}
+   */
+  public boolean containsKey(@NonNull K key) {
+    return containsKey(
+        PicoValues.requireMostSignificantBits(key), PicoValues.requireLeastSignificantBits(key));
+  }
+
+  /**
+   * Returns {@code true} if there is an entry for the given raw key.
+   *
+   * @param mostSignificantBits of the key
+   * @param leastSignificantBits of the key
+   * @return {@code true} if there is an entry for the given key
+   */
+  public boolean containsKey(long mostSignificantBits, long leastSignificantBits) {
+    return indexOf(mostSignificantBits, leastSignificantBits) >= 0;
+  }
+
+  /**
+   * Returns value associated with the given key.
+   *
+   * @param key to look up
+   * @return associated value, or {@code null} if there is none
+   * @throws NullPointerException if key or its value is {@code null}
+   */
+  public @Nullable V get(@NonNull K key) {
+    return get(
+        PicoValues.requireMostSignificantBits(key), PicoValues.requireLeastSignificantBits(key));
+  }
+
+  /**
+   * Returns value associated with the given raw key.
+   *
+   * @param mostSignificantBits of the key
+   * @param leastSignificantBits of the key
+   * @return associated value, or {@code null} if there is none
+   */
+  public @Nullable V get(long mostSignificantBits, long leastSignificantBits) {
+    int index = indexOf(mostSignificantBits, leastSignificantBits);
+    return index < 0 ? null : valueAt(index);
+  }
+
+  /**
+   * Returns value associated with the given key, or the default value if there is no entry.
+   *
+   * @param key to look up
+   * @param defaultValue to return if there is no entry
+   * @return associated value, or default value if there is no entry
+   * @throws NullPointerException if key or its value is {@code null}
+   */
+  public @Nullable V getOrDefault(@NonNull K key, @Nullable V defaultValue) {
+    int index =
+        indexOf(
+            PicoValues.requireMostSignificantBits(key),
+            PicoValues.requireLeastSignificantBits(key));
+    return index < 0 ? defaultValue : valueAt(index);
+  }
+
+  /**
+   * Associates value with the given key.
+   *
+   * @param key to associate value with
+   * @param value to associate
+   * @return previously associated value, or {@code null} if there was none
+   * @throws NullPointerException if key or its value is {@code null}
+   * @throws IllegalStateException if the map cannot grow anymore
+   */
+  public @Nullable V put(@NonNull K key, @Nullable V value) {
+    return put(
+        PicoValues.requireMostSignificantBits(key),
+        PicoValues.requireLeastSignificantBits(key),
+        value);
+  }
+
+  /**
+   * Associates value with the given raw key.
+   *
+   * @param mostSignificantBits of the key
+   * @param leastSignificantBits of the key
+   * @param value to associate
+   * @return previously associated value, or {@code null} if there was none
+   * @throws IllegalStateException if the map cannot grow anymore
+   */
+  public @Nullable V put(long mostSignificantBits, long leastSignificantBits, @Nullable V value) {
+    if (mostSignificantBits == 0L && leastSignificantBits == 0L) {
+      V previous = hasZeroKey ? valueAt(capacity) : null;
+      values[capacity] = value;
+      hasZeroKey = true;
+      return previous;
+    }
+
+    int index = probe(mostSignificantBits, leastSignificantBits);
+    if (isKeyAt(index, mostSignificantBits, leastSignificantBits)) {
+      V previous = valueAt(index);
+      values[index] = value;
+      return previous;
+    }
+
+    if (size >= maxFill) {
+      rehash(HashTables.grow(capacity, MAX_CAPACITY));
+      index = probe(mostSignificantBits, leastSignificantBits);
+    }
+
+    keys[index * 2] = mostSignificantBits;
+    keys[index * 2 + 1] = leastSignificantBits;
+    values[index] = value;
+    size++;
+    return null;
+  }
+
+  /**
+   * Returns value associated with the given key, computing and associating it first if there is no
+   * value.
+   *
+   * @param key to look up
+   * @param mappingFunction to compute a value
+   * @return current or computed value, or {@code null} if computed value is {@code null}
+   * @throws NullPointerException if key, its value or mapping function is {@code null}
+   * @throws IllegalStateException if the map cannot grow anymore
+   */
+  public @Nullable V computeIfAbsent(
+      @NonNull K key, @NonNull Function<? super K, ? extends @Nullable V> mappingFunction) {
+    long mostSignificantBits = PicoValues.requireMostSignificantBits(key);
+    long leastSignificantBits = PicoValues.requireLeastSignificantBits(key);
+    Objects.requireNonNull(mappingFunction, "Mapping function must not be null");
+
+    int index = indexOf(mostSignificantBits, leastSignificantBits);
+    V current = index < 0 ? null : valueAt(index);
+    if (current != null) {
+      return current;
+    }
+
+    V computed = mappingFunction.apply(key);
+    if (computed != null) {
+      put(mostSignificantBits, leastSignificantBits, computed);
+    }
+    return computed;
+  }
+
+  /**
+   * Removes entry for the given key.
+   *
+   * @param key to remove
+   * @return previously associated value, or {@code null} if there was none
+   * @throws NullPointerException if key or its value is {@code null}
+   */
+  public @Nullable V remove(@NonNull K key) {
+    return remove(
+        PicoValues.requireMostSignificantBits(key), PicoValues.requireLeastSignificantBits(key));
+  }
+
+  /**
+   * Removes entry for the given raw key.
+   *
+   * @param mostSignificantBits of the key
+   * @param leastSignificantBits of the key
+   * @return previously associated value, or {@code null} if there was none
+   */
+  public @Nullable V remove(long mostSignificantBits, long leastSignificantBits) {
+    int index = indexOf(mostSignificantBits, leastSignificantBits);
+    if (index < 0) {
+      return null;
+    }
+
+    V previous = valueAt(index);
+    if (index == capacity) {
+      hasZeroKey = false;
+      values[capacity] = null;
+    } else {
+      shiftKeys(index);
+      size--;
+    }
+    return previous;
+  }
+
+  /** Removes all entries. */
+  public void clear() {
+    Arrays.fill(keys, 0L);
+    Arrays.fill(values, null);
+    size = 0;
+    hasZeroKey = false;
+  }
+
+  /**
+   * Performs the given action for each entry, recreating key instances with the key factory.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEach(@NonNull BiConsumer<? super K, ? super @Nullable V> action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    forEachRaw(
+        (value, mostSignificantBits, leastSignificantBits) ->
+            action.accept(
+                keyFactory.apply(new UUID(mostSignificantBits, leastSignificantBits)), value));
+  }
+
+  /**
+   * Performs the given action for each entry without creating key instances.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEachRaw(@NonNull RawEntryConsumer<? super @Nullable V> action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    if (hasZeroKey) {
+      action.accept(valueAt(capacity), 0L, 0L);
+    }
+    for (int i = 0; i < capacity; i++) {
+      if (!isFree(i)) {
+        action.accept(valueAt(i), keys[i * 2], keys[i * 2 + 1]);
+      }
+    }
+  }
+
+  private int probe(long mostSignificantBits, long leastSignificantBits) {
+    int mask = capacity - 1;
+    int index = HashTables.mix(mostSignificantBits, leastSignificantBits) & mask;
+    while (!isFree(index) && !isKeyAt(index, mostSignificantBits, leastSignificantBits)) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private int indexOf(long mostSignificantBits, long leastSignificantBits) {
+    if (mostSignificantBits == 0L && leastSignificantBits == 0L) {
+      return hasZeroKey ? capacity : -1;
+    }
+    int index = probe(mostSignificantBits, leastSignificantBits);
+    return isKeyAt(index, mostSignificantBits, leastSignificantBits) ? index : -1;
+  }
+
+  private boolean isFree(int index) {
+    return keys[index * 2] == 0L && keys[index * 2 + 1] == 0L;
+  }
+
+  private boolean isKeyAt(int index, long mostSignificantBits, long leastSignificantBits) {
+    return keys[index * 2] == mostSignificantBits && keys[index * 2 + 1] == leastSignificantBits;
+  }
+
+  @SuppressWarnings("unchecked")
+  private @Nullable V valueAt(int index) {
+    return (V) values[index];
+  }
+
+  /** Closes the gap left by removed entry by moving back entries of the same probe sequence. */
+  private void shiftKeys(int index) {
+    int mask = capacity - 1;
+    int gap = index;
+    int current = index;
+
+    while (true) {
+      current = (current + 1) & mask;
+      if (isFree(current)) {
+        keys[gap * 2] = 0L;
+        keys[gap * 2 + 1] = 0L;
+        values[gap] = null;
+        return;
+      }
+
+      int home = HashTables.mix(keys[current * 2], keys[current * 2 + 1]) & mask;
+      boolean movable =
+          gap <= current ? (home <= gap || home > current) : (home <= gap && home > current);
+      if (movable) {
+        keys[gap * 2] = keys[current * 2];
+        keys[gap * 2 + 1] = keys[current * 2 + 1];
+        values[gap] = values[current];
+        gap = current;
+      }
+    }
+  }
+
+  private void rehash(int newCapacity) {
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    int oldCapacity = capacity;
+
+    int mask = newCapacity - 1;
+    keys = new long[newCapacity * 2];
+    values = new Object[newCapacity + 1];
+    capacity = newCapacity;
+    maxFill = HashTables.maxFill(newCapacity);
+
+    for (int i = 0; i < oldCapacity; i++) {
+      long mostSignificantBits = oldKeys[i * 2];
+      long leastSignificantBits = oldKeys[i * 2 + 1];
+      if (mostSignificantBits != 0L || leastSignificantBits != 0L) {
+        int index = HashTables.mix(mostSignificantBits, leastSignificantBits) & mask;
+        while (!isFree(index)) {
+          index = (index + 1) & mask;
+        }
+        keys[index * 2] = mostSignificantBits;
+        keys[index * 2 + 1] = leastSignificantBits;
+        values[index] = oldValues[i];
+      }
+    }
+    values[newCapacity] = oldValues[oldCapacity];
+  }
+
+  /**
+   * Represents an operation that accepts a value with raw bits of its key and returns no result.
+   *
+   * @param <V> is the type of the values
+   */
+  @FunctionalInterface
+  public interface RawEntryConsumer<V> {
+    /**
+     * Performs this operation on the given entry.
+     *
+     * @param value of the entry, can be {@code null}
+     * @param mostSignificantBits of the key
+     * @param leastSignificantBits of the key
+     */
+    void accept(@Nullable V value, long mostSignificantBits, long leastSignificantBits);
+  }
+}
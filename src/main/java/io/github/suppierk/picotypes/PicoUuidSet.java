@@ -0,0 +1,337 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Open addressing hash set of {@link UUID}-based PicoTypes.
+ *
+ * <p>Elements are stored as raw pairs of {@code long} values next to each other, so an element
+ * costs two slots in a {@code long[]} instead of a {@link UUID}, a wrapper and a map node. Element
+ * instances are recreated with the element factory only when the set hands them out, e.g. in {@link
+ * #forEach(Consumer)}.
+ *
+ * <p>Elements must not be {@code null} or empty. This class is not thread-safe.
+ *
+ * @param <E> is the type of the elements
+ */
+public final class PicoUuidSet<E extends PicoType<UUID>> {
+  private static final int MAX_CAPACITY = 1 << 29;
+
+  private final Function<? super UUID, ? extends E> elementFactory;
+
+  /** Most and least significant bits of elements, where two {@code 0} values mark a free slot. */
+  private long[] elements;
+
+  private int capacity;
+  private int maxFill;
+  private int size;
+  private boolean hasZero;
+
+  /**
+   * Creates empty set with default capacity.
+   *
+   * @param elementFactory to recreate element instances from raw values
+   * @throws NullPointerException if element factory is {@code null}
+   */
+  public PicoUuidSet(@NonNull Function<? super UUID, ? extends E> elementFactory) {
+    this(elementFactory, HashTables.DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Creates empty set able to hold the expected number of elements without growing.
+   *
+   * @param elementFactory to recreate element instances from raw values
+   * @param expectedSize number of elements
+   * @throws NullPointerException if element factory is {@code null}
+   * @throws IllegalArgumentException if expected size is negative
+   */
+  public PicoUuidSet(
+      @NonNull Function<? super UUID, ? extends E> elementFactory, int expectedSize) {
+    this.elementFactory =
+        Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    this.capacity = HashTables.capacityFor(expectedSize, MAX_CAPACITY);
+    this.maxFill = HashTables.maxFill(capacity);
+    this.elements = new long[capacity * 2];
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return hasZero ? size + 1 : size;
+  }
+
+  /**
+   * Returns {@code true} if there are no elements.
+   *
+   * @return {@code true} if there are no elements
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Returns {@code true} if the set contains the given element.
+   *
+   * @param element to look up
+   * @return {@code true} if the set contains the given element
+   * @throws NullPointerException if element or its value is {@code null}
+   */
+  public boolean contains(@NonNull E element) {
+    return contains(
+        PicoValues.requireMostSignificantBits(element),
+        PicoValues.requireLeastSignificantBits(element));
+  }
+
+  /**
+   * Returns {@code true} if the set contains the given raw element.
+   *
+   * @param mostSignificantBits of the element
+   * @param leastSignificantBits of the element
+   * @return {@code true} if the set contains the given element
+   */
+  public boolean contains(long mostSignificantBits, long leastSignificantBits) {
+    if (mostSignificantBits == 0L && leastSignificantBits == 0L) {
+      return hasZero;
+    }
+    return isElementAt(
+        probe(mostSignificantBits, leastSignificantBits),
+        mostSignificantBits,
+        leastSignificantBits);
+  }
+
+  /**
+   * Adds the given element.
+   *
+   * @param element to add
+   * @return {@code true} if the set did not contain the element before
+   * @throws NullPointerException if element or its value is {@code null}
+   * @throws IllegalStateException if the set cannot grow anymore
+   */
+  public boolean add(@NonNull E element) {
+    return add(
+        PicoValues.requireMostSignificantBits(element),
+        PicoValues.requireLeastSignificantBits(element));
+  }
+
+  /**
+   * Adds the given raw element.
+   *
+   * @param mostSignificantBits of the element
+   * @param leastSignificantBits of the element
+   * @return {@code true} if the set did not contain the element before
+   * @throws IllegalStateException if the set cannot grow anymore
+   */
+  public boolean add(long mostSignificantBits, long leastSignificantBits) {
+    if (mostSignificantBits == 0L && leastSignificantBits == 0L) {
+      boolean added = !hasZero;
+      hasZero = true;
+      return added;
+    }
+
+    int index = probe(mostSignificantBits, leastSignificantBits);
+    if (isElementAt(index, mostSignificantBits, leastSignificantBits)) {
+      return false;
+    }
+
+    if (size >= maxFill) {
+      rehash(HashTables.grow(capacity, MAX_CAPACITY));
+      index = probe(mostSignificantBits, leastSignificantBits);
+    }
+
+    elements[index * 2] = mostSignificantBits;
+    elements[index * 2 + 1] = leastSignificantBits;
+    size++;
+    return true;
+  }
+
+  /**
+   * Removes the given element.
+   *
+   * @param element to remove
+   * @return {@code true} if the set contained the element
+   * @throws NullPointerException if element or its value is {@code null}
+   */
+  public boolean remove(@NonNull E element) {
+    return remove(
+        PicoValues.requireMostSignificantBits(element),
+        PicoValues.requireLeastSignificantBits(element));
+  }
+
+  /**
+   * Removes the given raw element.
+   *
+   * @param mostSignificantBits of the element
+   * @param leastSignificantBits of the element
+   * @return {@code true} if the set contained the element
+   */
+  public boolean remove(long mostSignificantBits, long leastSignificantBits) {
+    if (mostSignificantBits == 0L && leastSignificantBits == 0L) {
+      boolean removed = hasZero;
+      hasZero = false;
+      return removed;
+    }
+
+    int index = probe(mostSignificantBits, leastSignificantBits);
+    if (!isElementAt(index, mostSignificantBits, leastSignificantBits)) {
+      return false;
+    }
+
+    shiftElements(index);
+    size--;
+    return true;
+  }
+
+  /** Removes all elements. */
+  public void clear() {
+    Arrays.fill(elements, 0L);
+    size = 0;
+    hasZero = false;
+  }
+
+  /**
+   * Performs the given action for each element, recreating instances with the element factory.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEach(@NonNull Consumer<? super E> action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    forEachRaw(
+        (mostSignificantBits, leastSignificantBits) ->
+            action.accept(
+                elementFactory.apply(new UUID(mostSignificantBits, leastSignificantBits))));
+  }
+
+  /**
+   * Performs the given action for each element without creating element instances.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEachRaw(@NonNull UuidBitsConsumer action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    if (hasZero) {
+      action.accept(0L, 0L);
+    }
+    for (int i = 0; i < capacity; i++) {
+      if (!isFree(i)) {
+        action.accept(elements[i * 2], elements[i * 2 + 1]);
+      }
+    }
+  }
+
+  /**
+   * Returns raw elements in no particular order, where each element takes two consecutive slots
+   * holding its most and least significant bits.
+   *
+   * @return new array with raw elements
+   */
+  public long @NonNull [] toRawArray() {
+    long[] result = new long[size() * 2];
+    int position = hasZero ? 2 : 0;
+    for (int i = 0; i < capacity; i++) {
+      if (!isFree(i)) {
+        result[position++] = elements[i * 2];
+        result[position++] = elements[i * 2 + 1];
+      }
+    }
+    return result;
+  }
+
+  private int probe(long mostSignificantBits, long leastSignificantBits) {
+    int mask = capacity - 1;
+    int index = HashTables.mix(mostSignificantBits, leastSignificantBits) & mask;
+    while (!isFree(index) && !isElementAt(index, mostSignificantBits, leastSignificantBits)) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private boolean isFree(int index) {
+    return elements[index * 2] == 0L && elements[index * 2 + 1] == 0L;
+  }
+
+  private boolean isElementAt(int index, long mostSignificantBits, long leastSignificantBits) {
+    return elements[index * 2] == mostSignificantBits
+        && elements[index * 2 + 1] == leastSignificantBits;
+  }
+
+  /** Closes the gap left by removed element by moving back elements of the same probe sequence. */
+  private void shiftElements(int index) {
+    int mask = capacity - 1;
+    int gap = index;
+    int current = index;
+
+    while (true) {
+      current = (current + 1) & mask;
+      if (isFree(current)) {
+        elements[gap * 2] = 0L;
+        elements[gap * 2 + 1] = 0L;
+        return;
+      }
+
+      int home = HashTables.mix(elements[current * 2], elements[current * 2 + 1]) & mask;
+      boolean movable =
+          gap <= current ? (home <= gap || home > current) : (home <= gap && home > current);
+      if (movable) {
+        elements[gap * 2] = elements[current * 2];
+        elements[gap * 2 + 1] = elements[current * 2 + 1];
+        gap = current;
+      }
+    }
+  }
+
+  private void rehash(int newCapacity) {
+    long[] oldElements = elements;
+    int oldCapacity = capacity;
+
+    int mask = newCapacity - 1;
+    elements = new long[newCapacity * 2];
+    capacity = newCapacity;
+    maxFill = HashTables.maxFill(newCapacity);
+
+    for (int i = 0; i < oldCapacity; i++) {
+      long mostSignificantBits = oldElements[i * 2];
+      long leastSignificantBits = oldElements[i * 2 + 1];
+      if (mostSignificantBits != 0L || leastSignificantBits != 0L) {
+        int index = HashTables.mix(mostSignificantBits, leastSignificantBits) & mask;
+        while (!isFree(index)) {
+          index = (index + 1) & mask;
+        }
+        elements[index * 2] = mostSignificantBits;
+        elements[index * 2 + 1] = leastSignificantBits;
+      }
+    }
+  }
+}
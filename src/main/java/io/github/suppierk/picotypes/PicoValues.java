@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/** Extracts raw values from PicoTypes without boxing where the representation allows it. */
+final class PicoValues {
+  private static final String NULL_PICO_TYPE = "PicoType must not be null";
+  private static final String NULL_VALUE = "PicoType value must not be null";
+
+  private PicoValues() {
+    // Utility class
+  }
+
+  /**
+   * Returns raw {@code long} value.
+   *
+   * @param picoType to extract value from
+   * @return wrapped value
+   * @throws NullPointerException if PicoType or its value is {@code null}
+   */
+  static long requireLong(PicoType<Long> picoType) {
+    if (Objects.requireNonNull(picoType, NULL_PICO_TYPE) instanceof PrimitiveLongPicoType p) {
+      requirePresent(p);
+      return p.longValue();
+    }
+    return Objects.requireNonNull(picoType.value(), NULL_VALUE);
+  }
+
+  /**
+   * Returns raw {@code int} value.
+   *
+   * @param picoType to extract value from
+   * @return wrapped value
+   * @throws NullPointerException if PicoType or its value is {@code null}
+   */
+  static int requireInt(PicoType<Integer> picoType) {
+    if (Objects.requireNonNull(picoType, NULL_PICO_TYPE) instanceof PrimitiveIntegerPicoType p) {
+      requirePresent(p);
+      return p.intValue();
+    }
+    return Objects.requireNonNull(picoType.value(), NULL_VALUE);
+  }
+
+  /**
+   * Returns raw {@code double} value.
+   *
+   * @param picoType to extract value from
+   * @return wrapped value
+   * @throws NullPointerException if PicoType or its value is {@code null}
+   */
+  static double requireDouble(PicoType<Double> picoType) {
+    if (Objects.requireNonNull(picoType, NULL_PICO_TYPE) instanceof PrimitiveDoublePicoType p) {
+      requirePresent(p);
+      return p.doubleValue();
+    }
+    return Objects.requireNonNull(picoType.value(), NULL_VALUE);
+  }
+
+  /**
+   * Returns most significant bits of the wrapped {@link UUID}.
+   *
+   * @param picoType to extract value from
+   * @return most significant bits
+   * @throws NullPointerException if PicoType or its value is {@code null}
+   */
+  static long requireMostSignificantBits(PicoType<UUID> picoType) {
+    if (Objects.requireNonNull(picoType, NULL_PICO_TYPE) instanceof PrimitiveUuidPicoType p) {
+      requirePresent(p);
+      return p.mostSignificantBits();
+    }
+    return Objects.requireNonNull(picoType.value(), NULL_VALUE).getMostSignificantBits();
+  }
+
+  /**
+   * Returns least significant bits of the wrapped {@link UUID}.
+   *
+   * @param picoType to extract value from
+   * @return least significant bits
+   * @throws NullPointerException if PicoType or its value is {@code null}
+   */
+  static long requireLeastSignificantBits(PicoType<UUID> picoType) {
+    if (Objects.requireNonNull(picoType, NULL_PICO_TYPE) instanceof PrimitiveUuidPicoType p) {
+      requirePresent(p);
+      return p.leastSignificantBits();
+    }
+    return Objects.requireNonNull(picoType.value(), NULL_VALUE).getLeastSignificantBits();
+  }
+
+  private static void requirePresent(PicoType<?> picoType) {
+    if (picoType.isEmpty()) {
+      throw new NullPointerException(NULL_VALUE);
+    }
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Violations found by bulk validation with {@link PicoConstraint}, ordered by index of the invalid
+ * value.
+ *
+ * <p>Messages are shared between violations of the same rule, so accumulating millions of them
+ * costs two {@code int}s each.
+ */
+public final class PicoViolations {
+  private final int[] indexes;
+  private final int[] rules;
+  private final String[] messages;
+
+  /**
+   * Default constructor
+   *
+   * @param indexes of invalid values in ascending order
+   * @param rules indexes of messages violated by each of the values
+   * @param messages of the rules
+   */
+  PicoViolations(int[] indexes, int[] rules, String[] messages) {
+    this.indexes = indexes;
+    this.rules = rules;
+    this.messages = messages;
+  }
+
+  /**
+   * Returns number of invalid values.
+   *
+   * @return number of invalid values
+   */
+  public int count() {
+    return indexes.length;
+  }
+
+  /**
+   * Returns {@code true} if all values are valid.
+   *
+   * @return {@code true} if there are no violations
+   */
+  public boolean isEmpty() {
+    return indexes.length == 0;
+  }
+
+  /**
+   * Returns index of the invalid value of the given violation.
+   *
+   * @param violation number, from {@code 0} to {@link #count()} exclusive
+   * @return index of the invalid value in the validated array, list or column
+   * @throws IndexOutOfBoundsException if violation number is out of bounds
+   */
+  public int index(int violation) {
+    return indexes[Objects.checkIndex(violation, indexes.length)];
+  }
+
+  /**
+   * Returns message of the given violation.
+   *
+   * @param violation number, from {@code 0} to {@link #count()} exclusive
+   * @return message of the first rule the value violated
+   * @throws IndexOutOfBoundsException if violation number is out of bounds
+   */
+  public @NonNull String message(int violation) {
+    return messages[rules[Objects.checkIndex(violation, indexes.length)]];
+  }
+
+  /**
+   * Returns indexes of all invalid values.
+   *
+   * @return new array of indexes in ascending order
+   */
+  public int @NonNull [] indexes() {
+    return indexes.clone();
+  }
+
+  /**
+   * Passes message and index of each violation to the given action, in ascending order of indexes.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEach(@NonNull ObjIntConsumer<? super String> action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    for (int i = 0; i < indexes.length; i++) {
+      action.accept(messages[rules[i]], indexes[i]);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull String toString() {
+    StringBuilder builder = new StringBuilder("PicoViolations{count=").append(indexes.length);
+    int shown = Math.min(indexes.length, 10);
+    for (int i = 0; i < shown; i++) {
+      builder.append(i == 0 ? ", " : "; ").append(indexes[i]).append(": ");
+      builder.append(messages[rules[i]]);
+    }
+    return builder.append(shown < indexes.length ? "; ...}" : "}").toString();
+  }
+
+  /** Growable list of violations found in a range of values. */
+  static final class Builder {
+    private int[] indexes = new int[0];
+    private int[] rules = new int[0];
+    private int size;
+
+    void add(int index, int rule) {
+      if (size == indexes.length) {
+        int capacity = Math.max(16, size + (size >> 1));
+        indexes = Arrays.copyOf(indexes, capacity);
+        rules = Arrays.copyOf(rules, capacity);
+      }
+      indexes[size] = index;
+      rules[size] = rule;
+      size++;
+    }
+
+    /** Concatenates violations of consecutive ranges, in order. */
+    static PicoViolations build(Builder[] builders, String[] messages) {
+      int total = 0;
+      for (Builder builder : builders) {
+        total += builder.size;
+      }
+
+      int[] indexes = new int[total];
+      int[] rules = new int[total];
+      int offset = 0;
+      for (Builder builder : builders) {
+        System.arraycopy(builder.indexes, 0, indexes, offset, builder.size);
+        System.arraycopy(builder.rules, 0, rules, offset, builder.size);
+        offset += builder.size;
+      }
+      return new PicoViolations(indexes, rules, messages);
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Abstract wrapper for {@code long} type, storing the value unboxed alongside a presence flag.
+ *
+ * <p>Behaves like {@link LongPicoType}, but constructing an instance from a primitive and using the
+ * primitive accessors never allocates. {@link #value()} boxes on every call.
+ */
+public abstract class PrimitiveLongPicoType
+    implements PicoType<Long>, Comparable<PrimitiveLongPicoType> {
+  private final long value;
+  private final boolean present;
+
+  /**
+   * Constructor for a present value, which does not box it
+   *
+   * @param value to wrap
+   */
+  protected PrimitiveLongPicoType(long value) {
+    this.value = value;
+    this.present = true;
+  }
+
+  /**
+   * Default constructor
+   *
+   * @param value to wrap. Can be {@code null}
+   */
+  protected PrimitiveLongPicoType(@Nullable Long value) {
+    this.value = value == null ? 0L : value;
+    this.present = value != null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable Long value() {
+    return present ? value : null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isPresent() {
+    return present;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return !present;
+  }
+
+  /**
+   * If a value is present, returns the value without boxing, otherwise throws {@code
+   * NoSuchElementException}.
+   *
+   * @return the value described by this {@code PicoType}
+   * @throws NoSuchElementException if no value is present
+   */
+  public long longValue() {
+    if (!present) {
+      throw new NoSuchElementException("No value present");
+    }
+    return value;
+  }
+
+  /**
+   * If a value is present, performs the given action with the unboxed value, otherwise does
+   * nothing.
+   *
+   * @param action the action to be performed, if a value is present
+   * @throws NullPointerException if value is present and the given action is {@code null}
+   */
+  public void ifPresentAsLong(@NonNull LongConsumer action) {
+    if (present) {
+      Objects.requireNonNull(action).accept(value);
+    }
+  }
+
+  /**
+   * If a value is present, returns the value, otherwise returns {@code other}. Does not box.
+   *
+   * @param other the value to be returned, if no value is present
+   * @return the value, if present, otherwise {@code other}
+   */
+  public long orElse(long other) {
+    return present ? value : other;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int compareTo(@NonNull PrimitiveLongPicoType o) {
+    if (!present) {
+      throw new NullPointerException("Cannot compare null value against another value");
+    }
+    if (!Objects.requireNonNull(o).present) {
+      throw new NullPointerException("Cannot compare value against another null value");
+    }
+    return Long.compare(value, o.value);
+  }
+
+  /**
+   * Error Prone check suppressed - the intent here is that PicoTypes represent instances of
+   * specific IDs which are not meant to be comparable between themselves.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("EqualsGetClass")
+  public final boolean equals(@Nullable Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    return present == ((PrimitiveLongPicoType) o).present
+        && value == ((PrimitiveLongPicoType) o).value;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int hashCode() {
+    return present ? Long.hashCode(value) : 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull StringBuilder appendValueTo(@NonNull StringBuilder builder) {
+    Objects.requireNonNull(builder, "Builder must not be null");
+    return present ? builder.append(value) : builder.append("null");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull String toString() {
+    return appendTo(new StringBuilder()).toString();
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Abstract wrapper for {@link UUID} type, storing its most and least significant bits directly.
+ *
+ * <p>Behaves like {@link UuidPicoType}, but avoids holding a separate {@link UUID} object per
+ * instance: equality and ordering work on the raw bits, while {@link #value()} creates a new {@link
+ * UUID} on every call.
+ */
+public abstract class PrimitiveUuidPicoType
+    implements PicoType<UUID>, Comparable<PrimitiveUuidPicoType> {
+  private final long mostSignificantBits;
+  private final long leastSignificantBits;
+  private final boolean present;
+
+  /**
+   * Constructor for a present value, which does not require a {@link UUID} instance
+   *
+   * @param mostSignificantBits of the {@link UUID} to wrap
+   * @param leastSignificantBits of the {@link UUID} to wrap
+   */
+  protected PrimitiveUuidPicoType(long mostSignificantBits, long leastSignificantBits) {
+    this.mostSignificantBits = mostSignificantBits;
+    this.leastSignificantBits = leastSignificantBits;
+    this.present = true;
+  }
+
+  /**
+   * Default constructor
+   *
+   * @param value to wrap. Can be {@code null}
+   */
+  protected PrimitiveUuidPicoType(@Nullable UUID value) {
+    this.mostSignificantBits = value == null ? 0L : value.getMostSignificantBits();
+    this.leastSignificantBits = value == null ? 0L : value.getLeastSignificantBits();
+    this.present = value != null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable UUID value() {
+    return present ? new UUID(mostSignificantBits, leastSignificantBits) : null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isPresent() {
+    return present;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return !present;
+  }
+
+  /**
+   * If a value is present, returns its most significant 64 bits, otherwise throws {@code
+   * NoSuchElementException}.
+   *
+   * @return the most significant 64 bits of the wrapped {@link UUID}
+   * @throws NoSuchElementException if no value is present
+   * @see UUID#getMostSignificantBits()
+   */
+  public long mostSignificantBits() {
+    if (!present) {
+      throw new NoSuchElementException("No value present");
+    }
+    return mostSignificantBits;
+  }
+
+  /**
+   * If a value is present, returns its least significant 64 bits, otherwise throws {@code
+   * NoSuchElementException}.
+   *
+   * @return the least significant 64 bits of the wrapped {@link UUID}
+   * @throws NoSuchElementException if no value is present
+   * @see UUID#getLeastSignificantBits()
+   */
+  public long leastSignificantBits() {
+    if (!present) {
+      throw new NoSuchElementException("No value present");
+    }
+    return leastSignificantBits;
+  }
+
+  /**
+   * Compares the raw bits in the same order as {@link UUID#compareTo(UUID)}.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  public int compareTo(@NonNull PrimitiveUuidPicoType o) {
+    if (!present) {
+      throw new NullPointerException("Cannot compare null value against another value");
+    }
+    if (!Objects.requireNonNull(o).present) {
+      throw new NullPointerException("Cannot compare value against another null value");
+    }
+    int result = Long.compare(mostSignificantBits, o.mostSignificantBits);
+    return result != 0 ? result : Long.compare(leastSignificantBits, o.leastSignificantBits);
+  }
+
+  /**
+   * Error Prone check suppressed - the intent here is that PicoTypes represent instances of
+   * specific IDs which are not meant to be comparable between themselves.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("EqualsGetClass")
+  public final boolean equals(@Nullable Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    var that = (PrimitiveUuidPicoType) o;
+    return present == that.present
+        && mostSignificantBits == that.mostSignificantBits
+        && leastSignificantBits == that.leastSignificantBits;
+  }
+
+  /**
+   * Mixes presence into the hash, so that empty instances and {@link UUID}s whose halves are equal
+   * do not collide. Unlike {@link UuidPicoType}, it therefore does not match {@link
+   * UUID#hashCode()} of the wrapped value.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  public final int hashCode() {
+    return present ? 31 * Long.hashCode(mostSignificantBits ^ leastSignificantBits) + 1 : 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull StringBuilder appendValueTo(@NonNull StringBuilder builder) {
+    Objects.requireNonNull(builder, "Builder must not be null");
+    return present
+        ? UuidFormat.appendTo(builder, mostSignificantBits, leastSignificantBits)
+        : builder.append("null");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull String toString() {
+    return appendTo(new StringBuilder()).toString();
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.Reference;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Holds private copy of sensitive bytes, which is wiped either explicitly or by a {@link Cleaner}
+ * once the holder becomes unreachable.
+ *
+ * <p>Methods reading the bytes keep the holder reachable with {@link Reference#reachabilityFence}
+ * until they are done, otherwise the cleaner could wipe the bytes in the middle of the read.
+ */
+final class SecretBytes {
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private final byte[] bytes;
+  private volatile boolean destroyed;
+
+  /**
+   * Default constructor
+   *
+   * @param value to copy
+   */
+  SecretBytes(byte[] value) {
+    this.bytes = Arrays.copyOf(value, value.length);
+    CLEANER.register(this, new Wipe(bytes));
+  }
+
+  /**
+   * Returns copy of the bytes.
+   *
+   * @return new array
+   * @throws IllegalStateException if bytes are destroyed
+   */
+  byte[] copy() {
+    requireNotDestroyed();
+    try {
+      return Arrays.copyOf(bytes, bytes.length);
+    } finally {
+      Reference.reachabilityFence(this);
+    }
+  }
+
+  /**
+   * Returns read-only view of the bytes without copying them.
+   *
+   * @return read-only buffer
+   * @throws IllegalStateException if bytes are destroyed
+   */
+  ByteBuffer view() {
+    requireNotDestroyed();
+    return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+  }
+
+  /**
+   * Compares the bytes with the given candidate in time independent of the position of the first
+   * difference.
+   *
+   * @param candidate to compare with
+   * @return {@code true} if candidate has the same bytes
+   * @throws IllegalStateException if bytes are destroyed
+   */
+  boolean matches(byte @Nullable [] candidate) {
+    requireNotDestroyed();
+    try {
+      return candidate != null && MessageDigest.isEqual(bytes, candidate);
+    } finally {
+      Reference.reachabilityFence(this);
+    }
+  }
+
+  /** Overwrites the bytes with zeroes. */
+  void destroy() {
+    destroyed = true;
+    Arrays.fill(bytes, (byte) 0);
+  }
+
+  /**
+   * Returns whether the bytes were destroyed.
+   *
+   * @return {@code true} if {@link #destroy()} was called
+   */
+  boolean isDestroyed() {
+    return destroyed;
+  }
+
+  /**
+   * Compares bytes of the given holders in constant time.
+   *
+   * <p>Destroyed holders are equal only to themselves, as their zeroed bytes no longer represent
+   * the secret.
+   *
+   * @param a first holder
+   * @param b second holder
+   * @return {@code true} if both holders are {@code null} or have the same bytes
+   */
+  static boolean isEqual(@Nullable SecretBytes a, @Nullable SecretBytes b) {
+    if (a == b) return true;
+    if (a == null || b == null || a.destroyed || b.destroyed) return false;
+    try {
+      return MessageDigest.isEqual(a.bytes, b.bytes);
+    } finally {
+      Reference.reachabilityFence(a);
+      Reference.reachabilityFence(b);
+    }
+  }
+
+  /**
+   * Computes hash code of bytes of the given holder.
+   *
+   * @param secret holder
+   * @return hash code of bytes, identity hash code of destroyed holder, or {@code 0} for {@code
+   *     null}
+   */
+  static int hashCode(@Nullable SecretBytes secret) {
+    if (secret == null) return 0;
+    if (secret.destroyed) return System.identityHashCode(secret);
+    try {
+      return Arrays.hashCode(secret.bytes);
+    } finally {
+      Reference.reachabilityFence(secret);
+    }
+  }
+
+  private void requireNotDestroyed() {
+    if (destroyed) {
+      throw new IllegalStateException("Secret is destroyed");
+    }
+  }
+
+  /** Wipes bytes without referencing their holder, which would prevent it from being cleaned. */
+  private static final class Wipe implements Runnable {
+    private final byte[] bytes;
+
+    private Wipe(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public void run() {
+      Arrays.fill(bytes, (byte) 0);
+    }
+  }
+}
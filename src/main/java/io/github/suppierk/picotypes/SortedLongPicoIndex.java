@@ -0,0 +1,382 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable sorted set of {@code long}-based PicoTypes, answering membership, range and rank
+ * queries over a snapshot of values.
+ *
+ * <p>Distinct values are kept in ascending order in a single {@code long[]}, so an index of
+ * millions of elements costs one array instead of a tree node, a wrapper and a boxed value per
+ * element. Queries work on raw values; element instances are created with the element factory only
+ * when requested, e.g. by {@link #select(int)}.
+ *
+ * <p>Besides binary search, {@link #interpolationSearch(long)} guesses positions from the
+ * distribution of values, which takes fewer probes for evenly spread keys such as sequential or
+ * random IDs, and falls back to bisection when guesses stop halving the searched range.
+ *
+ * <p>This class is immutable and safe for concurrent use.
+ *
+ * @param <T> is the type of the elements
+ */
+public final class SortedLongPicoIndex<T extends PicoType<Long>> {
+  private final LongFunction<? extends T> elementFactory;
+  private final long[] values;
+
+  private SortedLongPicoIndex(LongFunction<? extends T> elementFactory, long[] sorted) {
+    this.elementFactory = elementFactory;
+    this.values = sorted;
+  }
+
+  /**
+   * Creates index of the given raw values, ignoring duplicates.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @param values to index, the array is copied
+   * @param <T> is the type of the elements
+   * @return new index
+   * @throws NullPointerException if any of arguments is {@code null}
+   */
+  public static <T extends PicoType<Long>> @NonNull SortedLongPicoIndex<T> of(
+      @NonNull LongFunction<? extends T> elementFactory, long @NonNull [] values) {
+    Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    Objects.requireNonNull(values, "Values must not be null");
+    return create(elementFactory, values.clone());
+  }
+
+  /**
+   * Creates index of the given PicoTypes, ignoring duplicates.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @param elements to index
+   * @param <T> is the type of the elements
+   * @return new index
+   * @throws NullPointerException if any of arguments is {@code null}, or elements contain {@code
+   *     null} or empty PicoTypes
+   */
+  public static <T extends PicoType<Long>> @NonNull SortedLongPicoIndex<T> of(
+      @NonNull LongFunction<? extends T> elementFactory,
+      @NonNull Collection<? extends T> elements) {
+    Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    Objects.requireNonNull(elements, "Elements must not be null");
+    long[] values = new long[elements.size()];
+    int size = 0;
+    for (T element : elements) {
+      values[size++] = PicoValues.requireLong(element);
+    }
+    return create(elementFactory, values);
+  }
+
+  /**
+   * Creates index of non-{@code null} elements of the given column, ignoring duplicates.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @param column to index
+   * @param <T> is the type of the elements
+   * @return new index
+   * @throws NullPointerException if any of arguments is {@code null}
+   */
+  public static <T extends PicoType<Long>> @NonNull SortedLongPicoIndex<T> of(
+      @NonNull LongFunction<? extends T> elementFactory,
+      @NonNull LongPicoColumn<? extends T> column) {
+    Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    Objects.requireNonNull(column, "Column must not be null");
+    return create(elementFactory, column.values().toArray());
+  }
+
+  private static <T extends PicoType<Long>> SortedLongPicoIndex<T> create(
+      LongFunction<? extends T> elementFactory, long[] values) {
+    PicoSort.sort(values);
+
+    int size = 0;
+    for (int i = 0; i < values.length; i++) {
+      if (size == 0 || values[i] != values[size - 1]) {
+        values[size++] = values[i];
+      }
+    }
+    return new SortedLongPicoIndex<>(
+        elementFactory, size == values.length ? values : Arrays.copyOf(values, size));
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Returns {@code true} if there are no elements.
+   *
+   * @return {@code true} if there are no elements
+   */
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  /**
+   * Returns {@code true} if the index contains the given element.
+   *
+   * @param element to look up
+   * @return {@code true} if the element is present, {@code false} for {@code null} and empty
+   *     PicoTypes
+   */
+  public boolean contains(@Nullable T element) {
+    return element != null && element.isPresent() && contains(PicoValues.requireLong(element));
+  }
+
+  /**
+   * Returns {@code true} if the index contains the given raw element.
+   *
+   * @param value to look up
+   * @return {@code true} if the element is present
+   */
+  public boolean contains(long value) {
+    return interpolationSearch(value) >= 0;
+  }
+
+  /**
+   * Searches the given value with binary search.
+   *
+   * @param value to look up
+   * @return index of the value, if present, otherwise {@code (-(insertion point) - 1)}, the same as
+   *     {@link Arrays#binarySearch(long[], long)} returns
+   */
+  public int binarySearch(long value) {
+    return Arrays.binarySearch(values, value);
+  }
+
+  /**
+   * Searches the given value with interpolation search.
+   *
+   * @param value to look up
+   * @return index of the value, if present, otherwise {@code (-(insertion point) - 1)}, the same as
+   *     {@link #binarySearch(long)} returns
+   */
+  public int interpolationSearch(long value) {
+    int low = 0;
+    int high = values.length - 1;
+    int previousWidth = Integer.MAX_VALUE;
+    while (low <= high) {
+      long lowValue = values[low];
+      long highValue = values[high];
+      if (value < lowValue) {
+        return -(low + 1);
+      } else if (value > highValue) {
+        return -(high + 2);
+      }
+
+      int width = high - low;
+      int middle;
+      if (lowValue == highValue) {
+        middle = low;
+      } else if (width <= previousWidth >>> 1) {
+        // Doubles keep the distance between values exact enough for a guess and never overflow
+        double fraction = ((double) value - lowValue) / ((double) highValue - lowValue);
+        middle = Math.min(high, low + (int) (fraction * width));
+      } else {
+        middle = (low + high) >>> 1;
+      }
+      previousWidth = width;
+
+      long middleValue = values[middle];
+      if (middleValue < value) {
+        low = middle + 1;
+      } else if (middleValue > value) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Returns the number of elements smaller than the given value.
+   *
+   * @param value to rank
+   * @return the number of smaller elements, which is also the index of the value if present
+   */
+  public int rank(long value) {
+    int index = interpolationSearch(value);
+    return index >= 0 ? index : -(index + 1);
+  }
+
+  /**
+   * Returns the number of elements smaller than the given element.
+   *
+   * @param element to rank
+   * @return the number of smaller elements, which is also the index of the element if present
+   * @throws NullPointerException if element or its value is {@code null}
+   */
+  public int rank(@NonNull T element) {
+    return rank(PicoValues.requireLong(element));
+  }
+
+  /**
+   * Returns raw value of the element with the given rank.
+   *
+   * @param rank of the element, {@code 0} for the smallest one
+   * @return raw value
+   * @throws IndexOutOfBoundsException if rank is out of bounds
+   */
+  public long selectLong(int rank) {
+    return values[Objects.checkIndex(rank, values.length)];
+  }
+
+  /**
+   * Creates instance of the element with the given rank.
+   *
+   * @param rank of the element, {@code 0} for the smallest one
+   * @return new element instance
+   * @throws IndexOutOfBoundsException if rank is out of bounds
+   */
+  public @NonNull T select(int rank) {
+    return elementFactory.apply(selectLong(rank));
+  }
+
+  /**
+   * Returns raw value of the smallest element.
+   *
+   * @return raw value
+   * @throws NoSuchElementException if the index is empty
+   */
+  public long firstLong() {
+    if (values.length == 0) {
+      throw new NoSuchElementException("No value present");
+    }
+    return values[0];
+  }
+
+  /**
+   * Returns raw value of the largest element.
+   *
+   * @return raw value
+   * @throws NoSuchElementException if the index is empty
+   */
+  public long lastLong() {
+    if (values.length == 0) {
+      throw new NoSuchElementException("No value present");
+    }
+    return values[values.length - 1];
+  }
+
+  /**
+   * Returns the number of elements between the given values, both inclusive.
+   *
+   * @param from lower bound, inclusive
+   * @param to upper bound, inclusive
+   * @return the number of elements in range, {@code 0} if the lower bound exceeds the upper one
+   */
+  public int rangeCount(long from, long to) {
+    return Math.max(0, upperRank(to) - rank(from));
+  }
+
+  /**
+   * Returns the number of elements between the given elements, both inclusive.
+   *
+   * @param from lower bound, inclusive
+   * @param to upper bound, inclusive
+   * @return the number of elements in range, {@code 0} if the lower bound exceeds the upper one
+   * @throws NullPointerException if any of bounds or their values is {@code null}
+   */
+  public int rangeCount(@NonNull T from, @NonNull T to) {
+    return rangeCount(PicoValues.requireLong(from), PicoValues.requireLong(to));
+  }
+
+  /**
+   * Returns ascending iterator over raw values of elements between the given values, both
+   * inclusive.
+   *
+   * @param from lower bound, inclusive
+   * @param to upper bound, inclusive
+   * @return new iterator, which is empty if the lower bound exceeds the upper one
+   */
+  public PrimitiveIterator.@NonNull OfLong rangeIterator(long from, long to) {
+    int fromIndex = rank(from);
+    int toIndex = Math.max(fromIndex, upperRank(to));
+    return Arrays.stream(values, fromIndex, toIndex).iterator();
+  }
+
+  /**
+   * Returns ascending stream of elements between the given elements, both inclusive, creating their
+   * instances lazily.
+   *
+   * @param from lower bound, inclusive
+   * @param to upper bound, inclusive
+   * @return sequential stream of elements, which is empty if the lower bound exceeds the upper one
+   * @throws NullPointerException if any of bounds or their values is {@code null}
+   */
+  public @NonNull Stream<T> range(@NonNull T from, @NonNull T to) {
+    int fromIndex = rank(from);
+    int toIndex = Math.max(fromIndex, upperRank(PicoValues.requireLong(to)));
+    return Arrays.stream(values, fromIndex, toIndex).mapToObj(elementFactory);
+  }
+
+  /**
+   * Returns values of all elements in ascending order.
+   *
+   * @return sequential stream of raw values
+   */
+  public @NonNull LongStream values() {
+    return Arrays.stream(values);
+  }
+
+  /**
+   * Returns all elements in ascending order, creating their instances lazily.
+   *
+   * @return sequential stream of elements
+   */
+  public @NonNull Stream<T> stream() {
+    return values().mapToObj(elementFactory);
+  }
+
+  /**
+   * Returns raw values of all elements in ascending order.
+   *
+   * @return new array with raw values
+   */
+  public long @NonNull [] toRawArray() {
+    return values.clone();
+  }
+
+  /** Returns the number of elements smaller than or equal to the given value. */
+  private int upperRank(long value) {
+    int index = interpolationSearch(value);
+    return index >= 0 ? index + 1 : -(index + 1);
+  }
+}
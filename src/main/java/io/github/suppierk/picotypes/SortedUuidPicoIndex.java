@@ -0,0 +1,422 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable sorted set of {@link UUID}-based PicoTypes, answering membership, range and rank
+ * queries over a snapshot of values.
+ *
+ * <p>Distinct values are kept in the order of {@link UUID#compareTo(UUID)} in a single {@code
+ * long[]}, where each element takes two consecutive slots holding its most and least significant
+ * bits, so an index of millions of elements costs one array instead of a tree node, a wrapper and a
+ * {@link UUID} per element. Queries work on raw bits; element instances are created with the
+ * element factory only when requested, e.g. by {@link #select(int)}.
+ *
+ * <p>Besides binary search, {@link #interpolationSearch(long, long)} guesses positions from the
+ * distribution of most significant bits, which takes fewer probes for random UUIDs, and falls back
+ * to bisection when guesses stop halving the searched range.
+ *
+ * <p>This class is immutable and safe for concurrent use.
+ *
+ * @param <T> is the type of the elements
+ */
+public final class SortedUuidPicoIndex<T extends PicoType<UUID>> {
+  private final Function<? super UUID, ? extends T> elementFactory;
+  private final long[] bits;
+  private final int size;
+
+  private SortedUuidPicoIndex(Function<? super UUID, ? extends T> elementFactory, long[] sorted) {
+    this.elementFactory = elementFactory;
+    this.bits = sorted;
+    this.size = sorted.length / 2;
+  }
+
+  /**
+   * Creates index of the given raw values, ignoring duplicates.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @param rawBits to index, where each element takes two consecutive slots holding its most and
+   *     least significant bits, the same as {@link UuidPicoColumn#toRawArray()} returns; the array
+   *     is copied
+   * @param <T> is the type of the elements
+   * @return new index
+   * @throws NullPointerException if any of arguments is {@code null}
+   * @throws IllegalArgumentException if the array length is odd
+   */
+  public static <T extends PicoType<UUID>> @NonNull SortedUuidPicoIndex<T> of(
+      @NonNull Function<? super UUID, ? extends T> elementFactory, long @NonNull [] rawBits) {
+    Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    Objects.requireNonNull(rawBits, "Values must not be null");
+    if ((rawBits.length & 1) != 0) {
+      throw new IllegalArgumentException(
+          "Values must hold pairs of most and least significant bits");
+    }
+    return create(elementFactory, rawBits.clone());
+  }
+
+  /**
+   * Creates index of the given PicoTypes, ignoring duplicates.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @param elements to index
+   * @param <T> is the type of the elements
+   * @return new index
+   * @throws NullPointerException if any of arguments is {@code null}, or elements contain {@code
+   *     null} or empty PicoTypes
+   */
+  public static <T extends PicoType<UUID>> @NonNull SortedUuidPicoIndex<T> of(
+      @NonNull Function<? super UUID, ? extends T> elementFactory,
+      @NonNull Collection<? extends T> elements) {
+    Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    Objects.requireNonNull(elements, "Elements must not be null");
+    long[] bits = new long[elements.size() * 2];
+    int index = 0;
+    for (T element : elements) {
+      bits[index++] = PicoValues.requireMostSignificantBits(element);
+      bits[index++] = PicoValues.requireLeastSignificantBits(element);
+    }
+    return create(elementFactory, bits);
+  }
+
+  /**
+   * Creates index of non-{@code null} elements of the given column, ignoring duplicates.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @param column to index
+   * @param <T> is the type of the elements
+   * @return new index
+   * @throws NullPointerException if any of arguments is {@code null}
+   */
+  public static <T extends PicoType<UUID>> @NonNull SortedUuidPicoIndex<T> of(
+      @NonNull Function<? super UUID, ? extends T> elementFactory,
+      @NonNull UuidPicoColumn<? extends T> column) {
+    Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    Objects.requireNonNull(column, "Column must not be null");
+    long[] bits = new long[(column.size() - column.nullCount()) * 2];
+    int[] index = {0};
+    column.forEachRaw(
+        (mostSignificantBits, leastSignificantBits) -> {
+          bits[index[0]++] = mostSignificantBits;
+          bits[index[0]++] = leastSignificantBits;
+        });
+    return create(elementFactory, bits);
+  }
+
+  private static <T extends PicoType<UUID>> SortedUuidPicoIndex<T> create(
+      Function<? super UUID, ? extends T> elementFactory, long[] bits) {
+    int count = bits.length / 2;
+    PicoSort.sortUuidBits(bits);
+
+    int size = 0;
+    for (int i = 0; i < count; i++) {
+      if (size == 0 || compare(bits, i, bits[(size - 1) * 2], bits[(size - 1) * 2 + 1]) != 0) {
+        bits[size * 2] = bits[i * 2];
+        bits[size * 2 + 1] = bits[i * 2 + 1];
+        size++;
+      }
+    }
+    return new SortedUuidPicoIndex<>(
+        elementFactory, size == count ? bits : Arrays.copyOf(bits, size * 2));
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns {@code true} if there are no elements.
+   *
+   * @return {@code true} if there are no elements
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns {@code true} if the index contains the given element.
+   *
+   * @param element to look up
+   * @return {@code true} if the element is present, {@code false} for {@code null} and empty
+   *     PicoTypes
+   */
+  public boolean contains(@Nullable T element) {
+    return element != null
+        && element.isPresent()
+        && contains(
+            PicoValues.requireMostSignificantBits(element),
+            PicoValues.requireLeastSignificantBits(element));
+  }
+
+  /**
+   * Returns {@code true} if the index contains the given raw element.
+   *
+   * @param mostSignificantBits of the {@link UUID} to look up
+   * @param leastSignificantBits of the {@link UUID} to look up
+   * @return {@code true} if the element is present
+   */
+  public boolean contains(long mostSignificantBits, long leastSignificantBits) {
+    return interpolationSearch(mostSignificantBits, leastSignificantBits) >= 0;
+  }
+
+  /**
+   * Searches the given value with binary search.
+   *
+   * @param mostSignificantBits of the {@link UUID} to look up
+   * @param leastSignificantBits of the {@link UUID} to look up
+   * @return index of the value, if present, otherwise {@code (-(insertion point) - 1)}, the same as
+   *     {@link Arrays#binarySearch(long[], long)} returns
+   */
+  public int binarySearch(long mostSignificantBits, long leastSignificantBits) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int comparison = compare(bits, middle, mostSignificantBits, leastSignificantBits);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Searches the given value with interpolation search over most significant bits.
+   *
+   * @param mostSignificantBits of the {@link UUID} to look up
+   * @param leastSignificantBits of the {@link UUID} to look up
+   * @return index of the value, if present, otherwise {@code (-(insertion point) - 1)}, the same as
+   *     {@link #binarySearch(long, long)} returns
+   */
+  public int interpolationSearch(long mostSignificantBits, long leastSignificantBits) {
+    int low = 0;
+    int high = size - 1;
+    int previousWidth = Integer.MAX_VALUE;
+    while (low <= high) {
+      if (compare(bits, low, mostSignificantBits, leastSignificantBits) > 0) {
+        return -(low + 1);
+      } else if (compare(bits, high, mostSignificantBits, leastSignificantBits) < 0) {
+        return -(high + 2);
+      }
+
+      long lowValue = bits[low * 2];
+      long highValue = bits[high * 2];
+      int width = high - low;
+      int middle;
+      if (lowValue != highValue && width <= previousWidth >>> 1) {
+        // Doubles keep the distance between values exact enough for a guess and never overflow
+        double fraction =
+            ((double) mostSignificantBits - lowValue) / ((double) highValue - lowValue);
+        middle = Math.min(high, low + (int) (fraction * width));
+      } else {
+        middle = (low + high) >>> 1;
+      }
+      previousWidth = width;
+
+      int comparison = compare(bits, middle, mostSignificantBits, leastSignificantBits);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Returns the number of elements smaller than the given value.
+   *
+   * @param mostSignificantBits of the {@link UUID} to rank
+   * @param leastSignificantBits of the {@link UUID} to rank
+   * @return the number of smaller elements, which is also the index of the value if present
+   */
+  public int rank(long mostSignificantBits, long leastSignificantBits) {
+    int index = interpolationSearch(mostSignificantBits, leastSignificantBits);
+    return index >= 0 ? index : -(index + 1);
+  }
+
+  /**
+   * Returns the number of elements smaller than the given element.
+   *
+   * @param element to rank
+   * @return the number of smaller elements, which is also the index of the element if present
+   * @throws NullPointerException if element or its value is {@code null}
+   */
+  public int rank(@NonNull T element) {
+    return rank(
+        PicoValues.requireMostSignificantBits(element),
+        PicoValues.requireLeastSignificantBits(element));
+  }
+
+  /**
+   * Returns most significant bits of the element with the given rank.
+   *
+   * @param rank of the element, {@code 0} for the smallest one
+   * @return most significant bits
+   * @throws IndexOutOfBoundsException if rank is out of bounds
+   */
+  public long selectMostSignificantBits(int rank) {
+    return bits[Objects.checkIndex(rank, size) * 2];
+  }
+
+  /**
+   * Returns least significant bits of the element with the given rank.
+   *
+   * @param rank of the element, {@code 0} for the smallest one
+   * @return least significant bits
+   * @throws IndexOutOfBoundsException if rank is out of bounds
+   */
+  public long selectLeastSignificantBits(int rank) {
+    return bits[Objects.checkIndex(rank, size) * 2 + 1];
+  }
+
+  /**
+   * Creates instance of the element with the given rank.
+   *
+   * @param rank of the element, {@code 0} for the smallest one
+   * @return new element instance
+   * @throws IndexOutOfBoundsException if rank is out of bounds
+   */
+  public @NonNull T select(int rank) {
+    return materialize(Objects.checkIndex(rank, size));
+  }
+
+  /**
+   * Returns the number of elements between the given elements, both inclusive.
+   *
+   * @param from lower bound, inclusive
+   * @param to upper bound, inclusive
+   * @return the number of elements in range, {@code 0} if the lower bound exceeds the upper one
+   * @throws NullPointerException if any of bounds or their values is {@code null}
+   */
+  public int rangeCount(@NonNull T from, @NonNull T to) {
+    return Math.max(0, upperRank(to) - rank(from));
+  }
+
+  /**
+   * Performs the given action for bits of each element between the given elements, both inclusive,
+   * in ascending order without creating element instances.
+   *
+   * @param from lower bound, inclusive
+   * @param to upper bound, inclusive
+   * @param action to perform
+   * @throws NullPointerException if any of arguments or values of bounds is {@code null}
+   */
+  public void forEachRawInRange(@NonNull T from, @NonNull T to, @NonNull UuidBitsConsumer action) {
+    int fromIndex = rank(from);
+    int toIndex = upperRank(to);
+    Objects.requireNonNull(action, "Action must not be null");
+    for (int i = fromIndex; i < toIndex; i++) {
+      action.accept(bits[i * 2], bits[i * 2 + 1]);
+    }
+  }
+
+  /**
+   * Returns ascending stream of elements between the given elements, both inclusive, creating their
+   * instances lazily.
+   *
+   * @param from lower bound, inclusive
+   * @param to upper bound, inclusive
+   * @return sequential stream of elements, which is empty if the lower bound exceeds the upper one
+   * @throws NullPointerException if any of bounds or their values is {@code null}
+   */
+  public @NonNull Stream<T> range(@NonNull T from, @NonNull T to) {
+    int fromIndex = rank(from);
+    return IntStream.range(fromIndex, Math.max(fromIndex, upperRank(to)))
+        .mapToObj(this::materialize);
+  }
+
+  /**
+   * Performs the given action for bits of each element in ascending order without creating element
+   * instances.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEachRaw(@NonNull UuidBitsConsumer action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    for (int i = 0; i < size; i++) {
+      action.accept(bits[i * 2], bits[i * 2 + 1]);
+    }
+  }
+
+  /**
+   * Returns all elements in ascending order, creating their instances lazily.
+   *
+   * @return sequential stream of elements
+   */
+  public @NonNull Stream<T> stream() {
+    return IntStream.range(0, size).mapToObj(this::materialize);
+  }
+
+  /**
+   * Returns raw values of all elements in ascending order, where each element takes two consecutive
+   * slots holding its most and least significant bits.
+   *
+   * @return new array with raw values
+   */
+  public long @NonNull [] toRawArray() {
+    return bits.clone();
+  }
+
+  private T materialize(int index) {
+    return elementFactory.apply(new UUID(bits[index * 2], bits[index * 2 + 1]));
+  }
+
+  /** Returns the number of elements smaller than or equal to the given element. */
+  private int upperRank(T element) {
+    int index =
+        interpolationSearch(
+            PicoValues.requireMostSignificantBits(element),
+            PicoValues.requireLeastSignificantBits(element));
+    return index >= 0 ? index + 1 : -(index + 1);
+  }
+
+  /** Compares element at the given index with the given bits, in the order of {@link UUID}. */
+  private static int compare(
+      long[] bits, int index, long mostSignificantBits, long leastSignificantBits) {
+    int result = Long.compare(bits[index * 2], mostSignificantBits);
+    return result != 0 ? result : Long.compare(bits[index * 2 + 1], leastSignificantBits);
+  }
+}
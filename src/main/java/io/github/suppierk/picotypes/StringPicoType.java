@@ -76,9 +76,15 @@ public abstract class StringPicoType implements PicoType<String>, Comparable<Str
     return Objects.hashCode(value);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull StringBuilder appendValueTo(@NonNull StringBuilder builder) {
+    return Objects.requireNonNull(builder, "Builder must not be null").append(value);
+  }
+
   /** {@inheritDoc} */
   @Override
   public @NonNull String toString() {
-    return getClass().getSimpleName() + "{value=" + value + '}';
+    return appendTo(new StringBuilder()).toString();
   }
 }
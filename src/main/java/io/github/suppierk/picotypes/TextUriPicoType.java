@@ -0,0 +1,402 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.net.URI;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Abstract wrapper for {@link URI} type, which holds the value as text and parses it lazily.
+ *
+ * <p>Instances created from text only check it for characters and escapes which are never valid in
+ * a {@link URI}. Parsing happens on the first call of {@link #value()} or of a component accessor,
+ * so URIs which are passed through untouched are never parsed, and {@link #text()} returns the text
+ * as given.
+ *
+ * <p>{@link #equals(Object)}, {@link #hashCode()} and {@link #compareTo(TextUriPicoType)} work on a
+ * comparison key computed once: the text with scheme and host in lower case and hex digits of
+ * escaped octets in upper case. Equality therefore matches {@link URI#equals(Object)} for URIs with
+ * server-based authority, while ordering is by the key rather than by {@link URI#compareTo(URI)}.
+ */
+public abstract class TextUriPicoType implements PicoType<URI>, Comparable<TextUriPicoType> {
+  @Nullable private final String text;
+
+  /** Normalized text, the same instance as {@link #text} if normalization changes nothing. */
+  @Nullable private final String key;
+
+  private final int hash;
+
+  /**
+   * Lazily parsed value, the only non-final field of this class. Races are benign as every thread
+   * parses the same text.
+   */
+  @Nullable private URI parsed;
+
+  /**
+   * Creates instance from the given text without parsing it. Use {@link #fromUri(Function, URI)} to
+   * create instances from already parsed values.
+   *
+   * @param text to wrap. Can be {@code null}
+   * @throws IllegalArgumentException if the text contains characters or escapes which are not
+   *     allowed in a URI
+   */
+  protected TextUriPicoType(@Nullable String text) {
+    this.text = text;
+    this.key = text == null ? null : normalize(text);
+    this.hash = Objects.hashCode(key);
+  }
+
+  /**
+   * Creates instance from already parsed value, which {@link #value()} returns without parsing its
+   * text again.
+   *
+   * @param factory creating instances from text, e.g. a constructor reference
+   * @param value to wrap. Can be {@code null}
+   * @param <T> is the type of PicoTypes
+   * @return new instance
+   * @throws NullPointerException if factory is {@code null} or returns {@code null}
+   */
+  public static <T extends TextUriPicoType> @NonNull T fromUri(
+      @NonNull Function<? super String, ? extends T> factory, @Nullable URI value) {
+    Objects.requireNonNull(factory, "Factory must not be null");
+    String text = value == null ? null : value.toString();
+    T result = Objects.requireNonNull(factory.apply(text), "Factory must not return null");
+    TextUriPicoType picoType = result;
+    if (value != null && Objects.equals(text, picoType.text)) {
+      picoType.parsed = value;
+    }
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The text is parsed on the first call and reused afterward.
+   *
+   * @throws IllegalArgumentException if the text is not a valid URI
+   */
+  @Override
+  public @Nullable URI value() {
+    URI result = parsed;
+    if (result == null && text != null) {
+      result = URI.create(text);
+      parsed = result;
+    }
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isPresent() {
+    return text != null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return text == null;
+  }
+
+  /**
+   * Returns the text as given, without parsing it.
+   *
+   * @return the text, or {@code null} if the value is {@code null}
+   */
+  public @Nullable String text() {
+    return text;
+  }
+
+  /**
+   * Returns the scheme, parsing the text if it was not parsed yet.
+   *
+   * @return the scheme, or {@code null} if it is undefined
+   * @throws NoSuchElementException if no value is present
+   * @throws IllegalArgumentException if the text is not a valid URI
+   * @see URI#getScheme()
+   */
+  public @Nullable String scheme() {
+    return requireValue().getScheme();
+  }
+
+  /**
+   * Returns the host, parsing the text if it was not parsed yet.
+   *
+   * @return the host, or {@code null} if it is undefined
+   * @throws NoSuchElementException if no value is present
+   * @throws IllegalArgumentException if the text is not a valid URI
+   * @see URI#getHost()
+   */
+  public @Nullable String host() {
+    return requireValue().getHost();
+  }
+
+  /**
+   * Returns the port, parsing the text if it was not parsed yet.
+   *
+   * @return the port, or {@code -1} if it is undefined
+   * @throws NoSuchElementException if no value is present
+   * @throws IllegalArgumentException if the text is not a valid URI
+   * @see URI#getPort()
+   */
+  public int port() {
+    return requireValue().getPort();
+  }
+
+  /**
+   * Returns the decoded path, parsing the text if it was not parsed yet.
+   *
+   * @return the path, or {@code null} if it is undefined
+   * @throws NoSuchElementException if no value is present
+   * @throws IllegalArgumentException if the text is not a valid URI
+   * @see URI#getPath()
+   */
+  public @Nullable String path() {
+    return requireValue().getPath();
+  }
+
+  /**
+   * Returns the decoded query, parsing the text if it was not parsed yet.
+   *
+   * @return the query, or {@code null} if it is undefined
+   * @throws NoSuchElementException if no value is present
+   * @throws IllegalArgumentException if the text is not a valid URI
+   * @see URI#getQuery()
+   */
+  public @Nullable String query() {
+    return requireValue().getQuery();
+  }
+
+  /**
+   * Returns the decoded fragment, parsing the text if it was not parsed yet.
+   *
+   * @return the fragment, or {@code null} if it is undefined
+   * @throws NoSuchElementException if no value is present
+   * @throws IllegalArgumentException if the text is not a valid URI
+   * @see URI#getFragment()
+   */
+  public @Nullable String fragment() {
+    return requireValue().getFragment();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int compareTo(@NonNull TextUriPicoType o) {
+    return Objects.requireNonNull(key, "Cannot compare null value against another value")
+        .compareTo(
+            Objects.requireNonNull(
+                Objects.requireNonNull(o).key, "Cannot compare value against another null value"));
+  }
+
+  /**
+   * Error Prone check suppressed - the intent here is that PicoTypes represent instances of
+   * specific IDs which are not meant to be comparable between themselves.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("EqualsGetClass")
+  public final boolean equals(@Nullable Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    return hash == ((TextUriPicoType) o).hash && Objects.equals(key, ((TextUriPicoType) o).key);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int hashCode() {
+    return hash;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull StringBuilder appendValueTo(@NonNull StringBuilder builder) {
+    return Objects.requireNonNull(builder, "Builder must not be null").append(text);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull String toString() {
+    return appendTo(new StringBuilder()).toString();
+  }
+
+  private URI requireValue() {
+    URI result = value();
+    if (result == null) {
+      throw new NoSuchElementException("No value present");
+    }
+    return result;
+  }
+
+  /**
+   * Checks the text and returns its comparison key, which is the same instance if the text is
+   * already normalized.
+   */
+  private static String normalize(String text) {
+    int length = text.length();
+    int schemeEnd = -1;
+    int fragmentStart = -1;
+    boolean schemeChecked = false;
+    boolean normalized = true;
+
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+      if (c == '%') {
+        if (i + 2 >= length || !isHexDigit(text.charAt(i + 1)) || !isHexDigit(text.charAt(i + 2))) {
+          throw new IllegalArgumentException("Malformed escaped octet at index " + i);
+        }
+        normalized &=
+            !isLowerHexLetter(text.charAt(i + 1)) && !isLowerHexLetter(text.charAt(i + 2));
+        i += 2;
+      } else if (c == '#') {
+        if (fragmentStart >= 0) {
+          throw new IllegalArgumentException("Illegal character in fragment at index " + i);
+        }
+        fragmentStart = i;
+        schemeChecked = true;
+      } else if (c == ':' && !schemeChecked) {
+        if (!isScheme(text, i)) {
+          throw new IllegalArgumentException("Illegal character in scheme name at index " + i);
+        }
+        schemeEnd = i;
+        schemeChecked = true;
+      } else if (c == '/' || c == '?') {
+        schemeChecked = true;
+      } else if (isIllegal(c)) {
+        throw new IllegalArgumentException("Illegal character at index " + i);
+      }
+    }
+
+    int hostStart = -1;
+    int hostEnd = -1;
+    int authorityStart = schemeEnd + 1;
+    if (text.startsWith("//", authorityStart)) {
+      int authorityEnd = authorityStart + 2;
+      while (authorityEnd < length && "/?#".indexOf(text.charAt(authorityEnd)) < 0) {
+        authorityEnd++;
+      }
+      hostStart = text.lastIndexOf('@', authorityEnd - 1) + 1;
+      hostStart = Math.max(hostStart, authorityStart + 2);
+      hostEnd = hostEnd(text, hostStart, authorityEnd);
+    }
+    for (int i = 0; i < schemeEnd && normalized; i++) {
+      normalized = !isUpperAsciiLetter(text.charAt(i));
+    }
+    for (int i = hostStart; i < hostEnd && normalized; i++) {
+      normalized = !isUpperAsciiLetter(text.charAt(i));
+    }
+    if (normalized) {
+      return text;
+    }
+
+    char[] chars = text.toCharArray();
+    for (int i = 0; i < length; i++) {
+      char c = chars[i];
+      if (c == '%') {
+        chars[i + 1] = Character.toUpperCase(chars[i + 1]);
+        chars[i + 2] = Character.toUpperCase(chars[i + 2]);
+        i += 2;
+      } else if ((i < schemeEnd || (i >= hostStart && i < hostEnd)) && isUpperAsciiLetter(c)) {
+        chars[i] = (char) (c + ('a' - 'A'));
+      }
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Returns end of the host in the given authority, or its start if the host is not server-based
+   * and is compared as is.
+   */
+  private static int hostEnd(String text, int hostStart, int authorityEnd) {
+    int portStart = authorityEnd;
+    for (int i = authorityEnd - 1; i >= hostStart; i--) {
+      char c = text.charAt(i);
+      if (c == ':') {
+        portStart = i;
+        break;
+      } else if (c < '0' || c > '9') {
+        break;
+      }
+    }
+    if (portStart == hostStart) {
+      return hostStart;
+    }
+
+    for (int i = hostStart; i < portStart; i++) {
+      char c = text.charAt(i);
+      if (!isAsciiLetterOrDigit(c)
+          && c != '-'
+          && c != '.'
+          && !(text.charAt(hostStart) == '[' && (c == ':' || c == '[' || c == ']'))) {
+        return hostStart;
+      }
+    }
+    return portStart;
+  }
+
+  /** Returns {@code true} if the text up to the given index is a valid scheme. */
+  private static boolean isScheme(String text, int end) {
+    if (end == 0 || !isAsciiLetter(text.charAt(0))) {
+      return false;
+    }
+    for (int i = 1; i < end; i++) {
+      char c = text.charAt(i);
+      if (!isAsciiLetterOrDigit(c) && c != '+' && c != '-' && c != '.') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns {@code true} for characters which are not allowed anywhere in a URI. */
+  private static boolean isIllegal(char c) {
+    if (c < 0x80) {
+      return c <= ' ' || c == 0x7F || "\"<>\\^`{|}".indexOf(c) >= 0;
+    }
+    return Character.isISOControl(c) || Character.isSpaceChar(c);
+  }
+
+  private static boolean isHexDigit(char c) {
+    return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+
+  private static boolean isLowerHexLetter(char c) {
+    return c >= 'a' && c <= 'f';
+  }
+
+  private static boolean isUpperAsciiLetter(char c) {
+    return c >= 'A' && c <= 'Z';
+  }
+
+  private static boolean isAsciiLetter(char c) {
+    return isUpperAsciiLetter(c) || (c >= 'a' && c <= 'z');
+  }
+
+  private static boolean isAsciiLetterOrDigit(char c) {
+    return isAsciiLetter(c) || (c >= '0' && c <= '9');
+  }
+}
@@ -80,6 +80,6 @@ public abstract class UriPicoType implements PicoType<URI>, Comparable<UriPicoTy
   /** {@inheritDoc} */
   @Override
   public @NonNull String toString() {
-    return getClass().getSimpleName() + "{value=" + value + '}';
+    return appendTo(new StringBuilder()).toString();
   }
 }
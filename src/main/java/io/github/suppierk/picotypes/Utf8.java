@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 encoding of character sequences straight into {@link ByteBuffer}s.
+ *
+ * <p>Unpaired surrogates are replaced with {@code '?'}, the same way as {@link
+ * String#getBytes(java.nio.charset.Charset)} does.
+ */
+final class Utf8 {
+  private static final byte REPLACEMENT = (byte) '?';
+
+  private Utf8() {
+    // Utility class
+  }
+
+  /**
+   * Returns number of bytes taken by the encoded sequence.
+   *
+   * @param sequence to measure
+   * @return number of bytes
+   */
+  static int encodedLength(CharSequence sequence) {
+    int length = sequence.length();
+    int result = length;
+    for (int i = 0; i < length; i++) {
+      char current = sequence.charAt(i);
+      if (current >= 0x80) {
+        if (current < 0x800) {
+          result += 1;
+        } else if (isPairAt(sequence, i)) {
+          result += 2;
+          i++;
+        } else if (!Character.isSurrogate(current)) {
+          result += 2;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Writes the encoded sequence.
+   *
+   * @param sequence to encode
+   * @param buffer to write to
+   */
+  static void encode(CharSequence sequence, ByteBuffer buffer) {
+    int length = sequence.length();
+    for (int i = 0; i < length; i++) {
+      char current = sequence.charAt(i);
+      if (current < 0x80) {
+        buffer.put((byte) current);
+      } else if (current < 0x800) {
+        buffer.put((byte) (0xC0 | (current >>> 6)));
+        buffer.put((byte) (0x80 | (current & 0x3F)));
+      } else if (isPairAt(sequence, i)) {
+        int codePoint = Character.toCodePoint(current, sequence.charAt(++i));
+        buffer.put((byte) (0xF0 | (codePoint >>> 18)));
+        buffer.put((byte) (0x80 | ((codePoint >>> 12) & 0x3F)));
+        buffer.put((byte) (0x80 | ((codePoint >>> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+      } else if (Character.isSurrogate(current)) {
+        buffer.put(REPLACEMENT);
+      } else {
+        buffer.put((byte) (0xE0 | (current >>> 12)));
+        buffer.put((byte) (0x80 | ((current >>> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (current & 0x3F)));
+      }
+    }
+  }
+
+  /**
+   * Reads the encoded string of the given length, advancing buffer position by that length.
+   *
+   * @param buffer to read from
+   * @param length number of bytes
+   * @return decoded string
+   */
+  static String decode(ByteBuffer buffer, int length) {
+    if (length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+
+    String result;
+    if (buffer.hasArray()) {
+      result =
+          new String(
+              buffer.array(),
+              buffer.arrayOffset() + buffer.position(),
+              length,
+              StandardCharsets.UTF_8);
+    } else {
+      byte[] bytes = new byte[length];
+      buffer.get(buffer.position(), bytes);
+      result = new String(bytes, StandardCharsets.UTF_8);
+    }
+    buffer.position(buffer.position() + length);
+    return result;
+  }
+
+  /**
+   * Returns whether the given bytes are well-formed UTF-8, rejecting overlong forms, surrogates and
+   * code points above {@code U+10FFFF}.
+   *
+   * @param bytes to check
+   * @return {@code true} if bytes can be decoded without replacements
+   */
+  static boolean isWellFormed(byte[] bytes) {
+    int length = bytes.length;
+    int i = 0;
+    while (i < length) {
+      int lead = bytes[i] & 0xFF;
+      if (lead < 0x80) {
+        i++;
+      } else if (lead < 0xC2) {
+        return false;
+      } else if (lead < 0xE0) {
+        if (i + 1 >= length || !isContinuation(bytes[i + 1])) {
+          return false;
+        }
+        i += 2;
+      } else if (lead < 0xF0) {
+        if (i + 2 >= length || !isContinuation(bytes[i + 1]) || !isContinuation(bytes[i + 2])) {
+          return false;
+        }
+        int second = bytes[i + 1] & 0xFF;
+        if ((lead == 0xE0 && second < 0xA0) || (lead == 0xED && second > 0x9F)) {
+          return false;
+        }
+        i += 3;
+      } else if (lead < 0xF5) {
+        if (i + 3 >= length
+            || !isContinuation(bytes[i + 1])
+            || !isContinuation(bytes[i + 2])
+            || !isContinuation(bytes[i + 3])) {
+          return false;
+        }
+        int second = bytes[i + 1] & 0xFF;
+        if ((lead == 0xF0 && second < 0x90) || (lead == 0xF4 && second > 0x8F)) {
+          return false;
+        }
+        i += 4;
+      } else {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether the given sequence has no unpaired surrogates, i.e. can be encoded without
+   * replacements.
+   *
+   * @param sequence to check
+   * @return {@code true} if every surrogate is a part of a pair
+   */
+  static boolean isWellFormed(CharSequence sequence) {
+    int length = sequence.length();
+    for (int i = 0; i < length; i++) {
+      if (isPairAt(sequence, i)) {
+        i++;
+      } else if (Character.isSurrogate(sequence.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isContinuation(byte value) {
+    return (value & 0xC0) == 0x80;
+  }
+
+  private static boolean isPairAt(CharSequence sequence, int index) {
+    return Character.isHighSurrogate(sequence.charAt(index))
+        && index + 1 < sequence.length()
+        && Character.isLowSurrogate(sequence.charAt(index + 1));
+  }
+}
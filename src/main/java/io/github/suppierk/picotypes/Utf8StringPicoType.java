@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Abstract wrapper for {@link String} type, which holds the value as UTF-8 bytes.
+ *
+ * <p>Instances are created from network buffers with a single copy and without decoding, while
+ * {@link #equals(Object)}, {@link #hashCode()} and {@link #compareTo(Utf8StringPicoType)} work on
+ * bytes directly. The value is decoded only when {@link #value()} is called, and bytes can be
+ * written back to a buffer or a channel without encoding.
+ *
+ * <p>Since UTF-8 preserves the order of code points, instances are ordered by code points of their
+ * values. This matches {@link String#compareTo(String)} unless values contain supplementary
+ * characters.
+ */
+public abstract class Utf8StringPicoType
+    implements PicoType<String>, Comparable<Utf8StringPicoType> {
+  private final byte @Nullable [] bytes;
+
+  /**
+   * Lazily decoded value, the only non-final field of this class. Races are benign as every thread
+   * decodes the same string from the same bytes.
+   */
+  @Nullable private String decoded;
+
+  /**
+   * Creates instance from the given value.
+   *
+   * @param value to wrap. Can be {@code null}
+   * @throws IllegalArgumentException if value contains unpaired surrogates, which UTF-8 cannot
+   *     represent
+   */
+  protected Utf8StringPicoType(@Nullable String value) {
+    if (value != null && !Utf8.isWellFormed(value)) {
+      throw new IllegalArgumentException("Value must not contain unpaired surrogates");
+    }
+    this.bytes = value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    this.decoded = value;
+  }
+
+  /**
+   * Creates instance from the remaining UTF-8 bytes of the given buffer, without changing its
+   * position.
+   *
+   * @param utf8 to copy bytes from. Can be {@code null}
+   * @throws IllegalArgumentException if bytes are not well-formed UTF-8
+   */
+  protected Utf8StringPicoType(@Nullable ByteBuffer utf8) {
+    if (utf8 == null) {
+      this.bytes = null;
+    } else {
+      byte[] copy = new byte[utf8.remaining()];
+      utf8.get(utf8.position(), copy);
+      if (!Utf8.isWellFormed(copy)) {
+        throw new IllegalArgumentException("Value must be well-formed UTF-8");
+      }
+      this.bytes = copy;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The value is decoded on the first call and reused afterward.
+   */
+  @Override
+  public @Nullable String value() {
+    String result = decoded;
+    if (result == null && bytes != null) {
+      result = new String(bytes, StandardCharsets.UTF_8);
+      decoded = result;
+    }
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isPresent() {
+    return bytes != null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return bytes == null;
+  }
+
+  /**
+   * Returns number of bytes of the encoded value.
+   *
+   * @return number of bytes, or {@code 0} if the value is {@code null}
+   */
+  public int utf8Length() {
+    return bytes == null ? 0 : bytes.length;
+  }
+
+  /**
+   * Returns read-only view of the encoded value without copying it.
+   *
+   * @return new read-only buffer, or {@code null} if the value is {@code null}
+   */
+  public @Nullable ByteBuffer utf8() {
+    return bytes == null ? null : ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+  }
+
+  /**
+   * Returns the encoded value without copying it, callers must not modify it.
+   *
+   * @return encoded value, or {@code null} if the value is {@code null}
+   */
+  final byte @Nullable [] bytes() {
+    return bytes;
+  }
+
+  /**
+   * Writes the encoded value to the given buffer.
+   *
+   * @param buffer to write to
+   * @return the given buffer
+   * @throws NullPointerException if buffer is {@code null}
+   * @throws java.nio.BufferOverflowException if the buffer does not have enough space left
+   */
+  public @NonNull ByteBuffer writeTo(@NonNull ByteBuffer buffer) {
+    Objects.requireNonNull(buffer, "Buffer must not be null");
+    return bytes == null ? buffer : buffer.put(bytes);
+  }
+
+  /**
+   * Writes the encoded value to the given channel, blocking until all bytes are written.
+   *
+   * @param channel to write to
+   * @return number of bytes written
+   * @throws NullPointerException if channel is {@code null}
+   * @throws IOException if writing fails
+   */
+  public int writeTo(@NonNull WritableByteChannel channel) throws IOException {
+    Objects.requireNonNull(channel, "Channel must not be null");
+    if (bytes == null) {
+      return 0;
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    return bytes.length;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int compareTo(@NonNull Utf8StringPicoType o) {
+    return Arrays.compareUnsigned(
+        Objects.requireNonNull(bytes, "Cannot compare null value against another value"),
+        Objects.requireNonNull(
+            Objects.requireNonNull(o).bytes, "Cannot compare value against another null value"));
+  }
+
+  /**
+   * Error Prone check suppressed - the intent here is that PicoTypes represent instances of
+   * specific IDs which are not meant to be comparable between themselves.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("EqualsGetClass")
+  public final boolean equals(@Nullable Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    return Arrays.equals(bytes, ((Utf8StringPicoType) o).bytes);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int hashCode() {
+    return Arrays.hashCode(bytes);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull StringBuilder appendValueTo(@NonNull StringBuilder builder) {
+    return Objects.requireNonNull(builder, "Builder must not be null").append(value());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull String toString() {
+    return appendTo(new StringBuilder()).toString();
+  }
+}
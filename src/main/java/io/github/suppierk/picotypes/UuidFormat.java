@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.UUID;
+
+/** Writes {@link UUID} values in their canonical form without creating intermediate strings. */
+final class UuidFormat {
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private UuidFormat() {
+    // Utility class
+  }
+
+  /**
+   * Appends the canonical form of a {@link UUID}, as returned by {@link UUID#toString()}.
+   *
+   * @param builder to append to
+   * @param mostSignificantBits of the {@link UUID}
+   * @param leastSignificantBits of the {@link UUID}
+   * @return the given builder
+   */
+  static StringBuilder appendTo(
+      StringBuilder builder, long mostSignificantBits, long leastSignificantBits) {
+    appendHex(builder, mostSignificantBits >>> 32, 8).append('-');
+    appendHex(builder, mostSignificantBits >>> 16, 4).append('-');
+    appendHex(builder, mostSignificantBits, 4).append('-');
+    appendHex(builder, leastSignificantBits >>> 48, 4).append('-');
+    return appendHex(builder, leastSignificantBits, 12);
+  }
+
+  private static StringBuilder appendHex(StringBuilder builder, long bits, int digits) {
+    for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+      builder.append(HEX_DIGITS[(int) (bits >>> shift) & 0xF]);
+    }
+    return builder;
+  }
+}
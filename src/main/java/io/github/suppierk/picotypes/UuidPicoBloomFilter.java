@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.UUID;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Blocked Bloom filter of {@link UUID}-based PicoTypes, answering whether an element was definitely
+ * not added.
+ *
+ * <p>Elements are hashed from their most and least significant bits with {@link
+ * PicoHashes#hash64(PicoType)}, so neither wrappers nor {@link UUID}s are needed to query raw
+ * values. All probes of an element fall into a single cache line, insertions and unions are
+ * lock-free and filters can be written to a {@link ByteBuffer}, e.g. to be built offline and loaded
+ * on startup.
+ *
+ * <p>This class is safe for concurrent use. A query running concurrently with insertions may miss
+ * elements which are being added.
+ *
+ * @param <T> is the type of the elements
+ */
+public final class UuidPicoBloomFilter<T extends PicoType<UUID>> {
+  private static final byte KIND = 'U';
+
+  private final BlockedBloomFilter filter;
+
+  /**
+   * Creates empty filter sized for the given number of elements and false positive rate.
+   *
+   * @param expectedInsertions number of elements
+   * @param falsePositiveRate probability of reporting an absent element as present
+   * @throws IllegalArgumentException if expected insertions are negative, the rate is not in {@code
+   *     (0, 1)} exclusive range or the filter would be too large
+   */
+  public UuidPicoBloomFilter(long expectedInsertions, double falsePositiveRate) {
+    this(BlockedBloomFilter.create(expectedInsertions, falsePositiveRate));
+  }
+
+  private UuidPicoBloomFilter(BlockedBloomFilter filter) {
+    this.filter = filter;
+  }
+
+  /**
+   * Reads filter written by {@link #writeTo(ByteBuffer)}, advancing buffer position.
+   *
+   * @param buffer to read from, in any byte order
+   * @param <T> is the type of the elements
+   * @return new filter
+   * @throws NullPointerException if buffer is {@code null}
+   * @throws BufferUnderflowException if the buffer ends before the filter
+   * @throws IllegalArgumentException if the filter is malformed or holds other kind of elements
+   */
+  public static <T extends PicoType<UUID>> @NonNull UuidPicoBloomFilter<T> readFrom(
+      @NonNull ByteBuffer buffer) {
+    return new UuidPicoBloomFilter<>(BlockedBloomFilter.readFrom(buffer, KIND));
+  }
+
+  /**
+   * Adds the given element.
+   *
+   * @param element to add
+   * @return {@code true} if the element was definitely absent before
+   * @throws NullPointerException if element or its value is {@code null}
+   */
+  public boolean add(@NonNull T element) {
+    return add(
+        PicoValues.requireMostSignificantBits(element),
+        PicoValues.requireLeastSignificantBits(element));
+  }
+
+  /**
+   * Adds the given raw element.
+   *
+   * @param mostSignificantBits of the {@link UUID} to add
+   * @param leastSignificantBits of the {@link UUID} to add
+   * @return {@code true} if the element was definitely absent before
+   */
+  public boolean add(long mostSignificantBits, long leastSignificantBits) {
+    return filter.add(hash(mostSignificantBits, leastSignificantBits));
+  }
+
+  /**
+   * Checks whether the given element might have been added.
+   *
+   * @param element to check
+   * @return {@code false} if the element was definitely not added, or is {@code null} or empty
+   */
+  public boolean mightContain(@Nullable T element) {
+    return element != null
+        && element.isPresent()
+        && mightContain(
+            PicoValues.requireMostSignificantBits(element),
+            PicoValues.requireLeastSignificantBits(element));
+  }
+
+  /**
+   * Checks whether the given raw element might have been added.
+   *
+   * @param mostSignificantBits of the {@link UUID} to check
+   * @param leastSignificantBits of the {@link UUID} to check
+   * @return {@code false} if the element was definitely not added
+   */
+  public boolean mightContain(long mostSignificantBits, long leastSignificantBits) {
+    return filter.mightContain(hash(mostSignificantBits, leastSignificantBits));
+  }
+
+  /**
+   * Adds all elements of the other filter to this one.
+   *
+   * @param other filter to merge
+   * @return this filter
+   * @throws NullPointerException if other filter is {@code null}
+   * @throws IllegalArgumentException if filters are not compatible, see {@link
+   *     #isCompatible(UuidPicoBloomFilter)}
+   */
+  public @NonNull UuidPicoBloomFilter<T> union(@NonNull UuidPicoBloomFilter<T> other) {
+    filter.union(Objects.requireNonNull(other, "Filter must not be null").filter);
+    return this;
+  }
+
+  /**
+   * Returns {@code true} if the other filter can be merged into this one, which is the case for
+   * filters created with the same arguments.
+   *
+   * @param other filter to check
+   * @return {@code true} if filters have the same size and number of hashes
+   * @throws NullPointerException if other filter is {@code null}
+   */
+  public boolean isCompatible(@NonNull UuidPicoBloomFilter<T> other) {
+    return filter.isCompatible(Objects.requireNonNull(other, "Filter must not be null").filter);
+  }
+
+  /**
+   * Returns number of bits of the filter.
+   *
+   * @return number of bits
+   */
+  public long bitSize() {
+    return filter.bitSize();
+  }
+
+  /**
+   * Returns number of bits set per element.
+   *
+   * @return number of bits set per element
+   */
+  public int hashCount() {
+    return filter.hashCount();
+  }
+
+  /**
+   * Returns false positive rate estimated from the share of set bits, which grows as elements are
+   * added.
+   *
+   * @return estimated probability of reporting an absent element as present
+   */
+  public double expectedFalsePositiveRate() {
+    return filter.expectedFalsePositiveRate();
+  }
+
+  /**
+   * Returns number of bytes written by {@link #writeTo(ByteBuffer)}.
+   *
+   * @return number of bytes
+   */
+  public int serializedSize() {
+    return filter.serializedSize();
+  }
+
+  /**
+   * Writes the filter in big-endian byte order, regardless of the byte order of the given buffer.
+   *
+   * @param buffer to write to
+   * @return the given buffer
+   * @throws NullPointerException if buffer is {@code null}
+   * @throws BufferOverflowException if the buffer does not have enough space left
+   */
+  public @NonNull ByteBuffer writeTo(@NonNull ByteBuffer buffer) {
+    filter.writeTo(buffer, KIND);
+    return buffer;
+  }
+
+  private static long hash(long mostSignificantBits, long leastSignificantBits) {
+    return PicoHashes.hashUuid(mostSignificantBits, leastSignificantBits, PicoHashes.DEFAULT_SEED);
+  }
+}
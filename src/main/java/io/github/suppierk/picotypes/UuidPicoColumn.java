@@ -0,0 +1,465 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Append-only column of {@link UUID}-based PicoTypes.
+ *
+ * <p>Most and least significant bits of each element are stored next to each other in a {@code
+ * long[]}, with a bitmap marking {@code null} and empty elements, so that a column of millions of
+ * elements costs two arrays instead of millions of wrappers and {@link UUID} instances. Element
+ * instances are created with the element factory only when requested, e.g. by {@link #get(int)};
+ * {@link Cursor} and {@link #forEachRaw(UuidBitsConsumer)} give access to raw values without
+ * allocating per element.
+ *
+ * <p>This class is not thread-safe, but its streams can be processed in parallel as long as the
+ * column is not modified concurrently.
+ *
+ * @param <T> is the type of the elements
+ */
+public final class UuidPicoColumn<T extends PicoType<UUID>> {
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private final Function<? super UUID, ? extends T> elementFactory;
+
+  /** Most and least significant bits of elements, two slots per element. */
+  private long[] bits;
+
+  /** Bits set for elements which are {@code null}. */
+  private long[] nulls;
+
+  private int capacity;
+  private int size;
+  private int nullCount;
+
+  /**
+   * Creates empty column with default capacity.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @throws NullPointerException if element factory is {@code null}
+   */
+  public UuidPicoColumn(@NonNull Function<? super UUID, ? extends T> elementFactory) {
+    this(elementFactory, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates empty column able to hold the given number of elements without growing.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @param initialCapacity number of elements
+   * @throws NullPointerException if element factory is {@code null}
+   * @throws IllegalArgumentException if initial capacity is negative or too large
+   */
+  public UuidPicoColumn(
+      @NonNull Function<? super UUID, ? extends T> elementFactory, int initialCapacity) {
+    this.elementFactory =
+        Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    if (initialCapacity < 0 || initialCapacity > Columns.MAX_CAPACITY / 2) {
+      throw new IllegalArgumentException("Initial capacity must be between 0 and maximum capacity");
+    }
+    this.capacity = initialCapacity;
+    this.bits = new long[initialCapacity * 2];
+    this.nulls = new long[Columns.bitmapLength(initialCapacity)];
+  }
+
+  /**
+   * Returns a {@link Collector} accumulating PicoTypes into a new column.
+   *
+   * @param elementFactory to create element instances from raw values
+   * @param <T> is the type of the elements
+   * @return collector creating a column
+   * @throws NullPointerException if element factory is {@code null}
+   */
+  public static <T extends PicoType<UUID>>
+      @NonNull Collector<@Nullable T, ?, UuidPicoColumn<T>> toColumn(
+          @NonNull Function<? super UUID, ? extends T> elementFactory) {
+    Objects.requireNonNull(elementFactory, "Element factory must not be null");
+    return Collector.of(
+        () -> new UuidPicoColumn<>(elementFactory), UuidPicoColumn::add, UuidPicoColumn::addAll);
+  }
+
+  /**
+   * Returns the number of elements, including {@code null} ones.
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns {@code true} if there are no elements.
+   *
+   * @return {@code true} if there are no elements
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of {@code null} elements.
+   *
+   * @return the number of {@code null} elements
+   */
+  public int nullCount() {
+    return nullCount;
+  }
+
+  /**
+   * Appends the given element, where {@code null} and empty PicoTypes are stored as {@code null}.
+   *
+   * @param element to append
+   * @return this column
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  public @NonNull UuidPicoColumn<T> add(@Nullable T element) {
+    if (element == null || element.isEmpty()) {
+      return addNull();
+    }
+    return add(
+        PicoValues.requireMostSignificantBits(element),
+        PicoValues.requireLeastSignificantBits(element));
+  }
+
+  /**
+   * Appends the given raw element.
+   *
+   * @param mostSignificantBits of the element
+   * @param leastSignificantBits of the element
+   * @return this column
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  public @NonNull UuidPicoColumn<T> add(long mostSignificantBits, long leastSignificantBits) {
+    ensureCapacity(size + 1);
+    bits[size * 2] = mostSignificantBits;
+    bits[size * 2 + 1] = leastSignificantBits;
+    size++;
+    return this;
+  }
+
+  /**
+   * Appends {@code null} element.
+   *
+   * @return this column
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  public @NonNull UuidPicoColumn<T> addNull() {
+    ensureCapacity(size + 1);
+    Columns.set(nulls, size++);
+    nullCount++;
+    return this;
+  }
+
+  /**
+   * Appends all elements of the given column.
+   *
+   * @param other column to append
+   * @return this column
+   * @throws NullPointerException if other column is {@code null}
+   * @throws IllegalStateException if the column cannot grow anymore
+   */
+  public @NonNull UuidPicoColumn<T> addAll(@NonNull UuidPicoColumn<? extends T> other) {
+    Objects.requireNonNull(other, "Column must not be null");
+    int otherSize = other.size;
+    ensureCapacity(size + otherSize);
+    System.arraycopy(other.bits, 0, bits, size * 2, otherSize * 2);
+    for (int i = 0; i < otherSize; i++) {
+      if (Columns.get(other.nulls, i)) {
+        Columns.set(nulls, size + i);
+      }
+    }
+    size += otherSize;
+    nullCount += other.nullCount;
+    return this;
+  }
+
+  /**
+   * Returns {@code true} if the element at the given index is {@code null}.
+   *
+   * @param index of the element
+   * @return {@code true} if the element is {@code null}
+   * @throws IndexOutOfBoundsException if index is out of bounds
+   */
+  public boolean isNull(int index) {
+    return Columns.get(nulls, Objects.checkIndex(index, size));
+  }
+
+  /**
+   * Returns most significant bits of the element at the given index.
+   *
+   * @param index of the element
+   * @return most significant bits
+   * @throws IndexOutOfBoundsException if index is out of bounds
+   * @throws NoSuchElementException if the element is {@code null}
+   */
+  public long getMostSignificantBits(int index) {
+    return bits[requirePresent(index) * 2];
+  }
+
+  /**
+   * Returns least significant bits of the element at the given index.
+   *
+   * @param index of the element
+   * @return least significant bits
+   * @throws IndexOutOfBoundsException if index is out of bounds
+   * @throws NoSuchElementException if the element is {@code null}
+   */
+  public long getLeastSignificantBits(int index) {
+    return bits[requirePresent(index) * 2 + 1];
+  }
+
+  /**
+   * Creates instance of the element at the given index.
+   *
+   * @param index of the element
+   * @return new element instance, or {@code null} if the element is {@code null}
+   * @throws IndexOutOfBoundsException if index is out of bounds
+   */
+  public @Nullable T get(int index) {
+    return isNull(index) ? null : materialize(index);
+  }
+
+  /**
+   * Returns a new cursor positioned before the first element.
+   *
+   * @return new cursor
+   */
+  public @NonNull Cursor cursor() {
+    return new Cursor();
+  }
+
+  /**
+   * Performs the given action for bits of each non-{@code null} element without creating element
+   * instances.
+   *
+   * @param action to perform
+   * @throws NullPointerException if action is {@code null}
+   */
+  public void forEachRaw(@NonNull UuidBitsConsumer action) {
+    Objects.requireNonNull(action, "Action must not be null");
+    for (int i = 0; i < size; i++) {
+      if (!Columns.get(nulls, i)) {
+        action.accept(bits[i * 2], bits[i * 2 + 1]);
+      }
+    }
+  }
+
+  /**
+   * Returns non-{@code null} elements, creating their instances lazily.
+   *
+   * @return sequential stream of elements
+   */
+  public @NonNull Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Returns a {@link Spliterator} over non-{@code null} elements, which creates their instances
+   * lazily and splits the column in halves for parallel processing.
+   *
+   * @return spliterator of elements
+   */
+  public @NonNull Spliterator<T> spliterator() {
+    return new ElementSpliterator(0, size);
+  }
+
+  /**
+   * Returns raw values of all elements, where each element takes two consecutive slots holding its
+   * most and least significant bits and {@code null} elements are represented by {@code 0}.
+   *
+   * @return new array with raw values
+   */
+  public long @NonNull [] toRawArray() {
+    return Arrays.copyOf(bits, size * 2);
+  }
+
+  private int requirePresent(int index) {
+    if (isNull(index)) {
+      throw new NoSuchElementException("No value present");
+    }
+    return index;
+  }
+
+  private T materialize(int index) {
+    return elementFactory.apply(new UUID(bits[index * 2], bits[index * 2 + 1]));
+  }
+
+  private void ensureCapacity(int minCapacity) {
+    if (minCapacity < 0 || minCapacity > capacity) {
+      int grown = Columns.grow(capacity, minCapacity);
+      if (grown > Columns.MAX_CAPACITY / 2) {
+        if (minCapacity > Columns.MAX_CAPACITY / 2) {
+          throw new IllegalStateException("Maximum capacity reached");
+        }
+        grown = Columns.MAX_CAPACITY / 2;
+      }
+      capacity = grown;
+      bits = Arrays.copyOf(bits, grown * 2);
+      nulls = Arrays.copyOf(nulls, Columns.bitmapLength(grown));
+    }
+  }
+
+  /**
+   * Reusable position in the column, which gives access to raw values without allocating.
+   *
+   * <p>Cursor reflects elements appended after its creation.
+   */
+  public final class Cursor {
+    private int index = -1;
+
+    private Cursor() {
+      // Created by the column
+    }
+
+    /**
+     * Moves to the next element.
+     *
+     * @return {@code true} if there is an element at the new position
+     */
+    public boolean next() {
+      if (index < size) {
+        index++;
+      }
+      return index < size;
+    }
+
+    /** Moves back before the first element, so that the cursor can be reused. */
+    public void reset() {
+      index = -1;
+    }
+
+    /**
+     * Returns the current position.
+     *
+     * @return index of the current element
+     */
+    public int index() {
+      return index;
+    }
+
+    /**
+     * Returns {@code true} if the current element is {@code null}.
+     *
+     * @return {@code true} if the current element is {@code null}
+     * @throws IndexOutOfBoundsException if the cursor is not positioned at an element
+     */
+    public boolean isNull() {
+      return UuidPicoColumn.this.isNull(index);
+    }
+
+    /**
+     * Returns most significant bits of the current element.
+     *
+     * @return most significant bits
+     * @throws IndexOutOfBoundsException if the cursor is not positioned at an element
+     * @throws NoSuchElementException if the current element is {@code null}
+     */
+    public long getMostSignificantBits() {
+      return UuidPicoColumn.this.getMostSignificantBits(index);
+    }
+
+    /**
+     * Returns least significant bits of the current element.
+     *
+     * @return least significant bits
+     * @throws IndexOutOfBoundsException if the cursor is not positioned at an element
+     * @throws NoSuchElementException if the current element is {@code null}
+     */
+    public long getLeastSignificantBits() {
+      return UuidPicoColumn.this.getLeastSignificantBits(index);
+    }
+
+    /**
+     * Creates instance of the current element.
+     *
+     * @return new element instance, or {@code null} if the current element is {@code null}
+     * @throws IndexOutOfBoundsException if the cursor is not positioned at an element
+     */
+    public @Nullable T get() {
+      return UuidPicoColumn.this.get(index);
+    }
+  }
+
+  private final class ElementSpliterator implements Spliterator<T> {
+    private int origin;
+    private final int fence;
+
+    private ElementSpliterator(int origin, int fence) {
+      this.origin = origin;
+      this.fence = fence;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable Spliterator<T> trySplit() {
+      int middle = (origin + fence) >>> 1;
+      if (middle <= origin) {
+        return null;
+      }
+      var prefix = new ElementSpliterator(origin, middle);
+      origin = middle;
+      return prefix;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      Objects.requireNonNull(action, "Action must not be null");
+      while (origin < fence) {
+        int index = origin++;
+        if (!Columns.get(nulls, index)) {
+          action.accept(materialize(index));
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long estimateSize() {
+      return (long) fence - origin;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int characteristics() {
+      int characteristics = ORDERED | NONNULL;
+      return nullCount == 0 ? characteristics | SIZED | SUBSIZED : characteristics;
+    }
+  }
+}
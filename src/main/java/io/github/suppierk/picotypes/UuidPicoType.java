@@ -77,9 +77,19 @@ public abstract class UuidPicoType implements PicoType<UUID>, Comparable<UuidPic
     return Objects.hashCode(value);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull StringBuilder appendValueTo(@NonNull StringBuilder builder) {
+    Objects.requireNonNull(builder, "Builder must not be null");
+    return value == null
+        ? builder.append("null")
+        : UuidFormat.appendTo(
+            builder, value.getMostSignificantBits(), value.getLeastSignificantBits());
+  }
+
   /** {@inheritDoc} */
   @Override
   public @NonNull String toString() {
-    return getClass().getSimpleName() + "{value=" + value + '}';
+    return appendTo(new StringBuilder()).toString();
   }
 }
@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Variable-length encoding of integers, where each byte carries 7 bits of the value and the highest
+ * bit marks that more bytes follow.
+ *
+ * <p>Signed values are zig-zag encoded first, so that numbers close to zero take few bytes
+ * regardless of their sign.
+ */
+final class Varints {
+  private static final int MAX_INT_BYTES = 5;
+  private static final int MAX_LONG_BYTES = 10;
+
+  private Varints() {
+    // Utility class
+  }
+
+  /**
+   * Maps signed value to unsigned one, so that small negative values become small positive ones.
+   *
+   * @param value to encode
+   * @return zig-zag encoded value
+   */
+  static int zigZag(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  /**
+   * Maps signed value to unsigned one, so that small negative values become small positive ones.
+   *
+   * @param value to encode
+   * @return zig-zag encoded value
+   */
+  static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  /**
+   * Reverses {@link #zigZag(int)}.
+   *
+   * @param value to decode
+   * @return original signed value
+   */
+  static int unZigZag(int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Reverses {@link #zigZag(long)}.
+   *
+   * @param value to decode
+   * @return original signed value
+   */
+  static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1L);
+  }
+
+  /**
+   * Returns number of bytes taken by the unsigned value.
+   *
+   * @param value to measure
+   * @return number of bytes
+   */
+  static int size(int value) {
+    return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+  }
+
+  /**
+   * Returns number of bytes taken by the unsigned value.
+   *
+   * @param value to measure
+   * @return number of bytes
+   */
+  static int size(long value) {
+    return (63 - Long.numberOfLeadingZeros(value | 1L)) / 7 + 1;
+  }
+
+  /**
+   * Writes the unsigned value.
+   *
+   * @param buffer to write to
+   * @param value to write
+   */
+  static void put(ByteBuffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * Writes the unsigned value.
+   *
+   * @param buffer to write to
+   * @param value to write
+   */
+  static void put(ByteBuffer buffer, long value) {
+    while ((value & ~0x7FL) != 0L) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * Reads the unsigned value.
+   *
+   * @param buffer to read from
+   * @return read value
+   * @throws IllegalArgumentException if the value takes more than 5 bytes
+   */
+  static int getInt(ByteBuffer buffer) {
+    int result = 0;
+    for (int i = 0; i < MAX_INT_BYTES; i++) {
+      byte current = buffer.get();
+      result |= (current & 0x7F) << (7 * i);
+      if (current >= 0) {
+        return result;
+      }
+    }
+    throw new IllegalArgumentException("Malformed variable-length integer");
+  }
+
+  /**
+   * Reads the unsigned value.
+   *
+   * @param buffer to read from
+   * @return read value
+   * @throws IllegalArgumentException if the value takes more than 10 bytes
+   */
+  static long getLong(ByteBuffer buffer) {
+    long result = 0L;
+    for (int i = 0; i < MAX_LONG_BYTES; i++) {
+      byte current = buffer.get();
+      result |= (current & 0x7FL) << (7 * i);
+      if (current >= 0) {
+        return result;
+      }
+    }
+    throw new IllegalArgumentException("Malformed variable-length integer");
+  }
+}
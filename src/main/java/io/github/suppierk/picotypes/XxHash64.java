@@ -0,0 +1,337 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.picotypes;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Seeded xxHash64 over fixed-width values, byte arrays and UTF-8 encoded character sequences.
+ *
+ * <p>Results match the reference implementation for the same input bytes, so they are stable across
+ * JVM versions and can be reproduced in other languages. Character sequences are encoded on the fly
+ * the same way as {@link Utf8#encode(CharSequence, java.nio.ByteBuffer)} does, without intermediate
+ * arrays.
+ */
+final class XxHash64 {
+  private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME_3 = 0x165667B19E3779F9L;
+  private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+
+  private static final int STRIPE = 32;
+
+  private static final VarHandle LONGS =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle INTS =
+      MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /** Characters are hashed as they are. */
+  static final int FOLD_NONE = 0;
+
+  /** ASCII upper case letters are hashed as lower case ones. */
+  static final int FOLD_CASE = 1;
+
+  /** Hex digits of {@code %XX} escapes are hashed in lower case, other characters as they are. */
+  static final int FOLD_ESCAPES = 2;
+
+  private XxHash64() {
+    // Utility class
+  }
+
+  /**
+   * Hashes a single byte.
+   *
+   * @param value to hash
+   * @param seed of the hash
+   * @return hash of the byte
+   */
+  static long hashByte(int value, long seed) {
+    long hash = seed + PRIME_5 + 1;
+    return avalanche(tailByte(hash, value));
+  }
+
+  /**
+   * Hashes 4 little-endian bytes of the value.
+   *
+   * @param value to hash
+   * @param seed of the hash
+   * @return hash of the value
+   */
+  static long hashInt(int value, long seed) {
+    long hash = seed + PRIME_5 + Integer.BYTES;
+    return avalanche(tailInt(hash, value));
+  }
+
+  /**
+   * Hashes 8 little-endian bytes of the value.
+   *
+   * @param value to hash
+   * @param seed of the hash
+   * @return hash of the value
+   */
+  static long hashLong(long value, long seed) {
+    long hash = seed + PRIME_5 + Long.BYTES;
+    return avalanche(tailLong(hash, value));
+  }
+
+  /**
+   * Hashes 8 little-endian bytes of the first value, followed by 4 little-endian bytes of the
+   * second one.
+   *
+   * @param first to hash
+   * @param second to hash
+   * @param seed of the hash
+   * @return hash of both values
+   */
+  static long hashLongInt(long first, int second, long seed) {
+    long hash = seed + PRIME_5 + Long.BYTES + Integer.BYTES;
+    return avalanche(tailInt(tailLong(hash, first), second));
+  }
+
+  /**
+   * Hashes 16 bytes given as two little-endian words.
+   *
+   * @param first word to hash
+   * @param second word to hash
+   * @param seed of the hash
+   * @return hash of both words
+   */
+  static long hashLongs(long first, long second, long seed) {
+    long hash = seed + PRIME_5 + 2 * Long.BYTES;
+    return avalanche(tailLong(tailLong(hash, first), second));
+  }
+
+  /**
+   * Hashes the given bytes.
+   *
+   * @param bytes to hash
+   * @param seed of the hash
+   * @return hash of the bytes
+   */
+  static long hashBytes(byte[] bytes, long seed) {
+    int length = bytes.length;
+    int offset = 0;
+
+    long hash;
+    if (length >= STRIPE) {
+      long v1 = seed + PRIME_1 + PRIME_2;
+      long v2 = seed + PRIME_2;
+      long v3 = seed;
+      long v4 = seed - PRIME_1;
+      for (int limit = length - STRIPE; offset <= limit; offset += STRIPE) {
+        v1 = round(v1, (long) LONGS.get(bytes, offset));
+        v2 = round(v2, (long) LONGS.get(bytes, offset + 8));
+        v3 = round(v3, (long) LONGS.get(bytes, offset + 16));
+        v4 = round(v4, (long) LONGS.get(bytes, offset + 24));
+      }
+      hash = converge(v1, v2, v3, v4);
+    } else {
+      hash = seed + PRIME_5;
+    }
+    hash += length;
+
+    for (; offset + Long.BYTES <= length; offset += Long.BYTES) {
+      hash = tailLong(hash, (long) LONGS.get(bytes, offset));
+    }
+    if (offset + Integer.BYTES <= length) {
+      hash = tailInt(hash, (int) INTS.get(bytes, offset));
+      offset += Integer.BYTES;
+    }
+    for (; offset < length; offset++) {
+      hash = tailByte(hash, bytes[offset]);
+    }
+    return avalanche(hash);
+  }
+
+  /**
+   * Hashes UTF-8 encoding of the given sequence, without encoding it into an array.
+   *
+   * @param sequence to hash
+   * @param fold one of {@link #FOLD_NONE}, {@link #FOLD_CASE} or {@link #FOLD_ESCAPES}
+   * @param seed of the hash
+   * @return hash of the encoded sequence
+   */
+  static long hashUtf8(CharSequence sequence, int fold, long seed) {
+    long v1 = seed + PRIME_1 + PRIME_2;
+    long v2 = seed + PRIME_2;
+    long v3 = seed;
+    long v4 = seed - PRIME_1;
+
+    // Up to three complete words of the current stripe and the word being filled
+    long w0 = 0L;
+    long w1 = 0L;
+    long w2 = 0L;
+    int words = 0;
+    long word = 0L;
+    int shift = 0;
+
+    long total = 0L;
+    int escaped = 0;
+    int length = sequence.length();
+    for (int i = 0; i < length; i++) {
+      char current = sequence.charAt(i);
+      if (fold == FOLD_CASE) {
+        current = toLowerCase(current);
+      } else if (escaped > 0) {
+        current = toLowerCase(current);
+        escaped--;
+      } else if (fold == FOLD_ESCAPES && current == '%') {
+        escaped = 2;
+      }
+
+      // Encoded bytes, lowest one first
+      int encoded;
+      int count;
+      if (current < 0x80) {
+        encoded = current;
+        count = 1;
+      } else if (current < 0x800) {
+        encoded = (0xC0 | (current >>> 6)) | ((0x80 | (current & 0x3F)) << 8);
+        count = 2;
+      } else if (Character.isHighSurrogate(current)
+          && i + 1 < length
+          && Character.isLowSurrogate(sequence.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(current, sequence.charAt(++i));
+        encoded =
+            (0xF0 | (codePoint >>> 18))
+                | ((0x80 | ((codePoint >>> 12) & 0x3F)) << 8)
+                | ((0x80 | ((codePoint >>> 6) & 0x3F)) << 16)
+                | ((0x80 | (codePoint & 0x3F)) << 24);
+        count = 4;
+      } else if (Character.isSurrogate(current)) {
+        encoded = '?';
+        count = 1;
+      } else {
+        encoded =
+            (0xE0 | (current >>> 12))
+                | ((0x80 | ((current >>> 6) & 0x3F)) << 8)
+                | ((0x80 | (current & 0x3F)) << 16);
+        count = 3;
+      }
+
+      total += count;
+      for (; count > 0; count--, encoded >>>= 8) {
+        word |= (encoded & 0xFFL) << shift;
+        shift += Byte.SIZE;
+        if (shift == Long.SIZE) {
+          if (words == 0) {
+            w0 = word;
+          } else if (words == 1) {
+            w1 = word;
+          } else if (words == 2) {
+            w2 = word;
+          } else {
+            v1 = round(v1, w0);
+            v2 = round(v2, w1);
+            v3 = round(v3, w2);
+            v4 = round(v4, word);
+          }
+          words = (words + 1) & 3;
+          word = 0L;
+          shift = 0;
+        }
+      }
+    }
+
+    long hash = total >= STRIPE ? converge(v1, v2, v3, v4) : seed + PRIME_5;
+    hash += total;
+    if (words > 0) {
+      hash = tailLong(hash, w0);
+    }
+    if (words > 1) {
+      hash = tailLong(hash, w1);
+    }
+    if (words > 2) {
+      hash = tailLong(hash, w2);
+    }
+    if (shift >= Integer.SIZE) {
+      hash = tailInt(hash, (int) word);
+      word >>>= Integer.SIZE;
+      shift -= Integer.SIZE;
+    }
+    for (; shift > 0; shift -= Byte.SIZE, word >>>= Byte.SIZE) {
+      hash = tailByte(hash, (int) word);
+    }
+    return avalanche(hash);
+  }
+
+  /**
+   * Combines two hashes in an order-dependent way, mixing the result the same way as final hashes
+   * are mixed.
+   *
+   * @param hash accumulated so far
+   * @param next hash to add
+   * @return combined hash
+   */
+  static long combine(long hash, long next) {
+    return avalanche(tailLong(hash, next));
+  }
+
+  private static char toLowerCase(char value) {
+    return value >= 'A' && value <= 'Z' ? (char) (value + ('a' - 'A')) : value;
+  }
+
+  private static long round(long accumulator, long input) {
+    return Long.rotateLeft(accumulator + input * PRIME_2, 31) * PRIME_1;
+  }
+
+  private static long converge(long v1, long v2, long v3, long v4) {
+    long hash =
+        Long.rotateLeft(v1, 1)
+            + Long.rotateLeft(v2, 7)
+            + Long.rotateLeft(v3, 12)
+            + Long.rotateLeft(v4, 18);
+    hash = merge(hash, v1);
+    hash = merge(hash, v2);
+    hash = merge(hash, v3);
+    return merge(hash, v4);
+  }
+
+  private static long merge(long hash, long accumulator) {
+    return (hash ^ round(0L, accumulator)) * PRIME_1 + PRIME_4;
+  }
+
+  private static long tailLong(long hash, long input) {
+    return Long.rotateLeft(hash ^ round(0L, input), 27) * PRIME_1 + PRIME_4;
+  }
+
+  private static long tailInt(long hash, int input) {
+    return Long.rotateLeft(hash ^ ((input & 0xFFFFFFFFL) * PRIME_1), 23) * PRIME_2 + PRIME_3;
+  }
+
+  private static long tailByte(long hash, int input) {
+    return Long.rotateLeft(hash ^ ((input & 0xFFL) * PRIME_5), 11) * PRIME_1;
+  }
+
+  private static long avalanche(long hash) {
+    hash ^= hash >>> 33;
+    hash *= PRIME_2;
+    hash ^= hash >>> 29;
+    hash *= PRIME_3;
+    return hash ^ (hash >>> 32);
+  }
+}
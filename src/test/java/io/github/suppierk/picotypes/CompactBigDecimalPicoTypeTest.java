@@ -0,0 +1,173 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.jupiter.api.Test;
+
+class CompactBigDecimalPicoTypeTest {
+  private static final BigDecimal HUGE = new BigDecimal("123456789012345678901234567890.12");
+
+  private final TestType nullWrapper = new TestType(null);
+  private final TestType wrapper = new TestType(new BigDecimal("1.50"));
+  private final TestType unscaledWrapper = new TestType(150L, 2);
+  private final TestType biggerWrapper = new TestType(new BigDecimal("1.51"));
+
+  @Test
+  void must_have_correct_equals_and_hashCode() {
+    // Values are stored without trailing zeros, hence BigDecimal field is compared with equals
+    EqualsVerifier.simple()
+        .forClass(CompactBigDecimalPicoType.class)
+        .suppress(Warning.BIGDECIMAL_EQUALITY)
+        .withIgnoredFields("originalScale")
+        .verify();
+  }
+
+  @Test
+  void subclass_must_inherit_correct_equals_and_hashCode() {
+    EqualsVerifier.simple()
+        .forClass(TestType.class)
+        .suppress(Warning.BIGDECIMAL_EQUALITY)
+        .withIgnoredFields("originalScale")
+        .verify();
+  }
+
+  @Test
+  void must_return_value_with_original_scale() {
+    assertNull(nullWrapper.value());
+    assertEquals(new BigDecimal("1.50"), wrapper.value());
+    assertEquals(new BigDecimal("1.50"), unscaledWrapper.value());
+    assertEquals(new BigDecimal("0.000"), new TestType(0L, 3).value());
+    assertEquals(new BigDecimal("1E+3"), new TestType(1L, -3).value());
+    assertEquals(HUGE, new TestType(HUGE).value());
+    assertEquals(
+        new BigDecimal("1000000000000000000000000000000"),
+        new TestType(new BigDecimal("1000000000000000000000000000000")).value());
+  }
+
+  @Test
+  void must_be_equal_when_values_compare_equal() {
+    assertEquals(wrapper, unscaledWrapper);
+    assertEquals(wrapper, new TestType(new BigDecimal("1.5")));
+    assertEquals(wrapper, new TestType(1_500_000L, 6));
+    assertEquals(new TestType(0L, 5), new TestType(BigDecimal.ZERO));
+    assertEquals(new TestType(HUGE), new TestType(HUGE.setScale(10)));
+    assertEquals(
+        new TestType(1L, -30), new TestType(new BigDecimal("1000000000000000000000000000000")));
+    assertNotEquals(wrapper, biggerWrapper);
+    assertNotEquals(nullWrapper, new TestType(0L, 0));
+  }
+
+  @Test
+  void must_hash_equal_values_equally() {
+    assertEquals(wrapper.hashCode(), new TestType(new BigDecimal("1.5000")).hashCode());
+    assertEquals(new TestType(HUGE).hashCode(), new TestType(HUGE.setScale(5)).hashCode());
+    assertEquals(0, nullWrapper.hashCode());
+  }
+
+  @Test
+  void presence_must_be_tracked_without_value() {
+    assertTrue(wrapper.isPresent());
+    assertFalse(wrapper.isEmpty());
+    assertFalse(nullWrapper.isPresent());
+    assertTrue(nullWrapper.isEmpty());
+  }
+
+  @Test
+  void must_have_correct_toString() {
+    assertEquals(TestType.class.getSimpleName() + "{value=1.50}", wrapper.toString());
+    assertEquals(TestType.class.getSimpleName() + "{value=null}", nullWrapper.toString());
+  }
+
+  @Test
+  void must_have_correct_compareTo() {
+    assertEquals(-1, wrapper.compareTo(biggerWrapper));
+    assertEquals(0, wrapper.compareTo(unscaledWrapper));
+    assertEquals(1, biggerWrapper.compareTo(wrapper));
+
+    assertThrows(NullPointerException.class, () -> nullWrapper.compareTo(wrapper));
+    assertThrows(NullPointerException.class, () -> wrapper.compareTo(null));
+    assertThrows(NullPointerException.class, () -> wrapper.compareTo(nullWrapper));
+  }
+
+  @Test
+  void must_compare_like_big_decimal() {
+    var random = new Random(42L);
+    var values = new ArrayList<BigDecimal>();
+    for (long unscaled : List.of(0L, 1L, -1L, 7L, Long.MAX_VALUE, Long.MIN_VALUE, 10L, -100L)) {
+      for (int scale : List.of(0, 1, 2, 18, 19, 40, -1, -19, Integer.MAX_VALUE)) {
+        values.add(BigDecimal.valueOf(unscaled, scale));
+      }
+    }
+    for (int i = 0; i < 200; i++) {
+      long unscaled = random.nextLong() >> random.nextInt(64);
+      values.add(BigDecimal.valueOf(unscaled, random.nextInt(40) - 20));
+      values.add(new BigDecimal(new BigInteger(80, random), random.nextInt(10)));
+    }
+
+    for (BigDecimal left : values) {
+      for (BigDecimal right : values) {
+        int expected = Integer.signum(left.compareTo(right));
+
+        assertEquals(
+            expected,
+            Integer.signum(new TestType(left).compareTo(new TestType(right))),
+            left + " <> " + right);
+        assertEquals(expected == 0, new TestType(left).equals(new TestType(right)));
+      }
+    }
+  }
+
+  @Test
+  void must_hash_stably_like_big_decimal_types() {
+    for (var value : List.of(new BigDecimal("1.50"), BigDecimal.ZERO, HUGE)) {
+      assertEquals(
+          PicoHashes.hash64(new Amount(value)), PicoHashes.hash64(new TestType(value)), "" + value);
+    }
+  }
+
+  @Test
+  void must_be_correctly_serialized_with_Jackson() throws Exception {
+    var mapper = new ObjectMapper();
+    var serialized = mapper.writeValueAsString(wrapper);
+    var deserialized = mapper.readValue(serialized, TestType.class);
+
+    assertEquals("1.50", serialized);
+    assertEquals(wrapper, deserialized);
+  }
+
+  private static class TestType extends CompactBigDecimalPicoType {
+    public TestType(long unscaledValue, int scale) {
+      super(unscaledValue, scale);
+    }
+
+    public TestType(BigDecimal value) {
+      super(value);
+    }
+
+    @Override
+    @JsonValue
+    public BigDecimal value() {
+      return super.value();
+    }
+  }
+
+  private static final class Amount extends BigDecimalPicoType {
+    Amount(BigDecimal value) {
+      super(value);
+    }
+  }
+}
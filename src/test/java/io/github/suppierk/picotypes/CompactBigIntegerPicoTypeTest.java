@@ -0,0 +1,174 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.jupiter.api.Test;
+
+class CompactBigIntegerPicoTypeTest {
+  private static final BigInteger HUGE = BigInteger.ONE.shiftLeft(100).add(BigInteger.TEN);
+
+  private final long value = new Random().nextLong();
+
+  private final TestType nullWrapper = new TestType(null);
+  private final TestType wrapper = new TestType(value);
+  private final TestType boxedWrapper = new TestType(BigInteger.valueOf(value));
+  private final TestType hugeWrapper = new TestType(HUGE);
+
+  @Test
+  void must_have_correct_equals_and_hashCode() {
+    // Hash code is the one of BigInteger, which ignores the long of values which do not fit
+    EqualsVerifier.simple()
+        .forClass(CompactBigIntegerPicoType.class)
+        .suppress(Warning.STRICT_HASHCODE)
+        .verify();
+  }
+
+  @Test
+  void subclass_must_inherit_correct_equals_and_hashCode() {
+    EqualsVerifier.simple().forClass(TestType.class).suppress(Warning.STRICT_HASHCODE).verify();
+  }
+
+  @Test
+  void must_return_passed_value() {
+    assertNull(nullWrapper.value());
+    assertEquals(BigInteger.valueOf(value), wrapper.value());
+    assertEquals(BigInteger.valueOf(value), boxedWrapper.value());
+    assertEquals(HUGE, hugeWrapper.value());
+  }
+
+  @Test
+  void primitive_and_boxed_constructors_must_be_equal() {
+    assertEquals(wrapper, boxedWrapper);
+    assertEquals(wrapper.hashCode(), boxedWrapper.hashCode());
+    assertEquals(hugeWrapper, new TestType(new BigInteger(HUGE.toByteArray())));
+    assertNotEquals(nullWrapper, new TestType(0L));
+    assertNotEquals(hugeWrapper, wrapper);
+  }
+
+  @Test
+  void must_keep_hashCode_of_big_integer() {
+    var values = new ArrayList<>(List.of(0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 32));
+    var random = new Random(42L);
+    for (int i = 0; i < 1_000; i++) {
+      values.add(random.nextLong() >> random.nextInt(64));
+    }
+
+    for (long v : values) {
+      assertEquals(BigInteger.valueOf(v).hashCode(), new TestType(v).hashCode(), "" + v);
+    }
+    assertEquals(HUGE.hashCode(), hugeWrapper.hashCode());
+    assertEquals(0, nullWrapper.hashCode());
+  }
+
+  @Test
+  void presence_must_be_tracked_without_value() {
+    assertTrue(wrapper.isPresent());
+    assertFalse(wrapper.isEmpty());
+    assertFalse(nullWrapper.isPresent());
+    assertTrue(nullWrapper.isEmpty());
+  }
+
+  @Test
+  void longValueExact_must_return_value_or_throw() {
+    assertEquals(value, wrapper.longValueExact());
+    assertEquals(value, boxedWrapper.longValueExact());
+    assertThrows(NoSuchElementException.class, nullWrapper::longValueExact);
+    assertThrows(ArithmeticException.class, hugeWrapper::longValueExact);
+  }
+
+  @Test
+  void must_have_correct_toString() {
+    assertEquals(TestType.class.getSimpleName() + "{value=" + value + '}', wrapper.toString());
+    assertEquals(TestType.class.getSimpleName() + "{value=" + HUGE + '}', hugeWrapper.toString());
+    assertEquals(TestType.class.getSimpleName() + "{value=null}", nullWrapper.toString());
+  }
+
+  @Test
+  void must_have_correct_compareTo() {
+    assertEquals(-1, new TestType(1L).compareTo(new TestType(2L)));
+    assertEquals(0, wrapper.compareTo(boxedWrapper));
+    assertEquals(1, hugeWrapper.compareTo(new TestType(Long.MAX_VALUE)));
+
+    assertThrows(NullPointerException.class, () -> nullWrapper.compareTo(wrapper));
+    assertThrows(NullPointerException.class, () -> wrapper.compareTo(null));
+    assertThrows(NullPointerException.class, () -> wrapper.compareTo(nullWrapper));
+  }
+
+  @Test
+  void must_compare_like_big_integer() {
+    var values =
+        List.of(
+            HUGE,
+            HUGE.negate(),
+            BigInteger.valueOf(Long.MAX_VALUE),
+            BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE),
+            BigInteger.valueOf(Long.MIN_VALUE),
+            BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE),
+            BigInteger.ZERO,
+            BigInteger.ONE,
+            BigInteger.ONE.negate());
+
+    for (BigInteger left : values) {
+      for (BigInteger right : values) {
+        assertEquals(
+            Integer.signum(left.compareTo(right)),
+            Integer.signum(new TestType(left).compareTo(new TestType(right))),
+            left + " <> " + right);
+        assertEquals(left.equals(right), new TestType(left).equals(new TestType(right)));
+      }
+    }
+  }
+
+  @Test
+  void must_hash_stably_like_big_integer_types() {
+    for (var v : List.of(BigInteger.valueOf(value), BigInteger.ZERO, HUGE)) {
+      assertEquals(PicoHashes.hash64(new Counter(v)), PicoHashes.hash64(new TestType(v)));
+    }
+  }
+
+  @Test
+  void must_be_correctly_serialized_with_Jackson() throws Exception {
+    var mapper = new ObjectMapper();
+    var serialized = mapper.writeValueAsString(hugeWrapper);
+    var deserialized = mapper.readValue(serialized, TestType.class);
+
+    assertEquals(HUGE.toString(), serialized);
+    assertEquals(hugeWrapper, deserialized);
+  }
+
+  private static class TestType extends CompactBigIntegerPicoType {
+    public TestType(long value) {
+      super(value);
+    }
+
+    public TestType(BigInteger value) {
+      super(value);
+    }
+
+    @Override
+    @JsonValue
+    public BigInteger value() {
+      return super.value();
+    }
+  }
+
+  private static final class Counter extends BigIntegerPicoType {
+    Counter(BigInteger value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+
+class DoublePicoColumnTest {
+  private final DoublePicoColumn<Score> column = new DoublePicoColumn<>(Score::new, 0);
+
+  @Test
+  void must_reject_invalid_arguments() {
+    assertThrows(NullPointerException.class, () -> new DoublePicoColumn<Score>(null));
+    assertThrows(IllegalArgumentException.class, () -> new DoublePicoColumn<>(Score::new, -1));
+    assertThrows(NullPointerException.class, () -> column.addAll(null));
+    assertThrows(NullPointerException.class, () -> DoublePicoColumn.toColumn(null));
+  }
+
+  @Test
+  void must_store_values_and_nulls() {
+    column.add(new Score(4.2)).add(null).add(new Score(null)).add(-0.5).addNull();
+
+    assertEquals(5, column.size());
+    assertEquals(3, column.nullCount());
+    assertFalse(column.isNull(0));
+    assertTrue(column.isNull(1));
+    assertEquals(4.2, column.getDouble(0));
+    assertEquals(new Score(-0.5), column.get(3));
+    assertNull(column.get(4));
+    assertArrayEquals(new double[] {4.2, 0.0, 0.0, -0.5, 0.0}, column.toRawArray());
+
+    assertThrows(NoSuchElementException.class, () -> column.getDouble(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.get(5));
+  }
+
+  @Test
+  void must_accept_primitive_elements() {
+    var compact = new DoublePicoColumn<CompactScore>(CompactScore::new);
+
+    compact.add(new CompactScore(4.2)).add(new CompactScore(null));
+
+    assertEquals(4.2, compact.getDouble(0));
+    assertTrue(compact.isNull(1));
+  }
+
+  @Test
+  void must_iterate_with_reusable_cursor() {
+    column.add(1.0).addNull().add(3.0);
+    var cursor = column.cursor();
+
+    var seen = new ArrayList<Double>();
+    while (cursor.next()) {
+      seen.add(cursor.isNull() ? null : cursor.getDouble());
+    }
+
+    assertEquals(Arrays.asList(1.0, null, 3.0), seen);
+    assertArrayEquals(new double[] {1.0, 3.0}, column.values().toArray());
+    assertEquals(List.of(new Score(1.0), new Score(3.0)), column.stream().toList());
+  }
+
+  @Test
+  void aggregates_of_empty_column_must_be_empty() {
+    column.addNull();
+
+    assertEquals(0.0, column.sum());
+    assertEquals(OptionalDouble.empty(), column.min());
+    assertEquals(OptionalDouble.empty(), column.max());
+    assertEquals(OptionalDouble.empty(), column.mean());
+    assertArrayEquals(new long[2], column.histogram(0.0, 1.0, 2));
+  }
+
+  @Test
+  void must_aggregate_small_columns() {
+    column.add(2.0).addNull().add(-1.0).add(5.0).add(new Score(null)).add(4.0);
+
+    assertEquals(10.0, column.sum());
+    assertEquals(OptionalDouble.of(-1.0), column.min());
+    assertEquals(OptionalDouble.of(5.0), column.max());
+    assertEquals(OptionalDouble.of(2.5), column.mean());
+  }
+
+  @Test
+  void must_aggregate_large_columns_in_chunks() {
+    int size = 300_000;
+    IntStream.range(0, size).forEach(i -> column.add(i % 7 == 0 ? null : new Score(i - 1000.0)));
+
+    var expected =
+        IntStream.range(0, size).filter(i -> i % 7 != 0).mapToDouble(i -> i - 1000.0).toArray();
+
+    assertEquals(Arrays.stream(expected).sum(), column.sum());
+    assertEquals(Arrays.stream(expected).min(), column.min());
+    assertEquals(Arrays.stream(expected).max(), column.max());
+    assertEquals(Arrays.stream(expected).average(), column.mean());
+  }
+
+  @Test
+  void min_and_max_must_follow_Math_semantics() {
+    column.add(0.0).add(-0.0).add(1.0);
+
+    assertEquals(OptionalDouble.of(-0.0), column.min());
+    assertEquals(OptionalDouble.of(1.0), column.max());
+
+    column.add(Double.NaN);
+
+    assertTrue(Double.isNaN(column.min().orElseThrow()));
+    assertTrue(Double.isNaN(column.max().orElseThrow()));
+    assertTrue(Double.isNaN(column.sum()));
+  }
+
+  @Test
+  void histogram_must_count_values_in_range() {
+    column.add(0.0).add(0.5).add(2.4).add(2.5).add(10.0).add(-0.1).add(10.1).add(Double.NaN);
+    column.addNull();
+
+    assertArrayEquals(new long[] {2L, 2L, 0L, 0L, 1L}, column.histogram(0.0, 10.0, 5));
+    assertEquals(7L, Arrays.stream(column.histogram(-Double.MAX_VALUE, Double.MAX_VALUE, 2)).sum());
+  }
+
+  @Test
+  void histogram_of_large_columns_must_match_sequential_counts() {
+    IntStream.range(0, 200_000)
+        .forEach(i -> column.add(i % 5 == 0 ? null : new Score((double) (i % 100))));
+
+    long[] histogram = column.histogram(0.0, 100.0, 10);
+
+    assertEquals(column.size() - column.nullCount(), Arrays.stream(histogram).sum());
+    assertEquals(16_000L, histogram[0]);
+    assertEquals(16_000L, histogram[9]);
+  }
+
+  @Test
+  void histogram_must_reject_invalid_arguments() {
+    assertThrows(IllegalArgumentException.class, () -> column.histogram(1.0, 1.0, 1));
+    assertThrows(IllegalArgumentException.class, () -> column.histogram(0.0, Double.NaN, 1));
+    assertThrows(
+        IllegalArgumentException.class, () -> column.histogram(0.0, Double.POSITIVE_INFINITY, 1));
+    assertThrows(IllegalArgumentException.class, () -> column.histogram(0.0, 1.0, 0));
+  }
+
+  @Test
+  void must_split_for_parallel_streams() {
+    IntStream.range(0, 100_000).forEach(i -> column.add(i % 3 == 0 ? null : new Score(1.0)));
+
+    var actual = StreamSupport.doubleStream(column.spliterator(), true).count();
+
+    assertEquals(column.size() - column.nullCount(), actual);
+  }
+
+  @Test
+  void must_collect_into_column() {
+    var collected =
+        IntStream.range(0, 3)
+            .mapToObj(i -> i == 1 ? null : new Score((double) i))
+            .parallel()
+            .collect(DoublePicoColumn.toColumn(Score::new));
+
+    assertEquals(3, collected.size());
+    assertEquals(1, collected.nullCount());
+    assertEquals(2.0, collected.getDouble(2));
+  }
+
+  static final class Score extends DoublePicoType {
+    Score(Double value) {
+      super(value);
+    }
+  }
+
+  static final class CompactScore extends PrimitiveDoublePicoType {
+    CompactScore(Double value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class HashedPasswordPicoTypeTest {
+  private final PasswordHasher hasher = new PasswordHasher(PasswordHasher.DEFAULT_ALGORITHM, 1_000);
+  private final char[] password = "correct horse battery staple".toCharArray();
+
+  private final TestType nullWrapper = new TestType(null);
+  private final TestType wrapper = new TestType(hasher.hash(password));
+
+  @Test
+  void must_have_correct_equals_and_hashCode() {
+    EqualsVerifier.simple().forClass(HashedPasswordPicoType.class).verify();
+  }
+
+  @Test
+  void subclass_must_inherit_correct_equals_and_hashCode() {
+    EqualsVerifier.simple().forClass(TestType.class).verify();
+  }
+
+  @Test
+  void must_return_passed_value_as_is() {
+    var hash = hasher.hash(password);
+
+    assertNull(nullWrapper.value());
+    assertEquals(hash, new TestType(hash).value());
+  }
+
+  @Test
+  void must_reject_malformed_hashes() {
+    assertThrows(IllegalArgumentException.class, () -> new TestType("plaintext"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new TestType("PBEWithMD5AndDES$1$c2FsdHNhbHRzYWx0c2FsdA$aHVudGVyMg"));
+  }
+
+  @Test
+  void must_match_password() {
+    assertTrue(wrapper.matches(password));
+    assertFalse(wrapper.matches("Tr0ub4dor&3".toCharArray()));
+    assertFalse(nullWrapper.matches(password));
+    assertThrows(NullPointerException.class, () -> wrapper.matches(null));
+  }
+
+  @Test
+  void must_detect_hashes_needing_rehash() {
+    assertFalse(wrapper.needsRehash(hasher));
+    assertTrue(wrapper.needsRehash(new PasswordHasher(PasswordHasher.DEFAULT_ALGORITHM, 2_000)));
+    assertFalse(nullWrapper.needsRehash(hasher));
+  }
+
+  @Test
+  void must_have_correct_toString() {
+    assertEquals(TestType.class.getSimpleName() + "{value=*******}", wrapper.toString());
+  }
+
+  private static class TestType extends HashedPasswordPicoType {
+    public TestType(String value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+
+class IntPicoColumnTest {
+  private final IntPicoColumn<OrderId> column = new IntPicoColumn<>(OrderId::new, 0);
+
+  @Test
+  void must_reject_invalid_arguments() {
+    assertThrows(NullPointerException.class, () -> new IntPicoColumn<OrderId>(null));
+    assertThrows(IllegalArgumentException.class, () -> new IntPicoColumn<>(OrderId::new, -1));
+    assertThrows(NullPointerException.class, () -> column.addAll(null));
+    assertThrows(NullPointerException.class, () -> IntPicoColumn.toColumn(null));
+  }
+
+  @Test
+  void must_store_values_and_nulls() {
+    column.add(new OrderId(42)).add(null).add(new OrderId(null)).add(7).addNull();
+
+    assertEquals(5, column.size());
+    assertEquals(3, column.nullCount());
+    assertFalse(column.isNull(0));
+    assertTrue(column.isNull(1));
+    assertTrue(column.isNull(2));
+    assertEquals(42, column.getInt(0));
+    assertEquals(new OrderId(7), column.get(3));
+    assertNull(column.get(4));
+    assertArrayEquals(new int[] {42, 0, 0, 7, 0}, column.toRawArray());
+
+    assertThrows(NoSuchElementException.class, () -> column.getInt(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.get(5));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.isNull(-1));
+  }
+
+  @Test
+  void must_accept_primitive_elements() {
+    var compact = new IntPicoColumn<CompactOrderId>(CompactOrderId::new);
+
+    compact.add(new CompactOrderId(42)).add(new CompactOrderId(null));
+
+    assertEquals(42, compact.getInt(0));
+    assertTrue(compact.isNull(1));
+  }
+
+  @Test
+  void must_iterate_with_reusable_cursor() {
+    column.add(1).addNull().add(3);
+    var cursor = column.cursor();
+
+    for (int pass = 0; pass < 2; pass++) {
+      var seen = new ArrayList<Integer>();
+      while (cursor.next()) {
+        seen.add(cursor.isNull() ? null : cursor.getInt());
+      }
+      cursor.reset();
+
+      assertEquals(Arrays.asList(1, null, 3), seen);
+    }
+
+    assertThrows(IndexOutOfBoundsException.class, cursor::getInt);
+    cursor.next();
+    assertEquals(new OrderId(1), cursor.get());
+    assertEquals(0, cursor.index());
+  }
+
+  @Test
+  void must_grow_beyond_initial_capacity() {
+    for (int i = 0; i < 1000; i++) {
+      if (i % 10 == 0) {
+        column.addNull();
+      } else {
+        column.add(i);
+      }
+    }
+
+    assertEquals(1000, column.size());
+    assertEquals(100, column.nullCount());
+    assertTrue(column.isNull(990));
+    assertEquals(999, column.getInt(999));
+  }
+
+  @Test
+  void must_stream_non_null_values() {
+    column.add(1).addNull().add(3);
+
+    assertArrayEquals(new int[] {1, 3}, column.values().toArray());
+    assertEquals(List.of(new OrderId(1), new OrderId(3)), column.stream().toList());
+  }
+
+  @Test
+  void must_split_for_parallel_streams() {
+    IntStream.range(0, 100_000).forEach(i -> column.add(i % 3 == 0 ? null : new OrderId(i)));
+
+    var expected = IntStream.range(0, 100_000).filter(i -> i % 3 != 0).sum();
+    var actual = StreamSupport.intStream(column.spliterator(), true).sum();
+
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void must_collect_into_column() {
+    var collected =
+        Stream.of(new OrderId(1), null, new OrderId(3))
+            .parallel()
+            .collect(IntPicoColumn.toColumn(OrderId::new));
+
+    assertEquals(3, collected.size());
+    assertEquals(1, collected.nullCount());
+    assertTrue(collected.isNull(1));
+    assertEquals(3, collected.getInt(2));
+  }
+
+  static final class OrderId extends IntegerPicoType {
+    OrderId(Integer value) {
+      super(value);
+    }
+  }
+
+  static final class CompactOrderId extends PrimitiveIntegerPicoType {
+    CompactOrderId(Integer value) {
+      super(value);
+    }
+  }
+}
@@ -5,12 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 class IntegrityTest {
+  /**
+   * Fields caching values derived lazily from final fields, which are the only fields allowed to be
+   * non-final. They must not take part in {@code equals} and {@code hashCode}.
+   */
+  private static final Map<Class<?>, String> LAZY_FIELDS =
+      Map.of(Utf8StringPicoType.class, "decoded", TextUriPicoType.class, "parsed");
 
   static Stream<Arguments> picoTypes() {
     return Stream.of(
@@ -18,6 +25,7 @@ class IntegrityTest {
         Arguments.of(BigIntegerPicoType.class),
         Arguments.of(BooleanPicoType.class),
         Arguments.of(DoublePicoType.class),
+        Arguments.of(HashedPasswordPicoType.class),
         Arguments.of(IntegerPicoType.class),
         Arguments.of(LongPicoType.class),
         Arguments.of(PasswordPicoType.class),
@@ -26,6 +34,22 @@ class IntegrityTest {
         Arguments.of(UuidPicoType.class));
   }
 
+  static Stream<Arguments> primitivePicoTypes() {
+    return Stream.of(
+        Arguments.of(CompactBigDecimalPicoType.class),
+        Arguments.of(CompactBigIntegerPicoType.class),
+        Arguments.of(PrimitiveIntegerPicoType.class),
+        Arguments.of(PrimitiveLongPicoType.class),
+        Arguments.of(PrimitiveDoublePicoType.class),
+        Arguments.of(PrimitiveUuidPicoType.class),
+        Arguments.of(Utf8StringPicoType.class),
+        Arguments.of(TextUriPicoType.class));
+  }
+
+  static Stream<Arguments> allPicoTypes() {
+    return Stream.concat(picoTypes(), primitivePicoTypes());
+  }
+
   @ParameterizedTest
   @MethodSource("picoTypes")
   void must_have_single_private_final_field(Class<? extends PicoType<?>> picoType) {
@@ -52,14 +76,40 @@ class IntegrityTest {
   }
 
   @ParameterizedTest
-  @MethodSource("picoTypes")
+  @MethodSource("primitivePicoTypes")
+  void must_have_only_private_final_fields(Class<? extends PicoType<?>> picoType) {
+    var fields =
+        Arrays.stream(picoType.getDeclaredFields())
+            .filter(f -> !f.getName().startsWith("$$"))
+            .toList();
+
+    for (var field : fields) {
+      assertTrue(Modifier.isPrivate(field.getModifiers()), "Field must be private");
+      if (!field.getName().equals(LAZY_FIELDS.get(picoType))) {
+        assertTrue(Modifier.isFinal(field.getModifiers()), "Field must be final");
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("primitivePicoTypes")
+  void must_have_only_protected_constructors(Class<? extends PicoType<?>> picoType) {
+    for (var constructor : picoType.getDeclaredConstructors()) {
+      assertTrue(
+          Modifier.isProtected(constructor.getModifiers()),
+          "Declared constructor must be protected");
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("allPicoTypes")
   void must_have_equals_method(Class<? extends PicoType<?>> picoType) throws NoSuchMethodException {
     var equals = picoType.getDeclaredMethod("equals", Object.class);
     assertTrue(Modifier.isFinal(equals.getModifiers()), "equals must be final");
   }
 
   @ParameterizedTest
-  @MethodSource("picoTypes")
+  @MethodSource("allPicoTypes")
   void must_have_final_hashCode_method(Class<? extends PicoType<?>> picoType)
       throws NoSuchMethodException {
     var hashCode = picoType.getDeclaredMethod("hashCode");
@@ -0,0 +1,138 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+
+class LongPicoColumnTest {
+  private final LongPicoColumn<OrderId> column = new LongPicoColumn<>(OrderId::new, 0);
+
+  @Test
+  void must_reject_invalid_arguments() {
+    assertThrows(NullPointerException.class, () -> new LongPicoColumn<OrderId>(null));
+    assertThrows(IllegalArgumentException.class, () -> new LongPicoColumn<>(OrderId::new, -1));
+    assertThrows(NullPointerException.class, () -> column.addAll(null));
+    assertThrows(NullPointerException.class, () -> LongPicoColumn.toColumn(null));
+  }
+
+  @Test
+  void must_store_values_and_nulls() {
+    column.add(new OrderId(42L)).add(null).add(new OrderId(null)).add(7L).addNull();
+
+    assertEquals(5, column.size());
+    assertEquals(3, column.nullCount());
+    assertFalse(column.isNull(0));
+    assertTrue(column.isNull(1));
+    assertTrue(column.isNull(2));
+    assertEquals(42L, column.getLong(0));
+    assertEquals(new OrderId(7L), column.get(3));
+    assertNull(column.get(4));
+    assertArrayEquals(new long[] {42L, 0L, 0L, 7L, 0L}, column.toRawArray());
+
+    assertThrows(NoSuchElementException.class, () -> column.getLong(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.get(5));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.isNull(-1));
+  }
+
+  @Test
+  void must_accept_primitive_elements() {
+    var compact = new LongPicoColumn<CompactOrderId>(CompactOrderId::new);
+
+    compact.add(new CompactOrderId(42L)).add(new CompactOrderId(null));
+
+    assertEquals(42L, compact.getLong(0));
+    assertTrue(compact.isNull(1));
+  }
+
+  @Test
+  void must_iterate_with_reusable_cursor() {
+    column.add(1L).addNull().add(3L);
+    var cursor = column.cursor();
+
+    for (int pass = 0; pass < 2; pass++) {
+      var seen = new ArrayList<Long>();
+      while (cursor.next()) {
+        seen.add(cursor.isNull() ? null : cursor.getLong());
+      }
+      cursor.reset();
+
+      assertEquals(Arrays.asList(1L, null, 3L), seen);
+    }
+
+    assertThrows(IndexOutOfBoundsException.class, cursor::getLong);
+    cursor.next();
+    assertEquals(new OrderId(1L), cursor.get());
+    assertEquals(0, cursor.index());
+  }
+
+  @Test
+  void must_grow_beyond_initial_capacity() {
+    for (long i = 0; i < 1000; i++) {
+      if (i % 10 == 0) {
+        column.addNull();
+      } else {
+        column.add(i);
+      }
+    }
+
+    assertEquals(1000, column.size());
+    assertEquals(100, column.nullCount());
+    assertTrue(column.isNull(990));
+    assertEquals(999L, column.getLong(999));
+  }
+
+  @Test
+  void must_stream_non_null_values() {
+    column.add(1L).addNull().add(3L);
+
+    assertArrayEquals(new long[] {1L, 3L}, column.values().toArray());
+    assertEquals(List.of(new OrderId(1L), new OrderId(3L)), column.stream().toList());
+  }
+
+  @Test
+  void must_split_for_parallel_streams() {
+    LongStream.range(0, 100_000).forEach(i -> column.add(i % 3 == 0 ? null : new OrderId(i)));
+
+    var expected = LongStream.range(0, 100_000).filter(i -> i % 3 != 0).sum();
+    var actual = StreamSupport.longStream(column.spliterator(), true).sum();
+
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void must_collect_into_column() {
+    var collected =
+        Stream.of(new OrderId(1L), null, new OrderId(3L))
+            .parallel()
+            .collect(LongPicoColumn.toColumn(OrderId::new));
+
+    assertEquals(3, collected.size());
+    assertEquals(1, collected.nullCount());
+    assertTrue(collected.isNull(1));
+    assertEquals(3L, collected.getLong(2));
+  }
+
+  static final class OrderId extends LongPicoType {
+    OrderId(Long value) {
+      super(value);
+    }
+  }
+
+  static final class CompactOrderId extends PrimitiveLongPicoType {
+    CompactOrderId(Long value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class PasswordHasherTest {
+  private final PasswordHasher hasher = new PasswordHasher(PasswordHasher.DEFAULT_ALGORITHM, 1_000);
+  private final char[] password = "correct horse battery staple".toCharArray();
+
+  @Test
+  void must_have_secure_defaults() {
+    var defaults = new PasswordHasher();
+
+    assertEquals("PBKDF2WithHmacSHA256", defaults.algorithm());
+    assertEquals(600_000, defaults.iterations());
+  }
+
+  @Test
+  void must_encode_parameters_into_hash() {
+    var parts = hasher.hash(password).split("\\$");
+
+    assertEquals(4, parts.length);
+    assertEquals("PBKDF2WithHmacSHA256", parts[0]);
+    assertEquals("1000", parts[1]);
+  }
+
+  @Test
+  void must_salt_hashes() {
+    assertNotEquals(hasher.hash(password), hasher.hash(password));
+  }
+
+  @Test
+  void must_verify_password_and_leave_it_intact() {
+    var hash = hasher.hash(password);
+
+    assertTrue(PasswordHasher.verify(password, hash));
+    assertFalse(PasswordHasher.verify("Tr0ub4dor&3".toCharArray(), hash));
+    assertEquals("correct horse battery staple", new String(password));
+  }
+
+  @Test
+  void must_verify_hashes_of_other_settings() {
+    var hash = new PasswordHasher("PBKDF2WithHmacSHA512", 500).hash(password);
+
+    assertTrue(PasswordHasher.verify(password, hash));
+    assertTrue(hasher.needsRehash(hash));
+    assertFalse(hasher.needsRehash(hasher.hash(password)));
+  }
+
+  @Test
+  void must_reject_invalid_settings() {
+    assertThrows(NullPointerException.class, () -> new PasswordHasher(null, 1));
+    assertThrows(IllegalArgumentException.class, () -> new PasswordHasher("SHA-256", 1));
+    assertThrows(IllegalArgumentException.class, () -> new PasswordHasher("PBKDF2WithUnknown", 1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PasswordHasher(PasswordHasher.DEFAULT_ALGORITHM, 0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PasswordHasher(PasswordHasher.DEFAULT_ALGORITHM, Integer.MAX_VALUE));
+  }
+
+  @Test
+  void must_reject_malformed_hashes() {
+    assertThrows(IllegalArgumentException.class, () -> PasswordHasher.verify(password, "a$b$c"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PasswordHasher.verify(password, "PBKDF2WithHmacSHA256$0$AAAA$AAAA"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PasswordHasher.verify(password, "PBKDF2WithHmacSHA256$1$!!!!$AAAA"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PasswordHasher.verify(password, "PBKDF2WithHmacSHA256$1$$AAAA"));
+    assertThrows(NullPointerException.class, () -> PasswordHasher.verify(null, "hash"));
+  }
+
+  @Test
+  void must_reject_hashes_with_unsafe_parameters() {
+    var encoder = Base64.getEncoder().withoutPadding();
+    var salt = encoder.encodeToString(new byte[16]);
+    var key = encoder.encodeToString(new byte[32]);
+    var plaintext = encoder.encodeToString("hunter2".getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PasswordHasher.verify(password, "PBEWithMD5AndDES$1$" + salt + "$" + plaintext));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            PasswordHasher.verify(password, "PBKDF2WithHmacSHA256$2147483647$" + salt + "$" + key));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PasswordHasher.verify(password, "PBKDF2WithHmacSHA256$1$" + salt + "$AA"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PasswordHasher.verify(password, "PBKDF2WithHmacSHA256$1$AAAA$" + key));
+  }
+}
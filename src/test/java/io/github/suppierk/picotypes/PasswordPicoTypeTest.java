@@ -2,11 +2,14 @@ package io.github.suppierk.picotypes;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.ThreadLocalRandom;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
@@ -68,6 +71,71 @@ class PasswordPicoTypeTest {
     assertNotEquals(wrapper, nullWrapper);
   }
 
+  @Test
+  void must_read_value_without_copying() {
+    assertArrayEquals(
+        value,
+        wrapper.withValue(
+            buffer -> {
+              assertTrue(buffer.isReadOnly());
+              var bytes = new byte[buffer.remaining()];
+              buffer.get(bytes);
+              return bytes;
+            }));
+    assertNull(nullWrapper.withValue(buffer -> buffer));
+    assertThrows(NullPointerException.class, () -> wrapper.withValue(null));
+  }
+
+  @Test
+  void must_match_candidates() {
+    assertTrue(wrapper.matches(value));
+    assertFalse(wrapper.matches(Arrays.copyOf(value, value.length + 1)));
+    assertFalse(wrapper.matches(null));
+    assertTrue(nullWrapper.matches(null));
+    assertFalse(nullWrapper.matches(value));
+  }
+
+  @Test
+  void must_wipe_value_on_destroy() {
+    var destroyable = new TestType(value);
+    var view = destroyable.withValue(buffer -> buffer);
+
+    assertFalse(destroyable.isDestroyed());
+    destroyable.destroy();
+
+    assertTrue(destroyable.isDestroyed());
+    while (view.hasRemaining()) {
+      assertEquals(0, view.get());
+    }
+    assertThrows(IllegalStateException.class, destroyable::value);
+    assertThrows(IllegalStateException.class, () -> destroyable.withValue(buffer -> buffer));
+    assertThrows(IllegalStateException.class, () -> destroyable.matches(value));
+    assertTrue(destroyable.isPresent());
+    assertFalse(destroyable.isEmpty());
+    assertEquals(TestType.class.getSimpleName() + "{value=*******}", destroyable.toString());
+
+    nullWrapper.destroy();
+    assertFalse(nullWrapper.isDestroyed());
+    assertTrue(nullWrapper.isEmpty());
+    assertFalse(nullWrapper.isPresent());
+  }
+
+  @Test
+  void must_compare_destroyed_passwords_by_identity() {
+    var destroyed = new TestType(value);
+    var otherDestroyed = new TestType(value);
+    var zeroes = new TestType(new byte[value.length]);
+    destroyed.destroy();
+    otherDestroyed.destroy();
+
+    assertEquals(destroyed, destroyed);
+    assertEquals(destroyed.hashCode(), destroyed.hashCode());
+    assertNotEquals(destroyed, otherDestroyed);
+    assertNotEquals(destroyed, zeroes);
+    assertNotEquals(zeroes, destroyed);
+    assertNotEquals(destroyed, new TestType(value));
+  }
+
   @Test
   void must_have_correct_toString() {
     assertEquals(TestType.class.getSimpleName() + "{value=*******}", wrapper.toString());
@@ -0,0 +1,94 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+
+class PasswordVerificationEngineTest {
+  private final PasswordHasher hasher = new PasswordHasher(PasswordHasher.DEFAULT_ALGORITHM, 1_000);
+  private final char[] password = "correct horse battery staple".toCharArray();
+  private final TestType hash = new TestType(hasher.hash(password));
+
+  @Test
+  void must_verify_passwords_asynchronously() throws Exception {
+    try (var engine = new PasswordVerificationEngine(2, 8)) {
+      var matching = engine.verify(hash, password);
+      var other = engine.verify(hash, "Tr0ub4dor&3".toCharArray());
+
+      assertTrue(matching.get());
+      assertFalse(other.get());
+    }
+  }
+
+  @Test
+  void must_copy_password_before_returning() throws Exception {
+    var tasks = new ArrayList<Runnable>();
+    var engine = new PasswordVerificationEngine(tasks::add, 1);
+    var copy = password.clone();
+
+    var result = engine.verify(hash, copy);
+    Arrays.fill(copy, '\0');
+    tasks.forEach(Runnable::run);
+
+    assertTrue(result.get());
+  }
+
+  @Test
+  void must_reject_verifications_above_limit() throws Exception {
+    var tasks = new ArrayList<Runnable>();
+    var engine = new PasswordVerificationEngine(tasks::add, 2);
+
+    var first = engine.verify(hash, password);
+    var second = engine.verify(hash, password);
+    var rejected = engine.verify(hash, password);
+
+    assertEquals(2, engine.pending());
+    var exception = assertThrows(ExecutionException.class, rejected::get);
+    assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+
+    tasks.forEach(Runnable::run);
+
+    assertTrue(first.get());
+    assertTrue(second.get());
+    assertEquals(0, engine.pending());
+    assertFalse(engine.verify(hash, password).isDone());
+  }
+
+  @Test
+  void must_reject_verifications_after_close() {
+    var engine = new PasswordVerificationEngine(1, 1);
+    engine.close();
+
+    var result = engine.verify(hash, password);
+
+    var exception = assertThrows(ExecutionException.class, result::get);
+    assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+    assertEquals(0, engine.pending());
+  }
+
+  @Test
+  void must_reject_invalid_arguments() {
+    assertThrows(IllegalArgumentException.class, () -> new PasswordVerificationEngine(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new PasswordVerificationEngine(1, 0));
+    assertThrows(NullPointerException.class, () -> new PasswordVerificationEngine(null, 1));
+
+    try (var engine = new PasswordVerificationEngine(Runnable::run, 1)) {
+      assertThrows(NullPointerException.class, () -> engine.verify(null, password));
+      assertThrows(NullPointerException.class, () -> engine.verify(hash, null));
+    }
+  }
+
+  private static class TestType extends HashedPasswordPicoType {
+    public TestType(String value) {
+      super(value);
+    }
+  }
+}
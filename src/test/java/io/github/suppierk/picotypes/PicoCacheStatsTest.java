@@ -0,0 +1,24 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class PicoCacheStatsTest {
+
+  @Test
+  void requestCount_must_sum_hits_and_misses() {
+    assertEquals(7L, new PicoCacheStats(3L, 4L, 0L).requestCount());
+  }
+
+  @Test
+  void hitRate_must_be_ratio_of_hits() {
+    assertEquals(0.75, new PicoCacheStats(3L, 1L, 0L).hitRate());
+    assertEquals(0.0, new PicoCacheStats(0L, 5L, 0L).hitRate());
+  }
+
+  @Test
+  void hitRate_must_be_full_without_requests() {
+    assertEquals(1.0, new PicoCacheStats(0L, 0L, 0L).hitRate());
+  }
+}
@@ -0,0 +1,165 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PicoConstraintTest {
+  @Test
+  void must_check_rules_in_order() {
+    assertNull(Sku.CONSTRAINT.violation("AB-12"));
+    assertNull(Sku.CONSTRAINT.violation(null));
+    assertEquals("Value length must be between 3 and 8", Sku.CONSTRAINT.violation("a"));
+    assertEquals("Value must match [A-Z0-9-]+", Sku.CONSTRAINT.violation("ab-12"));
+    assertTrue(Sku.CONSTRAINT.test("AB-12"));
+    assertFalse(Sku.CONSTRAINT.test("AB-123456"));
+  }
+
+  @Test
+  void must_reject_nulls_only_when_requested() {
+    var constraint = PicoConstraint.<Long>notNull().and(PicoConstraint.longRange(1L, 10L));
+
+    assertEquals("Value must not be null", constraint.violation(null));
+    assertEquals("Value must be between 1 and 10", constraint.violation(0L));
+    assertNull(constraint.violation(10L));
+    assertTrue(PicoConstraint.any().test(null));
+  }
+
+  @Test
+  void must_check_values_in_constructors() {
+    assertEquals("AB-12", new Sku("AB-12").value());
+
+    var exception = assertThrows(IllegalArgumentException.class, () -> new Sku("a"));
+
+    assertEquals("Value length must be between 3 and 8", exception.getMessage());
+  }
+
+  @Test
+  void must_create_instances_without_exceptions() {
+    var valid = Sku.CONSTRAINT.tryCreate(Sku::new, "AB-12");
+    var invalid = Sku.CONSTRAINT.tryCreate(Sku::new, "a");
+
+    assertTrue(valid.isValid());
+    assertEquals(new Sku("AB-12"), valid.get());
+    assertNull(valid.violation());
+    assertTrue(invalid.isInvalid());
+    assertEquals("Value length must be between 3 and 8", invalid.violation());
+    assertEquals(new Sku("X-1"), invalid.orElse(new Sku("X-1")));
+    assertThrows(NoSuchElementException.class, invalid::get);
+    assertThrows(IllegalArgumentException.class, invalid::orElseThrow);
+  }
+
+  @Test
+  void must_support_other_rules() {
+    var range = PicoConstraint.between("b", "d");
+    var even = PicoConstraint.<Integer>of("Value must be even", value -> value % 2 == 0);
+    var constraint = PicoConstraint.allOf(PicoConstraint.intRange(0, 10), even);
+
+    assertTrue(range.test("c"));
+    assertEquals("Value must be between b and d", range.violation("e"));
+    assertNull(constraint.violation(4));
+    assertEquals("Value must be even", constraint.violation(3));
+    assertEquals("Value must be between 0 and 10", constraint.violation(12));
+    assertEquals(
+        "PicoConstraint{Value must be between 0 and 10; Value must be even}",
+        constraint.toString());
+    assertThrows(IllegalArgumentException.class, () -> PicoConstraint.longRange(2L, 1L));
+    assertThrows(IllegalArgumentException.class, () -> PicoConstraint.length(-1, 1));
+  }
+
+  @Test
+  @SuppressWarnings("JdkObsolete") // Lists without RandomAccess are validated too
+  void must_accumulate_violations_of_arrays_and_lists() {
+    var values = new String[] {"AB-12", "a", null, "ab-12", "XYZ"};
+
+    var violations = Sku.CONSTRAINT.validateAll(values);
+
+    assertEquals(2, violations.count());
+    assertArrayEquals(new int[] {1, 3}, violations.indexes());
+    assertEquals("Value length must be between 3 and 8", violations.message(0));
+    assertEquals("Value must match [A-Z0-9-]+", violations.message(1));
+    assertArrayEquals(
+        violations.indexes(), Sku.CONSTRAINT.validateAll(Arrays.asList(values)).indexes());
+    assertArrayEquals(
+        violations.indexes(),
+        Sku.CONSTRAINT.validateAll(new LinkedList<>(Arrays.asList(values))).indexes());
+    assertTrue(Sku.CONSTRAINT.validateAll(List.of()).isEmpty());
+    assertThrows(IndexOutOfBoundsException.class, () -> violations.index(2));
+  }
+
+  @Test
+  @SuppressWarnings("JdkObsolete") // Lists without RandomAccess are validated too
+  void must_validate_large_inputs_in_parallel_in_order() {
+    int size = PicoTypes.PARALLEL_THRESHOLD * 3 + 5;
+    var constraint = PicoConstraint.longRange(0L, 999L);
+    var column = new LongPicoColumn<>(LongId::new);
+    var list = new ArrayList<Long>();
+    for (long i = 0; i < size; i++) {
+      if (i % 1_000 == 7) {
+        column.addNull();
+        list.add(null);
+      } else {
+        column.add(i % 1_500);
+        list.add(i % 1_500);
+      }
+    }
+
+    var expected =
+        IntStream.range(0, size).filter(i -> i % 1_000 != 7 && i % 1_500 >= 1_000).toArray();
+    var violations = constraint.validateAll(column);
+
+    assertArrayEquals(expected, violations.indexes());
+    assertArrayEquals(expected, constraint.validateAll(list).indexes());
+    assertArrayEquals(expected, constraint.validateAll(new LinkedList<>(list)).indexes());
+    assertEquals(
+        expected.length + IntStream.range(0, size).filter(i -> i % 1_000 == 7).count(),
+        PicoConstraint.<Long>notNull().and(constraint).validateAll(column).count());
+
+    var messages = new ArrayList<String>();
+    violations.forEach((message, index) -> messages.add(message));
+    assertEquals(expected.length, messages.size());
+    assertSame(messages.get(0), messages.get(messages.size() - 1));
+  }
+
+  @Test
+  void must_validate_int_columns() {
+    var column = new IntPicoColumn<>(IntId::new).add(5).addNull().add(-1);
+
+    var violations = PicoConstraint.intRange(0, 10).validateAll(column);
+
+    assertArrayEquals(new int[] {2}, violations.indexes());
+  }
+
+  static final class Sku extends StringPicoType {
+    static final PicoConstraint<String> CONSTRAINT =
+        PicoConstraint.allOf(PicoConstraint.length(3, 8), PicoConstraint.matches("[A-Z0-9-]+"));
+
+    Sku(String value) {
+      super(CONSTRAINT.requireValid(value));
+    }
+  }
+
+  static final class LongId extends LongPicoType {
+    LongId(Long value) {
+      super(value);
+    }
+  }
+
+  static final class IntId extends IntegerPicoType {
+    IntId(Integer value) {
+      super(value);
+    }
+  }
+}
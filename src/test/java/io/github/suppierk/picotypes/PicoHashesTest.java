@@ -0,0 +1,245 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PicoHashesTest {
+  @Test
+  void must_reject_invalid_arguments() {
+    assertThrows(NullPointerException.class, () -> PicoHashes.hash64(null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PicoHashes.hash64(new Password("secret".getBytes(StandardCharsets.UTF_8))));
+    assertThrows(
+        IllegalArgumentException.class, () -> PicoHashes.hash64(new Custom(new StringBuilder())));
+  }
+
+  @Test
+  void must_match_reference_xxHash64() {
+    assertEquals(0xEF46DB3751D8E999L, PicoHashes.hash64(new Name("")));
+    assertEquals(0xD24EC4F1A98C6E5BL, PicoHashes.hash64(new Name("a")));
+    assertEquals(0x44BC2CF5AD770999L, PicoHashes.hash64(new Name("abc")));
+    assertEquals(
+        0xFBCEA83C8A378BF1L,
+        PicoHashes.hash64(new Name("Nobody inspects the spammish repetition")));
+  }
+
+  @Test
+  void must_hash_empty_instances_as_empty_input() {
+    long empty = PicoHashes.hash64(new Name(""));
+
+    assertEquals(empty, PicoHashes.hash64(new Name(null)));
+    assertEquals(empty, PicoHashes.hash64(new OrderId(null)));
+    assertEquals(empty, PicoHashes.hash64(new CompactOrderId((Long) null)));
+    assertEquals(empty, PicoHashes.hash64(new TenantId(null)));
+  }
+
+  @Test
+  void must_match_across_representations() {
+    var uuid = UUID.randomUUID();
+    var text = "Grüße, 世界 😀 and a long enough tail to use full stripes";
+
+    assertEquals(PicoHashes.hash64(new OrderId(42L)), PicoHashes.hash64(new CompactOrderId(42L)));
+    assertEquals(PicoHashes.hash64(new Quantity(-7)), PicoHashes.hash64(new CompactQuantity(-7)));
+    assertEquals(
+        PicoHashes.hash64(new TenantId(uuid)), PicoHashes.hash64(new CompactTenantId(uuid)));
+    assertEquals(PicoHashes.hash64(new Name(text)), PicoHashes.hash64(new Utf8Name(text)));
+    assertEquals(
+        PicoHashes.hash64(new Name(text)),
+        PicoHashes.hash64(new Utf8Name(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)))));
+  }
+
+  @Test
+  void must_hash_raw_bytes_of_values() {
+    var uuid = new UUID(0x0102030405060708L, 0x090A0B0C0D0E0F10L);
+    var bytes = ByteBuffer.allocate(16);
+    bytes.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+
+    assertEquals(XxHash64.hashBytes(bytes.array(), 0L), PicoHashes.hash64(new TenantId(uuid)));
+    assertEquals(
+        XxHash64.hashBytes(new byte[] {42, 0, 0, 0, 0, 0, 0, 0}, 0L),
+        PicoHashes.hash64(new OrderId(42L)));
+    assertEquals(
+        XxHash64.hashBytes(new byte[] {-2, -1, -1, -1}, 0L), PicoHashes.hash64(new Quantity(-2)));
+    assertEquals(XxHash64.hashBytes(new byte[] {1}, 0L), PicoHashes.hash64(new Flag(true)));
+    assertEquals(XxHash64.hashBytes(new byte[] {0}, 0L), PicoHashes.hash64(new Flag(false)));
+    assertEquals(
+        XxHash64.hashLong(Double.doubleToLongBits(1.5), 0L), PicoHashes.hash64(new Price(1.5)));
+  }
+
+  @Test
+  void must_depend_on_seed() {
+    var orderId = new OrderId(42L);
+
+    assertEquals(PicoHashes.hash64(orderId), PicoHashes.hash64(orderId, PicoHashes.DEFAULT_SEED));
+    assertNotEquals(PicoHashes.hash64(orderId, 1L), PicoHashes.hash64(orderId, 2L));
+  }
+
+  @Test
+  void must_be_consistent_with_equals_of_big_numbers() {
+    assertEquals(
+        PicoHashes.hash64(new Amount(new BigDecimal("1.10"))),
+        PicoHashes.hash64(new Amount(new BigDecimal("1.1"))));
+    assertEquals(
+        PicoHashes.hash64(new Amount(new BigDecimal("0.000"))),
+        PicoHashes.hash64(new Amount(BigDecimal.ZERO)));
+    assertEquals(
+        PicoHashes.hash64(new Amount(new BigDecimal("1E+3"))),
+        PicoHashes.hash64(new Amount(new BigDecimal("1000.00"))));
+    assertNotEquals(
+        PicoHashes.hash64(new Amount(new BigDecimal("1.1"))),
+        PicoHashes.hash64(new Amount(new BigDecimal("11"))));
+
+    var huge = BigInteger.ONE.shiftLeft(100).negate();
+    assertEquals(
+        PicoHashes.hash64(new Sequence(huge)),
+        PicoHashes.hash64(new Sequence(new BigInteger(huge.toString()))));
+    assertEquals(
+        PicoHashes.hash64(new Sequence(BigInteger.valueOf(42L))),
+        PicoHashes.hash64(new OrderId(42L)));
+    assertEquals(
+        PicoHashes.hash64(new Amount(new BigDecimal(huge, 3))),
+        PicoHashes.hash64(new Amount(new BigDecimal(huge.multiply(BigInteger.TEN), 4))));
+  }
+
+  @Test
+  void must_be_consistent_with_equals_of_uris() {
+    var uris =
+        new String[][] {
+          {"HTTP://Example.COM:8080/a%2fb?q=%7e#F%3a", "http://example.com:8080/a%2Fb?q=%7E#F%3A"},
+          {"MAILTO:john@example.com", "mailto:john@example.com"},
+          {"file:///tmp/x", "FILE:///tmp/x"},
+          {"//user%3a@Host/path", "//user%3A@host/path"},
+          {"relative/path", "relative/path"},
+        };
+
+    for (var pair : uris) {
+      var left = new Link(URI.create(pair[0]));
+      var right = new Link(URI.create(pair[1]));
+
+      assertEquals(left, right);
+      assertEquals(PicoHashes.hash64(left), PicoHashes.hash64(right));
+    }
+
+    assertNotEquals(
+        PicoHashes.hash64(new Link(URI.create("http://example.com/A"))),
+        PicoHashes.hash64(new Link(URI.create("http://example.com/a"))));
+    assertNotEquals(
+        PicoHashes.hash64(new Link(URI.create("http://example.com:80/"))),
+        PicoHashes.hash64(new Link(URI.create("http://example.com/"))));
+  }
+
+  static final class OrderId extends LongPicoType {
+    OrderId(Long value) {
+      super(value);
+    }
+  }
+
+  static final class CompactOrderId extends PrimitiveLongPicoType {
+    CompactOrderId(long value) {
+      super(value);
+    }
+
+    CompactOrderId(Long value) {
+      super(value);
+    }
+  }
+
+  static final class Quantity extends IntegerPicoType {
+    Quantity(Integer value) {
+      super(value);
+    }
+  }
+
+  static final class CompactQuantity extends PrimitiveIntegerPicoType {
+    CompactQuantity(int value) {
+      super(value);
+    }
+  }
+
+  static final class TenantId extends UuidPicoType {
+    TenantId(UUID value) {
+      super(value);
+    }
+  }
+
+  static final class CompactTenantId extends PrimitiveUuidPicoType {
+    CompactTenantId(UUID value) {
+      super(value);
+    }
+  }
+
+  static final class Name extends StringPicoType {
+    Name(String value) {
+      super(value);
+    }
+  }
+
+  static final class Utf8Name extends Utf8StringPicoType {
+    Utf8Name(String value) {
+      super(value);
+    }
+
+    Utf8Name(ByteBuffer value) {
+      super(value);
+    }
+  }
+
+  static final class Flag extends BooleanPicoType {
+    Flag(Boolean value) {
+      super(value);
+    }
+  }
+
+  static final class Price extends DoublePicoType {
+    Price(Double value) {
+      super(value);
+    }
+  }
+
+  static final class Amount extends BigDecimalPicoType {
+    Amount(BigDecimal value) {
+      super(value);
+    }
+  }
+
+  static final class Sequence extends BigIntegerPicoType {
+    Sequence(BigInteger value) {
+      super(value);
+    }
+  }
+
+  static final class Link extends UriPicoType {
+    Link(URI value) {
+      super(value);
+    }
+  }
+
+  static final class Password extends PasswordPicoType {
+    Password(byte[] value) {
+      super(value);
+    }
+  }
+
+  static final class Custom implements PicoType<StringBuilder> {
+    private final StringBuilder value;
+
+    Custom(StringBuilder value) {
+      this.value = value;
+    }
+
+    @Override
+    public StringBuilder value() {
+      return value;
+    }
+  }
+}
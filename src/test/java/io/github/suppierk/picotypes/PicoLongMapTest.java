@@ -0,0 +1,128 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PicoLongMapTest {
+  private final PicoLongMap<OrderId, String> map = new PicoLongMap<>(OrderId::new);
+
+  @Test
+  void must_reject_invalid_arguments() {
+    assertThrows(NullPointerException.class, () -> new PicoLongMap<OrderId, String>(null));
+    assertThrows(IllegalArgumentException.class, () -> new PicoLongMap<>(OrderId::new, -1));
+    assertThrows(NullPointerException.class, () -> map.put(null, "value"));
+    assertThrows(NullPointerException.class, () -> map.put(new OrderId(null), "value"));
+    assertThrows(NullPointerException.class, () -> map.get(null));
+    assertThrows(NullPointerException.class, () -> map.forEach(null));
+  }
+
+  @Test
+  void must_put_get_and_remove_entries() {
+    assertTrue(map.isEmpty());
+    assertNull(map.put(new OrderId(42L), "first"));
+    assertEquals("first", map.put(new OrderId(42L), "second"));
+
+    assertEquals(1, map.size());
+    assertTrue(map.containsKey(new OrderId(42L)));
+    assertEquals("second", map.get(42L));
+    assertEquals("default", map.getOrDefault(new OrderId(7L), "default"));
+
+    assertEquals("second", map.remove(new OrderId(42L)));
+    assertNull(map.remove(42L));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  void must_support_zero_key_and_null_values() {
+    map.put(0L, null);
+
+    assertTrue(map.containsKey(new OrderId(0L)));
+    assertNull(map.get(0L));
+    assertEquals(1, map.size());
+
+    map.put(new OrderId(0L), "zero");
+    assertEquals("zero", map.get(new OrderId(0L)));
+    assertEquals("zero", map.remove(0L));
+    assertFalse(map.containsKey(0L));
+  }
+
+  @Test
+  void must_accept_primitive_keys() {
+    var compact = new PicoLongMap<CompactOrderId, String>(CompactOrderId::new);
+
+    compact.put(new CompactOrderId(42L), "value");
+
+    assertEquals("value", compact.get(42L));
+    compact.forEach((key, value) -> assertEquals(new CompactOrderId(42L), key));
+  }
+
+  @Test
+  void must_compute_absent_values_only_once() {
+    assertEquals("42", map.computeIfAbsent(new OrderId(42L), key -> key.value().toString()));
+    assertEquals("42", map.computeIfAbsent(new OrderId(42L), key -> "other"));
+    assertNull(map.computeIfAbsent(new OrderId(7L), key -> null));
+    assertFalse(map.containsKey(7L));
+  }
+
+  @Test
+  void must_iterate_entries() {
+    for (long i = 0; i < 100; i++) {
+      map.put(i, Long.toString(i));
+    }
+
+    var wrapped = new HashMap<OrderId, String>();
+    map.forEach(wrapped::put);
+    var raw = new HashMap<Long, String>();
+    map.forEachRaw((value, key) -> raw.put(key, value));
+
+    assertEquals(100, wrapped.size());
+    assertEquals(100, raw.size());
+    wrapped.forEach((key, value) -> assertEquals(key.value().toString(), value));
+    raw.forEach((key, value) -> assertEquals(key.toString(), value));
+  }
+
+  @Test
+  void must_behave_like_hash_map() {
+    var random = new Random(42L);
+    var expected = new HashMap<Long, String>();
+    var actual = new PicoLongMap<OrderId, String>(OrderId::new, 0);
+
+    for (int i = 0; i < 100_000; i++) {
+      long key = random.nextInt(4096) - 2048L;
+      if (random.nextBoolean()) {
+        assertEquals(expected.put(key, "v" + i), actual.put(key, "v" + i));
+      } else {
+        assertEquals(expected.remove(key), actual.remove(key));
+      }
+      assertEquals(expected.size(), actual.size());
+    }
+
+    for (Map.Entry<Long, String> entry : expected.entrySet()) {
+      assertEquals(entry.getValue(), actual.get(entry.getKey()));
+    }
+
+    actual.clear();
+    assertTrue(actual.isEmpty());
+    assertFalse(actual.containsKey(0L));
+  }
+
+  static final class OrderId extends LongPicoType {
+    OrderId(Long value) {
+      super(value);
+    }
+  }
+
+  static final class CompactOrderId extends PrimitiveLongPicoType {
+    CompactOrderId(long value) {
+      super(value);
+    }
+  }
+}
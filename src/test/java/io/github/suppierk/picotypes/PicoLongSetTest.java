@@ -0,0 +1,89 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class PicoLongSetTest {
+  private final PicoLongSet<OrderId> set = new PicoLongSet<>(OrderId::new);
+
+  @Test
+  void must_reject_invalid_arguments() {
+    assertThrows(NullPointerException.class, () -> new PicoLongSet<OrderId>(null));
+    assertThrows(IllegalArgumentException.class, () -> new PicoLongSet<>(OrderId::new, -1));
+    assertThrows(NullPointerException.class, () -> set.add(null));
+    assertThrows(NullPointerException.class, () -> set.add(new OrderId(null)));
+    assertThrows(NullPointerException.class, () -> set.forEachRaw(null));
+  }
+
+  @Test
+  void must_add_and_remove_elements() {
+    assertTrue(set.add(new OrderId(42L)));
+    assertFalse(set.add(42L));
+    assertTrue(set.add(0L));
+
+    assertEquals(2, set.size());
+    assertTrue(set.contains(new OrderId(0L)));
+    assertTrue(set.contains(42L));
+
+    assertTrue(set.remove(new OrderId(0L)));
+    assertFalse(set.remove(0L));
+    assertTrue(set.remove(42L));
+    assertTrue(set.isEmpty());
+  }
+
+  @Test
+  void must_iterate_elements() {
+    for (long i = 0; i < 100; i++) {
+      set.add(i);
+    }
+
+    var wrapped = new HashSet<OrderId>();
+    set.forEach(wrapped::add);
+    var raw = set.toRawArray();
+    Arrays.sort(raw);
+
+    assertEquals(100, wrapped.size());
+    assertTrue(wrapped.contains(new OrderId(99L)));
+    assertArrayEquals(LongStream.range(0, 100).toArray(), raw);
+  }
+
+  @Test
+  void must_behave_like_hash_set() {
+    var random = new Random(42L);
+    var expected = new HashSet<Long>();
+    var actual = new PicoLongSet<OrderId>(OrderId::new, 0);
+
+    for (int i = 0; i < 100_000; i++) {
+      long element = random.nextInt(4096) - 2048L;
+      if (random.nextBoolean()) {
+        assertEquals(expected.add(element), actual.add(element));
+      } else {
+        assertEquals(expected.remove(element), actual.remove(element));
+      }
+      assertEquals(expected.size(), actual.size());
+    }
+
+    for (long element : expected) {
+      assertTrue(actual.contains(element));
+    }
+
+    actual.clear();
+    assertTrue(actual.isEmpty());
+    assertEquals(0, actual.toRawArray().length);
+  }
+
+  static final class OrderId extends LongPicoType {
+    OrderId(Long value) {
+      super(value);
+    }
+  }
+}
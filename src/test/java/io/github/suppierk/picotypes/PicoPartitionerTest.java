@@ -0,0 +1,89 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PicoPartitionerTest {
+  @Test
+  void must_reject_invalid_arguments() {
+    var partitioner = new PicoPartitioner(4);
+
+    assertThrows(IllegalArgumentException.class, () -> new PicoPartitioner(0));
+    assertThrows(IllegalArgumentException.class, () -> new PicoPartitioner(-1, 42L));
+    assertThrows(IllegalArgumentException.class, () -> PicoPartitioner.jump(42L, 0));
+    assertThrows(NullPointerException.class, () -> partitioner.shardOf(null));
+  }
+
+  @Test
+  void must_expose_configuration() {
+    var partitioner = new PicoPartitioner(16, 42L);
+
+    assertEquals(16, partitioner.shards());
+    assertEquals(42L, partitioner.seed());
+    assertEquals(PicoHashes.DEFAULT_SEED, new PicoPartitioner(16).seed());
+  }
+
+  @Test
+  void must_keep_assignments_stable() {
+    var shards = new int[20];
+    for (int i = 0; i < shards.length; i++) {
+      shards[i] = PicoPartitioner.jump(i * 0x9E3779B97F4A7C15L, 16);
+    }
+
+    assertArrayEquals(
+        new int[] {0, 3, 5, 15, 2, 6, 10, 15, 14, 7, 14, 11, 10, 14, 12, 7, 7, 13, 2, 3}, shards);
+    assertEquals(285, PicoPartitioner.jump(0xDEADBEEFL, 1000));
+  }
+
+  @Test
+  void must_assign_shards_by_hash() {
+    var partitioner = new PicoPartitioner(10, 42L);
+    var tenantId = new TenantId(UUID.randomUUID());
+
+    assertEquals(
+        PicoPartitioner.jump(PicoHashes.hash64(tenantId, 42L), 10), partitioner.shardOf(tenantId));
+  }
+
+  @Test
+  void must_spread_values_evenly() {
+    var partitioner = new PicoPartitioner(10);
+    var counts = new int[10];
+    for (long i = 0; i < 100_000; i++) {
+      counts[partitioner.shardOf(new TenantId(new UUID(i, -i)))]++;
+    }
+
+    for (int count : counts) {
+      assertTrue(count > 9_500 && count < 10_500, "Unbalanced shard: " + count);
+    }
+  }
+
+  @Test
+  void must_move_values_only_to_new_shard() {
+    var before = new PicoPartitioner(10);
+    var after = new PicoPartitioner(11);
+
+    int moved = 0;
+    for (long i = 0; i < 100_000; i++) {
+      var tenantId = new TenantId(new UUID(i, i));
+      int from = before.shardOf(tenantId);
+      int to = after.shardOf(tenantId);
+      if (from != to) {
+        assertEquals(10, to);
+        moved++;
+      }
+    }
+
+    assertTrue(moved > 8_000 && moved < 10_200, "Unexpected number of moved values: " + moved);
+  }
+
+  static final class TenantId extends UuidPicoType {
+    TenantId(UUID value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,237 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+class PicoSortTest {
+  private static final int[] SIZES = {0, 1, 100, 5_000, 100_000};
+
+  @Test
+  void must_reject_invalid_arguments() {
+    assertThrows(NullPointerException.class, () -> PicoSort.sort((long[]) null));
+    assertThrows(NullPointerException.class, () -> PicoSort.sort((int[]) null));
+    assertThrows(NullPointerException.class, () -> PicoSort.sort((double[]) null));
+    assertThrows(NullPointerException.class, () -> PicoSort.sortUuidBits(null));
+    assertThrows(IllegalArgumentException.class, () -> PicoSort.sortUuidBits(new long[3]));
+    assertThrows(NullPointerException.class, () -> PicoSort.sortLongs(null, true));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> PicoSort.sortLongs(List.of(new OrderId(2L), new OrderId(1L)), true));
+  }
+
+  @Test
+  void must_sort_longs_like_arrays_sort() {
+    var random = new Random(42L);
+    for (int size : SIZES) {
+      long[] values = new long[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = i % 7 == 0 ? random.nextInt(10) - 5L : random.nextLong();
+      }
+      if (size > 2) {
+        values[0] = Long.MIN_VALUE;
+        values[1] = Long.MAX_VALUE;
+      }
+      long[] expected = values.clone();
+      Arrays.sort(expected);
+
+      PicoSort.sort(values);
+
+      assertArrayEquals(expected, values);
+    }
+  }
+
+  @Test
+  void must_sort_ints_like_arrays_sort() {
+    var random = new Random(42L);
+    for (int size : SIZES) {
+      int[] values = random.ints(size).toArray();
+      if (size > 2) {
+        values[0] = Integer.MIN_VALUE;
+        values[1] = Integer.MAX_VALUE;
+      }
+      int[] expected = values.clone();
+      Arrays.sort(expected);
+
+      PicoSort.sort(values);
+
+      assertArrayEquals(expected, values);
+    }
+  }
+
+  @Test
+  void must_sort_doubles_like_arrays_sort() {
+    var random = new Random(42L);
+    double[] special = {
+      Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.MIN_VALUE
+    };
+    for (int size : SIZES) {
+      double[] values = new double[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = i % 5 == 0 ? special[i % special.length] : random.nextGaussian() * 1e6;
+      }
+      double[] expected = values.clone();
+      Arrays.sort(expected);
+
+      PicoSort.sort(values);
+
+      assertArrayEquals(expected, values);
+    }
+  }
+
+  @Test
+  void must_sort_uuid_bits_in_uuid_order() {
+    var random = new Random(42L);
+    for (int size : SIZES) {
+      long[] bits = new long[size * 2];
+      UUID[] expected = new UUID[size];
+      for (int i = 0; i < size; i++) {
+        bits[i * 2] = random.nextInt(4) - 2L;
+        bits[i * 2 + 1] = random.nextLong();
+        expected[i] = new UUID(bits[i * 2], bits[i * 2 + 1]);
+      }
+      Arrays.sort(expected);
+
+      PicoSort.sortUuidBits(bits);
+
+      for (int i = 0; i < size; i++) {
+        assertEquals(expected[i], new UUID(bits[i * 2], bits[i * 2 + 1]));
+      }
+    }
+  }
+
+  @Test
+  void must_sort_elements_stably_with_empty_elements_at_either_end() {
+    var first = new OrderId(5L);
+    var second = new OrderId(5L);
+    var empty = new OrderId(null);
+    var elements = new ArrayList<>(List.of(first, new OrderId(-1L), empty, second));
+    elements.add(1, null);
+
+    PicoSort.sortLongs(elements, true);
+
+    assertNull(elements.get(0));
+    assertSame(empty, elements.get(1));
+    assertEquals(new OrderId(-1L), elements.get(2));
+    assertSame(first, elements.get(3));
+    assertSame(second, elements.get(4));
+
+    PicoSort.sortLongs(elements, false);
+
+    assertEquals(new OrderId(-1L), elements.get(0));
+    assertSame(first, elements.get(1));
+    assertSame(second, elements.get(2));
+    assertNull(elements.get(3));
+    assertSame(empty, elements.get(4));
+  }
+
+  @Test
+  void must_sort_large_lists_like_comparators() {
+    var random = new Random(42L);
+    var longs = new ArrayList<CompactOrderId>();
+    var ints = new ArrayList<ShardId>();
+    var doubles = new ArrayList<Price>();
+    var uuids = new ArrayList<TenantId>();
+    for (int i = 0; i < 50_000; i++) {
+      boolean empty = i % 100 == 0;
+      longs.add(empty ? new CompactOrderId(null) : new CompactOrderId(random.nextLong() % 1000));
+      ints.add(empty ? null : new ShardId(random.nextInt()));
+      doubles.add(new Price(empty ? null : random.nextGaussian()));
+      uuids.add(new TenantId(empty ? null : new UUID(random.nextInt(3), random.nextLong())));
+    }
+
+    assertSortedLikeComparator(longs, list -> PicoSort.sortLongs(list, false), false);
+    assertSortedLikeComparator(ints, list -> PicoSort.sortInts(list, true), true);
+    assertSortedLikeComparator(doubles, list -> PicoSort.sortDoubles(list, true), true);
+    assertSortedLikeComparator(uuids, list -> PicoSort.sortUuids(list, false), false);
+  }
+
+  @Test
+  void must_compare_with_nulls_at_either_end() {
+    Comparator<CompactOrderId> nullsFirst = PicoSort.nullsFirst();
+    Comparator<CompactOrderId> nullsLast = PicoSort.nullsLast();
+    var empty = new CompactOrderId(null);
+    var small = new CompactOrderId(-3L);
+    var large = new CompactOrderId(7L);
+
+    assertTrue(nullsFirst.compare(null, small) < 0);
+    assertTrue(nullsFirst.compare(empty, small) < 0);
+    assertEquals(0, nullsFirst.compare(null, empty));
+    assertTrue(nullsFirst.compare(small, large) < 0);
+    assertTrue(nullsLast.compare(null, small) > 0);
+    assertTrue(nullsLast.compare(small, empty) < 0);
+    assertTrue(nullsLast.compare(large, small) > 0);
+    assertEquals(0, nullsLast.compare(small, new CompactOrderId(-3L)));
+
+    Comparator<PicoType<Long>> mixed = PicoSort.nullsFirst();
+    assertTrue(mixed.compare(new OrderId(1L), new CompactOrderId(2L)) < 0);
+
+    Comparator<TenantId> uuids = PicoSort.nullsLast();
+    assertTrue(uuids.compare(new TenantId(new UUID(-1L, 0L)), new TenantId(new UUID(0L, 0L))) < 0);
+
+    Comparator<Name> names = PicoSort.nullsFirst();
+    assertTrue(names.compare(new Name("a"), new Name("b")) < 0);
+    assertTrue(names.compare(new Name(null), new Name("a")) < 0);
+  }
+
+  private static <T extends PicoType<V>, V extends Comparable<? super V>>
+      void assertSortedLikeComparator(
+          List<T> elements, Consumer<List<T>> sort, boolean nullsFirst) {
+    var expected = new ArrayList<>(elements);
+    expected.sort(nullsFirst ? PicoSort.<V, T>nullsFirst() : PicoSort.<V, T>nullsLast());
+
+    sort.accept(elements);
+
+    for (int i = 0; i < expected.size(); i++) {
+      assertSame(expected.get(i), elements.get(i));
+    }
+  }
+
+  static final class OrderId extends LongPicoType {
+    OrderId(Long value) {
+      super(value);
+    }
+  }
+
+  static final class CompactOrderId extends PrimitiveLongPicoType {
+    CompactOrderId(Long value) {
+      super(value);
+    }
+  }
+
+  static final class ShardId extends IntegerPicoType {
+    ShardId(Integer value) {
+      super(value);
+    }
+  }
+
+  static final class Price extends DoublePicoType {
+    Price(Double value) {
+      super(value);
+    }
+  }
+
+  static final class TenantId extends UuidPicoType {
+    TenantId(UUID value) {
+      super(value);
+    }
+  }
+
+  static final class Name extends StringPicoType {
+    Name(String value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,361 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PicoTypeCodecsTest {
+  private final ByteBuffer heap = ByteBuffer.allocate(1024);
+  private final ByteBuffer direct = ByteBuffer.allocateDirect(1024);
+
+  @Test
+  void must_reject_null_arguments() {
+    var codec = PicoTypeCodecs.ofLong(LongId::new);
+
+    assertThrows(NullPointerException.class, () -> PicoTypeCodecs.ofLong(null));
+    assertThrows(
+        NullPointerException.class, () -> PicoTypeCodecs.ofPrimitiveLong(CompactLongId::new, null));
+    assertThrows(NullPointerException.class, () -> codec.encode(new LongId(1L), null));
+    assertThrows(NullPointerException.class, () -> codec.decode(null));
+  }
+
+  @Test
+  void must_round_trip_null_and_empty_instances() {
+    var codec = PicoTypeCodecs.ofString(StringId::new);
+
+    for (var buffer : List.of(heap, direct)) {
+      codec.encode(null, buffer);
+      codec.encode(new StringId(null), buffer);
+      buffer.flip();
+
+      assertNull(codec.decode(buffer));
+      assertEquals(new StringId(null), codec.decode(buffer));
+      assertFalse(buffer.hasRemaining());
+    }
+  }
+
+  @Test
+  void must_round_trip_integers_as_zig_zag_varints() {
+    var codec = PicoTypeCodecs.ofInteger(IntegerId::new);
+
+    assertEquals(2, codec.encodedSize(new IntegerId(-1)));
+    assertEquals(6, codec.encodedSize(new IntegerId(Integer.MIN_VALUE)));
+    assertRoundTrip(codec, new IntegerId(0), new IntegerId(-64), new IntegerId(Integer.MAX_VALUE));
+  }
+
+  @Test
+  void must_round_trip_longs_as_zig_zag_varints() {
+    var codec = PicoTypeCodecs.ofLong(LongId::new);
+
+    assertEquals(2, codec.encodedSize(new LongId(63L)));
+    assertEquals(11, codec.encodedSize(new LongId(Long.MIN_VALUE)));
+    assertRoundTrip(codec, new LongId(0L), new LongId(-300L), new LongId(Long.MAX_VALUE));
+  }
+
+  @Test
+  void must_round_trip_primitive_variants() {
+    var ints = PicoTypeCodecs.ofPrimitiveInteger(CompactIntegerId::new, CompactIntegerId::new);
+    var longs = PicoTypeCodecs.ofPrimitiveLong(CompactLongId::new, CompactLongId::new);
+    var doubles = PicoTypeCodecs.ofPrimitiveDouble(CompactDoubleId::new, CompactDoubleId::new);
+    var uuids = PicoTypeCodecs.ofPrimitiveUuid(CompactUuidId::new, CompactUuidId::new);
+
+    assertRoundTrip(ints, new CompactIntegerId(), new CompactIntegerId(Integer.MIN_VALUE));
+    assertRoundTrip(longs, new CompactLongId(), new CompactLongId(Long.MIN_VALUE));
+    assertRoundTrip(doubles, new CompactDoubleId(), new CompactDoubleId(Double.NaN));
+    assertRoundTrip(uuids, new CompactUuidId(), new CompactUuidId(-1L, 1L));
+    assertEquals(17, uuids.encodedSize(new CompactUuidId(-1L, 1L)));
+  }
+
+  @Test
+  void must_round_trip_doubles_and_booleans() {
+    assertRoundTrip(
+        PicoTypeCodecs.ofDouble(DoubleId::new),
+        new DoubleId(Double.NaN),
+        new DoubleId(-0.0),
+        new DoubleId(Double.MAX_VALUE));
+    assertRoundTrip(
+        PicoTypeCodecs.ofBoolean(BooleanId::new), new BooleanId(true), new BooleanId(false));
+  }
+
+  @Test
+  void must_round_trip_uuids_as_raw_bits() {
+    var codec = PicoTypeCodecs.ofUuid(UuidId::new);
+
+    assertEquals(17, codec.encodedSize(new UuidId(UUID.randomUUID())));
+    assertRoundTrip(codec, new UuidId(UUID.randomUUID()), new UuidId(new UUID(0L, 0L)));
+  }
+
+  @Test
+  void must_round_trip_arbitrary_precision_numbers() {
+    var huge = BigInteger.TWO.pow(200).negate();
+
+    assertEquals(3, PicoTypeCodecs.ofBigInteger(BigIntegerId::new).encodedSize(bigInteger(5)));
+    assertRoundTrip(
+        PicoTypeCodecs.ofBigInteger(BigIntegerId::new),
+        bigInteger(Long.MIN_VALUE),
+        new BigIntegerId(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE)),
+        new BigIntegerId(huge));
+    assertRoundTrip(
+        PicoTypeCodecs.ofBigDecimal(BigDecimalId::new),
+        new BigDecimalId(new BigDecimal("-12.3400")),
+        new BigDecimalId(new BigDecimal("1E+10")),
+        new BigDecimalId(new BigDecimal(huge, 42)));
+  }
+
+  @Test
+  void must_round_trip_strings_as_utf8() {
+    var codec = PicoTypeCodecs.ofString(StringId::new);
+    var text = "a\u00e9\u20ac\ud83d\ude00";
+
+    assertEquals(
+        2 + text.getBytes(StandardCharsets.UTF_8).length, codec.encodedSize(new StringId(text)));
+    assertRoundTrip(codec, new StringId(""), new StringId(text));
+    assertRoundTrip(
+        PicoTypeCodecs.ofUri(UriId::new), new UriId(URI.create("https://example.com/a?b=c")));
+  }
+
+  @Test
+  void must_replace_unpaired_surrogates() {
+    var codec = PicoTypeCodecs.ofString(StringId::new);
+
+    codec.encode(new StringId("a\ud83d"), heap);
+    heap.flip();
+
+    assertEquals(new StringId("a?"), codec.decode(heap));
+  }
+
+  @Test
+  void must_round_trip_utf8_strings_in_string_format() {
+    var codec = PicoTypeCodecs.ofUtf8String(Utf8Id::new);
+    var strings = PicoTypeCodecs.ofString(StringId::new);
+    var value = new Utf8Id("caf\u00e9 \ud83d\ude00");
+
+    assertRoundTrip(codec, new Utf8Id((String) null), new Utf8Id(""), value);
+    assertEquals(strings.encodedSize(new StringId(value.value())), codec.encodedSize(value));
+
+    codec.encode(value, heap.clear());
+    heap.flip();
+
+    assertEquals(new StringId(value.value()), strings.decode(heap));
+  }
+
+  @Test
+  void must_reject_malformed_utf8_strings() {
+    var codec = PicoTypeCodecs.ofUtf8String(Utf8Id::new);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> codec.decode(ByteBuffer.wrap(new byte[] {2, 2, (byte) 0xC0, (byte) 0x80})));
+  }
+
+  @Test
+  void must_round_trip_text_uris_in_uri_format() {
+    var codec = PicoTypeCodecs.ofTextUri(TextUriId::new);
+    var uris = PicoTypeCodecs.ofUri(UriId::new);
+    var value = new TextUriId("HTTPS://Example.com/a?b=%7e");
+
+    assertRoundTrip(codec, new TextUriId(null), value);
+
+    codec.encode(value, heap.clear());
+    heap.flip();
+
+    assertEquals(new UriId(URI.create(value.text())), uris.decode(heap));
+  }
+
+  @Test
+  void must_round_trip_passwords() {
+    var codec = PicoTypeCodecs.ofPassword(Password::new);
+    var password = new Password("secret".getBytes(StandardCharsets.UTF_8));
+
+    codec.encode(password, heap);
+    heap.flip();
+
+    assertEquals(password, codec.decode(heap));
+    assertArrayEquals("secret".getBytes(StandardCharsets.UTF_8), password.value());
+  }
+
+  @Test
+  void must_encode_and_decode_arrays() {
+    var codec = PicoTypeCodecs.ofLong(LongId::new);
+    var values = new LongId[] {new LongId(1L), null, new LongId(null), new LongId(-1L)};
+    var decoded = new LongId[6];
+
+    codec.encodeAll(values, heap);
+    heap.flip();
+    codec.decodeAll(heap, decoded, 1, 4);
+
+    assertArrayEquals(new LongId[] {null, values[0], null, values[2], values[3], null}, decoded);
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> codec.encodeAll(values, 3, 2, ByteBuffer.allocate(8)));
+  }
+
+  @Test
+  void must_reject_malformed_input() {
+    var codec = PicoTypeCodecs.ofString(StringId::new);
+
+    assertThrows(
+        IllegalArgumentException.class, () -> codec.decode(ByteBuffer.wrap(new byte[] {7})));
+    assertThrows(
+        IllegalArgumentException.class, () -> codec.decode(ByteBuffer.wrap(new byte[] {2, 5, 0})));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            PicoTypeCodecs.ofInteger(IntegerId::new)
+                .decode(ByteBuffer.wrap(new byte[] {2, -1, -1, -1, -1, -1, 1})));
+    assertThrows(
+        BufferOverflowException.class,
+        () -> codec.encode(new StringId("too long"), ByteBuffer.allocate(4)));
+  }
+
+  @SafeVarargs
+  private <T extends PicoType<?>> void assertRoundTrip(PicoTypeCodec<T> codec, T... values) {
+    for (var buffer : List.of(heap.clear(), direct.clear())) {
+      for (T value : values) {
+        int position = buffer.position();
+        codec.encode(value, buffer);
+        assertEquals(codec.encodedSize(value), buffer.position() - position);
+      }
+      buffer.flip();
+
+      for (T value : values) {
+        assertEquals(value, codec.decode(buffer));
+      }
+      assertFalse(buffer.hasRemaining());
+      assertTrue(buffer.limit() > 0);
+    }
+  }
+
+  private static BigIntegerId bigInteger(long value) {
+    return new BigIntegerId(BigInteger.valueOf(value));
+  }
+
+  static final class BooleanId extends BooleanPicoType {
+    BooleanId(Boolean value) {
+      super(value);
+    }
+  }
+
+  static final class IntegerId extends IntegerPicoType {
+    IntegerId(Integer value) {
+      super(value);
+    }
+  }
+
+  static final class LongId extends LongPicoType {
+    LongId(Long value) {
+      super(value);
+    }
+  }
+
+  static final class DoubleId extends DoublePicoType {
+    DoubleId(Double value) {
+      super(value);
+    }
+  }
+
+  static final class BigIntegerId extends BigIntegerPicoType {
+    BigIntegerId(BigInteger value) {
+      super(value);
+    }
+  }
+
+  static final class BigDecimalId extends BigDecimalPicoType {
+    BigDecimalId(BigDecimal value) {
+      super(value);
+    }
+  }
+
+  static final class StringId extends StringPicoType {
+    StringId(String value) {
+      super(value);
+    }
+  }
+
+  static final class Utf8Id extends Utf8StringPicoType {
+    Utf8Id(String value) {
+      super(value);
+    }
+
+    Utf8Id(ByteBuffer utf8) {
+      super(utf8);
+    }
+  }
+
+  static final class UriId extends UriPicoType {
+    UriId(URI value) {
+      super(value);
+    }
+  }
+
+  static final class TextUriId extends TextUriPicoType {
+    TextUriId(String text) {
+      super(text);
+    }
+  }
+
+  static final class UuidId extends UuidPicoType {
+    UuidId(UUID value) {
+      super(value);
+    }
+  }
+
+  static final class Password extends PasswordPicoType {
+    Password(byte[] value) {
+      super(value);
+    }
+  }
+
+  static final class CompactIntegerId extends PrimitiveIntegerPicoType {
+    CompactIntegerId() {
+      super(null);
+    }
+
+    CompactIntegerId(int value) {
+      super(value);
+    }
+  }
+
+  static final class CompactLongId extends PrimitiveLongPicoType {
+    CompactLongId() {
+      super(null);
+    }
+
+    CompactLongId(long value) {
+      super(value);
+    }
+  }
+
+  static final class CompactDoubleId extends PrimitiveDoublePicoType {
+    CompactDoubleId() {
+      super(null);
+    }
+
+    CompactDoubleId(double value) {
+      super(value);
+    }
+  }
+
+  static final class CompactUuidId extends PrimitiveUuidPicoType {
+    CompactUuidId() {
+      super(null);
+    }
+
+    CompactUuidId(long mostSignificantBits, long leastSignificantBits) {
+      super(mostSignificantBits, leastSignificantBits);
+    }
+  }
+}
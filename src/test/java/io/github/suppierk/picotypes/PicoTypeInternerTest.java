@@ -0,0 +1,111 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PicoTypeInternerTest {
+  private final PicoTypeInterner interner = new PicoTypeInterner();
+
+  @Test
+  void must_reject_invalid_concurrency_level() {
+    assertThrows(IllegalArgumentException.class, () -> new PicoTypeInterner(0));
+    assertThrows(IllegalArgumentException.class, () -> new PicoTypeInterner(-1));
+  }
+
+  @Test
+  void must_reject_null_instance() {
+    assertThrows(NullPointerException.class, () -> interner.intern(null));
+  }
+
+  @Test
+  void must_return_first_instance_for_equal_values() {
+    var value = UUID.randomUUID();
+    var first = new TenantId(value);
+    var second = new TenantId(value);
+
+    assertSame(first, interner.intern(first));
+    assertSame(first, interner.intern(second));
+    assertSame(first, interner.intern(first));
+    assertEquals(1, interner.size());
+  }
+
+  @Test
+  void must_keep_subclasses_apart() {
+    var value = UUID.randomUUID();
+    var tenantId = new TenantId(value);
+    var merchantId = new MerchantId(value);
+
+    assertSame(tenantId, interner.intern(tenantId));
+    assertSame(merchantId, interner.intern(merchantId));
+    assertEquals(2, interner.size());
+  }
+
+  @Test
+  void must_intern_empty_values() {
+    var first = new TenantId(null);
+
+    assertSame(first, interner.intern(first));
+    assertSame(first, interner.intern(new TenantId(null)));
+  }
+
+  @Test
+  void must_gather_statistics() {
+    var value = UUID.randomUUID();
+    interner.intern(new TenantId(value));
+    interner.intern(new TenantId(value));
+    interner.intern(new TenantId(value));
+    interner.intern(new MerchantId(value));
+
+    var stats = interner.stats();
+    assertEquals(2L, stats.hitCount());
+    assertEquals(2L, stats.missCount());
+    assertEquals(0L, stats.evictionCount());
+    assertEquals(0.5, stats.hitRate());
+  }
+
+  @Test
+  void clear_must_remove_canonical_instances() {
+    var first = new TenantId(UUID.randomUUID());
+    interner.intern(first);
+    interner.clear();
+
+    var second = new TenantId(first.value());
+    assertEquals(0, interner.size());
+    assertSame(second, interner.intern(second));
+    assertNotSame(first, interner.intern(second));
+  }
+
+  @Test
+  void must_return_same_canonical_instance_across_threads() {
+    var value = UUID.randomUUID();
+    var singleSegment = new PicoTypeInterner(1);
+
+    var canonical =
+        IntStream.range(0, 10_000)
+            .parallel()
+            .mapToObj(i -> singleSegment.intern(new TenantId(value)))
+            .distinct()
+            .toList();
+
+    assertEquals(1, canonical.size());
+    assertEquals(1, singleSegment.size());
+  }
+
+  private static final class TenantId extends UuidPicoType {
+    private TenantId(UUID value) {
+      super(value);
+    }
+  }
+
+  private static final class MerchantId extends UuidPicoType {
+    private MerchantId(UUID value) {
+      super(value);
+    }
+  }
+}
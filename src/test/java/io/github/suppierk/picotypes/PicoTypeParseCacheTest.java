@@ -0,0 +1,171 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PicoTypeParseCacheTest {
+  private final PicoTypeParseCache cache = new PicoTypeParseCache(16);
+  private final AtomicInteger parsed = new AtomicInteger();
+
+  @Test
+  void must_reject_invalid_maximum_size() {
+    assertThrows(IllegalArgumentException.class, () -> new PicoTypeParseCache(0));
+    assertThrows(IllegalArgumentException.class, () -> new PicoTypeParseCache(-1));
+  }
+
+  @Test
+  void must_reject_null_arguments() {
+    var text = UUID.randomUUID().toString();
+
+    assertThrows(NullPointerException.class, () -> cache.parse(null, text, this::orderId));
+    assertThrows(NullPointerException.class, () -> cache.parse(OrderId.class, null, this::orderId));
+    assertThrows(NullPointerException.class, () -> cache.parse(OrderId.class, text, null));
+    assertThrows(NullPointerException.class, () -> cache.parse(OrderId.class, text, s -> null));
+  }
+
+  @Test
+  void must_return_cached_instance() {
+    var text = UUID.randomUUID().toString();
+
+    var first = cache.parse(OrderId.class, text, this::orderId);
+    var second = cache.parse(OrderId.class, text, this::orderId);
+
+    assertSame(first, second);
+    assertEquals(1, parsed.get());
+    assertEquals(UUID.fromString(text), first.value());
+  }
+
+  @Test
+  void must_key_instances_by_type_and_text() {
+    var text = "https://example.com/" + UUID.randomUUID();
+
+    var first = cache.parse(OrderLink.class, text, s -> new OrderLink(URI.create(s)));
+    var second = cache.parse(InvoiceLink.class, text, s -> new InvoiceLink(URI.create(s)));
+
+    assertEquals(first.value(), second.value());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void must_not_cache_failed_parsing() {
+    assertThrows(
+        IllegalArgumentException.class, () -> cache.parse(OrderId.class, "-", this::orderId));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void must_not_exceed_maximum_size() {
+    for (int i = 0; i < 1_000; i++) {
+      cache.parse(OrderId.class, new UUID(0L, i).toString(), this::orderId);
+    }
+
+    assertEquals(16, cache.size());
+  }
+
+  @Test
+  void must_keep_hot_entries_during_scan() {
+    var hot = new ArrayList<OrderId>();
+    for (int i = 0; i < 16; i++) {
+      hot.add(cache.parse(OrderId.class, new UUID(1L, i).toString(), this::orderId));
+    }
+
+    for (int i = 0; i < 10_000; i++) {
+      cache.parse(OrderId.class, new UUID(2L, i).toString(), this::orderId);
+      var text = new UUID(1L, i % 16).toString();
+      assertSame(hot.get(i % 16), cache.parse(OrderId.class, text, this::orderId));
+    }
+
+    assertEquals(0L, cache.stats().evictionCount());
+  }
+
+  @Test
+  void must_admit_frequently_requested_entries() {
+    var small = new PicoTypeParseCache(2);
+    var first = UUID.randomUUID().toString();
+    var second = UUID.randomUUID().toString();
+    var third = UUID.randomUUID().toString();
+
+    small.parse(OrderId.class, first, this::orderId);
+    small.parse(OrderId.class, second, this::orderId);
+
+    var rejected = small.parse(OrderId.class, third, this::orderId);
+    var admitted = small.parse(OrderId.class, third, this::orderId);
+
+    assertNotSame(rejected, admitted);
+    assertSame(admitted, small.parse(OrderId.class, third, this::orderId));
+    assertEquals(2, small.size());
+    assertEquals(1L, small.stats().evictionCount());
+  }
+
+  @Test
+  void must_gather_statistics() {
+    var text = UUID.randomUUID().toString();
+    cache.parse(OrderId.class, text, this::orderId);
+    cache.parse(OrderId.class, text, this::orderId);
+    cache.parse(OrderId.class, text, this::orderId);
+
+    var stats = cache.stats();
+    assertEquals(2L, stats.hitCount());
+    assertEquals(1L, stats.missCount());
+    assertEquals(0L, stats.evictionCount());
+  }
+
+  @Test
+  void clear_must_remove_cached_instances() {
+    var text = UUID.randomUUID().toString();
+    var first = cache.parse(OrderId.class, text, this::orderId);
+
+    cache.clear();
+
+    assertEquals(0, cache.size());
+    assertNotSame(first, cache.parse(OrderId.class, text, this::orderId));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void must_be_usable_from_multiple_threads() {
+    List<OrderId> results =
+        IntStream.range(0, 10_000)
+            .parallel()
+            .mapToObj(
+                i -> cache.parse(OrderId.class, new UUID(0L, i % 64).toString(), this::orderId))
+            .toList();
+
+    assertEquals(10_000, results.size());
+    assertTrue(cache.size() <= 16);
+  }
+
+  private OrderId orderId(String text) {
+    parsed.incrementAndGet();
+    return new OrderId(UUID.fromString(text));
+  }
+
+  private static final class OrderId extends UuidPicoType {
+    private OrderId(UUID value) {
+      super(value);
+    }
+  }
+
+  private static final class OrderLink extends UriPicoType {
+    private OrderLink(URI value) {
+      super(value);
+    }
+  }
+
+  private static final class InvoiceLink extends UriPicoType {
+    private InvoiceLink(URI value) {
+      super(value);
+    }
+  }
+}
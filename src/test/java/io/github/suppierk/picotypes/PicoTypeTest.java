@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.StringWriter;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -102,6 +103,34 @@ class PicoTypeTest {
         assertDoesNotThrow(() -> nonNullValue.orElseThrow(IllegalStateException::new)));
   }
 
+  @Test
+  void appendTo_must_write_into_builder() {
+    var builder = new StringBuilder("id=");
+
+    assertEquals("id=TestType{value=null}", nullValue.appendTo(builder).toString());
+    assertEquals(
+        "TestType{value=" + nonNullValue.value() + '}',
+        nonNullValue.appendTo(new StringBuilder()).toString());
+  }
+
+  @Test
+  void appendTo_must_write_into_appendable() throws Exception {
+    var writer = nonNullValue.appendTo(new StringWriter());
+
+    assertEquals("TestType{value=" + nonNullValue.value() + '}', writer.toString());
+    assertEquals(
+        "id=SecretType{value=*******}",
+        new SecretType("secret").appendTo(new StringWriter().append("id=")).toString());
+  }
+
+  @Test
+  void appendTo_must_mask_secure_types() {
+    var secret = new SecretType("secret");
+
+    assertEquals("SecretType{value=*******}", secret.appendTo(new StringBuilder()).toString());
+    assertEquals("SecretType{value=*******}", secret.toString());
+  }
+
   private static class TestType implements PicoType<Integer> {
     private final Integer value;
 
@@ -114,4 +143,10 @@ class PicoTypeTest {
       return value;
     }
   }
+
+  private static final class SecretType extends StringPicoType implements SecurePicoType {
+    private SecretType(String value) {
+      super(value);
+    }
+  }
 }
@@ -0,0 +1,218 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class PicoTypesTest {
+  @Test
+  void must_create_instances_through_boxed_constructors() {
+    var uuid = UUID.randomUUID();
+
+    assertEquals(new StringId("id"), PicoTypes.factory(StringId.class).apply("id"));
+    assertEquals(new LongId(1L), PicoTypes.factory(LongId.class).apply(1L));
+    assertEquals(new LongId(null), PicoTypes.factory(LongId.class).apply(null));
+    assertEquals(new UuidId(uuid), PicoTypes.factory(UuidId.class).apply(uuid));
+  }
+
+  @Test
+  void must_create_instances_through_primitive_constructors() {
+    var uuid = UUID.randomUUID();
+
+    assertEquals(new PrimitiveLongId(5L), PicoTypes.longFactory(PrimitiveLongId.class).apply(5L));
+    assertEquals(new PrimitiveIntId(5), PicoTypes.intFactory(PrimitiveIntId.class).apply(5));
+    assertEquals(
+        new PrimitiveUuidId(uuid),
+        PicoTypes.uuidFactory(PrimitiveUuidId.class)
+            .apply(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+  }
+
+  @Test
+  void must_adapt_between_boxed_and_primitive_constructors() {
+    var uuid = UUID.randomUUID();
+
+    assertEquals(new LongId(5L), PicoTypes.longFactory(LongId.class).apply(5L));
+    assertEquals(new IntId(5), PicoTypes.intFactory(IntId.class).apply(5));
+    assertEquals(
+        new UuidId(uuid),
+        PicoTypes.uuidFactory(UuidId.class)
+            .apply(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+
+    assertEquals(new PrimitiveLongId(5L), PicoTypes.factory(PrimitiveLongId.class).apply(5L));
+    assertEquals(new PrimitiveIntId(5), PicoTypes.factory(PrimitiveIntId.class).apply(5));
+    assertEquals(new PrimitiveUuidId(uuid), PicoTypes.factory(PrimitiveUuidId.class).apply(uuid));
+    assertThrows(
+        NullPointerException.class, () -> PicoTypes.factory(PrimitiveLongId.class).apply(null));
+
+    var uri = URI.create("https://example.com");
+    assertSame(uri, PicoTypes.factory(TextUriId.class).apply(uri).value());
+  }
+
+  @Test
+  void must_cache_factories_per_class() {
+    assertSame(PicoTypes.factory(LongId.class), PicoTypes.factory(LongId.class));
+    assertSame(PicoTypes.longFactory(LongId.class), PicoTypes.longFactory(LongId.class));
+  }
+
+  @Test
+  void must_share_instances_of_booleans_and_small_values() {
+    var flags = PicoTypes.factory(FlagId.class);
+    assertSame(flags.apply(true), flags.apply(true));
+    assertSame(flags.apply(null), flags.apply(null));
+    assertEquals(new FlagId(false), flags.apply(false));
+
+    var longs = PicoTypes.longFactory(LongId.class);
+    var boxedLongs = PicoTypes.factory(LongId.class);
+    assertSame(longs.apply(-128L), longs.apply(-128L));
+    assertSame(longs.apply(127L), boxedLongs.apply(127L));
+    assertSame(boxedLongs.apply(null), boxedLongs.apply(null));
+    assertNotSame(longs.apply(128L), longs.apply(128L));
+    assertEquals(new LongId(128L), longs.apply(128L));
+
+    var ints = PicoTypes.intFactory(PrimitiveIntId.class);
+    assertSame(ints.apply(0), ints.apply(0));
+    assertSame(ints.apply(1), PicoTypes.wrapAll(PrimitiveIntId.class, new int[] {1}).get(0));
+    assertNotSame(ints.apply(-129), ints.apply(-129));
+  }
+
+  @Test
+  void must_propagate_constructor_exceptions() {
+    var factory = PicoTypes.factory(PositiveId.class);
+
+    var exception = assertThrows(IllegalArgumentException.class, () -> factory.apply(-1L));
+    assertEquals("must be positive", exception.getMessage());
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void must_reject_unsupported_classes() {
+    assertThrows(NullPointerException.class, () -> PicoTypes.factory(null));
+    assertThrows(IllegalArgumentException.class, () -> PicoTypes.factory(LongPicoType.class));
+    assertThrows(IllegalArgumentException.class, () -> PicoTypes.factory(NoConstructorId.class));
+    assertThrows(IllegalArgumentException.class, () -> PicoTypes.longFactory((Class) IntId.class));
+  }
+
+  @Test
+  void must_wrap_and_unwrap_values_in_order() {
+    var longs = LongStream.range(0, 10).toArray();
+    var ints = IntStream.range(0, 10).toArray();
+    var strings = List.of("a", "b", "c");
+
+    var longIds = PicoTypes.wrapAll(PrimitiveLongId.class, longs);
+    var intIds = PicoTypes.wrapAll(IntId.class, ints);
+    var stringIds = PicoTypes.wrapAll(StringId.class, strings);
+
+    assertEquals(new PrimitiveLongId(3L), longIds.get(3));
+    assertEquals(new IntId(3), intIds.get(3));
+    assertEquals(List.of(new StringId("a"), new StringId("b"), new StringId("c")), stringIds);
+
+    assertEquals(LongStream.of(longs).boxed().toList(), PicoTypes.unwrapAll(longIds));
+    assertEquals(IntStream.of(ints).boxed().toList(), PicoTypes.unwrapAll(intIds));
+    assertEquals(strings, PicoTypes.unwrapAll(stringIds));
+    assertThrows(UnsupportedOperationException.class, () -> longIds.set(0, longIds.get(1)));
+  }
+
+  @Test
+  void must_wrap_and_unwrap_large_inputs_in_parallel() {
+    int size = PicoTypes.PARALLEL_THRESHOLD * 2;
+    var longs = LongStream.range(0, size).toArray();
+    var ints = IntStream.range(0, size).toArray();
+    var boxed = new ArrayList<Long>(Arrays.stream(longs).boxed().toList());
+    boxed.set(1, null);
+
+    var longIds = PicoTypes.wrapAll(LongId.class, longs);
+    var intIds = PicoTypes.wrapAll(PrimitiveIntId.class, ints);
+    var boxedIds = PicoTypes.wrapAll(LongId.class, boxed);
+
+    for (int i = 0; i < size; i++) {
+      assertEquals(i, longIds.get(i).value());
+      assertEquals(i, intIds.get(i).intValue());
+    }
+    assertTrue(boxedIds.get(1).isEmpty());
+    assertEquals(boxed, PicoTypes.unwrapAll(boxedIds));
+  }
+
+  private static final class StringId extends StringPicoType {
+    private StringId(String value) {
+      super(value);
+    }
+  }
+
+  private static final class LongId extends LongPicoType {
+    private LongId(Long value) {
+      super(value);
+    }
+  }
+
+  private static final class IntId extends IntegerPicoType {
+    private IntId(Integer value) {
+      super(value);
+    }
+  }
+
+  private static final class UuidId extends UuidPicoType {
+    private UuidId(UUID value) {
+      super(value);
+    }
+  }
+
+  private static final class TextUriId extends TextUriPicoType {
+    private TextUriId(String text) {
+      super(text);
+    }
+  }
+
+  private static final class PrimitiveLongId extends PrimitiveLongPicoType {
+    private PrimitiveLongId(long value) {
+      super(value);
+    }
+  }
+
+  private static final class PrimitiveIntId extends PrimitiveIntegerPicoType {
+    private PrimitiveIntId(int value) {
+      super(value);
+    }
+  }
+
+  private static final class PrimitiveUuidId extends PrimitiveUuidPicoType {
+    private PrimitiveUuidId(long mostSignificantBits, long leastSignificantBits) {
+      super(mostSignificantBits, leastSignificantBits);
+    }
+
+    private PrimitiveUuidId(UUID value) {
+      super(value);
+    }
+  }
+
+  private static final class PositiveId extends LongPicoType {
+    private PositiveId(Long value) {
+      super(value);
+      if (value < 0) {
+        throw new IllegalArgumentException("must be positive");
+      }
+    }
+  }
+
+  private static final class FlagId extends BooleanPicoType {
+    private FlagId(Boolean value) {
+      super(value);
+    }
+  }
+
+  private static final class NoConstructorId extends StringPicoType {
+    private NoConstructorId() {
+      super("id");
+    }
+  }
+}
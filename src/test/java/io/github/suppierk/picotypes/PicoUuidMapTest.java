@@ -0,0 +1,138 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PicoUuidMapTest {
+  private static final UUID ZERO = new UUID(0L, 0L);
+
+  private final PicoUuidMap<OrderId, String> map = new PicoUuidMap<>(OrderId::new);
+
+  @Test
+  void must_reject_invalid_arguments() {
+    assertThrows(NullPointerException.class, () -> new PicoUuidMap<OrderId, String>(null));
+    assertThrows(IllegalArgumentException.class, () -> new PicoUuidMap<>(OrderId::new, -1));
+    assertThrows(NullPointerException.class, () -> map.put(null, "value"));
+    assertThrows(NullPointerException.class, () -> map.put(new OrderId(null), "value"));
+    assertThrows(NullPointerException.class, () -> map.get(null));
+    assertThrows(NullPointerException.class, () -> map.forEachRaw(null));
+  }
+
+  @Test
+  void must_put_get_and_remove_entries() {
+    var uuid = UUID.randomUUID();
+
+    assertNull(map.put(new OrderId(uuid), "first"));
+    assertEquals("first", map.put(new OrderId(uuid), "second"));
+
+    assertEquals(1, map.size());
+    assertTrue(map.containsKey(new OrderId(uuid)));
+    assertEquals("second", map.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+    assertEquals("default", map.getOrDefault(new OrderId(UUID.randomUUID()), "default"));
+
+    assertEquals("second", map.remove(new OrderId(uuid)));
+    assertNull(map.remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  void must_distinguish_keys_with_one_half_unset() {
+    map.put(0L, 0L, "zero");
+    map.put(0L, 1L, "low");
+    map.put(1L, 0L, "high");
+
+    assertEquals(3, map.size());
+    assertEquals("zero", map.get(new OrderId(ZERO)));
+    assertEquals("low", map.get(0L, 1L));
+    assertEquals("high", map.get(1L, 0L));
+
+    assertEquals("zero", map.remove(0L, 0L));
+    assertFalse(map.containsKey(0L, 0L));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  void must_accept_primitive_keys() {
+    var compact = new PicoUuidMap<CompactOrderId, String>(CompactOrderId::new);
+    var uuid = UUID.randomUUID();
+    var high = uuid.getMostSignificantBits();
+    var low = uuid.getLeastSignificantBits();
+
+    compact.put(new CompactOrderId(uuid), "value");
+
+    assertEquals("value", compact.get(high, low));
+    compact.forEach((key, value) -> assertEquals(new CompactOrderId(uuid), key));
+  }
+
+  @Test
+  void must_compute_absent_values_only_once() {
+    var key = new OrderId(UUID.randomUUID());
+
+    assertEquals(key.value().toString(), map.computeIfAbsent(key, k -> k.value().toString()));
+    assertEquals(key.value().toString(), map.computeIfAbsent(key, k -> "other"));
+    assertNull(map.computeIfAbsent(new OrderId(ZERO), k -> null));
+    assertFalse(map.containsKey(0L, 0L));
+  }
+
+  @Test
+  void must_iterate_entries() {
+    for (long i = 0; i < 100; i++) {
+      map.put(i, -i, Long.toString(i));
+    }
+
+    var wrapped = new HashMap<OrderId, String>();
+    map.forEach(wrapped::put);
+    var raw = new HashMap<UUID, String>();
+    map.forEachRaw((value, high, low) -> raw.put(new UUID(high, low), value));
+
+    assertEquals(100, wrapped.size());
+    assertEquals(wrapped.size(), raw.size());
+    wrapped.forEach((key, value) -> assertEquals(raw.get(key.value()), value));
+  }
+
+  @Test
+  void must_behave_like_hash_map() {
+    var random = new Random(42L);
+    var expected = new HashMap<UUID, String>();
+    var actual = new PicoUuidMap<OrderId, String>(OrderId::new, 0);
+
+    for (int i = 0; i < 100_000; i++) {
+      var key = new UUID(random.nextInt(64), random.nextInt(64));
+      if (random.nextBoolean()) {
+        assertEquals(expected.put(key, "v" + i), actual.put(new OrderId(key), "v" + i));
+      } else {
+        assertEquals(expected.remove(key), actual.remove(new OrderId(key)));
+      }
+      assertEquals(expected.size(), actual.size());
+    }
+
+    for (Map.Entry<UUID, String> entry : expected.entrySet()) {
+      assertEquals(entry.getValue(), actual.get(new OrderId(entry.getKey())));
+    }
+
+    actual.clear();
+    assertTrue(actual.isEmpty());
+    assertFalse(actual.containsKey(0L, 0L));
+  }
+
+  static final class OrderId extends UuidPicoType {
+    OrderId(UUID value) {
+      super(value);
+    }
+  }
+
+  static final class CompactOrderId extends PrimitiveUuidPicoType {
+    CompactOrderId(UUID value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PicoUuidSetTest {
+  private final PicoUuidSet<OrderId> set = new PicoUuidSet<>(OrderId::new);
+
+  @Test
+  void must_reject_invalid_arguments() {
+    assertThrows(NullPointerException.class, () -> new PicoUuidSet<OrderId>(null));
+    assertThrows(IllegalArgumentException.class, () -> new PicoUuidSet<>(OrderId::new, -1));
+    assertThrows(NullPointerException.class, () -> set.add(null));
+    assertThrows(NullPointerException.class, () -> set.add(new OrderId(null)));
+    assertThrows(NullPointerException.class, () -> set.forEachRaw(null));
+  }
+
+  @Test
+  void must_add_and_remove_elements() {
+    var uuid = UUID.randomUUID();
+
+    assertTrue(set.add(new OrderId(uuid)));
+    assertFalse(set.add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+    assertTrue(set.add(0L, 0L));
+    assertTrue(set.add(0L, 1L));
+
+    assertEquals(3, set.size());
+    assertTrue(set.contains(new OrderId(new UUID(0L, 0L))));
+    assertTrue(set.contains(new OrderId(uuid)));
+
+    assertTrue(set.remove(0L, 0L));
+    assertFalse(set.remove(0L, 0L));
+    assertTrue(set.contains(0L, 1L));
+    assertTrue(set.remove(new OrderId(uuid)));
+    assertEquals(1, set.size());
+  }
+
+  @Test
+  void must_iterate_elements() {
+    set.add(0L, 0L);
+    for (long i = 1; i < 100; i++) {
+      set.add(i, i);
+    }
+
+    var wrapped = new HashSet<OrderId>();
+    set.forEach(wrapped::add);
+    var raw = new HashSet<UUID>();
+    set.forEachRaw((high, low) -> raw.add(new UUID(high, low)));
+    var array = set.toRawArray();
+
+    assertEquals(100, wrapped.size());
+    assertEquals(100, raw.size());
+    assertEquals(200, array.length);
+    for (int i = 0; i < array.length; i += 2) {
+      assertTrue(raw.contains(new UUID(array[i], array[i + 1])));
+    }
+  }
+
+  @Test
+  void must_behave_like_hash_set() {
+    var random = new Random(42L);
+    var expected = new HashSet<UUID>();
+    var actual = new PicoUuidSet<OrderId>(OrderId::new, 0);
+
+    for (int i = 0; i < 100_000; i++) {
+      var element = new UUID(random.nextInt(64), random.nextInt(64));
+      if (random.nextBoolean()) {
+        assertEquals(expected.add(element), actual.add(new OrderId(element)));
+      } else {
+        assertEquals(expected.remove(element), actual.remove(new OrderId(element)));
+      }
+      assertEquals(expected.size(), actual.size());
+    }
+
+    for (UUID element : expected) {
+      assertTrue(actual.contains(new OrderId(element)));
+    }
+
+    actual.clear();
+    assertTrue(actual.isEmpty());
+  }
+
+  static final class OrderId extends UuidPicoType {
+    OrderId(UUID value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveDoublePicoTypeTest {
+  private final double value = ThreadLocalRandom.current().nextDouble(1_000_000.0);
+
+  private final TestType nullWrapper = new TestType(null);
+  private final TestType wrapper = new TestType(value);
+  private final TestType boxedWrapper = new TestType(Double.valueOf(value));
+  private final TestType biggerWrapper = new TestType(value + 1.0);
+
+  @Test
+  void must_have_correct_equals_and_hashCode() {
+    EqualsVerifier.simple().forClass(PrimitiveDoublePicoType.class).verify();
+  }
+
+  @Test
+  void subclass_must_inherit_correct_equals_and_hashCode() {
+    EqualsVerifier.simple().forClass(TestType.class).verify();
+  }
+
+  @Test
+  void must_return_passed_value_as_is() {
+    assertNull(nullWrapper.value());
+    assertEquals(value, wrapper.value());
+    assertEquals(value, boxedWrapper.value());
+  }
+
+  @Test
+  void primitive_and_boxed_constructors_must_be_equal() {
+    assertEquals(wrapper, boxedWrapper);
+    assertEquals(wrapper.hashCode(), boxedWrapper.hashCode());
+    assertNotEquals(nullWrapper, new TestType(0.0));
+  }
+
+  @Test
+  void must_keep_hashCode_of_boxed_value() {
+    assertEquals(Double.valueOf(value).hashCode(), wrapper.hashCode());
+    assertEquals(0, nullWrapper.hashCode());
+  }
+
+  @Test
+  void presence_must_be_tracked_without_value() {
+    assertTrue(wrapper.isPresent());
+    assertFalse(wrapper.isEmpty());
+    assertFalse(nullWrapper.isPresent());
+    assertTrue(nullWrapper.isEmpty());
+  }
+
+  @Test
+  void doubleValue_must_return_value_or_throw() {
+    assertEquals(value, wrapper.doubleValue());
+    assertThrows(NoSuchElementException.class, nullWrapper::doubleValue);
+  }
+
+  @Test
+  void ifPresentAsDouble_must_invoke_action_correctly() {
+    nullWrapper.ifPresentAsDouble(v -> fail());
+
+    var invoked = new AtomicBoolean(false);
+    wrapper.ifPresentAsDouble(v -> invoked.set(v == value));
+    assertTrue(invoked.get());
+  }
+
+  @Test
+  void orElse_must_return_correct_value() {
+    double replacement = value - 1.0;
+
+    assertEquals(replacement, nullWrapper.orElse(replacement));
+    assertEquals(value, wrapper.orElse(replacement));
+  }
+
+  @Test
+  void must_have_correct_toString() {
+    assertEquals(TestType.class.getSimpleName() + "{value=" + value + '}', wrapper.toString());
+    assertEquals(TestType.class.getSimpleName() + "{value=null}", nullWrapper.toString());
+  }
+
+  @Test
+  void must_have_correct_compareTo() {
+    assertEquals(-1, wrapper.compareTo(biggerWrapper));
+    assertEquals(0, wrapper.compareTo(wrapper));
+    assertEquals(0, biggerWrapper.compareTo(biggerWrapper));
+    assertEquals(1, biggerWrapper.compareTo(wrapper));
+
+    assertThrows(NullPointerException.class, () -> nullWrapper.compareTo(wrapper));
+    assertThrows(NullPointerException.class, () -> wrapper.compareTo(null));
+    assertThrows(NullPointerException.class, () -> wrapper.compareTo(nullWrapper));
+  }
+
+  @Test
+  void must_follow_Double_equality_for_special_values() {
+    assertEquals(new TestType(Double.NaN), new TestType(0.0 / 0.0));
+    assertEquals(new TestType(Double.NaN).hashCode(), new TestType(0.0 / 0.0).hashCode());
+    assertNotEquals(new TestType(0.0), new TestType(-0.0));
+    assertEquals(-1, new TestType(-0.0).compareTo(new TestType(0.0)));
+    assertEquals(1, new TestType(Double.NaN).compareTo(new TestType(Double.POSITIVE_INFINITY)));
+  }
+
+  @Test
+  void must_be_correctly_serialized_with_Jackson() throws Exception {
+    var mapper = new ObjectMapper();
+    var serialized = mapper.writeValueAsString(wrapper);
+    var deserialized = mapper.readValue(serialized, TestType.class);
+
+    assertEquals(String.valueOf(value), serialized);
+    assertEquals(wrapper, deserialized);
+  }
+
+  private static class TestType extends PrimitiveDoublePicoType {
+    public TestType(double value) {
+      super(value);
+    }
+
+    public TestType(Double value) {
+      super(value);
+    }
+
+    @Override
+    @JsonValue
+    public Double value() {
+      return super.value();
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveUuidPicoTypeTest {
+  private final UUID value = UUID.randomUUID();
+
+  private final TestType nullWrapper = new TestType((UUID) null);
+  private final TestType wrapper = new TestType(value);
+  private final TestType bitsWrapper =
+      new TestType(value.getMostSignificantBits(), value.getLeastSignificantBits());
+
+  @Test
+  void must_have_correct_equals_and_hashCode() {
+    EqualsVerifier.simple().forClass(PrimitiveUuidPicoType.class).verify();
+  }
+
+  @Test
+  void subclass_must_inherit_correct_equals_and_hashCode() {
+    EqualsVerifier.simple().forClass(TestType.class).verify();
+  }
+
+  @Test
+  void must_return_passed_value() {
+    assertNull(nullWrapper.value());
+    assertEquals(value, wrapper.value());
+    assertEquals(value, bitsWrapper.value());
+    assertNotSame(wrapper.value(), wrapper.value());
+  }
+
+  @Test
+  void uuid_and_bits_constructors_must_be_equal() {
+    assertEquals(wrapper, bitsWrapper);
+    assertEquals(wrapper.hashCode(), bitsWrapper.hashCode());
+    assertNotEquals(nullWrapper, new TestType(0L, 0L));
+  }
+
+  @Test
+  void hashCode_must_depend_on_presence() {
+    assertEquals(0, nullWrapper.hashCode());
+    assertNotEquals(nullWrapper.hashCode(), new TestType(1L, 1L).hashCode());
+    assertNotEquals(nullWrapper.hashCode(), new TestType(0L, 0L).hashCode());
+  }
+
+  @Test
+  void presence_must_be_tracked_without_value() {
+    assertTrue(wrapper.isPresent());
+    assertFalse(wrapper.isEmpty());
+    assertFalse(nullWrapper.isPresent());
+    assertTrue(nullWrapper.isEmpty());
+  }
+
+  @Test
+  void bits_must_be_returned_or_throw() {
+    assertEquals(value.getMostSignificantBits(), wrapper.mostSignificantBits());
+    assertEquals(value.getLeastSignificantBits(), wrapper.leastSignificantBits());
+    assertThrows(NoSuchElementException.class, nullWrapper::mostSignificantBits);
+    assertThrows(NoSuchElementException.class, nullWrapper::leastSignificantBits);
+  }
+
+  @Test
+  void must_append_canonical_form_of_value() {
+    var uuid = new UUID(Long.MIN_VALUE, -1L);
+
+    assertEquals(uuid.toString(), new TestType(uuid).appendValueTo(new StringBuilder()).toString());
+  }
+
+  @Test
+  void must_have_correct_toString() {
+    assertEquals(TestType.class.getSimpleName() + "{value=" + value + '}', wrapper.toString());
+    assertEquals(TestType.class.getSimpleName() + "{value=null}", nullWrapper.toString());
+  }
+
+  @Test
+  void must_have_correct_compareTo() {
+    var uuids = List.of(new UUID(-1L, 5L), new UUID(0L, -1L), new UUID(0L, 1L), new UUID(1L, 0L));
+
+    for (var left : uuids) {
+      for (var right : uuids) {
+        assertEquals(left.compareTo(right), new TestType(left).compareTo(new TestType(right)));
+      }
+    }
+
+    assertThrows(NullPointerException.class, () -> nullWrapper.compareTo(wrapper));
+    assertThrows(NullPointerException.class, () -> wrapper.compareTo(null));
+    assertThrows(NullPointerException.class, () -> wrapper.compareTo(nullWrapper));
+  }
+
+  @Test
+  void must_be_correctly_serialized_with_Jackson() throws Exception {
+    var mapper = new ObjectMapper();
+    var serialized = mapper.writeValueAsString(wrapper);
+    var deserialized = mapper.readValue(serialized, TestType.class);
+
+    assertEquals("\"" + value + "\"", serialized);
+    assertEquals(wrapper, deserialized);
+  }
+
+  private static class TestType extends PrimitiveUuidPicoType {
+    public TestType(long mostSignificantBits, long leastSignificantBits) {
+      super(mostSignificantBits, leastSignificantBits);
+    }
+
+    public TestType(UUID value) {
+      super(value);
+    }
+
+    @JsonCreator
+    public TestType(String value) {
+      this(UUID.fromString(value));
+    }
+
+    @Override
+    @JsonValue
+    public UUID value() {
+      return super.value();
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SortedIntPicoIndexTest {
+  @Test
+  void must_reject_invalid_arguments() {
+    var index = SortedIntPicoIndex.of(Priority::new, new int[] {1});
+
+    assertThrows(NullPointerException.class, () -> SortedIntPicoIndex.of(null, new int[0]));
+    assertThrows(
+        NullPointerException.class, () -> SortedIntPicoIndex.of(Priority::new, (int[]) null));
+    assertThrows(
+        NullPointerException.class,
+        () -> SortedIntPicoIndex.of(Priority::new, Arrays.asList(new Priority(1), null)));
+    assertThrows(NullPointerException.class, () -> index.rank(null));
+    assertThrows(IndexOutOfBoundsException.class, () -> index.selectInt(1));
+  }
+
+  @Test
+  void must_sort_and_deduplicate_values() {
+    var index =
+        SortedIntPicoIndex.of(
+            Priority::new, new int[] {5, -3, 5, Integer.MAX_VALUE, 0, Integer.MIN_VALUE});
+
+    assertArrayEquals(
+        new int[] {Integer.MIN_VALUE, -3, 0, 5, Integer.MAX_VALUE}, index.toRawArray());
+    assertEquals(Integer.MIN_VALUE, index.firstInt());
+    assertEquals(Integer.MAX_VALUE, index.lastInt());
+    assertEquals(new Priority(0), index.select(2));
+  }
+
+  @Test
+  void must_build_from_elements_and_columns() {
+    var column = new IntPicoColumn<Priority>(Priority::new).add(3).addNull().add(1).add(3);
+
+    assertArrayEquals(new int[] {1, 3}, SortedIntPicoIndex.of(Priority::new, column).toRawArray());
+    assertArrayEquals(
+        new int[] {1, 3},
+        SortedIntPicoIndex.of(Priority::new, List.of(new Priority(3), new Priority(1)))
+            .toRawArray());
+  }
+
+  @Test
+  void must_handle_empty_index() {
+    var index = SortedIntPicoIndex.<Priority>of(Priority::new, new int[0]);
+
+    assertTrue(index.isEmpty());
+    assertEquals(0, index.rangeCount(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    assertThrows(NoSuchElementException.class, index::firstInt);
+    assertThrows(NoSuchElementException.class, index::lastInt);
+  }
+
+  @Test
+  void must_query_ranges() {
+    var index =
+        SortedIntPicoIndex.of(Priority::new, IntStream.range(0, 100).map(i -> i * 10).toArray());
+
+    assertTrue(index.contains(new Priority(990)));
+    assertFalse(index.contains(new Priority(null)));
+    assertEquals(11, index.rangeCount(100, 200));
+    assertEquals(10, index.rangeCount(new Priority(101), new Priority(200)));
+    assertEquals(0, index.rangeCount(200, 100));
+
+    var iterated = new ArrayList<Integer>();
+    index.rangeIterator(95, 130).forEachRemaining((int value) -> iterated.add(value));
+    assertEquals(List.of(100, 110, 120, 130), iterated);
+    assertEquals(
+        List.of(new Priority(980), new Priority(990)),
+        index.range(new Priority(975), new Priority(5_000)).toList());
+  }
+
+  @Test
+  void must_behave_like_tree_set() {
+    var random = new Random(42L);
+    for (int round = 0; round < 20; round++) {
+      int size = random.nextInt(2_000);
+      int bound = round % 2 == 0 ? 1_000 : Integer.MAX_VALUE;
+      int[] raw = new int[size];
+      var expected = new TreeSet<Integer>();
+      for (int i = 0; i < size; i++) {
+        raw[i] = random.nextInt(1 - bound, bound);
+        expected.add(raw[i]);
+      }
+      var index = SortedIntPicoIndex.of(Priority::new, raw);
+
+      assertArrayEquals(
+          expected.stream().mapToInt(Integer::intValue).toArray(), index.toRawArray());
+      for (int i = 0; i < 500; i++) {
+        int value =
+            i % 2 == 0 && size > 0 ? raw[random.nextInt(size)] : random.nextInt(1 - bound, bound);
+
+        assertEquals(index.binarySearch(value), index.interpolationSearch(value));
+        assertEquals(expected.contains(value), index.contains(value));
+        assertEquals(expected.headSet(value).size(), index.rank(value));
+
+        int to = value + random.nextInt(100);
+        if (to >= value) {
+          assertEquals(expected.subSet(value, true, to, true).size(), index.rangeCount(value, to));
+        }
+      }
+    }
+  }
+
+  static final class Priority extends IntegerPicoType {
+    Priority(Integer value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class SortedLongPicoIndexTest {
+  @Test
+  void must_reject_invalid_arguments() {
+    var index = SortedLongPicoIndex.of(OrderId::new, new long[] {1L});
+
+    assertThrows(NullPointerException.class, () -> SortedLongPicoIndex.of(null, new long[0]));
+    assertThrows(
+        NullPointerException.class, () -> SortedLongPicoIndex.of(OrderId::new, (long[]) null));
+    assertThrows(
+        NullPointerException.class,
+        () -> SortedLongPicoIndex.of(OrderId::new, Arrays.asList(new OrderId(1L), null)));
+    assertThrows(
+        NullPointerException.class,
+        () -> SortedLongPicoIndex.of(OrderId::new, List.of(new OrderId(null))));
+    assertThrows(NullPointerException.class, () -> index.rank(null));
+    assertThrows(IndexOutOfBoundsException.class, () -> index.selectLong(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> index.select(-1));
+  }
+
+  @Test
+  void must_sort_and_deduplicate_values() {
+    long[] raw = {5L, -3L, 5L, Long.MAX_VALUE, 0L, Long.MIN_VALUE, -3L};
+    var index = SortedLongPicoIndex.of(OrderId::new, raw);
+
+    assertEquals(5, index.size());
+    assertFalse(index.isEmpty());
+    assertArrayEquals(new long[] {Long.MIN_VALUE, -3L, 0L, 5L, Long.MAX_VALUE}, index.toRawArray());
+    assertEquals(5L, raw[0]);
+    assertEquals(Long.MIN_VALUE, index.firstLong());
+    assertEquals(Long.MAX_VALUE, index.lastLong());
+  }
+
+  @Test
+  void must_build_from_elements_and_columns() {
+    var column = new LongPicoColumn<OrderId>(OrderId::new).add(3L).addNull().add(1L).add(3L);
+
+    var fromColumn = SortedLongPicoIndex.of(OrderId::new, column);
+    var fromElements =
+        SortedLongPicoIndex.of(
+            CompactOrderId::new, List.of(new CompactOrderId(3L), new CompactOrderId(1L)));
+
+    assertArrayEquals(new long[] {1L, 3L}, fromColumn.toRawArray());
+    assertArrayEquals(new long[] {1L, 3L}, fromElements.toRawArray());
+  }
+
+  @Test
+  void must_handle_empty_index() {
+    var index = SortedLongPicoIndex.<OrderId>of(OrderId::new, new long[0]);
+
+    assertTrue(index.isEmpty());
+    assertFalse(index.contains(0L));
+    assertEquals(-1, index.interpolationSearch(42L));
+    assertEquals(0, index.rank(42L));
+    assertEquals(0, index.rangeCount(Long.MIN_VALUE, Long.MAX_VALUE));
+    assertFalse(index.rangeIterator(Long.MIN_VALUE, Long.MAX_VALUE).hasNext());
+    assertThrows(NoSuchElementException.class, index::firstLong);
+    assertThrows(NoSuchElementException.class, index::lastLong);
+  }
+
+  @Test
+  void must_look_up_elements() {
+    var index = SortedLongPicoIndex.of(OrderId::new, new long[] {10L, 20L, 30L});
+
+    assertTrue(index.contains(new OrderId(20L)));
+    assertFalse(index.contains(new OrderId(25L)));
+    assertFalse(index.contains(new OrderId(null)));
+    assertFalse(index.contains((OrderId) null));
+    assertEquals(new OrderId(20L), index.select(1));
+    assertEquals(1, index.rank(new OrderId(20L)));
+  }
+
+  @Test
+  void must_query_ranges() {
+    var index =
+        SortedLongPicoIndex.of(OrderId::new, LongStream.range(0, 100).map(i -> i * 10).toArray());
+
+    assertEquals(11, index.rangeCount(100L, 200L));
+    assertEquals(10, index.rangeCount(new OrderId(101L), new OrderId(200L)));
+    assertEquals(0, index.rangeCount(200L, 100L));
+    assertEquals(100, index.rangeCount(Long.MIN_VALUE, Long.MAX_VALUE));
+
+    var iterated = new ArrayList<Long>();
+    index.rangeIterator(95L, 130L).forEachRemaining((long value) -> iterated.add(value));
+    assertEquals(List.of(100L, 110L, 120L, 130L), iterated);
+    assertFalse(index.rangeIterator(130L, 95L).hasNext());
+
+    assertEquals(
+        List.of(new OrderId(980L), new OrderId(990L)),
+        index.range(new OrderId(975L), new OrderId(5_000L)).toList());
+    assertEquals(0, index.range(new OrderId(975L), new OrderId(0L)).count());
+  }
+
+  @Test
+  void must_behave_like_tree_set() {
+    var random = new Random(42L);
+    for (int round = 0; round < 20; round++) {
+      int size = random.nextInt(2_000);
+      long bound = round % 2 == 0 ? 1_000L : Long.MAX_VALUE;
+      long[] raw = new long[size];
+      var expected = new TreeSet<Long>();
+      for (int i = 0; i < size; i++) {
+        raw[i] = round % 4 == 3 ? (long) i * i * i : random.nextLong() % bound;
+        expected.add(raw[i]);
+      }
+      var index = SortedLongPicoIndex.of(OrderId::new, raw);
+
+      assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), index.toRawArray());
+      for (int i = 0; i < 500; i++) {
+        long value = i % 2 == 0 && size > 0 ? raw[random.nextInt(size)] : random.nextLong() % bound;
+        int rank = expected.headSet(value).size();
+
+        assertEquals(index.binarySearch(value), index.interpolationSearch(value));
+        assertEquals(expected.contains(value), index.contains(value));
+        assertEquals(rank, index.rank(value));
+        if (rank < size && expected.contains(value)) {
+          assertEquals(value, index.selectLong(rank));
+        }
+
+        long to = value + random.nextInt(100);
+        assertEquals(expected.subSet(value, true, to, true).size(), index.rangeCount(value, to));
+      }
+    }
+  }
+
+  static final class OrderId extends LongPicoType {
+    OrderId(Long value) {
+      super(value);
+    }
+  }
+
+  static final class CompactOrderId extends PrimitiveLongPicoType {
+    CompactOrderId(long value) {
+      super(value);
+    }
+  }
+}
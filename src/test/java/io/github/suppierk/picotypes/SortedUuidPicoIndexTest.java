@@ -0,0 +1,141 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SortedUuidPicoIndexTest {
+  @Test
+  void must_reject_invalid_arguments() {
+    var index = SortedUuidPicoIndex.of(TenantId::new, new long[] {1L, 2L});
+
+    assertThrows(NullPointerException.class, () -> SortedUuidPicoIndex.of(null, new long[0]));
+    assertThrows(
+        NullPointerException.class, () -> SortedUuidPicoIndex.of(TenantId::new, (long[]) null));
+    assertThrows(
+        IllegalArgumentException.class, () -> SortedUuidPicoIndex.of(TenantId::new, new long[3]));
+    assertThrows(
+        NullPointerException.class,
+        () -> SortedUuidPicoIndex.of(TenantId::new, Arrays.asList(new TenantId(null))));
+    assertThrows(NullPointerException.class, () -> index.rank(null));
+    assertThrows(NullPointerException.class, () -> index.forEachRaw(null));
+    assertThrows(IndexOutOfBoundsException.class, () -> index.select(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> index.selectMostSignificantBits(-1));
+  }
+
+  @Test
+  void must_sort_in_uuid_order_and_deduplicate() {
+    var uuids =
+        List.of(
+            new UUID(1L, 0L),
+            new UUID(-1L, 5L),
+            new UUID(0L, -1L),
+            new UUID(0L, 1L),
+            new UUID(-1L, 5L));
+    var index = SortedUuidPicoIndex.of(TenantId::new, uuids.stream().map(TenantId::new).toList());
+
+    assertEquals(4, index.size());
+    assertArrayEquals(new long[] {-1L, 5L, 0L, -1L, 0L, 1L, 1L, 0L}, index.toRawArray());
+    assertEquals(new TenantId(new UUID(0L, -1L)), index.select(1));
+    assertEquals(0L, index.selectMostSignificantBits(2));
+    assertEquals(1L, index.selectLeastSignificantBits(2));
+    assertEquals(
+        new TreeSet<>(uuids).stream().toList(), index.stream().map(TenantId::value).toList());
+  }
+
+  @Test
+  void must_build_from_columns() {
+    var column =
+        new UuidPicoColumn<TenantId>(TenantId::new).add(3L, 3L).addNull().add(1L, 1L).add(3L, 3L);
+
+    var index = SortedUuidPicoIndex.of(TenantId::new, column);
+
+    assertArrayEquals(new long[] {1L, 1L, 3L, 3L}, index.toRawArray());
+  }
+
+  @Test
+  void must_handle_empty_index() {
+    var index = SortedUuidPicoIndex.<TenantId>of(TenantId::new, new long[0]);
+    var any = new TenantId(UUID.randomUUID());
+
+    assertTrue(index.isEmpty());
+    assertFalse(index.contains(any));
+    assertEquals(0, index.rank(any));
+    assertEquals(0, index.rangeCount(any, any));
+    assertEquals(0, index.range(any, any).count());
+  }
+
+  @Test
+  void must_query_ranges() {
+    var raw = new long[200];
+    for (int i = 0; i < 100; i++) {
+      raw[i * 2] = i / 10;
+      raw[i * 2 + 1] = i % 10;
+    }
+    var index = SortedUuidPicoIndex.of(TenantId::new, raw);
+    var from = new TenantId(new UUID(2L, 5L));
+    var to = new TenantId(new UUID(3L, 2L));
+
+    assertTrue(index.contains(from));
+    assertFalse(index.contains(new TenantId(null)));
+    assertEquals(25, index.rank(from));
+    assertEquals(8, index.rangeCount(from, to));
+    assertEquals(0, index.rangeCount(to, from));
+    assertEquals(8, index.range(from, to).count());
+
+    var iterated = new ArrayList<UUID>();
+    index.forEachRawInRange(from, to, (high, low) -> iterated.add(new UUID(high, low)));
+    assertEquals(index.range(from, to).map(TenantId::value).toList(), iterated);
+
+    var all = new ArrayList<UUID>();
+    index.forEachRaw((high, low) -> all.add(new UUID(high, low)));
+    assertEquals(100, all.size());
+  }
+
+  @Test
+  void must_behave_like_tree_set() {
+    var random = new Random(42L);
+    for (int round = 0; round < 20; round++) {
+      int size = random.nextInt(2_000);
+      long bound = round % 2 == 0 ? 8L : Long.MAX_VALUE;
+      var uuids = new ArrayList<TenantId>();
+      var expected = new TreeSet<UUID>();
+      for (int i = 0; i < size; i++) {
+        var uuid = new UUID(random.nextLong() % bound, random.nextLong() % bound);
+        uuids.add(new TenantId(uuid));
+        expected.add(uuid);
+      }
+      var index = SortedUuidPicoIndex.of(TenantId::new, uuids);
+
+      assertEquals(List.copyOf(expected), index.stream().map(TenantId::value).toList());
+      for (int i = 0; i < 500; i++) {
+        var value =
+            i % 2 == 0 && size > 0
+                ? uuids.get(random.nextInt(size)).value()
+                : new UUID(random.nextLong() % bound, random.nextLong() % bound);
+        long high = value.getMostSignificantBits();
+        long low = value.getLeastSignificantBits();
+
+        assertEquals(index.binarySearch(high, low), index.interpolationSearch(high, low));
+        assertEquals(expected.contains(value), index.contains(high, low));
+        assertEquals(expected.headSet(value).size(), index.rank(high, low));
+      }
+    }
+  }
+
+  static final class TenantId extends UuidPicoType {
+    TenantId(UUID value) {
+      super(value);
+    }
+  }
+}
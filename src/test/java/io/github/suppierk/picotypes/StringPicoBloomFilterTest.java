@@ -0,0 +1,85 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class StringPicoBloomFilterTest {
+  @Test
+  void must_reject_invalid_arguments() {
+    var filter = new StringPicoBloomFilter<PicoType<String>>(10, 0.01);
+
+    assertThrows(IllegalArgumentException.class, () -> new StringPicoBloomFilter<>(10, -0.5));
+    assertThrows(NullPointerException.class, () -> filter.add((StringId) null));
+    assertThrows(NullPointerException.class, () -> filter.add((CharSequence) null));
+    assertThrows(NullPointerException.class, () -> filter.add(new StringId(null)));
+    assertThrows(NullPointerException.class, () -> filter.mightContain((CharSequence) null));
+  }
+
+  @Test
+  void must_share_bits_between_representations() {
+    var filter = new StringPicoBloomFilter<PicoType<String>>(100, 0.01);
+    var value = "żółw-" + "😀";
+
+    filter.add(new StringId(value));
+
+    assertTrue(filter.mightContain(new Utf8Id(value)));
+    assertTrue(filter.mightContain(value));
+    assertTrue(filter.mightContain(new StringBuilder(value)));
+    assertTrue(filter.mightContain(CharBuffer.wrap(value)));
+    assertFalse(filter.add(new Utf8Id(value)));
+    assertFalse(filter.mightContain((PicoType<String>) null));
+    assertFalse(filter.mightContain(new StringId(null)));
+  }
+
+  @Test
+  void must_never_report_false_negatives() {
+    var filter = new StringPicoBloomFilter<StringId>(50_000, 0.01);
+    IntStream.range(0, 50_000).forEach(i -> filter.add(new StringId("key-" + i)));
+
+    IntStream.range(0, 50_000).forEach(i -> assertTrue(filter.mightContain("key-" + i)));
+
+    long falsePositives =
+        IntStream.range(0, 100_000).filter(i -> filter.mightContain("miss-" + i)).count();
+    assertTrue(falsePositives <= 1_000, "False positives: " + falsePositives);
+  }
+
+  @Test
+  void must_round_trip_and_merge() {
+    var left = new StringPicoBloomFilter<StringId>(1_000, 0.01);
+    var right = new StringPicoBloomFilter<StringId>(1_000, 0.01);
+    left.add("left");
+    right.add("right");
+
+    var copy =
+        StringPicoBloomFilter.<StringId>readFrom(
+            right.writeTo(ByteBuffer.allocate(right.serializedSize())).flip());
+    left.union(copy);
+
+    assertTrue(left.mightContain("left"));
+    assertTrue(left.mightContain(new StringId("right")));
+    assertEquals(right.bitSize(), copy.bitSize());
+
+    var uuids = new UuidPicoBloomFilter<PrimitiveUuidPicoType>(1_000, 0.01);
+    var other = uuids.writeTo(ByteBuffer.allocate(uuids.serializedSize())).flip();
+    assertThrows(IllegalArgumentException.class, () -> StringPicoBloomFilter.readFrom(other));
+  }
+
+  static final class StringId extends StringPicoType {
+    StringId(String value) {
+      super(value);
+    }
+  }
+
+  static final class Utf8Id extends Utf8StringPicoType {
+    Utf8Id(String value) {
+      super(value);
+    }
+  }
+}
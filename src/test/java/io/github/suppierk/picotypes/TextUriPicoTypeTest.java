@@ -0,0 +1,142 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.NoSuchElementException;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.jupiter.api.Test;
+
+class TextUriPicoTypeTest {
+  private final String value = "https://example-1.com/path?query=1#fragment";
+
+  private final TestType nullWrapper = new TestType(null);
+  private final TestType wrapper = new TestType(value);
+  private final TestType biggerWrapper = new TestType("https://example-2.com");
+
+  @Test
+  void must_have_correct_equals_and_hashCode() {
+    EqualsVerifier.simple()
+        .forClass(TextUriPicoType.class)
+        .withIgnoredFields("text", "parsed")
+        .suppress(Warning.STRICT_HASHCODE)
+        .verify();
+  }
+
+  @Test
+  void subclass_must_inherit_correct_equals_and_hashCode() {
+    EqualsVerifier.simple()
+        .forClass(TestType.class)
+        .withIgnoredFields("text", "parsed")
+        .suppress(Warning.STRICT_HASHCODE)
+        .verify();
+  }
+
+  @Test
+  void must_return_passed_value_as_is() {
+    assertNull(nullWrapper.value());
+    assertNull(nullWrapper.text());
+    assertTrue(nullWrapper.isEmpty());
+    assertEquals(URI.create(value), wrapper.value());
+    assertEquals(value, wrapper.text());
+    assertTrue(wrapper.isPresent());
+
+    var uri = URI.create(value);
+    assertSame(uri, TextUriPicoType.fromUri(TestType::new, uri).value());
+    assertEquals(wrapper, TextUriPicoType.fromUri(TestType::new, uri));
+    assertEquals(nullWrapper, TextUriPicoType.fromUri(TestType::new, null));
+    assertThrows(NullPointerException.class, () -> TextUriPicoType.fromUri(null, uri));
+  }
+
+  @Test
+  void must_parse_text_lazily_and_once() {
+    var unparseable = new TestType("http:");
+
+    assertEquals("http:", unparseable.text());
+    assertThrows(IllegalArgumentException.class, unparseable::value);
+    assertSame(wrapper.value(), wrapper.value());
+  }
+
+  @Test
+  void must_reject_text_which_is_never_a_uri() {
+    for (var malformed :
+        new String[] {
+          "http://example.com/a b",
+          "http://example.com/<a>",
+          "http://example.com/a\u0000",
+          "http://example.com/a#b#c",
+          "http://example.com/%4",
+          "http://example.com/%zz",
+          ":path",
+          "1http://example.com"
+        }) {
+      assertThrows(IllegalArgumentException.class, () -> new TestType(malformed));
+    }
+  }
+
+  @Test
+  void must_return_components() {
+    assertEquals("https", wrapper.scheme());
+    assertEquals("example-1.com", wrapper.host());
+    assertEquals(-1, wrapper.port());
+    assertEquals("/path", wrapper.path());
+    assertEquals("query=1", wrapper.query());
+    assertEquals("fragment", wrapper.fragment());
+    assertEquals(8080, new TestType("http://localhost:8080").port());
+
+    assertThrows(NoSuchElementException.class, nullWrapper::scheme);
+    assertThrows(NoSuchElementException.class, nullWrapper::port);
+  }
+
+  @Test
+  void must_compare_like_uri() {
+    var pairs =
+        new String[][] {
+          {"HTTP://Example.COM:80/Path", "http://example.com:80/Path"},
+          {"http://example.com/%7e", "http://example.com/%7E"},
+          {"mailto:User@Example.com", "MAILTO:User@Example.com"},
+          {"http://[::1]:8080/", "http://[::1]:8080/"},
+          {"relative/path", "relative/path"}
+        };
+    for (var pair : pairs) {
+      assertEquals(URI.create(pair[0]), URI.create(pair[1]));
+      assertEquals(new TestType(pair[0]), new TestType(pair[1]));
+      assertEquals(new TestType(pair[0]).hashCode(), new TestType(pair[1]).hashCode());
+      assertEquals(0, new TestType(pair[0]).compareTo(new TestType(pair[1])));
+    }
+
+    assertNotEquals(new TestType("http://a.com/Path"), new TestType("http://a.com/path"));
+    assertNotEquals(new TestType("http://User@a.com"), new TestType("http://user@a.com"));
+    assertFalse(new TestType("mailto:a@B").equals(new TestType("mailto:a@b")));
+  }
+
+  @Test
+  void must_have_correct_toString() {
+    assertEquals(TestType.class.getSimpleName() + "{value=" + value + '}', wrapper.toString());
+  }
+
+  @Test
+  void must_have_correct_compareTo() {
+    assertTrue(wrapper.compareTo(biggerWrapper) < 0);
+    assertEquals(0, wrapper.compareTo(wrapper));
+    assertEquals(0, biggerWrapper.compareTo(biggerWrapper));
+    assertTrue(biggerWrapper.compareTo(wrapper) > 0);
+
+    assertThrows(NullPointerException.class, () -> nullWrapper.compareTo(wrapper));
+    assertThrows(NullPointerException.class, () -> wrapper.compareTo(null));
+    assertThrows(NullPointerException.class, () -> wrapper.compareTo(nullWrapper));
+  }
+
+  private static class TestType extends TextUriPicoType {
+    public TestType(String text) {
+      super(text);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class Utf8StringPicoTypeTest {
+  private final int randomValue = ThreadLocalRandom.current().nextInt(0, 1_000_000);
+
+  private final String value = String.valueOf(randomValue);
+  private final TestType wrapper = new TestType(value);
+  private final TestType nullWrapper = new TestType((String) null);
+  private final TestType biggerWrapper = new TestType(String.valueOf(randomValue + 1));
+
+  @Test
+  void must_have_correct_equals_and_hashCode() {
+    EqualsVerifier.simple()
+        .forClass(Utf8StringPicoType.class)
+        .withIgnoredFields("decoded")
+        .verify();
+  }
+
+  @Test
+  void subclass_must_inherit_correct_equals_and_hashCode() {
+    EqualsVerifier.simple().forClass(TestType.class).withIgnoredFields("decoded").verify();
+  }
+
+  @Test
+  void must_return_passed_value_as_is() {
+    assertNull(nullWrapper.value());
+    assertTrue(nullWrapper.isEmpty());
+    assertEquals(value, wrapper.value());
+    assertTrue(wrapper.isPresent());
+  }
+
+  @Test
+  void must_decode_buffer_lazily_and_once() {
+    var bytes = "caf\u00e9 \ud83d\ude00".getBytes(StandardCharsets.UTF_8);
+    var buffer = ByteBuffer.allocateDirect(bytes.length + 2).put((byte) 1).put(bytes).put((byte) 2);
+    buffer.flip().position(1).limit(bytes.length + 1);
+
+    var decoded = new TestType(buffer);
+
+    assertEquals(1, buffer.position());
+    assertEquals(new TestType("caf\u00e9 \ud83d\ude00"), decoded);
+    assertEquals(bytes.length, decoded.utf8Length());
+    assertEquals("caf\u00e9 \ud83d\ude00", decoded.value());
+    assertSame(decoded.value(), decoded.value());
+    assertNull(new TestType((ByteBuffer) null).value());
+  }
+
+  @Test
+  void must_reject_malformed_utf8() {
+    for (var malformed :
+        new byte[][] {
+          {(byte) 0x80},
+          {(byte) 0xC0, (byte) 0x80},
+          {(byte) 0xE0, (byte) 0x80, (byte) 0x80},
+          {(byte) 0xED, (byte) 0xA0, (byte) 0x80},
+          {(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80},
+          {(byte) 0xE2, (byte) 0x82},
+          {(byte) 0xFF}
+        }) {
+      assertThrows(IllegalArgumentException.class, () -> new TestType(ByteBuffer.wrap(malformed)));
+    }
+  }
+
+  @Test
+  void must_reject_unpaired_surrogates() {
+    assertThrows(IllegalArgumentException.class, () -> new TestType("a\ud800"));
+    assertThrows(IllegalArgumentException.class, () -> new TestType("\udc00a"));
+    assertThrows(IllegalArgumentException.class, () -> new TestType("\ude00\ud83d"));
+    assertEquals("a\ud83d\ude00", new TestType("a\ud83d\ude00").value());
+  }
+
+  @Test
+  void must_expose_bytes_without_copying() throws Exception {
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    var view = wrapper.utf8();
+    var out = new ByteArrayOutputStream();
+
+    assertNull(nullWrapper.utf8());
+    assertTrue(view.isReadOnly());
+    assertThrows(ReadOnlyBufferException.class, () -> view.put((byte) 0));
+    assertArrayEquals(bytes, wrapper.writeTo(ByteBuffer.allocate(bytes.length)).array());
+    assertEquals(bytes.length, wrapper.writeTo(Channels.newChannel(out)));
+    assertArrayEquals(bytes, out.toByteArray());
+    assertEquals(0, nullWrapper.writeTo(Channels.newChannel(out)));
+    assertFalse(nullWrapper.writeTo(ByteBuffer.allocate(0)).hasRemaining());
+  }
+
+  @Test
+  void must_have_correct_toString() {
+    assertEquals(TestType.class.getSimpleName() + "{value=" + value + '}', wrapper.toString());
+  }
+
+  @Test
+  void must_have_correct_compareTo() {
+    assertTrue(wrapper.compareTo(biggerWrapper) < 0);
+    assertEquals(0, wrapper.compareTo(wrapper));
+    assertEquals(0, biggerWrapper.compareTo(biggerWrapper));
+    assertTrue(biggerWrapper.compareTo(wrapper) > 0);
+    assertTrue(new TestType("z").compareTo(new TestType("\u00e9")) < 0);
+
+    assertThrows(NullPointerException.class, () -> nullWrapper.compareTo(wrapper));
+    assertThrows(NullPointerException.class, () -> wrapper.compareTo(null));
+    assertThrows(NullPointerException.class, () -> wrapper.compareTo(nullWrapper));
+  }
+
+  private static class TestType extends Utf8StringPicoType {
+    public TestType(String value) {
+      super(value);
+    }
+
+    public TestType(ByteBuffer utf8) {
+      super(utf8);
+    }
+  }
+}
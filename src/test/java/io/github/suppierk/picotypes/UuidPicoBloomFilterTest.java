@@ -0,0 +1,183 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class UuidPicoBloomFilterTest {
+  @Test
+  void must_reject_invalid_arguments() {
+    var filter = new UuidPicoBloomFilter<TenantId>(10, 0.01);
+
+    assertThrows(IllegalArgumentException.class, () -> new UuidPicoBloomFilter<>(-1, 0.01));
+    assertThrows(IllegalArgumentException.class, () -> new UuidPicoBloomFilter<>(10, 0.0));
+    assertThrows(IllegalArgumentException.class, () -> new UuidPicoBloomFilter<>(10, 1.0));
+    assertThrows(IllegalArgumentException.class, () -> new UuidPicoBloomFilter<>(10, Double.NaN));
+    assertThrows(
+        IllegalArgumentException.class, () -> new UuidPicoBloomFilter<>(Long.MAX_VALUE, 0.01));
+    assertThrows(NullPointerException.class, () -> filter.add((TenantId) null));
+    assertThrows(NullPointerException.class, () -> filter.add(new TenantId(null)));
+    assertThrows(NullPointerException.class, () -> filter.union(null));
+    assertThrows(NullPointerException.class, () -> filter.writeTo(null));
+    assertThrows(NullPointerException.class, () -> UuidPicoBloomFilter.readFrom(null));
+  }
+
+  @Test
+  void must_never_report_false_negatives() {
+    var filter = new UuidPicoBloomFilter<TenantId>(10_000, 0.01);
+    var random = new Random(42L);
+    var added = new ArrayList<UUID>();
+    for (int i = 0; i < 10_000; i++) {
+      var value = new UUID(random.nextLong(), random.nextLong());
+      filter.add(new TenantId(value));
+      added.add(value);
+    }
+
+    for (UUID value : added) {
+      assertTrue(filter.mightContain(new TenantId(value)));
+      assertTrue(
+          filter.mightContain(value.getMostSignificantBits(), value.getLeastSignificantBits()));
+    }
+    assertFalse(filter.mightContain(null));
+    assertFalse(filter.mightContain(new TenantId(null)));
+  }
+
+  @Test
+  void must_keep_false_positive_rate_within_requested_bound() {
+    for (double rate : new double[] {0.1, 0.01, 0.001}) {
+      var filter = new UuidPicoBloomFilter<TenantId>(100_000, rate);
+      var random = new Random(7L);
+      for (int i = 0; i < 100_000; i++) {
+        filter.add(random.nextLong(), random.nextLong());
+      }
+
+      int falsePositives = 0;
+      int queries = 200_000;
+      for (int i = 0; i < queries; i++) {
+        if (filter.mightContain(random.nextLong(), random.nextLong())) {
+          falsePositives++;
+        }
+      }
+
+      double actual = (double) falsePositives / queries;
+      assertTrue(actual <= rate, "Rate " + actual + " exceeds " + rate);
+      assertTrue(filter.expectedFalsePositiveRate() <= rate);
+    }
+  }
+
+  @Test
+  void must_report_whether_bits_changed() {
+    var filter = new UuidPicoBloomFilter<TenantId>(100, 0.01);
+
+    assertEquals(0.0, filter.expectedFalsePositiveRate());
+    assertTrue(filter.add(1L, 2L));
+    assertFalse(filter.add(new TenantId(new UUID(1L, 2L))));
+    assertTrue(filter.expectedFalsePositiveRate() > 0.0);
+  }
+
+  @Test
+  void must_merge_compatible_filters() {
+    var left = new UuidPicoBloomFilter<TenantId>(1_000, 0.01);
+    var right = new UuidPicoBloomFilter<TenantId>(1_000, 0.01);
+    IntStream.range(0, 500).forEach(i -> left.add(i, i));
+    IntStream.range(500, 1_000).forEach(i -> right.add(i, i));
+
+    assertTrue(left.isCompatible(right));
+    assertEquals(left, left.union(right));
+    IntStream.range(0, 1_000).forEach(i -> assertTrue(left.mightContain(i, i)));
+
+    var other = new UuidPicoBloomFilter<TenantId>(1_000, 0.1);
+    assertFalse(left.isCompatible(other));
+    assertThrows(IllegalArgumentException.class, () -> left.union(other));
+  }
+
+  @Test
+  void must_round_trip_through_buffers() {
+    var filter = new UuidPicoBloomFilter<TenantId>(1_000, 0.01);
+    IntStream.range(0, 1_000).forEach(i -> filter.add(i, -i));
+
+    for (ByteOrder order : List.of(ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN)) {
+      var buffer = ByteBuffer.allocate(filter.serializedSize() + 1).order(order);
+      buffer.put((byte) 0);
+      filter.writeTo(buffer);
+      assertFalse(buffer.hasRemaining());
+
+      buffer.flip().get();
+      var copy = UuidPicoBloomFilter.<TenantId>readFrom(buffer);
+
+      assertFalse(buffer.hasRemaining());
+      assertEquals(filter.bitSize(), copy.bitSize());
+      assertEquals(filter.hashCount(), copy.hashCount());
+      assertTrue(copy.isCompatible(filter));
+      IntStream.range(0, 1_000).forEach(i -> assertTrue(copy.mightContain(i, -i)));
+    }
+  }
+
+  @Test
+  void must_read_filters_regardless_of_byte_order() {
+    var filter = new UuidPicoBloomFilter<TenantId>(1_000, 0.01);
+    IntStream.range(0, 1_000).forEach(i -> filter.add(i, -i));
+
+    var big = filter.writeTo(ByteBuffer.allocate(filter.serializedSize())).flip();
+    var little =
+        filter
+            .writeTo(ByteBuffer.allocate(filter.serializedSize()).order(ByteOrder.LITTLE_ENDIAN))
+            .flip();
+    assertEquals(big, little);
+
+    var copy = UuidPicoBloomFilter.<TenantId>readFrom(big.order(ByteOrder.LITTLE_ENDIAN));
+    assertEquals(ByteOrder.LITTLE_ENDIAN, big.order());
+    assertTrue(copy.isCompatible(filter));
+    IntStream.range(0, 1_000).forEach(i -> assertTrue(copy.mightContain(i, -i)));
+
+    var other = UuidPicoBloomFilter.<TenantId>readFrom(little.order(ByteOrder.BIG_ENDIAN));
+    IntStream.range(0, 1_000).forEach(i -> assertTrue(other.mightContain(i, -i)));
+  }
+
+  @Test
+  void must_reject_malformed_buffers() {
+    var filter = new UuidPicoBloomFilter<TenantId>(100, 0.01);
+    var buffer = filter.writeTo(ByteBuffer.allocate(filter.serializedSize())).flip();
+
+    assertThrows(
+        BufferOverflowException.class,
+        () -> filter.writeTo(ByteBuffer.allocate(filter.serializedSize() - 1)));
+    assertThrows(
+        BufferUnderflowException.class,
+        () -> UuidPicoBloomFilter.readFrom(buffer.duplicate().limit(buffer.limit() - 1)));
+
+    var strings = new StringPicoBloomFilter<StringPicoType>(100, 0.01);
+    var other = strings.writeTo(ByteBuffer.allocate(strings.serializedSize())).flip();
+    assertThrows(IllegalArgumentException.class, () -> UuidPicoBloomFilter.readFrom(other));
+
+    var version = buffer.duplicate().put(0, (byte) 99);
+    assertThrows(IllegalArgumentException.class, () -> UuidPicoBloomFilter.readFrom(version));
+  }
+
+  @Test
+  void must_accept_concurrent_insertions() {
+    var filter = new UuidPicoBloomFilter<TenantId>(100_000, 0.01);
+
+    IntStream.range(0, 100_000).parallel().forEach(i -> filter.add(new TenantId(new UUID(i, i))));
+
+    IntStream.range(0, 100_000).forEach(i -> assertTrue(filter.mightContain(i, i)));
+  }
+
+  static final class TenantId extends UuidPicoType {
+    TenantId(UUID value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package io.github.suppierk.picotypes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class UuidPicoColumnTest {
+  private final UuidPicoColumn<OrderId> column = new UuidPicoColumn<>(OrderId::new, 0);
+
+  @Test
+  void must_reject_invalid_arguments() {
+    assertThrows(NullPointerException.class, () -> new UuidPicoColumn<OrderId>(null));
+    assertThrows(IllegalArgumentException.class, () -> new UuidPicoColumn<>(OrderId::new, -1));
+    assertThrows(NullPointerException.class, () -> column.addAll(null));
+    assertThrows(NullPointerException.class, () -> column.forEachRaw(null));
+    assertThrows(NullPointerException.class, () -> UuidPicoColumn.toColumn(null));
+  }
+
+  @Test
+  void must_store_values_and_nulls() {
+    var uuid = UUID.randomUUID();
+
+    column.add(new OrderId(uuid)).add(null).add(new OrderId(null)).add(1L, 2L).addNull();
+
+    assertEquals(5, column.size());
+    assertEquals(3, column.nullCount());
+    assertFalse(column.isNull(0));
+    assertTrue(column.isNull(2));
+    assertEquals(uuid.getMostSignificantBits(), column.getMostSignificantBits(0));
+    assertEquals(uuid.getLeastSignificantBits(), column.getLeastSignificantBits(0));
+    assertEquals(new OrderId(new UUID(1L, 2L)), column.get(3));
+    assertNull(column.get(4));
+    assertEquals(10, column.toRawArray().length);
+
+    assertThrows(NoSuchElementException.class, () -> column.getMostSignificantBits(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.get(5));
+  }
+
+  @Test
+  void must_accept_primitive_elements() {
+    var compact = new UuidPicoColumn<CompactOrderId>(CompactOrderId::new);
+
+    compact.add(new CompactOrderId(new UUID(1L, 2L))).add(new CompactOrderId(null));
+
+    assertArrayEquals(new long[] {1L, 2L, 0L, 0L}, compact.toRawArray());
+    assertTrue(compact.isNull(1));
+  }
+
+  @Test
+  void must_iterate_with_reusable_cursor() {
+    column.add(1L, 2L).addNull().add(3L, 4L);
+    var cursor = column.cursor();
+
+    for (int pass = 0; pass < 2; pass++) {
+      var seen = new ArrayList<UUID>();
+      while (cursor.next()) {
+        if (!cursor.isNull()) {
+          seen.add(new UUID(cursor.getMostSignificantBits(), cursor.getLeastSignificantBits()));
+        }
+      }
+      cursor.reset();
+
+      assertEquals(List.of(new UUID(1L, 2L), new UUID(3L, 4L)), seen);
+    }
+
+    cursor.next();
+    assertEquals(new OrderId(new UUID(1L, 2L)), cursor.get());
+  }
+
+  @Test
+  void must_iterate_raw_values() {
+    column.add(1L, 2L).addNull().add(3L, 4L);
+    var seen = new ArrayList<UUID>();
+
+    column.forEachRaw((high, low) -> seen.add(new UUID(high, low)));
+
+    assertEquals(List.of(new UUID(1L, 2L), new UUID(3L, 4L)), seen);
+  }
+
+  @Test
+  void must_split_for_parallel_streams() {
+    IntStream.range(0, 10_000).forEach(i -> column.add(i % 3 == 0 ? null : orderId(i)));
+
+    Set<OrderId> expected =
+        IntStream.range(0, 10_000)
+            .filter(i -> i % 3 != 0)
+            .mapToObj(UuidPicoColumnTest::orderId)
+            .collect(Collectors.toSet());
+    Set<OrderId> actual = new HashSet<>(column.stream().parallel().toList());
+
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void must_collect_into_column() {
+    var collected =
+        Stream.of(orderId(1), null, orderId(3))
+            .parallel()
+            .collect(UuidPicoColumn.toColumn(OrderId::new));
+
+    assertEquals(3, collected.size());
+    assertEquals(1, collected.nullCount());
+    assertTrue(collected.isNull(1));
+    assertEquals(orderId(3), collected.get(2));
+  }
+
+  private static OrderId orderId(int i) {
+    return new OrderId(new UUID(i, -i));
+  }
+
+  static final class OrderId extends UuidPicoType {
+    OrderId(UUID value) {
+      super(value);
+    }
+  }
+
+  static final class CompactOrderId extends PrimitiveUuidPicoType {
+    CompactOrderId(UUID value) {
+      super(value);
+    }
+  }
+}
@@ -40,6 +40,17 @@ class UuidPicoTypeTest {
     assertEquals(TestType.class.getSimpleName() + "{value=" + value + '}', wrapper.toString());
   }
 
+  @Test
+  void must_append_canonical_form_of_value() {
+    for (int i = 0; i < 1000; i++) {
+      var uuid = UUID.randomUUID();
+      var builder = new TestType(uuid).appendValueTo(new StringBuilder());
+
+      assertEquals(uuid.toString(), builder.toString());
+    }
+    assertEquals("null", nullWrapper.appendValueTo(new StringBuilder()).toString());
+  }
+
   @Test
   void must_have_correct_compareTo() {
     assertEquals(-1, wrapper.compareTo(biggerWrapper));